@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import tfifteenfour.clipboard.commons.core.Config;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
@@ -23,8 +24,8 @@ import tfifteenfour.clipboard.model.ReadOnlyRoster;
 import tfifteenfour.clipboard.model.ReadOnlyUserPrefs;
 import tfifteenfour.clipboard.model.UserPrefs;
 import tfifteenfour.clipboard.model.util.SampleDataUtil;
-import tfifteenfour.clipboard.storage.JsonRosterStorage;
 import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.RosterFileConverter;
 import tfifteenfour.clipboard.storage.RosterStorage;
 import tfifteenfour.clipboard.storage.Storage;
 import tfifteenfour.clipboard.storage.StorageManager;
@@ -60,15 +61,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        RosterStorage rosterStorage = new JsonRosterStorage(userPrefs.getRosterFilePath());
+        RosterStorage rosterStorage = RosterFileConverter.openStorage(userPrefs.getRosterFileFormat(),
+                userPrefs.getRosterFilePath());
 
-        storage = new StorageManager(rosterStorage, userPrefsStorage);
+        storage = new StorageManager(rosterStorage, userPrefsStorage, Platform::runLater);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
         model.setRoster(roster);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
         ui = new UiManager(logic);
     }
 
@@ -194,5 +196,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save roster " + StringUtil.getDetails(e));
+        }
     }
 }
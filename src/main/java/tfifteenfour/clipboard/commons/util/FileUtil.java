@@ -1,10 +1,16 @@
 package tfifteenfour.clipboard.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -65,6 +71,54 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Moves {@code source} to {@code target}, replacing it. The move is atomic where the file system supports it,
+     * so that {@code target} is never left partially written.
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes {@code bytes} to {@code file} through a temporary file that is forced to the disk and then moved over
+     * {@code file}, so that {@code file} is never left partially written. The move itself is only durable once the
+     * directory of {@code file} is forced by {@link #forceDirectory(Path)}.
+     */
+    public static void writeAtomically(Path file, byte[] bytes) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempPath = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        replaceAtomically(tempPath, file);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as files just created, moved into or deleted from it, to the
+     * disk, so that they survive a power loss. Does nothing on platforms where a directory cannot be opened to be
+     * forced, such as Windows, whose file systems make the entries durable with the files.
+     */
+    public static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (AccessDeniedException | UnsupportedOperationException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
     /**
      * Assumes file exists
      */
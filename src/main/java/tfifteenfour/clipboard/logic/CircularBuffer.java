@@ -1,5 +1,7 @@
 package tfifteenfour.clipboard.logic;
 
+import java.util.Arrays;
+
 /**
  * A circular buffer implementation that supports adding, removing, and peeking
  * at elements in a circular manner.
@@ -31,12 +33,15 @@ public class CircularBuffer<T> {
      * is overwritten.
      *
      * @param item the item to add
+     * @return the oldest element if it was overwritten, or null otherwise
      */
-    public void add(T item) {
+    public T add(T item) {
+        T overwritten = null;
         if (this.size < maxSize) {
             buffer[tail] = item;
             tail = (tail + 1) % maxSize;
         } else {
+            overwritten = buffer[head];
             buffer[head] = item;
             head = (head + 1) % maxSize;
             tail = (tail + 1) % maxSize;
@@ -44,6 +49,7 @@ public class CircularBuffer<T> {
         if (this.size < maxSize) {
             this.size += 1;
         }
+        return overwritten;
     }
 
     /**
@@ -86,6 +92,16 @@ public class CircularBuffer<T> {
         return buffer[head];
     }
 
+    /**
+     * Removes all elements from the buffer.
+     */
+    public void clear() {
+        Arrays.fill(buffer, null);
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+    }
+
     /**
      * Returns true if the buffer is empty, false otherwise.
      *
@@ -1,5 +1,9 @@
 package tfifteenfour.clipboard.logic;
 
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import tfifteenfour.clipboard.model.Roster;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
@@ -69,7 +73,7 @@ public class CurrentSelection {
 
     /**
      * Setter for selectedSession.
-     * @param session to be set.
+     * @param session to be set, which must be of the selected group.
      */
     public void selectSession(Session session) {
         this.selectedSession = session;
@@ -78,7 +82,7 @@ public class CurrentSelection {
 
     /**
      * Setter for selectedTask.
-     * @param task to be set.
+     * @param task to be set, which must be of the selected group.
      */
     public void selectTask(Task task) {
         this.selectedTask = task;
@@ -93,6 +97,14 @@ public class CurrentSelection {
         this.currentPage = newPage;
     }
 
+    /**
+     * Returns true if the current page is within the selected group, so that this selection can refer to the students,
+     * sessions and tasks of the group.
+     */
+    public boolean isWithinGroup() {
+        return currentPage != PageType.COURSE_PAGE && currentPage != PageType.GROUP_PAGE;
+    }
+
     public Course getSelectedCourse() {
         return this.selectedCourse;
     }
@@ -178,19 +190,55 @@ public class CurrentSelection {
     }
 
     /**
-     * Creates a copy of this instance. Used for saving states for undo command.
+     * Creates a copy of this instance that points to the same selected elements.
+     * Used for recording selection changes for undo and redo commands.
+     * @return a shallow copy of this instance.
+     */
+    public CurrentSelection shallowCopy() {
+        CurrentSelection copy = new CurrentSelection();
+        copy.setSelection(this);
+        return copy;
+    }
+
+    /**
+     * Sets the current page and all selected elements to those of {@code other}.
+     * @param other selection to be copied from.
+     */
+    public void setSelection(CurrentSelection other) {
+        this.currentPage = other.currentPage;
+        this.selectedCourse = other.selectedCourse;
+        this.selectedGroup = other.selectedGroup;
+        this.selectedStudent = other.selectedStudent;
+        this.selectedSession = other.selectedSession;
+        this.selectedTask = other.selectedTask;
+    }
+
+    /**
+     * Creates a copy of this instance that points to the matching elements in {@code rosterCopy}, which should be a
+     * copy of the roster that this selection was made in. Used for saving states for undo command.
+     * @param rosterCopy the roster that the copied selection should refer to.
      * @return a copy of this instance.
      */
-    public CurrentSelection copy() {
+    public CurrentSelection copy(Roster rosterCopy) {
         CurrentSelection copy = new CurrentSelection();
 
-        copy.selectCourse(this.selectedCourse.copy());
-        copy.selectGroup(this.selectedGroup.copy());
-        copy.selectStudent(this.selectedStudent.copy());
-        copy.selectSession(this.selectedSession);
-        copy.selectTask(this.selectedTask);
+        copy.selectedCourse = findCopyOf(selectedCourse, rosterCopy.getUnmodifiableCourseList(), Course::copy);
+        copy.selectedGroup = findCopyOf(selectedGroup, copy.selectedCourse.getUnmodifiableGroupList(), Group::copy);
+        copy.selectedSession = findCopyOf(selectedSession, copy.selectedGroup.getUnmodifiableSessionList(),
+                Session::copy);
+        copy.selectedTask = findCopyOf(selectedTask, copy.selectedGroup.getUnmodifiableTaskList(), Task::copy);
+        copy.selectedStudent = this.selectedStudent;
         copy.setCurrentPage(this.currentPage);
 
         return copy;
     }
+
+    /**
+     * Returns the element of {@code copiedElements} that is equal to {@code original}, so that selections in a copied
+     * roster do not need to be copied a second time. Falls back to {@code copier} if no such element exists.
+     */
+    private static <T> T findCopyOf(T original, List<T> copiedElements, UnaryOperator<T> copier) {
+        int index = copiedElements.indexOf(original);
+        return index == -1 ? copier.apply(original) : copiedElements.get(index);
+    }
 }
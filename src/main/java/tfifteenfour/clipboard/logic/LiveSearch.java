@@ -0,0 +1,287 @@
+package tfifteenfour.clipboard.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.commands.findcommand.FilterSearch;
+import tfifteenfour.clipboard.logic.commands.findcommand.FindCommand;
+import tfifteenfour.clipboard.logic.history.Change;
+import tfifteenfour.clipboard.logic.history.FilterChange;
+import tfifteenfour.clipboard.logic.parser.RosterParser;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.Model;
+
+/**
+ * Previews the results of a find command while it is typed, by filtering the list it finds in as if it was executed.
+ * The command is parsed once typing pauses. Its search then runs on a background thread against a copy of the list,
+ * which is made once while finds of the same list are typed, so that typing is not held up by a search of a long
+ * list. A list with an index, such as the students of a group, is searched through the index instead. A search is
+ * cancelled as soon as the command text changes again. When the text narrows the previewed find, only the items it
+ * found are searched again.
+ * The preview is undone when the text stops being a find command, and kept when the command is executed, which then
+ * records the preview as part of the command so that undoing the command restores the filter from before the preview.
+ * All methods must be called on the thread that modifies the model.
+ */
+public class LiveSearch {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Model model;
+    private final Executor modelThreadExecutor;
+    private final long debounceMillis;
+    private final ScheduledExecutorService searchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-search-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Incremented whenever the command text changes, so that the results of earlier searches are discarded */
+    private long generation;
+    private Future<?> pendingSearch;
+    /** Results of the last search shown, or null if no preview is shown */
+    private Preview<?> preview;
+    /** Search whose list was copied for the searches previewed, and the copy, or null if none was copied */
+    private FilterSearch<?> snapshotSearch;
+    private List<?> snapshot;
+
+    private int previewCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    /**
+     * Creates a {@code LiveSearch} of the lists of {@code model}.
+     *
+     * @param modelThreadExecutor runs tasks on the thread that modifies the model, where the results are shown.
+     * @param debounceMillis how long to wait for the command text to change again before searching.
+     */
+    public LiveSearch(Model model, Executor modelThreadExecutor, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(modelThreadExecutor);
+        this.model = model;
+        this.modelThreadExecutor = modelThreadExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Previews the results of {@code commandText}, which was just typed, if it is a find command. Otherwise, any
+     * preview shown is undone. The command is only parsed once typing pauses, rather than for every key typed.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        long typedTime = System.nanoTime();
+        cancelPendingSearch();
+
+        if (!isFindCommand(commandText)) {
+            undoPreview();
+            return;
+        }
+        long searchGeneration = generation;
+        pendingSearch = searchExecutor.schedule(() -> modelThreadExecutor.execute(() ->
+                startSearch(commandText, searchGeneration, typedTime)), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isFindCommand(String commandText) {
+        return commandText.trim().startsWith(FindCommand.COMMAND_WORD + " ");
+    }
+
+    /**
+     * Parses {@code commandText} once typing has paused, and starts its search if the text did not change since.
+     */
+    private void startSearch(String commandText, long searchGeneration, long typedTime) {
+        if (searchGeneration != generation) {
+            return;
+        }
+        FilterSearch<?> search = parseSearch(commandText);
+        if (search == null) {
+            undoPreview();
+            return;
+        }
+        if (preview != null && !search.isOnSameListAs(preview.search)) {
+            undoPreview();
+        }
+        search(search, searchGeneration, typedTime);
+    }
+
+    /**
+     * Returns the search run by {@code commandText}, or null if it is not a valid find command.
+     */
+    private FilterSearch<?> parseSearch(String commandText) {
+        try {
+            Command command = RosterParser.parseCommand(commandText, model);
+            return command instanceof FindCommand ? ((FindCommand) command).toFilterSearch(model) : null;
+        } catch (CommandException | ParseException e) {
+            return null;
+        }
+    }
+
+    private <T> void search(FilterSearch<T> search, long searchGeneration, long typedTime) {
+        if (search.isIndexed()) {
+            // looking the matches up in the index is quicker than handing the search to another thread
+            show(search, search.size(), search.findIndexedMatches(), searchGeneration, typedTime);
+            return;
+        }
+
+        // a search narrowing the preview only needs to search the items found for the preview
+        List<T> candidates = preview != null && search.refines(preview.search)
+                ? getPreviewMatches()
+                : getSnapshot(search);
+        pendingSearch = searchExecutor.submit(() -> {
+            try {
+                List<T> matches = search.findMatches(candidates);
+                modelThreadExecutor.execute(() -> show(search, candidates.size(), matches, searchGeneration,
+                        typedTime));
+            } catch (InterruptedException e) {
+                // the command text changed, so the results are no longer wanted
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.warning("Live search failed: " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Returns a copy of the items of the list of {@code search}, which is only copied once while its searches are
+     * previewed, as the list does not change until the previewed command is executed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getSnapshot(FilterSearch<T> search) {
+        if (snapshotSearch == null || !search.isOnSameListAs(snapshotSearch)) {
+            snapshotSearch = search;
+            snapshot = search.copyItems();
+        }
+        return (List<T>) snapshot;
+    }
+
+    /**
+     * Returns the items found for the preview, which are on the list of a search that refines it.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getPreviewMatches() {
+        return (List<T>) preview.matches;
+    }
+
+    private <T> void show(FilterSearch<T> search, int searchedCount, List<T> matches, long searchGeneration,
+            long typedTime) {
+        if (searchGeneration != generation) {
+            return;
+        }
+        pendingSearch = null;
+
+        Predicate<T> filterBeforePreview = preview == null ? search.getFilter() : getFilterBeforePreview();
+        if (matches.isEmpty()) {
+            // as when the find is executed, a find without results leaves the list as it was
+            search.setFilter(filterBeforePreview);
+        } else {
+            search.showMatches(matches);
+        }
+        preview = new Preview<>(search, matches, filterBeforePreview);
+        recordLatency(System.nanoTime() - typedTime, searchedCount);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Predicate<T> getFilterBeforePreview() {
+        return (Predicate<T>) preview.filterBeforePreview;
+    }
+
+    private void recordLatency(long latencyNanos, int searchedCount) {
+        previewCount++;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        logger.fine(String.format("Live search of %d items shown %.1f ms after typing (%.1f ms avg, %.1f ms max)",
+                searchedCount, latencyNanos / 1e6, getAverageLatencyNanos() / 1e6, maxLatencyNanos / 1e6));
+    }
+
+    /**
+     * Keeps the preview shown, as the command it previews is being executed, and stops any pending search.
+     * The find then replaces the filter of the preview, so it only knows the preview as the filter it replaced.
+     *
+     * @return the change of the filter made by the preview, which is recorded with the command so that undoing the
+     *     command also undoes the preview, or nothing if no preview is shown.
+     */
+    public Optional<Change> keepPreview() {
+        cancelPendingSearch();
+        Optional<Change> previewChange = Optional.ofNullable(preview).map(Preview::toChange);
+        preview = null;
+        clearSnapshot();
+        return previewChange;
+    }
+
+    private void undoPreview() {
+        if (preview != null) {
+            preview.undo();
+            preview = null;
+        }
+        clearSnapshot();
+    }
+
+    private void clearSnapshot() {
+        snapshotSearch = null;
+        snapshot = null;
+    }
+
+    private void cancelPendingSearch() {
+        generation++;
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Returns the number of previews shown.
+     */
+    public int getPreviewCount() {
+        return previewCount;
+    }
+
+    /**
+     * Returns the average time from typing a command to showing its preview, or 0 if no preview has been shown.
+     */
+    public long getAverageLatencyNanos() {
+        return previewCount == 0 ? 0 : totalLatencyNanos / previewCount;
+    }
+
+    /**
+     * Returns the longest time from typing a command to showing its preview.
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * The results of a search shown as a preview, with the filter of the list before the preview.
+     */
+    private static class Preview<T> {
+        private final FilterSearch<T> search;
+        private final List<T> matches;
+        private final Predicate<T> filterBeforePreview;
+
+        Preview(FilterSearch<T> search, List<T> matches, Predicate<T> filterBeforePreview) {
+            this.search = search;
+            this.matches = matches;
+            this.filterBeforePreview = filterBeforePreview;
+        }
+
+        private void undo() {
+            search.setFilter(filterBeforePreview);
+        }
+
+        private Change toChange() {
+            return new FilterChange<>(search::setFilter, filterBeforePreview, search.getFilter());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import tfifteenfour.clipboard.commons.core.GuiSettings;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
@@ -22,6 +23,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the results of the command being typed, if it is a find command.
+     * @param commandText The command typed so far by the user.
+     */
+    void previewCommand(String commandText);
+
     /**
      * Returns the Roster.
      *
@@ -45,4 +52,10 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     Model getModel();
+
+    /**
+     * Sets the handler to be called with an error message when saving data in the background fails.
+     * The handler may be called on a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
 }
@@ -2,18 +2,30 @@ package tfifteenfour.clipboard.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import tfifteenfour.clipboard.commons.core.GuiSettings;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.RedoCommand;
 import tfifteenfour.clipboard.logic.commands.UndoCommand;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.Change;
+import tfifteenfour.clipboard.logic.history.CommandHistory;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
+import tfifteenfour.clipboard.logic.history.RecordingStatistics;
+import tfifteenfour.clipboard.logic.history.SelectionChange;
 import tfifteenfour.clipboard.logic.parser.RosterParser;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.course.exceptions.GroupLoadException;
 import tfifteenfour.clipboard.storage.Storage;
 
 /**
@@ -21,59 +33,138 @@ import tfifteenfour.clipboard.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
-    private static final int stateHistoryBufferSize = 5;
+    private static final int commandHistorySize = 500;
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
-    private Model model;
-    private final CircularBuffer<Model> stateHistoryBuffer = new CircularBuffer<>(stateHistoryBufferSize);
+    private final Model model;
+    private final CommandHistory commandHistory = new CommandHistory(commandHistorySize);
+    private final RecordingStatistics recordingStatistics = new RecordingStatistics();
     private final Storage storage;
+    private final LiveSearch liveSearch;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Previews of commands are shown on the background thread that searches for them, so the model must not be
+     * modified concurrently.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Previews of commands are shown using {@code modelThreadExecutor}, which should run tasks on the thread that
+     * modifies the model.
+     */
+    public LogicManager(Model model, Storage storage, Executor modelThreadExecutor) {
         this.model = model;
         this.storage = storage;
+        this.liveSearch = new LiveSearch(model, modelThreadExecutor, LiveSearch.DEFAULT_DEBOUNCE_MILLIS);
     }
 
-    CommandResult handleUndoCommand(Command command) throws CommandException, ParseException {
-        UndoCommand undoCmd = (UndoCommand) command;
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        // a preview of the command is left for the command to replace, rather than undone
+        Optional<Change> previewChange = liveSearch.keepPreview();
 
-        undoCmd.setStateHistoryBuffer(this.stateHistoryBuffer);
-        CommandResult commandResult = undoCmd.execute(model);
-        model = undoCmd.getPrevModel();
+        CommandResult commandResult;
+        try {
+            commandResult = executeAndRecord(commandText, previewChange);
+        } catch (GroupLoadException gle) {
+            throw new CommandException(gle.getMessage(), gle);
+        }
 
+        model.unloadUnusedGroups();
         return commandResult;
     }
 
-    @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
+    /**
+     * Executes {@code commandText}, and records it in the command history and the command log if it modified the
+     * model, together with {@code previewChange}, the change made by the preview of the command if it was previewed.
+     */
+    private CommandResult executeAndRecord(String commandText, Optional<Change> previewChange)
+            throws CommandException, ParseException {
         CommandResult commandResult;
         Command command = RosterParser.parseCommand(commandText, model);
 
-        // Special case for UndoCommand because restoring the model to a previous state requires actions that are above
-        // the model, as opposed to typical commands that behave within the model.
+        // Special case for UndoCommand and RedoCommand because they replay the changes of other commands,
+        // as opposed to typical commands that behave within the model.
         if (command instanceof UndoCommand) {
-            commandResult = handleUndoCommand(command);
+            ((UndoCommand) command).setCommandHistory(commandHistory);
+            commandResult = command.execute(model);
+            logReplayedChange(commandText, ((UndoCommand) command).getUndoneEntry(), true);
+        } else if (command instanceof RedoCommand) {
+            ((RedoCommand) command).setCommandHistory(commandHistory);
+            commandResult = command.execute(model);
+            logReplayedChange(commandText, ((RedoCommand) command).getRedoneEntry(), false);
+        } else if (!command.getWillModifyState()) {
+            // Read-only commands cannot be undone, so there is nothing to record for them
+            commandResult = command.execute(model);
+            recordingStatistics.addSkipped(command);
         } else {
-            Model modelCopy = model.copy();
+            long recordingStartTime = System.nanoTime();
+            CurrentSelection selectionBefore = model.getCurrentSelection().shallowCopy();
+            long recordingNanos = System.nanoTime() - recordingStartTime;
+
             commandResult = command.execute(model);
+
             if (commandResult.isStateModified()) {
-                modelCopy.setCommandTextExecuted(commandText);
-                modelCopy.setCommandExecuted(command);
-                stateHistoryBuffer.add(modelCopy);
+                recordingStartTime = System.nanoTime();
+                List<Change> changes = new ArrayList<>();
+                // the command replaced the filter of its preview, so the preview is undone after the command
+                previewChange.ifPresent(changes::add);
+                changes.addAll(command.getRecordedChanges());
+                changes.add(new SelectionChange(model.getCurrentSelection(), selectionBefore,
+                        model.getCurrentSelection().shallowCopy()));
+                HistoryEntry historyEntry = new HistoryEntry(commandText, command, changes, selectionBefore);
+                commandHistory.push(historyEntry);
+                recordingNanos += System.nanoTime() - recordingStartTime;
+
+                if (historyEntry.changesStoredData()) {
+                    logChange(commandText, historyEntry, false);
+                }
             }
+            recordingStatistics.addRecorded(command, recordingNanos);
+        }
+        // the breakdown is only built when it is logged
+        logger.fine(recordingStatistics::toString);
+
+        return commandResult;
+    }
+
+    /**
+     * Records the effect of {@code commandText}, an undo or redo of {@code historyEntry}, in the command log, as the
+     * modifications that undid or redid the changes of the entry.
+     */
+    private void logReplayedChange(String commandText, HistoryEntry historyEntry, boolean isUndone)
+            throws CommandException {
+        if (historyEntry.changesStoredData()) {
+            logChange(commandText, historyEntry, isUndone);
         }
+    }
 
+    /**
+     * Records the effect of {@code commandText}, which made the changes of {@code historyEntry}, or undid them if
+     * {@code isUndone}, in the command log, so that it is not lost if the app stops before the roster is saved.
+     * Only the modifications are logged, not the parts of the roster that they modified.
+     */
+    private void logChange(String commandText, HistoryEntry historyEntry, boolean isUndone) throws CommandException {
         try {
-            storage.saveRoster(model.getRoster());
+            storage.logChange(commandText, model.getRoster(), recorder -> historyEntry.recordDelta(recorder, isUndone));
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void previewCommand(String commandText) {
+        liveSearch.update(commandText);
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
     }
 
     @Override
@@ -100,6 +191,18 @@ public class LogicManager implements Logic {
     public Model getModel() {
         return this.model;
     }
-}
 
+    /**
+     * Returns the live search that previews find commands, which reports the time taken to show previews.
+     */
+    public LiveSearch getLiveSearch() {
+        return liveSearch;
+    }
 
+    /**
+     * Returns the breakdown of time spent and avoided when recording commands for undo.
+     */
+    public RecordingStatistics getRecordingStatistics() {
+        return recordingStatistics;
+    }
+}
@@ -42,18 +42,18 @@ public class BackCommand extends Command {
 
         case GROUP_PAGE:
             // if you are on group page now, go back to course page
-            ShowAllListedPredicate.resetGroupsFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetGroupsFilter(currentSelection));
             currentSelection.navigateBackFromGroupPage();
             return new CommandResult(this, String.format(MESSAGE_SUCCESS_BACK_TO_COURSE), willModifyState);
 
         case STUDENT_PAGE:
-            ShowAllListedPredicate.resetStudentsFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetStudentsFilter(currentSelection));
             currentSelection.navigateBackFromStudentPage();
             return new CommandResult(this, String.format(MESSAGE_SUCCESS_BACK_TO_GROUP,
                     currentSelection.getSelectedCourse()), willModifyState);
 
         case SESSION_PAGE:
-            ShowAllListedPredicate.resetSessionsFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetSessionsFilter(currentSelection));
             currentSelection.navigateBackFromSessionPage();
             return new CommandResult(this, String.format(MESSAGE_SUCCESS_BACK_TO_GROUP,
                     currentSelection.getSelectedCourse()), willModifyState);
@@ -64,7 +64,7 @@ public class BackCommand extends Command {
                     currentSelection.getSelectedGroup()), willModifyState);
 
         case TASK_PAGE:
-            ShowAllListedPredicate.resetTasksFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetTasksFilter(currentSelection));
             currentSelection.navigateBackFromTaskPage();
             return new CommandResult(this, String.format(MESSAGE_SUCCESS_BACK_TO_GROUP,
                     currentSelection.getSelectedCourse()), willModifyState);
@@ -2,18 +2,18 @@ package tfifteenfour.clipboard.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
+import tfifteenfour.clipboard.logic.history.StudentDeletionChange;
 import tfifteenfour.clipboard.model.Model;
-import tfifteenfour.clipboard.model.Roster;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
-import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
-import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Clears the address book.
@@ -43,39 +43,27 @@ public class ClearCommand extends Command {
         case COURSE_PAGE:
             clearedObject = "Courses";
             section = "CLIpboard";
-            model.setRoster(new Roster());
+            clearList(model.getRoster().getModifiableCourseList());
             break;
         case GROUP_PAGE:
             clearedObject = "Groups";
             section = selectedCourse.getCourseCode();
-            List<Group> groups = selectedCourse.getModifiableGroupList();
-            while (!groups.isEmpty()) {
-                groups.remove(0);
-            }
+            clearList(selectedCourse.getModifiableGroupList());
             break;
         case SESSION_PAGE:
             clearedObject = "Sessions";
             section = selectedGroup.getGroupName();
-            List<Session> sessions = selectedGroup.getModifiableSessionList();
-            while (!sessions.isEmpty()) {
-                sessions.remove(0);
-            }
+            clearList(selectedGroup.getModifiableSessionList());
             break;
         case TASK_PAGE:
             clearedObject = "Tasks";
             section = selectedGroup.getGroupName();
-            List<Task> tasks = selectedGroup.getModifiableTaskList();
-            while (!tasks.isEmpty()) {
-                tasks.remove(0);
-            }
+            clearList(selectedGroup.getModifiableTaskList());
             break;
         case STUDENT_PAGE:
             clearedObject = "Students";
             section = selectedGroup.getGroupName();
-            List<Student> students = selectedGroup.getModifiableStudentList();
-            while (!students.isEmpty()) {
-                students.remove(0);
-            }
+            clearStudents(selectedGroup);
             break;
         case TASK_STUDENT_PAGE:
             throw new CommandException("Can't clear current page!\n"
@@ -92,4 +80,20 @@ public class ClearCommand extends Command {
         return new CommandResult(this,
                 String.format(MESSAGE_SUCCESS, clearedObject, section), willModifyState);
     }
+
+    /**
+     * Deletes all students of {@code group}, whose attendance and grade records are restored if the clear is undone.
+     */
+    private void clearStudents(Group group) {
+        List<Student> removed = new ArrayList<>(group.getUnmodifiableStudentList());
+        StudentDeletionChange deletion = new StudentDeletionChange(group, 0, removed);
+        group.deleteStudents(removed);
+        recordChange(deletion);
+    }
+
+    private <T> void clearList(List<T> list) {
+        List<T> removed = new ArrayList<>(list);
+        list.clear();
+        recordChange(ListChange.rewrite(list, removed));
+    }
 }
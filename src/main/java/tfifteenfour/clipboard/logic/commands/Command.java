@@ -1,6 +1,11 @@
 package tfifteenfour.clipboard.logic.commands;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.Change;
 import tfifteenfour.clipboard.model.Model;
 
 /**
@@ -11,6 +16,9 @@ public abstract class Command {
     /** Whether the command will modify the rosterstate */
     protected boolean willModifyState;
 
+    /** Changes made by the latest execution of this command, used for undo and redo commands */
+    private final List<Change> recordedChanges = new ArrayList<>();
+
     public Command(boolean willModifyState) {
         this.willModifyState = willModifyState;
     }
@@ -29,4 +37,19 @@ public abstract class Command {
         return this.willModifyState;
     }
 
+    /**
+     * Records a change made while executing this command, so that it can be undone.
+     * Commands that modify state should record every change after it is made.
+     */
+    protected void recordChange(Change change) {
+        recordedChanges.add(change);
+    }
+
+    /**
+     * Returns the changes recorded while executing this command, in the order they were made.
+     */
+    public List<Change> getRecordedChanges() {
+        return Collections.unmodifiableList(recordedChanges);
+    }
+
 }
@@ -19,7 +19,7 @@ public class HomeCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         CurrentSelection currentSelection = model.getCurrentSelection();
-        ShowAllListedPredicate.resetAllFilters(model, currentSelection);
+        ShowAllListedPredicate.resetAllFilters(model, currentSelection).forEach(this::recordChange);
         currentSelection.getSelectedGroup().unMarkAllSessions();
         currentSelection.getSelectedGroup().unMarkAllTasks();
         currentSelection.navigateBackToCoursePage();
@@ -0,0 +1,67 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.CommandHistory;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
+import tfifteenfour.clipboard.model.Model;
+
+
+/**
+ * Represents a Redo command to redo the most recently undone modification to the Model.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redid command: %s";
+    public static final String MESSAGE_CANNOT_REDO = "Cannot redo any further";
+
+    private CommandHistory commandHistory;
+    private Command redoneCommand;
+    private HistoryEntry redoneEntry;
+
+    public RedoCommand() {
+        super(false);
+    }
+
+    /**
+     * Executes the Redo command.
+     *
+     * @param model The model to execute the command on.
+     * @return The result of the command.
+     * @throws CommandException If an error occurs while executing the command.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (commandHistory == null || !commandHistory.canRedo()) {
+            throw new CommandException(MESSAGE_CANNOT_REDO);
+        }
+
+        redoneEntry = commandHistory.redo();
+        this.redoneCommand = redoneEntry.getCommand();
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, redoneEntry.getCommandText()), false);
+    }
+
+    /**
+     * Sets the command history for the command.
+     *
+     * @param commandHistory The command history to redo from.
+     */
+    public void setCommandHistory(CommandHistory commandHistory) {
+        this.commandHistory = commandHistory;
+    }
+
+    /**
+     * Returns the command that was redone by executing the Redo command.
+     *
+     * @return The redone command.
+     */
+    public Command getRedoneCommand() {
+        return this.redoneCommand;
+    }
+
+    /**
+     * Returns the history entry that was redone by executing the Redo command.
+     */
+    public HistoryEntry getRedoneEntry() {
+        return this.redoneEntry;
+    }
+}
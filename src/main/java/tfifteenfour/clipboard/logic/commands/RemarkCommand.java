@@ -9,12 +9,11 @@ import tfifteenfour.clipboard.commons.core.Messages;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.StudentReplacementChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
-import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Remark;
 import tfifteenfour.clipboard.model.student.Student;
-import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Changes the remark of an existing person in the address book.
@@ -55,8 +54,6 @@ public class RemarkCommand extends Command {
 
         Group selectedGroup = currentSelection.getSelectedGroup();
         List<Student> lastShownList = selectedGroup.getUnmodifiableFilteredStudentList();
-        List<Session> sessions = selectedGroup.getModifiableSessionList();
-        List<Task> tasks = selectedGroup.getModifiableTaskList();
 
 
         if (index.getZeroBased() >= lastShownList.size() || index.getZeroBased() < 0) {
@@ -68,16 +65,9 @@ public class RemarkCommand extends Command {
                 studentToEdit.getName(), studentToEdit.getPhone(), studentToEdit.getEmail(),
                 studentToEdit.getStudentId(), remark);
 
-
-        for (Session session : sessions) {
-            session.replaceStudent(studentToEdit, editedStudent);
-        }
-
-        for (Task task : tasks) {
-            task.replaceStudent(studentToEdit, editedStudent);
-        }
-
-        selectedGroup.setStudent(studentToEdit, editedStudent);
+        // the remark belongs to the student's record in the selected group, so other groups keep their own remarks
+        selectedGroup.replaceStudent(studentToEdit, editedStudent);
+        recordChange(new StudentReplacementChange(selectedGroup, studentToEdit, editedStudent));
         return new CommandResult(this, generateSuccessMessage(editedStudent), true);
     }
 
@@ -0,0 +1,118 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.SearchHit;
+import tfifteenfour.clipboard.model.course.Group;
+
+/**
+ * Searches every course, group, session, task and student of the roster for a name or student ID, lists the best
+ * hits with their paths, and navigates to the best hit from any page. If nothing contains the query, the students
+ * with a name or student ID a few edits away from it are listed instead, as the query may be mistyped.
+ */
+public class SearchCommand extends Command {
+    public static final String COMMAND_WORD = "search";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Searches all courses, groups, sessions, tasks and students for a name or student ID containing "
+            + "the query (case-insensitive), and navigates to the best match.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " alice";
+
+    public static final String MESSAGE_SUCCESS = "Viewing: %s\nBest matches for \"%s\":\n%s";
+    public static final String MESSAGE_SIMILAR = "Viewing: %s\nNo exact matches, closest matches for \"%s\":\n%s";
+    public static final String MESSAGE_NO_MATCHES = "No course, group, session, task or student matches \"%s\"";
+
+    /** Maximum number of hits that are listed */
+    public static final int MAX_HITS = 10;
+
+    private final String query;
+
+    /**
+     * Creates a SearchCommand to search the roster for {@code query}.
+     */
+    public SearchCommand(String query) {
+        super(true);
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String message = MESSAGE_SUCCESS;
+        List<SearchHit> hits = model.getRoster().search(query, MAX_HITS);
+        if (hits.isEmpty()) {
+            message = MESSAGE_SIMILAR;
+            hits = model.getRoster().searchSimilar(query, MAX_HITS);
+        }
+        if (hits.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_MATCHES, query));
+        }
+
+        SearchHit bestHit = hits.get(0);
+        navigateTo(model, bestHit);
+
+        StringBuilder listedHits = new StringBuilder();
+        for (int i = 0; i < hits.size(); i++) {
+            listedHits.append(i == 0 ? "" : "\n").append(i + 1).append(". ").append(hits.get(i));
+        }
+        return new CommandResult(this, String.format(message, bestHit.getPath(), query, listedHits),
+                willModifyState);
+    }
+
+    /**
+     * Navigates to {@code hit} from the course page, clearing the filters of the lists on the way, as
+     * {@link HomeCommand} and {@link SelectCommand} do.
+     */
+    private void navigateTo(Model model, SearchHit hit) throws CommandException {
+        CurrentSelection currentSelection = model.getCurrentSelection();
+        ShowAllListedPredicate.resetAllFilters(model, currentSelection).forEach(this::recordChange);
+        currentSelection.getSelectedGroup().unMarkAllSessions();
+        currentSelection.getSelectedGroup().unMarkAllTasks();
+        currentSelection.navigateBackToCoursePage();
+        currentSelection.emptySelectedStudent();
+
+        currentSelection.selectCourse(hit.getCourse());
+        if (hit.getType() == SearchHit.Type.COURSE) {
+            return;
+        }
+        Group group = hit.getGroup().orElseThrow();
+        currentSelection.selectGroup(group);
+        recordChange(ShowAllListedPredicate.resetStudentsFilter(currentSelection));
+
+        switch (hit.getType()) {
+        case SESSION:
+            // sessions and tasks are found by name, as an unloaded group has new ones once it is loaded again
+            currentSelection.selectSession(group.getUnmodifiableSessionList().stream()
+                    .filter(session -> session.getSessionName().equals(hit.getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_MATCHES, hit.getName()))));
+            break;
+        case TASK:
+            currentSelection.selectTask(group.getUnmodifiableTaskList().stream()
+                    .filter(task -> task.getTaskName().equals(hit.getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_MATCHES, hit.getName()))));
+            break;
+        case STUDENT:
+            currentSelection.selectStudent(group.findStudent(hit.getStudentId().orElseThrow())
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_MATCHES, hit.getName()))));
+            break;
+        default:
+            break;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && query.equals(((SearchCommand) other).query)); // state check
+    }
+}
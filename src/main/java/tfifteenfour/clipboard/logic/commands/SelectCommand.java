@@ -55,30 +55,30 @@ public class SelectCommand extends Command {
         case COURSE_PAGE:
             // if you are on course page now, means you can only select a course
             Course selectedCourse = handleSelectCourse(model, currentSelection);
-            ShowAllListedPredicate.resetCoursesFilter(model);
+            recordChange(ShowAllListedPredicate.resetCoursesFilter(model));
             return new CommandResult(this,
                     String.format(MESSAGE_SUCCESS_COURSE, selectedCourse), willModifyState);
         case GROUP_PAGE:
             // if you are on group page now, means you can only select a group
             Group selectedGroup = handleSelectGroup(model, currentSelection);
-            ShowAllListedPredicate.resetGroupsFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetGroupsFilter(currentSelection));
             return new CommandResult(this,
                     String.format(MESSAGE_SUCCESS_GROUP, selectedGroup,
                     currentSelection.getSelectedCourse()), willModifyState);
         case STUDENT_PAGE:
             Student selectedStudent = handleSelectStudent(model, currentSelection);
-            ShowAllListedPredicate.resetStudentsFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetStudentsFilter(currentSelection));
             return new CommandResult(this, String.format(MESSAGE_SUCCESS_STUDENT, selectedStudent), willModifyState);
 
         case SESSION_PAGE:
             Session selectedSession = handleSelectSession(model, currentSelection);
-            ShowAllListedPredicate.resetSessionsFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetSessionsFilter(currentSelection));
             return new CommandResult(this,
                     String.format(MESSAGE_SUCCESS_SESSION, selectedSession),
                     willModifyState);
         case TASK_PAGE:
             Task selectedTask = handleSelectTask(model, currentSelection);
-            ShowAllListedPredicate.resetTasksFilter(currentSelection);
+            recordChange(ShowAllListedPredicate.resetTasksFilter(currentSelection));
             return new CommandResult(this,
                     String.format(MESSAGE_SUCCESS_TASK, selectedTask),
                     willModifyState);
@@ -1,7 +1,8 @@
 package tfifteenfour.clipboard.logic.commands;
 
-import tfifteenfour.clipboard.logic.CircularBuffer;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.CommandHistory;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
 import tfifteenfour.clipboard.model.Model;
 
 
@@ -10,9 +11,12 @@ import tfifteenfour.clipboard.model.Model;
  */
 public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undid previous command: %s";
+    public static final String MESSAGE_CANNOT_UNDO = "Cannot undo any further";
 
-    private CircularBuffer<Model> stateHistoryBuffer;
-    private Model prevModel;
+    private CommandHistory commandHistory;
+    private Command undoneCommand;
+    private HistoryEntry undoneEntry;
 
     public UndoCommand() {
         super(false);
@@ -26,35 +30,37 @@ public class UndoCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        if (stateHistoryBuffer.size() > 0) {
-            this.prevModel = stateHistoryBuffer.removeLast();
-            Command prevCommandExecuted = prevModel.getCommandExecuted();
-            if (prevCommandExecuted instanceof UploadCommand) {
-                UploadCommand uploadCmd = (UploadCommand) prevCommandExecuted;
-                uploadCmd.deleteUploadedFile();
-            }
-        } else {
-            throw new CommandException("Cannot undo any further");
+        if (commandHistory == null || !commandHistory.canUndo()) {
+            throw new CommandException(MESSAGE_CANNOT_UNDO);
         }
-        return new CommandResult(this, String.format("Undid previous command: %s",
-                prevModel.getCommandTextExecuted()), false);
+
+        undoneEntry = commandHistory.undo();
+        this.undoneCommand = undoneEntry.getCommand();
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, undoneEntry.getCommandText()), false);
     }
 
     /**
-     * Sets the state history buffer for the command.
+     * Sets the command history for the command.
      *
-     * @param stateHistoryBuffer The state history buffer to set.
+     * @param commandHistory The command history to undo from.
      */
-    public void setStateHistoryBuffer(CircularBuffer<Model> stateHistoryBuffer) {
-        this.stateHistoryBuffer = stateHistoryBuffer;
+    public void setCommandHistory(CommandHistory commandHistory) {
+        this.commandHistory = commandHistory;
     }
 
     /**
-     * Returns the new model after executing the Undo command.
+     * Returns the command that was undone by executing the Undo command.
      *
-     * @return The new model.
+     * @return The undone command.
+     */
+    public Command getUndoneCommand() {
+        return this.undoneCommand;
+    }
+
+    /**
+     * Returns the history entry that was undone by executing the Undo command.
      */
-    public Model getPrevModel() {
-        return this.prevModel;
+    public HistoryEntry getUndoneEntry() {
+        return this.undoneEntry;
     }
 }
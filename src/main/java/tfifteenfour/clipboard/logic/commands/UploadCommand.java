@@ -16,6 +16,8 @@ import javax.imageio.stream.ImageInputStream;
 
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.Change;
+import tfifteenfour.clipboard.model.DeltaRecorder;
 import tfifteenfour.clipboard.model.Model;
 
 /**
@@ -96,6 +98,7 @@ public class UploadCommand extends Command {
 
 
             Files.copy(sourcePath, destPath.resolve(sourcePath.getFileName()), REPLACE_EXISTING);
+            recordChange(new UploadChange());
             return new CommandResult(this, generateSuccessMessage(sourcePath), willModifyState);
         } catch (InvalidPathException | IOException e) {
             throw new CommandException(MESSAGE_INVALID_FILEPATH);
@@ -112,6 +115,33 @@ public class UploadCommand extends Command {
     }
 
 
+    /**
+     * Represents the upload of a file, which is undone by deleting the uploaded copy.
+     */
+    private class UploadChange implements Change {
+        @Override
+        public void undo() throws CommandException {
+            deleteUploadedFile();
+        }
+
+        @Override
+        public void redo() throws CommandException {
+            try {
+                Files.copy(sourcePath, destPath.resolve(sourcePath.getFileName()), REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new CommandException("Error uploading file again");
+            }
+        }
+
+        @Override
+        public boolean changesStoredData() {
+            return false;
+        }
+
+        @Override
+        public void recordDelta(DeltaRecorder recorder, boolean isUndone) {}
+    }
+
     /**
      * Deletes the file that was uploaded by execute(), to support UndoCommand.
      *
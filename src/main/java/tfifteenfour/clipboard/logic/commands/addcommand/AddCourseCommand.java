@@ -6,6 +6,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 
@@ -53,6 +54,7 @@ public class AddCourseCommand extends AddCommand {
         }
 
         model.getRoster().addCourse(courseToAdd);
+        recordChange(ListChange.addition(model.getRoster().getModifiableCourseList(), courseToAdd));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, courseToAdd), willModifyState);
     }
 
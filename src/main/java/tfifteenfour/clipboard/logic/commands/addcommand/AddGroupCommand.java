@@ -6,6 +6,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
@@ -52,6 +53,7 @@ public class AddGroupCommand extends AddCommand {
         }
 
         targetCourse.addGroup(groupToAdd);
+        recordChange(ListChange.addition(targetCourse.getModifiableGroupList(), groupToAdd));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, targetCourse, groupToAdd), willModifyState);
     }
 
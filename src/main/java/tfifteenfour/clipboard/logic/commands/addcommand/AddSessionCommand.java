@@ -6,6 +6,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
@@ -59,6 +60,7 @@ public class AddSessionCommand extends AddCommand {
         }
 
         targetGroup.addSession(sessionToAdd);
+        recordChange(ListChange.addition(targetGroup.getModifiableSessionList(), sessionToAdd));
         System.out.println(targetGroup.getUnmodifiableSessionList());
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, targetGroup, sessionToAdd), willModifyState);
     }
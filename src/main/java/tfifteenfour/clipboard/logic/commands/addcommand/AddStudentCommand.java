@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.StudentAdditionChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.student.Student;
@@ -61,6 +62,7 @@ public class AddStudentCommand extends AddCommand {
         }
 
         targetGroup.addStudent(studentToAdd);
+        recordChange(new StudentAdditionChange(targetGroup, studentToAdd));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, targetGroup, studentToAdd), willModifyState);
     }
 
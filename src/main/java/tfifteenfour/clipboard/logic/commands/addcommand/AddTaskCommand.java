@@ -6,6 +6,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.task.Task;
@@ -58,6 +59,7 @@ public class AddTaskCommand extends AddCommand {
         }
 
         targetGroup.addTask(taskToAdd);
+        recordChange(ListChange.addition(targetGroup.getModifiableTaskList(), taskToAdd));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, targetGroup, taskToAdd), willModifyState);
     }
 
@@ -2,10 +2,6 @@ package tfifteenfour.clipboard.logic.commands.attendancecommand;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
@@ -15,7 +11,6 @@ import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
-import tfifteenfour.clipboard.model.student.SessionWithAttendance;
 import tfifteenfour.clipboard.model.student.Student;
 
 
@@ -65,31 +60,16 @@ public class AttendanceCommand extends Command {
 
         if (currentSelection.getCurrentPage() == PageType.SESSION_STUDENT_PAGE) {
             Session session = currentSelection.getSelectedSession();
-            Map<Student, Integer> attendance = session.getAttendance();
-
-            int numOfTotalStudents = attendance.keySet().size();
-            int numOfPresentStudents = (int) attendance.values().stream().filter(x -> x == 1).count();
+            int numOfTotalStudents = group.getUnmodifiableStudentList().size();
+            int numOfPresentStudents = session.countPresent();
 
             return new CommandResult(this, String.format(
                     MESSAGE_SUCCESS_SESSION,
                     course, group, session, numOfPresentStudents, numOfTotalStudents), willModifyState);
         } else if (currentSelection.getCurrentPage() == PageType.STUDENT_PAGE) {
             Student student = currentSelection.getSelectedStudent();
-            List<Session> sessions = group.getUnmodifiableSessionList();
-            int numOfTotalSession = sessions.size();
-            int numOfAttendedSession = 0;
-            List<SessionWithAttendance> sessionsWithAttendance = new ArrayList<>();
-
-            for (Session session : sessions) {
-                if (session.getAttendance().get(student) == 1) {
-                    numOfAttendedSession++;
-                    sessionsWithAttendance.add(new SessionWithAttendance(session, 1));
-                } else {
-                    sessionsWithAttendance.add(new SessionWithAttendance(session, 0));
-                }
-            }
-
-            student.setSessionAttendanceList(sessionsWithAttendance);
+            int numOfTotalSession = group.getUnmodifiableSessionList().size();
+            int numOfAttendedSession = group.countSessionsAttended(student);
 
             return new CommandResult(this, String.format(
                     MESSAGE_SUCCESS_STUDENT,
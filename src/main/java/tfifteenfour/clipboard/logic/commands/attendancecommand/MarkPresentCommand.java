@@ -12,6 +12,7 @@ import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.AttendanceChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
@@ -62,7 +63,9 @@ public class MarkPresentCommand extends Command {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             } else {
                 Student studentToMark = studentList.get(targetIndex[i].getZeroBased());
+                int oldAttendance = session.getAttendanceOf(studentToMark);
                 session.markPresent(studentToMark);
+                recordChange(new AttendanceChange(session, studentToMark, oldAttendance, Session.PRESENT));
                 studentMarked.append(studentToMark.getName());
                 if (i != targetIndex.length - 1) {
                     studentMarked.append(", ");
@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 
@@ -56,7 +57,10 @@ public class DeleteCourseCommand extends DeleteCommand {
         }
 
         Course courseToDelete = lastShownList.get(index.getZeroBased());
+        List<Course> courses = model.getRoster().getModifiableCourseList();
+        int courseIndex = courses.indexOf(courseToDelete);
         model.getRoster().deleteCourse(courseToDelete);
+        recordChange(ListChange.removal(courses, courseIndex, courseToDelete));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, courseToDelete), willModifyState);
     }
 
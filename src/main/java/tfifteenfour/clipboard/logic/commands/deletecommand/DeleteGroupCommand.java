@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
@@ -56,7 +57,10 @@ public class DeleteGroupCommand extends DeleteCommand {
         }
 
         Group groupToDelete = lastShownList.get(index.getZeroBased());
+        List<Group> groups = selectedCourse.getModifiableGroupList();
+        int groupIndex = groups.indexOf(groupToDelete);
         selectedCourse.deleteGroup(groupToDelete);
+        recordChange(ListChange.removal(groups, groupIndex, groupToDelete));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, selectedCourse, groupToDelete), willModifyState);
     }
@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
@@ -63,7 +64,10 @@ public class DeleteSessionCommand extends DeleteCommand {
         }
 
         Session sessionToDelete = lastShownList.get(index.getZeroBased());
+        List<Session> sessions = selectedGroup.getModifiableSessionList();
+        int sessionIndex = sessions.indexOf(sessionToDelete);
         selectedGroup.deleteSession(sessionToDelete);
+        recordChange(ListChange.removal(sessions, sessionIndex, sessionToDelete));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, selectedGroup, sessionToDelete), willModifyState);
     }
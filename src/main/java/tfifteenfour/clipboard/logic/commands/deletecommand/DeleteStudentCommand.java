@@ -2,6 +2,7 @@ package tfifteenfour.clipboard.logic.commands.deletecommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.List;
 
 import tfifteenfour.clipboard.commons.core.Messages;
@@ -10,6 +11,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.StudentDeletionChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.student.Name;
@@ -58,7 +60,11 @@ public class DeleteStudentCommand extends DeleteCommand {
 
         Student studentToDelete = lastShownList.get(index.getZeroBased());
         Name studentNameToDelete = studentToDelete.getName();
+        int studentIndex = selectedGroup.getUnmodifiableStudentList().indexOf(studentToDelete);
+        StudentDeletionChange deletion = new StudentDeletionChange(selectedGroup, studentIndex,
+                Collections.singletonList(studentToDelete));
         selectedGroup.deleteStudent(studentToDelete);
+        recordChange(deletion);
 
         return new CommandResult(this,
                 String.format(MESSAGE_SUCCESS, selectedGroup, studentNameToDelete),
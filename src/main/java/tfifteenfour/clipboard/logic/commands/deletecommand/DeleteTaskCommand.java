@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.task.Task;
@@ -63,7 +64,10 @@ public class DeleteTaskCommand extends DeleteCommand {
         }
 
         Task taskToDelete = lastShownList.get(index.getZeroBased());
+        List<Task> tasks = selectedGroup.getModifiableTaskList();
+        int taskIndex = tasks.indexOf(taskToDelete);
         selectedGroup.deleteTask(taskToDelete);
+        recordChange(ListChange.removal(tasks, taskIndex, taskToDelete));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, selectedGroup, taskToDelete), willModifyState);
     }
@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
@@ -66,7 +67,10 @@ public class EditCourseCommand extends EditCommand {
             newCourse.addGroup(group);
         }
 
+        List<Course> courses = model.getRoster().getModifiableCourseList();
+        int courseIndex = courses.indexOf(courseToEdit);
         model.getRoster().setCourse(courseToEdit, newCourse);
+        recordChange(ListChange.replacement(courses, courseIndex, courseToEdit, newCourse));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, courseToEdit, newCourse), willModifyState);
     }
 
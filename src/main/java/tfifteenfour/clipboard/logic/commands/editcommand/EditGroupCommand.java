@@ -10,11 +10,10 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
-import tfifteenfour.clipboard.model.course.Session;
-import tfifteenfour.clipboard.model.student.Student;
 
 /**
  * Edits the name of a group.
@@ -65,13 +64,13 @@ public class EditGroupCommand extends EditCommand {
         }
 
         Group groupToEdit = lastShownList.get(index.getZeroBased());
-        List<Student> students = groupToEdit.getUnmodifiableStudentList();
-        List<Session> sessions = groupToEdit.getUnmodifiableSessionList();
-        students.forEach(newGroup::addStudent);
-        sessions.forEach(newGroup::addSession);
+        Group editedGroup = groupToEdit.copyWithName(newGroup.getGroupName());
 
-        selectedCourse.setGroup(groupToEdit, newGroup);
-        return new CommandResult(this, String.format(MESSAGE_SUCCESS, groupToEdit, newGroup), willModifyState);
+        List<Group> groups = selectedCourse.getModifiableGroupList();
+        int groupIndex = groups.indexOf(groupToEdit);
+        selectedCourse.setGroup(groupToEdit, editedGroup);
+        recordChange(ListChange.replacement(groups, groupIndex, groupToEdit, editedGroup));
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, groupToEdit, editedGroup), willModifyState);
     }
 
     @Override
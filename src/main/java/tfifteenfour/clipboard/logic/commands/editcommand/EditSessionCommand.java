@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
@@ -61,10 +62,13 @@ public class EditSessionCommand extends EditCommand {
         }
 
         Session sessionToEdit = lastShownList.get(index.getZeroBased());
-        newSession.setAttendance(sessionToEdit.getAttendance());
+        Session editedSession = sessionToEdit.copyWithName(newSession.getSessionName());
 
-        selectedGroup.setSession(sessionToEdit, newSession);
-        return new CommandResult(this, String.format(MESSAGE_SUCCESS, sessionToEdit, newSession), willModifyState);
+        List<Session> sessions = selectedGroup.getModifiableSessionList();
+        int sessionIndex = sessions.indexOf(sessionToEdit);
+        selectedGroup.setSession(sessionToEdit, editedSession);
+        recordChange(ListChange.replacement(sessions, sessionIndex, sessionToEdit, editedSession));
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, sessionToEdit, editedSession), willModifyState);
     }
 
     @Override
@@ -14,17 +14,17 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.StudentReplacementChange;
 import tfifteenfour.clipboard.logic.parser.EditCommandParser.EditStudentDescriptor;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.StudentReplacement;
 import tfifteenfour.clipboard.model.course.Group;
-import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Email;
 import tfifteenfour.clipboard.model.student.Name;
 import tfifteenfour.clipboard.model.student.Phone;
 import tfifteenfour.clipboard.model.student.Remark;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentId;
-import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Edits the information of a student.
@@ -73,8 +73,6 @@ public class EditStudentCommand extends EditCommand {
 
         Group selectedGroup = currentSelection.getSelectedGroup();
         List<Student> lastShownList = selectedGroup.getUnmodifiableFilteredStudentList();
-        List<Session> sessions = selectedGroup.getModifiableSessionList();
-        List<Task> tasks = selectedGroup.getModifiableTaskList();
 
         if (currentSelection.getCurrentPage() != PageType.STUDENT_PAGE) {
             throw new CommandException("Wrong page. Navigate to student page to edit a student.");
@@ -88,20 +86,14 @@ public class EditStudentCommand extends EditCommand {
         Student editedStudent = createEditedStudent(studentToEdit, editStudentDescriptor);
 
         if (!studentToEdit.isSameStudent(editedStudent)
-            && currentSelection.getSelectedGroup().hasStudent(editedStudent)) {
+            && (selectedGroup.hasStudent(editedStudent) || model.getRoster().hasStudent(editedStudent))) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-
-        for (Session session : sessions) {
-            session.replaceStudent(studentToEdit, editedStudent);
-        }
-
-        for (Task task : tasks) {
-            task.replaceStudent(studentToEdit, editedStudent);
-        }
-
-        selectedGroup.setStudent(studentToEdit, editedStudent);
+        // the student is edited in every group of the roster that has them, where only the edited fields are changed
+        List<StudentReplacement> replacements = model.getRoster().replaceStudent(selectedGroup, studentToEdit,
+                student -> createEditedStudent(student, editStudentDescriptor));
+        recordChange(new StudentReplacementChange(replacements));
         return new CommandResult(this, String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedStudent), willModifyState);
     }
 
@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.ListChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.task.Task;
@@ -60,10 +61,13 @@ public class EditTaskCommand extends EditCommand {
         }
 
         Task taskToEdit = lastShownList.get(index.getZeroBased());
-        newTask.setGrades(taskToEdit.getGrades());
+        Task editedTask = taskToEdit.copyWithName(newTask.getTaskName());
 
-        selectedGroup.setTask(taskToEdit, newTask);
-        return new CommandResult(this, String.format(MESSAGE_SUCCESS, taskToEdit, newTask), willModifyState);
+        List<Task> tasks = selectedGroup.getModifiableTaskList();
+        int taskIndex = tasks.indexOf(taskToEdit);
+        selectedGroup.setTask(taskToEdit, editedTask);
+        recordChange(ListChange.replacement(tasks, taskIndex, taskToEdit, editedTask));
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, taskToEdit, editedTask), willModifyState);
     }
 
     @Override
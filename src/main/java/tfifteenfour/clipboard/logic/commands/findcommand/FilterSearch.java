@@ -0,0 +1,149 @@
+package tfifteenfour.clipboard.logic.commands.findcommand;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.model.PrecomputedPredicate;
+import tfifteenfour.clipboard.model.RefinablePredicate;
+
+/**
+ * The search a find command runs on a list, which can be run on a background thread to preview the results of the
+ * command while it is typed.
+ * Only {@link #findMatches(List)} may be called on a background thread, with items copied by {@link #copyItems()}.
+ * A list with an index is searched through the index instead, on the thread that modifies the list, as looking the
+ * matches up takes time linear in their number rather than in the size of the list.
+ *
+ * @param <T> the type of the items of the list.
+ */
+public class FilterSearch<T> {
+    /** Number of items tested between checks of whether the search was cancelled */
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    private final ObservableList<T> items;
+    private final RefinablePredicate<T> predicate;
+    private final Consumer<Predicate<T>> filterUpdater;
+    private final Supplier<Predicate<T>> filterGetter;
+
+    /** Looks up the items of the list matching the predicate in an index, or null if the list has no index */
+    private final Supplier<Collection<T>> indexLookup;
+
+    /**
+     * Creates a search of {@code items} for the items matching {@code predicate}.
+     *
+     * @param items all items of the list, whether they are shown or not.
+     * @param filterUpdater filters the list by a predicate.
+     * @param filterGetter returns the predicate the list is filtered by.
+     */
+    public FilterSearch(ObservableList<T> items, RefinablePredicate<T> predicate,
+            Consumer<Predicate<T>> filterUpdater, Supplier<Predicate<T>> filterGetter) {
+        requireAllNonNull(items, predicate, filterUpdater, filterGetter);
+        this.items = items;
+        this.predicate = predicate;
+        this.filterUpdater = filterUpdater;
+        this.filterGetter = filterGetter;
+        this.indexLookup = null;
+    }
+
+    /**
+     * Creates a search of {@code items} for the items matching {@code predicate}, which are looked up in an index of
+     * the list by {@code indexLookup}.
+     *
+     * @param indexLookup returns the items of the list matching {@code predicate}, from an index of the list that is
+     *     only used on the thread that modifies the list.
+     */
+    public FilterSearch(ObservableList<T> items, RefinablePredicate<T> predicate,
+            Consumer<Predicate<T>> filterUpdater, Supplier<Predicate<T>> filterGetter,
+            Supplier<Collection<T>> indexLookup) {
+        requireAllNonNull(items, predicate, filterUpdater, filterGetter, indexLookup);
+        this.items = items;
+        this.predicate = predicate;
+        this.filterUpdater = filterUpdater;
+        this.filterGetter = filterGetter;
+        this.indexLookup = indexLookup;
+    }
+
+    /**
+     * Returns true if this search and {@code other} search the same list.
+     */
+    public boolean isOnSameListAs(FilterSearch<?> other) {
+        return items == other.items;
+    }
+
+    /**
+     * Returns true if every item matched by this search is also matched by {@code other}, a search of the same list.
+     */
+    public boolean refines(FilterSearch<?> other) {
+        return isOnSameListAs(other) && predicate.refines(other.predicate);
+    }
+
+    /**
+     * Returns true if the list has an index to look up the matches in, with {@link #findIndexedMatches()}.
+     */
+    public boolean isIndexed() {
+        return indexLookup != null;
+    }
+
+    /**
+     * Returns the items of the list matching the search, looked up in the index of the list.
+     * Must be called on the thread that modifies the list.
+     */
+    public List<T> findIndexedMatches() {
+        assert isIndexed() : "Only a list with an index can be searched through it";
+        return new ArrayList<>(indexLookup.get());
+    }
+
+    /**
+     * Returns the number of items of the list.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns a copy of the items of the list, in order.
+     */
+    public List<T> copyItems() {
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * Returns the items of {@code candidates} matching the search, in order.
+     *
+     * @throws InterruptedException if the thread is interrupted, as the search was cancelled.
+     */
+    public List<T> findMatches(List<T> candidates) throws InterruptedException {
+        List<T> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            T candidate = candidates.get(i);
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Filters the list to show {@code matches}, the items of the list found to match the search.
+     */
+    public void showMatches(List<T> matches) {
+        filterUpdater.accept(new PrecomputedPredicate<>(predicate, matches));
+    }
+
+    public Predicate<T> getFilter() {
+        return filterGetter.get();
+    }
+
+    public void setFilter(Predicate<T> filter) {
+        filterUpdater.accept(filter);
+    }
+}
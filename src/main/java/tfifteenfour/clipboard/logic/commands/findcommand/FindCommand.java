@@ -1,9 +1,12 @@
 package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.model.Model;
 
 /**
- * Adds a student to the address book.
+ * Filters the list on the current page by keywords.
+ * The predicates of find commands are {@code RefinablePredicate}s, so a find that narrows the previous find on the
+ * same list, such as "tan w" followed by "tan wei", only tests the items the previous find showed.
  */
 public abstract class FindCommand extends Command {
 
@@ -13,4 +16,10 @@ public abstract class FindCommand extends Command {
         super(true);
     }
 
+    /**
+     * Returns the search this command runs on the list it filters in {@code model}, so that the results of the
+     * command can be previewed while it is typed.
+     */
+    public abstract FilterSearch<?> toFilterSearch(Model model);
+
 }
@@ -2,12 +2,16 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.FilterChange;
 import tfifteenfour.clipboard.logic.predicates.CourseNameContainsPredicate;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
 
 /**
  * Finds a course whose name contains any of the specified keywords.
@@ -43,16 +47,26 @@ public class FindCourseCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Roster roster = model.getRoster();
+        Predicate<Course> previousPredicate = roster.getFilteredCoursesPredicate();
         roster.updateFilteredCourses(predicate);
         int filteredSize = roster.getUnmodifiableFilteredCourseList().size();
 
         if (filteredSize == 0) {
             ShowAllListedPredicate.resetCoursesFilter(model);
         }
+        recordChange(new FilterChange<>(roster::updateFilteredCourses, previousPredicate,
+                roster.getFilteredCoursesPredicate()));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, filteredSize), willModifyState);
     }
 
+    @Override
+    public FilterSearch<Course> toFilterSearch(Model model) {
+        Roster roster = model.getRoster();
+        return new FilterSearch<>(roster.getUnmodifiableCourseList(), predicate, roster::updateFilteredCourses,
+                roster::getFilteredCoursesPredicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
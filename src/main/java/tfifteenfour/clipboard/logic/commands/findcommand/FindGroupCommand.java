@@ -2,13 +2,17 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.FilterChange;
 import tfifteenfour.clipboard.logic.predicates.GroupNameContainsPredicate;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
 
 /**
  * Finds a group in the selected course whose name contains any of the specified keywords.
@@ -50,16 +54,26 @@ public class FindGroupCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Course selectedCourse = currentSelection.getSelectedCourse();
+        Predicate<Group> previousPredicate = selectedCourse.getFilteredGroupsPredicate();
         selectedCourse.updateFilteredGroups(predicate);
         int filteredSize = selectedCourse.getUnmodifiableFilteredGroupList().size();
 
         if (filteredSize == 0) {
             ShowAllListedPredicate.resetGroupsFilter(currentSelection);
         }
+        recordChange(new FilterChange<>(selectedCourse::updateFilteredGroups, previousPredicate,
+                selectedCourse.getFilteredGroupsPredicate()));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, filteredSize), willModifyState);
     }
 
+    @Override
+    public FilterSearch<Group> toFilterSearch(Model model) {
+        Course selectedCourse = currentSelection.getSelectedCourse();
+        return new FilterSearch<>(selectedCourse.getUnmodifiableGroupList(), predicate,
+                selectedCourse::updateFilteredGroups, selectedCourse::getFilteredGroupsPredicate);
+    }
+
     /**
      * Returns true if both FindGroupCommands have the same predicate.
      * This defines a weaker notion of equality between two FindGroupCommands.
@@ -2,13 +2,17 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.FilterChange;
 import tfifteenfour.clipboard.logic.predicates.SessionNameContainsPredicate;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
 
 /**
  * Finds sessions in the selected group in the model that contains any of the specified keywords.
@@ -47,16 +51,26 @@ public class FindSessionCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Group selectedGroup = currentSelection.getSelectedGroup();
+        Predicate<Session> previousPredicate = selectedGroup.getFilteredSessionsPredicate();
         selectedGroup.updateFilteredSessions(predicate);
         int filteredSize = selectedGroup.getUnmodifiableFilteredSessionList().size();
 
         if (filteredSize == 0) {
             ShowAllListedPredicate.resetSessionsFilter(currentSelection);
         }
+        recordChange(new FilterChange<>(selectedGroup::updateFilteredSessions, previousPredicate,
+                selectedGroup.getFilteredSessionsPredicate()));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, filteredSize), willModifyState);
     }
 
+    @Override
+    public FilterSearch<Session> toFilterSearch(Model model) {
+        Group selectedGroup = currentSelection.getSelectedGroup();
+        return new FilterSearch<>(selectedGroup.getUnmodifiableSessionList(), predicate,
+                selectedGroup::updateFilteredSessions, selectedGroup::getFilteredSessionsPredicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,13 +2,20 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.function.Predicate;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.FilterChange;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.logic.predicates.StudentParticularsContainsPredicate;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.PrecomputedPredicate;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentSearchIndex;
 
 /**
  * Finds a student in a group.
@@ -31,6 +38,10 @@ public class FindStudentCommand extends FindCommand {
             + " " + "A1234567X";
 
     public static final String MESSAGE_SUCCESS = "Found %1$s results";
+    public static final String MESSAGE_SIMILAR = "Found no exact results, showing %1$s closest matches";
+
+    /** Maximum number of students shown when none contain the keywords, but some are a few edits away */
+    public static final int MAX_SIMILAR_STUDENTS = 10;
     private final StudentParticularsContainsPredicate predicate;
     private final CurrentSelection currentSelection;
 
@@ -56,15 +67,43 @@ public class FindStudentCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Group selectedGroup = currentSelection.getSelectedGroup();
+        // the students are looked up in the index of the group rather than by matching every student, so the list
+        // only checks whether each student was found, whether or not the search refines the one shown
+        StudentSearchIndex index = selectedGroup.getStudentSearchIndex();
+        Predicate<Student> indexedPredicate = predicate.using(index);
+        Predicate<Student> previousPredicate = selectedGroup.getFilteredStudentsPredicate();
 
-        selectedGroup.updateFilteredStudents(predicate);
+        selectedGroup.updateFilteredStudents(new PrecomputedPredicate<>(indexedPredicate, predicate.find(index)));
         int filteredSize = selectedGroup.getUnmodifiableFilteredStudentList().size();
+        if (filteredSize != 0) {
+            recordChange(new FilterChange<>(selectedGroup::updateFilteredStudents, previousPredicate,
+                    indexedPredicate));
+            return new CommandResult(this, String.format(MESSAGE_SUCCESS, filteredSize), willModifyState);
+        }
 
-        if (filteredSize == 0) {
+        // the keywords may be mistyped, so the students with a similar name or student ID are shown instead
+        Set<Student> similarStudents = predicate.findSimilar(index, MAX_SIMILAR_STUDENTS);
+        if (similarStudents.isEmpty()) {
             ShowAllListedPredicate.resetStudentsFilter(currentSelection);
+            recordChange(new FilterChange<>(selectedGroup::updateFilteredStudents, previousPredicate,
+                    selectedGroup.getFilteredStudentsPredicate()));
+            return new CommandResult(this, String.format(MESSAGE_SUCCESS, 0), willModifyState);
         }
+        Predicate<Student> similarPredicate = similarStudents::contains;
+        selectedGroup.updateFilteredStudents(similarPredicate);
+        recordChange(new FilterChange<>(selectedGroup::updateFilteredStudents, previousPredicate,
+                similarPredicate));
+        return new CommandResult(this, String.format(MESSAGE_SIMILAR, similarStudents.size()), willModifyState);
+    }
 
-        return new CommandResult(this, String.format(MESSAGE_SUCCESS, filteredSize), willModifyState);
+    @Override
+    public FilterSearch<Student> toFilterSearch(Model model) {
+        // the search index of the group is only used on the thread that modifies the group, which is where the
+        // preview looks the students up
+        Group selectedGroup = currentSelection.getSelectedGroup();
+        return new FilterSearch<>(selectedGroup.getUnmodifiableStudentList(), predicate,
+                selectedGroup::updateFilteredStudents, selectedGroup::getFilteredStudentsPredicate,
+                () -> predicate.find(selectedGroup.getStudentSearchIndex()));
     }
 
     @Override
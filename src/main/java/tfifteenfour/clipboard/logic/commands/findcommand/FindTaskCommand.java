@@ -2,13 +2,17 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.FilterChange;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.logic.predicates.TaskNameContainsPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Finds a task in the selected group whose name contains any of the specified keywords.
@@ -47,16 +51,26 @@ public class FindTaskCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Group selectedGroup = currentSelection.getSelectedGroup();
+        Predicate<Task> previousPredicate = selectedGroup.getFilteredTasksPredicate();
         selectedGroup.updateFilteredTasks(predicate);
         int filteredSize = selectedGroup.getUnmodifiableFilteredTaskList().size();
 
         if (filteredSize == 0) {
             ShowAllListedPredicate.resetTasksFilter(currentSelection);
         }
+        recordChange(new FilterChange<>(selectedGroup::updateFilteredTasks, previousPredicate,
+                selectedGroup.getFilteredTasksPredicate()));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, filteredSize), willModifyState);
     }
 
+    @Override
+    public FilterSearch<Task> toFilterSearch(Model model) {
+        Group selectedGroup = currentSelection.getSelectedGroup();
+        return new FilterSearch<>(selectedGroup.getUnmodifiableTaskList(), predicate,
+                selectedGroup::updateFilteredTasks, selectedGroup::getFilteredTasksPredicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,42 +1,141 @@
 package tfifteenfour.clipboard.logic.commands.sortcommand;
 
 import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.history.SortChange;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentWithAttendance;
+import tfifteenfour.clipboard.model.student.StudentWithGrades;
+import tfifteenfour.clipboard.model.task.Task;
 
 /**
- * Sorts all students in the student list by the specified category.
+ * Sorts the list shown on the current page by the specified category.
+ * Only the order the list is shown in changes, so the items stay sorted as they are added and edited, and the order
+ * they are stored in is kept.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all students by "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the list on the current page by "
             + "the specified category (case-insensitive).\n"
             + "Parameters: CATEGORY\n"
-            + "Possible categories: name, id\n"
+            + "Possible categories: name on all pages, id on student pages, attendance on the attendance page, "
+            + "grade on the grades page\n"
             + "Example: " + COMMAND_WORD + " id";
     public static final String MESSAGE_SUCCESS = "Sorted by: %s";
 
-    private Comparator<Student> categoryComparator;
-    private String categoryName;
+    private final String listName;
+    private final String categoryName;
+    private final Function<Model, SortChange<?>> sorter;
 
     /**
-     * Creates a FindCommand to search the list for names containing the specified string.
+     * Creates a SortCommand to sort the students of the selected group.
      *
      * @param categoryComparator the comparator for the specified category.
      * @param categoryName the name of the specified category.
      */
     public SortCommand(Comparator<Student> categoryComparator, String categoryName) {
+        this("students", categoryName, model -> {
+            Group group = model.getCurrentSelection().getSelectedGroup();
+            return SortCommand.<Student>sort(group::getSortedStudentsComparator, group::updateSortedStudents,
+                    categoryComparator);
+        });
+    }
+
+    private SortCommand(String listName, String categoryName, Function<Model, SortChange<?>> sorter) {
         super(true);
-        this.categoryComparator = categoryComparator;
+        this.listName = listName;
         this.categoryName = categoryName;
+        this.sorter = sorter;
+    }
+
+    /**
+     * Creates a SortCommand to sort the courses of the roster.
+     */
+    public static SortCommand ofCourses(Comparator<? super Course> categoryComparator, String categoryName) {
+        return new SortCommand("courses", categoryName, model -> {
+            Roster roster = model.getRoster();
+            return SortCommand.<Course>sort(roster::getSortedCoursesComparator, roster::updateSortedCourses,
+                    categoryComparator);
+        });
+    }
+
+    /**
+     * Creates a SortCommand to sort the groups of the selected course.
+     */
+    public static SortCommand ofGroups(Comparator<? super Group> categoryComparator, String categoryName) {
+        return new SortCommand("groups", categoryName, model -> {
+            Course course = model.getCurrentSelection().getSelectedCourse();
+            return SortCommand.<Group>sort(course::getSortedGroupsComparator, course::updateSortedGroups,
+                    categoryComparator);
+        });
+    }
+
+    /**
+     * Creates a SortCommand to sort the sessions of the selected group.
+     */
+    public static SortCommand ofSessions(Comparator<? super Session> categoryComparator, String categoryName) {
+        return new SortCommand("sessions", categoryName, model -> {
+            Group group = model.getCurrentSelection().getSelectedGroup();
+            return SortCommand.<Session>sort(group::getSortedSessionsComparator, group::updateSortedSessions,
+                    categoryComparator);
+        });
+    }
+
+    /**
+     * Creates a SortCommand to sort the tasks of the selected group.
+     */
+    public static SortCommand ofTasks(Comparator<? super Task> categoryComparator, String categoryName) {
+        return new SortCommand("tasks", categoryName, model -> {
+            Group group = model.getCurrentSelection().getSelectedGroup();
+            return SortCommand.<Task>sort(group::getSortedTasksComparator, group::updateSortedTasks,
+                    categoryComparator);
+        });
+    }
+
+    /**
+     * Creates a SortCommand to sort the attendance of the students of the selected session.
+     */
+    public static SortCommand ofSessionStudents(Comparator<? super StudentWithAttendance> categoryComparator,
+            String categoryName) {
+        return new SortCommand("attendance", categoryName, model -> {
+            Session session = model.getCurrentSelection().getSelectedSession();
+            return SortCommand.<StudentWithAttendance>sort(session::getSortedStudentsComparator,
+                    session::updateSortedStudents, categoryComparator);
+        });
+    }
+
+    /**
+     * Creates a SortCommand to sort the grades of the students of the selected task.
+     */
+    public static SortCommand ofTaskStudents(Comparator<? super StudentWithGrades> categoryComparator,
+            String categoryName) {
+        return new SortCommand("grades", categoryName, model -> {
+            Task task = model.getCurrentSelection().getSelectedTask();
+            return SortCommand.<StudentWithGrades>sort(task::getSortedStudentsComparator, task::updateSortedStudents,
+                    categoryComparator);
+        });
+    }
+
+    private static <T> SortChange<T> sort(Supplier<Comparator<? super T>> comparatorGetter,
+            Consumer<Comparator<? super T>> sortUpdater, Comparator<? super T> comparator) {
+        Comparator<? super T> previousComparator = comparatorGetter.get();
+        sortUpdater.accept(comparator);
+        return new SortChange<>(sortUpdater, previousComparator, comparator);
     }
 
     @Override
     public CommandResult execute(Model model) {
-        model.getCurrentSelection().getSelectedGroup().getModifiableStudentList().sort(categoryComparator);
+        recordChange(sorter.apply(model));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, categoryName), willModifyState);
     }
 
@@ -44,6 +143,7 @@ public class SortCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof SortCommand
+                && listName.equals(((SortCommand) other).listName)
                 && categoryName.equals(((SortCommand) other).categoryName));
     }
 }
@@ -5,11 +5,11 @@ import java.util.Comparator;
 import tfifteenfour.clipboard.model.student.Student;
 
 /**
- * Comparator for sorting students by student id.
+ * Comparator for sorting students by student id, with the numbers in the ids in numerical order.
  */
 public class AlphaNumericSidComparator implements Comparator<Student> {
     @Override
     public int compare(Student s1, Student s2) {
-        return s1.getStudentId().toString().compareTo(s2.getStudentId().toString());
+        return s1.getStudentId().getSortKey().compareTo(s2.getStudentId().getSortKey());
     }
 }
@@ -5,12 +5,12 @@ import java.util.Comparator;
 import tfifteenfour.clipboard.model.student.Student;
 
 /**
- * Comparator for sorting students by name.
+ * Comparator for sorting students by name, ignoring case.
  */
 public class AlphabeticalNameComparator implements Comparator<Student> {
 
     @Override
     public int compare(Student s1, Student s2) {
-        return s1.getName().toString().compareTo(s2.getName().toString());
+        return s1.getName().getSortKey().compareTo(s2.getName().getSortKey());
     }
 }
@@ -0,0 +1,19 @@
+package tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators;
+
+import java.util.Comparator;
+
+import tfifteenfour.clipboard.model.student.StudentWithAttendance;
+
+/**
+ * Comparator for sorting students of a session by attendance, with the students present first, and students with the
+ * same attendance by name.
+ */
+public class AttendanceComparator implements Comparator<StudentWithAttendance> {
+    private static final Comparator<StudentWithAttendance> NAME_COMPARATOR = new AlphabeticalNameComparator()::compare;
+
+    @Override
+    public int compare(StudentWithAttendance s1, StudentWithAttendance s2) {
+        int comparison = Integer.compare(s2.getAttendance(), s1.getAttendance());
+        return comparison != 0 ? comparison : NAME_COMPARATOR.compare(s1, s2);
+    }
+}
@@ -0,0 +1,19 @@
+package tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators;
+
+import java.util.Comparator;
+
+import tfifteenfour.clipboard.model.student.StudentWithGrades;
+
+/**
+ * Comparator for sorting students of a task by grade, with the highest grades first, and students with the same grade
+ * by name.
+ */
+public class GradeComparator implements Comparator<StudentWithGrades> {
+    private static final Comparator<StudentWithGrades> NAME_COMPARATOR = new AlphabeticalNameComparator()::compare;
+
+    @Override
+    public int compare(StudentWithGrades s1, StudentWithGrades s2) {
+        int comparison = Integer.compare(s2.getGrade(), s1.getGrade());
+        return comparison != 0 ? comparison : NAME_COMPARATOR.compare(s1, s2);
+    }
+}
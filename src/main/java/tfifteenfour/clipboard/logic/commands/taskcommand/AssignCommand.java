@@ -10,6 +10,7 @@ import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.GradeChange;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithGrades;
@@ -59,7 +60,9 @@ public class AssignCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         } else {
             Student studentToAssign = studentList.get(targetIndex.getZeroBased());
+            int oldGrade = task.getGradeOf(studentToAssign);
             task.assignGrade(studentToAssign, grade);
+            recordChange(new GradeChange(task, studentToAssign, oldGrade, grade));
             studentAssigned.append(studentToAssign.getName());
         }
 
@@ -0,0 +1,75 @@
+package tfifteenfour.clipboard.logic.commands.taskcommand;
+
+import static java.util.Objects.requireNonNull;
+
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.task.GradeStatistics;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Command that allows the user to view the statistics of the grades of a selected task, in its group and across the
+ * groups of its course.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Views the statistics of the grades of the selected task.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Grades for %s %s %s:\n%s\nGrades for %s %s in all groups:\n%s";
+    public static final String MESSAGE_STATISTICS =
+            " %d students, mean %.1f, median %d, min %d, max %d, standard deviation %.1f\n %s";
+
+    public StatsCommand() {
+        super(false);
+    }
+
+    /**
+     * Executes the command to view the statistics of the grades of the selected task.
+     *
+     * @param model the model to execute the command on
+     * @return a CommandResult indicating the result of the command
+     * @throws CommandException if there is an error executing the command
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        CurrentSelection currentSelection = model.getCurrentSelection();
+
+        if (currentSelection.getCurrentPage() != PageType.TASK_STUDENT_PAGE) {
+            throw new CommandException("Wrong page. Navigate to task page and select a task to view its grades");
+        }
+
+        Course course = currentSelection.getSelectedCourse();
+        Group group = currentSelection.getSelectedGroup();
+        Task task = currentSelection.getSelectedTask();
+
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS,
+                course, group, task, formatStatistics(task.getStatistics()),
+                course, task, formatStatistics(course.getGradeStatistics(task))), willModifyState);
+    }
+
+    /**
+     * Returns the summary of {@code statistics}, followed by the number of grades in each band.
+     */
+    public static String formatStatistics(GradeStatistics statistics) {
+        StringBuilder bands = new StringBuilder();
+        int[] bandCounts = statistics.getBandCounts();
+        for (int band = 0; band < bandCounts.length; band++) {
+            int from = GradeStatistics.MIN_GRADE + band * GradeStatistics.BAND_WIDTH;
+            int to = band == bandCounts.length - 1 ? GradeStatistics.MAX_GRADE : from + GradeStatistics.BAND_WIDTH - 1;
+            bands.append(band == 0 ? "" : ", ").append(from).append("-").append(to).append(": ")
+                    .append(bandCounts[band]);
+        }
+        return String.format(MESSAGE_STATISTICS, statistics.getCount(), statistics.getMean(),
+                statistics.getMedian(), statistics.getMin(), statistics.getMax(),
+                statistics.getStandardDeviation(), bands);
+    }
+}
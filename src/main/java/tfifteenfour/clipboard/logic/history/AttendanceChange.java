@@ -0,0 +1,52 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * Represents a change to the attendance of a single student in a session.
+ */
+public class AttendanceChange implements Change {
+    private final Session session;
+    private final Student student;
+    private final int oldAttendance;
+    private final int newAttendance;
+
+    /**
+     * Constructs an {@code AttendanceChange} where the attendance of {@code student} in {@code session}
+     * went from {@code oldAttendance} to {@code newAttendance}.
+     */
+    public AttendanceChange(Session session, Student student, int oldAttendance, int newAttendance) {
+        requireAllNonNull(session, student);
+        this.session = session;
+        this.student = student;
+        this.oldAttendance = oldAttendance;
+        this.newAttendance = newAttendance;
+    }
+
+    @Override
+    public void undo() {
+        setAttendance(oldAttendance);
+    }
+
+    @Override
+    public void redo() {
+        setAttendance(newAttendance);
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        recorder.recordAttendance(session, student, isUndone ? oldAttendance : newAttendance);
+    }
+
+    private void setAttendance(int attendance) {
+        if (attendance == Session.PRESENT) {
+            session.markPresent(student);
+        } else {
+            session.markAbsent(student);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package tfifteenfour.clipboard.logic.history;
+
+import java.util.List;
+
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.course.Group;
+
+/**
+ * Represents a single reversible modification made by a command.
+ * A change only remembers what it touched, so that undoing a command does not require a copy of the whole model.
+ */
+public interface Change {
+
+    /**
+     * Reverts this change. Must only be called when the model is in the state right after this change was made.
+     *
+     * @throws CommandException If the change cannot be reverted.
+     */
+    void undo() throws CommandException;
+
+    /**
+     * Re-applies this change. Must only be called when the model is in the state right after {@link #undo()}.
+     *
+     * @throws CommandException If the change cannot be re-applied.
+     */
+    void redo() throws CommandException;
+
+    /**
+     * Returns true if this change affects data that is saved to storage, as opposed to only what is being viewed.
+     */
+    default boolean changesStoredData() {
+        return true;
+    }
+
+    /**
+     * Returns the groups whose students, sessions or tasks this change refers to, apart from the group of the page
+     * that it was made on, which must stay loaded while the change can be undone or redone.
+     */
+    default List<Group> getReferredGroups() {
+        return List.of();
+    }
+
+    /**
+     * Records the modification of stored data made by this change to {@code recorder}, or the modification that undid
+     * it if {@code isUndone}. Changes that do not affect stored data record nothing.
+     */
+    void recordDelta(DeltaRecorder recorder, boolean isUndone);
+}
@@ -0,0 +1,94 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static java.util.Objects.requireNonNull;
+
+import tfifteenfour.clipboard.logic.CircularBuffer;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+
+/**
+ * Keeps track of executed commands so that they can be undone and redone.
+ * Once full, the oldest entries are forgotten.
+ */
+public class CommandHistory {
+    private final CircularBuffer<HistoryEntry> undoStack;
+    private final CircularBuffer<HistoryEntry> redoStack;
+
+    /**
+     * Constructs a {@code CommandHistory} that remembers up to {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        undoStack = new CircularBuffer<>(capacity);
+        redoStack = new CircularBuffer<>(capacity);
+    }
+
+    /**
+     * Records a newly executed command. Commands that were undone can no longer be redone after this.
+     * The groups that the changes of an entry refer to are kept loaded while the entry is remembered.
+     */
+    public void push(HistoryEntry entry) {
+        requireNonNull(entry);
+        entry.pinGroups();
+        add(undoStack, entry);
+        while (!redoStack.isEmpty()) {
+            redoStack.removeLast().unpinGroups();
+        }
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Undoes the most recently executed command.
+     *
+     * @return the entry of the command that was undone.
+     * @throws CommandException If the command cannot be undone.
+     */
+    public HistoryEntry undo() throws CommandException {
+        assert canUndo() : "There should be a command to undo";
+        HistoryEntry entry = undoStack.removeLast();
+        try {
+            entry.undo();
+        } catch (CommandException e) {
+            // the entry is forgotten
+            entry.unpinGroups();
+            throw e;
+        }
+        add(redoStack, entry);
+        return entry;
+    }
+
+    /**
+     * Redoes the most recently undone command.
+     *
+     * @return the entry of the command that was redone.
+     * @throws CommandException If the command cannot be redone.
+     */
+    public HistoryEntry redo() throws CommandException {
+        assert canRedo() : "There should be a command to redo";
+        HistoryEntry entry = redoStack.removeLast();
+        try {
+            entry.redo();
+        } catch (CommandException e) {
+            // the entry is forgotten
+            entry.unpinGroups();
+            throw e;
+        }
+        add(undoStack, entry);
+        return entry;
+    }
+
+    /**
+     * Adds {@code entry} to {@code stack}, forgetting the oldest entry of the stack if it is full.
+     */
+    private static void add(CircularBuffer<HistoryEntry> stack, HistoryEntry entry) {
+        HistoryEntry forgottenEntry = stack.add(entry);
+        if (forgottenEntry != null) {
+            forgottenEntry.unpinGroups();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+
+/**
+ * Represents a filter being applied to a list, including a filter being cleared to show every element.
+ * Undoing the change filters the list by the predicate it was filtered by before.
+ *
+ * @param <T> the type of elements in the filtered list.
+ */
+public class FilterChange<T> implements Change {
+    private final Consumer<Predicate<T>> filterUpdater;
+    private final Predicate<T> previousPredicate;
+    private final Predicate<T> predicate;
+
+    /**
+     * Constructs a {@code FilterChange} where {@code predicate} was applied through {@code filterUpdater}, replacing
+     * {@code previousPredicate}.
+     */
+    public FilterChange(Consumer<Predicate<T>> filterUpdater, Predicate<T> previousPredicate,
+            Predicate<T> predicate) {
+        requireAllNonNull(filterUpdater, previousPredicate, predicate);
+        this.filterUpdater = filterUpdater;
+        this.previousPredicate = previousPredicate;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void undo() {
+        filterUpdater.accept(previousPredicate);
+    }
+
+    @Override
+    public void redo() {
+        filterUpdater.accept(predicate);
+    }
+
+    @Override
+    public boolean changesStoredData() {
+        return false;
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {}
+}
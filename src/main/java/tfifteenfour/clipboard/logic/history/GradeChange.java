@@ -0,0 +1,44 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Represents a change to the grade of a single student in a task.
+ */
+public class GradeChange implements Change {
+    private final Task task;
+    private final Student student;
+    private final int oldGrade;
+    private final int newGrade;
+
+    /**
+     * Constructs a {@code GradeChange} where the grade of {@code student} in {@code task}
+     * went from {@code oldGrade} to {@code newGrade}.
+     */
+    public GradeChange(Task task, Student student, int oldGrade, int newGrade) {
+        requireAllNonNull(task, student);
+        this.task = task;
+        this.student = student;
+        this.oldGrade = oldGrade;
+        this.newGrade = newGrade;
+    }
+
+    @Override
+    public void undo() {
+        task.assignGrade(student, oldGrade);
+    }
+
+    @Override
+    public void redo() {
+        task.assignGrade(student, newGrade);
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        recorder.recordGrade(task, student, isUndone ? oldGrade : newGrade);
+    }
+}
@@ -0,0 +1,123 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.course.Group;
+
+/**
+ * Represents an executed command together with the changes it made, in the order they were made.
+ */
+public class HistoryEntry {
+    private final String commandText;
+    private final Command command;
+    private final List<Change> changes;
+    private final CurrentSelection selectionBefore;
+
+    /** Groups whose students, sessions or tasks the changes refer to, each listed once for every reference */
+    private final List<Group> referredGroups = new ArrayList<>();
+
+    /**
+     * Constructs a {@code HistoryEntry} for {@code command}, which was entered as {@code commandText}, and could have
+     * changed any part of the roster.
+     */
+    public HistoryEntry(String commandText, Command command, List<Change> changes) {
+        this(commandText, command, changes, null);
+    }
+
+    /**
+     * Constructs a {@code HistoryEntry} for {@code command}, which was entered as {@code commandText} on the page of
+     * {@code selectionBefore}, or could have changed any part of the roster if it is null.
+     */
+    public HistoryEntry(String commandText, Command command, List<Change> changes, CurrentSelection selectionBefore) {
+        requireAllNonNull(commandText, command, changes);
+        this.commandText = commandText;
+        this.command = command;
+        this.changes = changes;
+        this.selectionBefore = selectionBefore;
+
+        if (selectionBefore != null && selectionBefore.isWithinGroup()) {
+            referredGroups.add(selectionBefore.getSelectedGroup());
+        }
+        changes.forEach(change -> referredGroups.addAll(change.getReferredGroups()));
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    public Command getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns the selection before the command was executed, or null if the command could have changed any part of
+     * the roster.
+     */
+    public CurrentSelection getSelectionBefore() {
+        return selectionBefore;
+    }
+
+    /**
+     * Keeps the groups that the changes of this entry refer to loaded, while the entry is in the command history.
+     */
+    public void pinGroups() {
+        referredGroups.forEach(Group::pin);
+    }
+
+    /**
+     * Releases the pins made by {@link #pinGroups()}, once the entry is no longer in the command history.
+     */
+    public void unpinGroups() {
+        referredGroups.forEach(Group::unpin);
+    }
+
+    /**
+     * Returns true if any change of this entry affects data that is saved to storage.
+     */
+    public boolean changesStoredData() {
+        return changes.stream().anyMatch(Change::changesStoredData);
+    }
+
+    /**
+     * Records the modifications of stored data made by the changes of this entry to {@code recorder}, in the order
+     * they were made, or the modifications that undid them if {@code isUndone}.
+     */
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        if (isUndone) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).recordDelta(recorder, true);
+            }
+        } else {
+            changes.forEach(change -> change.recordDelta(recorder, false));
+        }
+    }
+
+    /**
+     * Reverts the changes of this entry, from the last change to the first.
+     *
+     * @throws CommandException If a change cannot be reverted.
+     */
+    public void undo() throws CommandException {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo();
+        }
+    }
+
+    /**
+     * Re-applies the changes of this entry, from the first change to the last.
+     *
+     * @throws CommandException If a change cannot be re-applied.
+     */
+    public void redo() throws CommandException {
+        for (Change change : changes) {
+            change.redo();
+        }
+    }
+}
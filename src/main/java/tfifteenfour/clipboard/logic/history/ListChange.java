@@ -0,0 +1,89 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+
+/**
+ * Represents the replacement of a contiguous range of elements in a list.
+ * Additions, removals, edits, clears and sorts are all special cases of this change.
+ *
+ * @param <T> the type of elements in the list.
+ */
+public class ListChange<T> implements Change {
+    private final List<T> list;
+    private final int index;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Constructs a {@code ListChange} where {@code removed} was replaced by {@code added}, starting at {@code index}.
+     */
+    public ListChange(List<T> list, int index, List<T> removed, List<T> added) {
+        requireAllNonNull(list, removed, added);
+        this.list = list;
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns a change recording that {@code element} was appended to the end of {@code list}.
+     * Must be called right after the element was added.
+     */
+    public static <T> ListChange<T> addition(List<T> list, T element) {
+        return new ListChange<>(list, list.size() - 1, Collections.emptyList(), Collections.singletonList(element));
+    }
+
+    /**
+     * Returns a change recording that {@code element} was removed from {@code index} of {@code list}.
+     */
+    public static <T> ListChange<T> removal(List<T> list, int index, T element) {
+        return new ListChange<>(list, index, Collections.singletonList(element), Collections.emptyList());
+    }
+
+    /**
+     * Returns a change recording that {@code oldElement} at {@code index} of {@code list} was replaced by
+     * {@code newElement}.
+     */
+    public static <T> ListChange<T> replacement(List<T> list, int index, T oldElement, T newElement) {
+        return new ListChange<>(list, index, Collections.singletonList(oldElement),
+                Collections.singletonList(newElement));
+    }
+
+    /**
+     * Returns a change recording that the contents of {@code list} used to be {@code oldContents}.
+     * Must be called right after the list was modified.
+     */
+    public static <T> ListChange<T> rewrite(List<T> list, List<T> oldContents) {
+        return new ListChange<>(list, 0, oldContents, new ArrayList<>(list));
+    }
+
+    @Override
+    public void undo() {
+        replaceRange(added.size(), removed);
+    }
+
+    @Override
+    public void redo() {
+        replaceRange(removed.size(), added);
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        if (isUndone) {
+            recorder.recordListChange(list, index, added, removed);
+        } else {
+            recorder.recordListChange(list, index, removed, added);
+        }
+    }
+
+    private void replaceRange(int currentLength, List<T> replacement) {
+        list.subList(index, index + currentLength).clear();
+        list.addAll(index, replacement);
+    }
+}
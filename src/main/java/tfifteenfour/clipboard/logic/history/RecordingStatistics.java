@@ -0,0 +1,87 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import tfifteenfour.clipboard.logic.commands.Command;
+
+/**
+ * Keeps track of how much time is spent recording commands for undo, broken down by command type.
+ * Commands that cannot modify state are not recorded, and the time saved by skipping them is estimated from the
+ * average cost of recording a command.
+ */
+public class RecordingStatistics {
+    private final Map<String, Tally> tallies = new TreeMap<>();
+    private long totalRecordingNanos;
+    private int totalRecorded;
+
+    /**
+     * Counts of a single command type.
+     */
+    private static class Tally {
+        private int recorded;
+        private long recordingNanos;
+        private int skipped;
+    }
+
+    /**
+     * Notes that {@code command} was recorded for undo, which took {@code recordingNanos} nanoseconds.
+     */
+    public void addRecorded(Command command, long recordingNanos) {
+        Tally tally = getTally(command);
+        tally.recorded++;
+        tally.recordingNanos += recordingNanos;
+        totalRecorded++;
+        totalRecordingNanos += recordingNanos;
+    }
+
+    /**
+     * Notes that recording {@code command} for undo was skipped as it cannot modify state.
+     */
+    public void addSkipped(Command command) {
+        getTally(command).skipped++;
+    }
+
+    private Tally getTally(Command command) {
+        requireNonNull(command);
+        return tallies.computeIfAbsent(command.getClass().getSimpleName(), unused -> new Tally());
+    }
+
+    /**
+     * Returns the average time taken to record a command, or 0 if no command has been recorded.
+     */
+    public long getAverageRecordingNanos() {
+        return totalRecorded == 0 ? 0 : totalRecordingNanos / totalRecorded;
+    }
+
+    /**
+     * Returns the estimated recording time avoided for commands of the given type.
+     */
+    public long getAvoidedNanos(Class<? extends Command> commandType) {
+        Tally tally = tallies.get(commandType.getSimpleName());
+        return tally == null ? 0 : tally.skipped * getAverageRecordingNanos();
+    }
+
+    /**
+     * Returns the number of commands of the given type that were not recorded.
+     */
+    public int getSkippedCount(Class<? extends Command> commandType) {
+        Tally tally = tallies.get(commandType.getSimpleName());
+        return tally == null ? 0 : tally.skipped;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Undo recording by command type:");
+        long averageRecordingNanos = getAverageRecordingNanos();
+        tallies.forEach((commandType, tally) -> builder.append("\n  ")
+                .append(commandType)
+                .append(": recorded ").append(tally.recorded)
+                .append(" (").append(tally.recorded == 0 ? 0 : tally.recordingNanos / tally.recorded)
+                .append(" ns avg), skipped ").append(tally.skipped)
+                .append(" (~").append(tally.skipped * averageRecordingNanos).append(" ns avoided)"));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.course.Group;
+
+/**
+ * Represents a change in the current page and selections, e.g. from navigating between pages.
+ */
+public class SelectionChange implements Change {
+    private final CurrentSelection currentSelection;
+    private final CurrentSelection oldSelection;
+    private final CurrentSelection newSelection;
+
+    /**
+     * Constructs a {@code SelectionChange} where {@code currentSelection} went from {@code oldSelection}
+     * to {@code newSelection}.
+     */
+    public SelectionChange(CurrentSelection currentSelection, CurrentSelection oldSelection,
+            CurrentSelection newSelection) {
+        requireAllNonNull(currentSelection, oldSelection, newSelection);
+        this.currentSelection = currentSelection;
+        this.oldSelection = oldSelection;
+        this.newSelection = newSelection;
+    }
+
+    @Override
+    public List<Group> getReferredGroups() {
+        return Stream.of(oldSelection, newSelection)
+                .filter(CurrentSelection::isWithinGroup)
+                .map(CurrentSelection::getSelectedGroup)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void undo() {
+        currentSelection.setSelection(oldSelection);
+    }
+
+    @Override
+    public void redo() {
+        currentSelection.setSelection(newSelection);
+    }
+
+    @Override
+    public boolean changesStoredData() {
+        return false;
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {}
+}
@@ -0,0 +1,51 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+
+/**
+ * Represents a list being sorted, without reordering the items stored.
+ * Undoing the change lists the items in the order they were listed in before.
+ *
+ * @param <T> the type of elements in the sorted list.
+ */
+public class SortChange<T> implements Change {
+    private final Consumer<Comparator<? super T>> sortUpdater;
+    private final Comparator<? super T> previousComparator;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Constructs a {@code SortChange} where {@code comparator} was applied through {@code sortUpdater}, replacing
+     * {@code previousComparator}, which is null if the list was not sorted.
+     */
+    public SortChange(Consumer<Comparator<? super T>> sortUpdater, Comparator<? super T> previousComparator,
+            Comparator<? super T> comparator) {
+        requireNonNull(sortUpdater);
+        requireNonNull(comparator);
+        this.sortUpdater = sortUpdater;
+        this.previousComparator = previousComparator;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void undo() {
+        sortUpdater.accept(previousComparator);
+    }
+
+    @Override
+    public void redo() {
+        sortUpdater.accept(comparator);
+    }
+
+    @Override
+    public boolean changesStoredData() {
+        return false;
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {}
+}
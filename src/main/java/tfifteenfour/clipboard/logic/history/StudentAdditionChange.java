@@ -0,0 +1,54 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * Represents the addition of a student to a group, which also enrolls the student in the sessions and tasks
+ * of that group.
+ */
+public class StudentAdditionChange implements Change {
+    private final Group group;
+    private final Student student;
+    private final int index;
+
+    /**
+     * Constructs a {@code StudentAdditionChange} where {@code student} was added to the end of the students of
+     * {@code group}. Must be called right after the student was added.
+     */
+    public StudentAdditionChange(Group group, Student student) {
+        requireAllNonNull(group, student);
+        this.group = group;
+        this.student = student;
+        this.index = group.getUnmodifiableStudentList().size() - 1;
+    }
+
+    @Override
+    public List<Group> getReferredGroups() {
+        return List.of(group);
+    }
+
+    @Override
+    public void undo() {
+        group.deleteStudent(student);
+    }
+
+    @Override
+    public void redo() {
+        group.addStudent(student);
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        if (isUndone) {
+            recorder.recordStudentsDeleted(group, List.of(student));
+        } else {
+            recorder.recordStudentsAdded(group, index, List.of(student));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Represents the deletion of a contiguous range of students from a group, together with their attendance and grade
+ * records. Undoing the change adds the students back with the records they had.
+ */
+public class StudentDeletionChange implements Change {
+    private final Group group;
+    private final int index;
+    private final List<Student> students;
+
+    /** Students who were present in each session of the group, for the sessions with any of them present */
+    private final Map<Session, List<Student>> presentStudents = new IdentityHashMap<>();
+
+    /** Grades of the students in each task of the group, for the tasks with any of them graded */
+    private final Map<Task, Map<Student, Integer>> grades = new IdentityHashMap<>();
+
+    /**
+     * Constructs a {@code StudentDeletionChange} where {@code students}, starting at {@code index} of the students of
+     * {@code group}, are deleted from it. Must be called right before the students are deleted, while their records
+     * can still be read.
+     */
+    public StudentDeletionChange(Group group, int index, List<Student> students) {
+        requireAllNonNull(group, students);
+        this.group = group;
+        this.index = index;
+        this.students = new ArrayList<>(students);
+
+        for (Session session : group.getUnmodifiableSessionList()) {
+            List<Student> present = new ArrayList<>();
+            for (Student student : students) {
+                if (session.getAttendanceOf(student) == Session.PRESENT) {
+                    present.add(student);
+                }
+            }
+            if (!present.isEmpty()) {
+                presentStudents.put(session, present);
+            }
+        }
+        for (Task task : group.getUnmodifiableTaskList()) {
+            Map<Student, Integer> taskGrades = new LinkedHashMap<>();
+            for (Student student : students) {
+                int grade = task.getGradeOf(student);
+                if (grade != 0) {
+                    taskGrades.put(student, grade);
+                }
+            }
+            if (!taskGrades.isEmpty()) {
+                grades.put(task, taskGrades);
+            }
+        }
+    }
+
+    @Override
+    public List<Group> getReferredGroups() {
+        return List.of(group);
+    }
+
+    @Override
+    public void undo() {
+        group.addStudents(index, students);
+        presentStudents.forEach((session, present) -> present.forEach(session::markPresent));
+        grades.forEach((task, taskGrades) -> taskGrades.forEach(task::assignGrade));
+    }
+
+    @Override
+    public void redo() {
+        group.deleteStudents(students);
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        if (!isUndone) {
+            recorder.recordStudentsDeleted(group, students);
+            return;
+        }
+        recorder.recordStudentsAdded(group, index, students);
+        presentStudents.forEach((session, present) ->
+                present.forEach(student -> recorder.recordAttendance(session, student, Session.PRESENT)));
+        grades.forEach((task, taskGrades) ->
+                taskGrades.forEach((student, grade) -> recorder.recordGrade(task, student, grade)));
+    }
+}
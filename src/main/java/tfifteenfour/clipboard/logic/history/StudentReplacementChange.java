@@ -0,0 +1,65 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.StudentReplacement;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * Represents the replacement of a student in one or more groups, together with their attendance and grade records.
+ */
+public class StudentReplacementChange implements Change {
+    private final List<StudentReplacement> replacements;
+
+    /**
+     * Constructs a {@code StudentReplacementChange} where {@code oldStudent} was replaced by {@code newStudent}
+     * in {@code group}.
+     */
+    public StudentReplacementChange(Group group, Student oldStudent, Student newStudent) {
+        this(List.of(new StudentReplacement(group, oldStudent, newStudent)));
+    }
+
+    /**
+     * Constructs a {@code StudentReplacementChange} of the {@code replacements} of a student in their groups.
+     */
+    public StudentReplacementChange(List<StudentReplacement> replacements) {
+        requireNonNull(replacements);
+        this.replacements = new ArrayList<>(replacements);
+    }
+
+    @Override
+    public List<Group> getReferredGroups() {
+        return replacements.stream().map(StudentReplacement::getGroup).collect(Collectors.toList());
+    }
+
+    @Override
+    public void undo() {
+        replacements.forEach(replacement ->
+                replacement.getGroup().replaceStudent(replacement.getNewStudent(), replacement.getOldStudent()));
+    }
+
+    @Override
+    public void redo() {
+        replacements.forEach(replacement ->
+                replacement.getGroup().replaceStudent(replacement.getOldStudent(), replacement.getNewStudent()));
+    }
+
+    @Override
+    public void recordDelta(DeltaRecorder recorder, boolean isUndone) {
+        replacements.forEach(replacement -> {
+            if (isUndone) {
+                recorder.recordStudentReplaced(replacement.getGroup(), replacement.getNewStudent(),
+                        replacement.getOldStudent());
+            } else {
+                recorder.recordStudentReplaced(replacement.getGroup(), replacement.getOldStudent(),
+                        replacement.getNewStudent());
+            }
+        });
+    }
+}
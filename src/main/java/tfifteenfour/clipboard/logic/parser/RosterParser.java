@@ -14,7 +14,9 @@ import tfifteenfour.clipboard.logic.commands.CopyCommand;
 import tfifteenfour.clipboard.logic.commands.ExitCommand;
 import tfifteenfour.clipboard.logic.commands.HelpCommand;
 import tfifteenfour.clipboard.logic.commands.HomeCommand;
+import tfifteenfour.clipboard.logic.commands.RedoCommand;
 import tfifteenfour.clipboard.logic.commands.RemarkCommand;
+import tfifteenfour.clipboard.logic.commands.SearchCommand;
 import tfifteenfour.clipboard.logic.commands.SelectCommand;
 import tfifteenfour.clipboard.logic.commands.UndoCommand;
 import tfifteenfour.clipboard.logic.commands.UploadCommand;
@@ -29,6 +31,7 @@ import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.commands.findcommand.FindCommand;
 import tfifteenfour.clipboard.logic.commands.sortcommand.SortCommand;
 import tfifteenfour.clipboard.logic.commands.taskcommand.AssignCommand;
+import tfifteenfour.clipboard.logic.commands.taskcommand.StatsCommand;
 import tfifteenfour.clipboard.logic.commands.taskcommand.TaskCommand;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 import tfifteenfour.clipboard.model.Model;
@@ -95,6 +98,9 @@ public class RosterParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser(currentSelection).parse(arguments);
 
@@ -122,6 +128,12 @@ public class RosterParser {
         case AssignCommand.COMMAND_WORD:
             return new AssignCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case HomeCommand.COMMAND_WORD:
             return new HomeCommand();
 
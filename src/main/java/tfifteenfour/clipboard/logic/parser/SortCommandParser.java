@@ -1,12 +1,21 @@
 package tfifteenfour.clipboard.logic.parser;
 
+import java.util.Comparator;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.commands.sortcommand.SortCommand;
 import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphaNumericSidComparator;
 import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphabeticalNameComparator;
+import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AttendanceComparator;
+import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.GradeComparator;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Parses input arguments and creates a new SortCommand object.
@@ -30,27 +39,62 @@ public class SortCommandParser implements Parser<SortCommand> {
      */
     public SortCommand parse(String args) throws ParseException, CommandException {
         String trimmedArgs = args.trim();
+        PageType currentPage = currentSelection.getCurrentPage();
+        SortCategory category = SortCategory.fromString(trimmedArgs);
 
-        if (currentSelection.getCurrentPage() != PageType.STUDENT_PAGE) {
-            throw new CommandException("Wrong page. Navigate to student page to sort students");
+        switch (currentPage) {
+        case COURSE_PAGE:
+            requireNameCategory(category);
+            return SortCommand.ofCourses(Comparator.comparing(Course::getSortKey), category.getCategory());
+        case GROUP_PAGE:
+            requireNameCategory(category);
+            return SortCommand.ofGroups(Comparator.comparing(Group::getSortKey), category.getCategory());
+        case SESSION_PAGE:
+            requireNameCategory(category);
+            return SortCommand.ofSessions(Comparator.comparing(Session::getSortKey), category.getCategory());
+        case TASK_PAGE:
+            requireNameCategory(category);
+            return SortCommand.ofTasks(Comparator.comparing(Task::getSortKey), category.getCategory());
+        case STUDENT_PAGE:
+            return new SortCommand(parseStudentComparator(category), category.getCategory());
+        case SESSION_STUDENT_PAGE:
+            return SortCommand.ofSessionStudents(category == SortCategory.SORT_BY_ATTENDANCE
+                    ? new AttendanceComparator()
+                    : parseStudentComparator(category), category.getCategory());
+        case TASK_STUDENT_PAGE:
+            return SortCommand.ofTaskStudents(category == SortCategory.SORT_BY_GRADE
+                    ? new GradeComparator()
+                    : parseStudentComparator(category), category.getCategory());
+        default:
+            throw new CommandException("Wrong page. Navigate to a page with a list to sort it");
         }
+    }
 
-        SortCategory category = SortCategory.fromString(trimmedArgs);
+    private static void requireNameCategory(SortCategory category) throws ParseException {
+        if (category != SortCategory.SORT_BY_NAME) {
+            throw new ParseException("Unable to sort this page by " + category.getCategory() + "\n"
+                    + SortCommand.MESSAGE_USAGE);
+        }
+    }
 
+    private static Comparator<Student> parseStudentComparator(SortCategory category) throws ParseException {
         switch (category) {
         case SORT_BY_NAME:
-            return new SortCommand(new AlphabeticalNameComparator(), category.getCategory());
+            return new AlphabeticalNameComparator();
         case SORT_BY_STUDENT_ID:
-            return new SortCommand(new AlphaNumericSidComparator(), category.getCategory());
+            return new AlphaNumericSidComparator();
         default:
-            throw new ParseException("Unable to parse category for sorting\n" + SortCommand.MESSAGE_USAGE);
+            throw new ParseException("Unable to sort this page by " + category.getCategory() + "\n"
+                    + SortCommand.MESSAGE_USAGE);
         }
     }
 }
 
 enum SortCategory {
     SORT_BY_NAME("name"),
-    SORT_BY_STUDENT_ID("id");
+    SORT_BY_STUDENT_ID("id"),
+    SORT_BY_ATTENDANCE("attendance"),
+    SORT_BY_GRADE("grade");
 
     private String category;
 
@@ -3,23 +3,41 @@ package tfifteenfour.clipboard.logic.predicates;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import tfifteenfour.clipboard.model.RefinablePredicate;
 import tfifteenfour.clipboard.model.course.Course;
 
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
  */
-public class CourseNameContainsPredicate implements Predicate<Course> {
+public class CourseNameContainsPredicate implements RefinablePredicate<Course> {
     private final List<String> keywords;
 
+    /** Keywords in lower case, as the names are matched ignoring case */
+    private final List<String> lowerCaseKeywords;
+
+    /**
+     * Creates a predicate for the given keywords.
+     */
     public CourseNameContainsPredicate(String[] keywords) {
         this.keywords = Arrays.asList(keywords);
+        this.lowerCaseKeywords = this.keywords.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Course course) {
-        return keywords.stream()
-                .anyMatch(keyword -> course.getCourseCode().toLowerCase().contains(keyword.toLowerCase()));
+        String name = course.getCourseCode().toLowerCase();
+        return lowerCaseKeywords.stream().anyMatch(name::contains);
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return other instanceof CourseNameContainsPredicate
+                && RefinablePredicate.keywordsRefine(lowerCaseKeywords,
+                        ((CourseNameContainsPredicate) other).lowerCaseKeywords);
     }
 
     @Override
@@ -1,9 +1,13 @@
 package tfifteenfour.clipboard.logic.predicates;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.history.Change;
+import tfifteenfour.clipboard.logic.history.FilterChange;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.Roster;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
@@ -11,7 +15,8 @@ import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.task.Task;
 
 /**
- * Container for predicates and methods to clear list filters
+ * Container for predicates and methods to clear list filters.
+ * Each method returns the change it made, so that commands can record it to be undone.
  */
 public class ShowAllListedPredicate {
     private static Predicate<Course> predicateShowAllCourses = unused -> true;
@@ -20,36 +25,73 @@ public class ShowAllListedPredicate {
     private static Predicate<Session> predicateShowAllSessions = unused -> true;
     private static Predicate<Task> predicateShowAllTasks = unused -> true;
 
-    public static void resetCoursesFilter(Model model) {
-        model.getRoster().updateFilteredCourses(predicateShowAllCourses);
+    /**
+     * Clears the filter of the courses.
+     */
+    public static FilterChange<Course> resetCoursesFilter(Model model) {
+        Roster roster = model.getRoster();
+        FilterChange<Course> change = new FilterChange<>(roster::updateFilteredCourses,
+                roster.getFilteredCoursesPredicate(), predicateShowAllCourses);
+        change.redo();
+        return change;
     }
 
-    public static void resetGroupsFilter(CurrentSelection currentSelection) {
-        currentSelection.getSelectedCourse().updateFilteredGroups(predicateShowAllGroups);
+    /**
+     * Clears the filter of the groups of the selected course.
+     */
+    public static FilterChange<Group> resetGroupsFilter(CurrentSelection currentSelection) {
+        Course course = currentSelection.getSelectedCourse();
+        FilterChange<Group> change = new FilterChange<>(course::updateFilteredGroups,
+                course.getFilteredGroupsPredicate(), predicateShowAllGroups);
+        change.redo();
+        return change;
     }
 
-    public static void resetStudentsFilter(CurrentSelection currentSelection) {
-        currentSelection.getSelectedGroup().updateFilteredStudents(predicateShowAllStudents);
+    /**
+     * Clears the filter of the students of the selected group.
+     */
+    public static FilterChange<Student> resetStudentsFilter(CurrentSelection currentSelection) {
+        Group group = currentSelection.getSelectedGroup();
+        FilterChange<Student> change = new FilterChange<>(group::updateFilteredStudents,
+                group.getFilteredStudentsPredicate(), predicateShowAllStudents);
+        change.redo();
+        return change;
     }
 
-    public static void resetSessionsFilter(CurrentSelection currentSelection) {
-        currentSelection.getSelectedGroup().updateFilteredSessions(predicateShowAllSessions);
+    /**
+     * Clears the filter of the sessions of the selected group.
+     */
+    public static FilterChange<Session> resetSessionsFilter(CurrentSelection currentSelection) {
+        Group group = currentSelection.getSelectedGroup();
+        FilterChange<Session> change = new FilterChange<>(group::updateFilteredSessions,
+                group.getFilteredSessionsPredicate(), predicateShowAllSessions);
+        change.redo();
+        return change;
     }
 
-    public static void resetTasksFilter(CurrentSelection currentSelection) {
-        currentSelection.getSelectedGroup().updateFilteredTasks(predicateShowAllTasks);
+    /**
+     * Clears the filter of the tasks of the selected group.
+     */
+    public static FilterChange<Task> resetTasksFilter(CurrentSelection currentSelection) {
+        Group group = currentSelection.getSelectedGroup();
+        FilterChange<Task> change = new FilterChange<>(group::updateFilteredTasks,
+                group.getFilteredTasksPredicate(), predicateShowAllTasks);
+        change.redo();
+        return change;
     }
 
     /**
      * Clears all filters in all lists
      * @param model model where lists are contained
      * @param currentSelection current selection of lists
+     * @return the changes made, in the order they were made
      */
-    public static void resetAllFilters(Model model, CurrentSelection currentSelection) {
-        resetTasksFilter(currentSelection);
-        resetSessionsFilter(currentSelection);
-        resetStudentsFilter(currentSelection);
-        resetGroupsFilter(currentSelection);
-        resetCoursesFilter(model);
+    public static List<Change> resetAllFilters(Model model, CurrentSelection currentSelection) {
+        return List.of(
+                resetTasksFilter(currentSelection),
+                resetSessionsFilter(currentSelection),
+                resetStudentsFilter(currentSelection),
+                resetGroupsFilter(currentSelection),
+                resetCoursesFilter(model));
     }
 }
@@ -2,28 +2,75 @@ package tfifteenfour.clipboard.logic.predicates;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import tfifteenfour.clipboard.model.RefinablePredicate;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentSearchIndex;
 
 /**
- * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Student}'s {@code Name} or {@code StudentId} contains any of the keywords given, ignoring case.
  */
-public class StudentParticularsContainsPredicate implements Predicate<Student> {
+public class StudentParticularsContainsPredicate implements RefinablePredicate<Student> {
     private final List<String> keywords;
 
+    /** Keywords normalized once, rather than for every student tested */
+    private final List<String> normalizedKeywords;
+
+    /**
+     * Creates a predicate for the given keywords.
+     */
     public StudentParticularsContainsPredicate(String[] keywords) {
         this.keywords = Arrays.asList(keywords);
+        this.normalizedKeywords = this.keywords.stream()
+                .map(StudentSearchIndex::normalize)
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Student student) {
-        return keywords.stream()
-                .anyMatch(keyword -> student.getStudentId()
-                .toString().toLowerCase().contains(keyword.toLowerCase()))
-                || keywords.stream()
-                .anyMatch(keyword -> student.getName()
-                .toString().toLowerCase().contains(keyword.toLowerCase()));
+        for (String keyword : normalizedKeywords) {
+            if (StudentSearchIndex.contains(student, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        Predicate<?> otherPredicate = other instanceof IndexedPredicate
+                ? ((IndexedPredicate) other).getPredicate()
+                : other;
+        return otherPredicate instanceof StudentParticularsContainsPredicate
+                && RefinablePredicate.keywordsRefine(normalizedKeywords,
+                        ((StudentParticularsContainsPredicate) otherPredicate).normalizedKeywords);
+    }
+
+    /**
+     * Returns a predicate equivalent to this predicate, which looks the students up in {@code index}, so that
+     * testing every student indexed by it takes time linear in the number of students found.
+     */
+    public RefinablePredicate<Student> using(StudentSearchIndex index) {
+        return new IndexedPredicate(index);
+    }
+
+    /**
+     * Returns the students in {@code index} whose name or student ID contains any of the keywords, looked up in the
+     * index rather than by testing every student.
+     */
+    public Set<Student> find(StudentSearchIndex index) {
+        return index.find(normalizedKeywords);
+    }
+
+    /**
+     * Returns up to {@code limit} of the students in {@code index} with a word of their name or a student ID that is
+     * a few edits away from any of the keywords, closest first, for when the keywords are mistyped.
+     */
+    public Set<Student> findSimilar(StudentSearchIndex index, int limit) {
+        return index.findSimilar(normalizedKeywords, limit).keySet();
     }
 
     @Override
@@ -33,4 +80,28 @@ public class StudentParticularsContainsPredicate implements Predicate<Student> {
                 && keywords.equals(((StudentParticularsContainsPredicate) other).keywords)); // state check
     }
 
+    /**
+     * This predicate, with the students looked up in an index.
+     */
+    private class IndexedPredicate implements RefinablePredicate<Student> {
+        private final StudentSearchIndex index;
+
+        private IndexedPredicate(StudentSearchIndex index) {
+            this.index = index;
+        }
+
+        private StudentParticularsContainsPredicate getPredicate() {
+            return StudentParticularsContainsPredicate.this;
+        }
+
+        @Override
+        public boolean test(Student student) {
+            return index.matches(student, normalizedKeywords);
+        }
+
+        @Override
+        public boolean refines(Predicate<?> other) {
+            return getPredicate().refines(other);
+        }
+    }
 }
@@ -3,23 +3,41 @@ package tfifteenfour.clipboard.logic.predicates;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import tfifteenfour.clipboard.model.RefinablePredicate;
 import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
  */
-public class TaskNameContainsPredicate implements Predicate<Task> {
+public class TaskNameContainsPredicate implements RefinablePredicate<Task> {
     private final List<String> keywords;
 
+    /** Keywords in lower case, as the names are matched ignoring case */
+    private final List<String> lowerCaseKeywords;
+
+    /**
+     * Creates a predicate for the given keywords.
+     */
     public TaskNameContainsPredicate(String[] keywords) {
         this.keywords = Arrays.asList(keywords);
+        this.lowerCaseKeywords = this.keywords.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-                .anyMatch(keyword -> task.getTaskName().toLowerCase().contains(keyword.toLowerCase()));
+        String name = task.getTaskName().toLowerCase();
+        return lowerCaseKeywords.stream().anyMatch(name::contains);
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return other instanceof TaskNameContainsPredicate
+                && RefinablePredicate.keywordsRefine(lowerCaseKeywords,
+                        ((TaskNameContainsPredicate) other).lowerCaseKeywords);
     }
 
     @Override
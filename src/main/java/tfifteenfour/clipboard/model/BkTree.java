@@ -0,0 +1,206 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A BK-tree of the keys of a set of items, for finding the items with a key within a number of edits of a keyword,
+ * ignoring case, without computing the edit distance to every key.
+ * The distance is the Damerau-Levenshtein distance, which counts inserting, deleting or replacing a character, or
+ * swapping two adjacent characters, as one edit. As it is a metric, a subtree whose keys are all too far from the
+ * keyword, by the triangle inequality, is skipped.
+ * Each distinct key is one node of the tree, which holds every item with that key. A node whose items are all
+ * removed is kept, as it still leads to its subtree.
+ * Items are told apart by {@code equals}, and their keys must not change while they are in the tree.
+ *
+ * @param <T> the type of the items.
+ */
+public class BkTree<T> {
+    private final Function<T, List<String>> keysOf;
+    private Node<T> root;
+
+    /**
+     * Constructs an empty tree of items with the keys given by {@code keysOf}.
+     */
+    public BkTree(Function<T, List<String>> keysOf) {
+        requireNonNull(keysOf);
+        this.keysOf = keysOf;
+    }
+
+    /**
+     * Adds {@code item} to the tree.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        for (String key : keysOf.apply(item)) {
+            addKey(NGramIndex.normalize(key), item);
+        }
+    }
+
+    private void addKey(String key, T item) {
+        if (root == null) {
+            root = new Node<>(key);
+        }
+        Node<T> node = root;
+        int distance = distance(key, node.key);
+        while (distance != 0) {
+            Node<T> child = node.getChild(distance);
+            if (child == null) {
+                child = new Node<>(key);
+                node.setChild(distance, child);
+            }
+            node = child;
+            distance = distance(key, node.key);
+        }
+        node.items.add(item);
+    }
+
+    /**
+     * Removes {@code item} from the tree.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        for (String key : keysOf.apply(item)) {
+            String normalizedKey = NGramIndex.normalize(key);
+            Node<T> node = root;
+            while (node != null) {
+                int distance = distance(normalizedKey, node.key);
+                if (distance == 0) {
+                    node.items.remove(item);
+                    break;
+                }
+                node = node.getChild(distance);
+            }
+        }
+    }
+
+    /**
+     * Returns the items with a key within {@code maxDistance} edits of {@code normalizedKeyword}, a keyword normalized
+     * by {@link NGramIndex#normalize(String)}, each with the distance to their closest key.
+     */
+    public Map<T, Integer> find(String normalizedKeyword, int maxDistance) {
+        requireNonNull(normalizedKeyword);
+        Map<T, Integer> found = new HashMap<>();
+        if (root == null || maxDistance < 0) {
+            return found;
+        }
+
+        Deque<Node<T>> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node<T> node = nodesToVisit.pop();
+            int distance = distance(normalizedKeyword, node.key);
+            if (distance <= maxDistance) {
+                for (T item : node.items) {
+                    found.merge(item, distance, Math::min);
+                }
+            }
+            // only the children at a distance within maxDistance of this distance can have keys close enough
+            if (node.children != null) {
+                int from = Math.max(1, distance - maxDistance);
+                int to = Math.min(node.children.length - 1, distance + maxDistance);
+                for (int childDistance = from; childDistance <= to; childDistance++) {
+                    if (node.children[childDistance] != null) {
+                        nodesToVisit.push(node.children[childDistance]);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}, the least number of
+     * insertions, deletions and replacements of characters and swaps of adjacent characters that turn one into the
+     * other.
+     */
+    public static int distance(String first, String second) {
+        int firstLength = first.length();
+        int secondLength = second.length();
+        int infinity = firstLength + secondLength;
+
+        // a table of the distances between the prefixes, in one array, with its rows and columns shifted by one for a
+        // border of infinite distances above and left of it
+        int width = secondLength + 2;
+        int[] distances = new int[(firstLength + 2) * width];
+        distances[0] = infinity;
+        for (int i = 0; i <= firstLength; i++) {
+            distances[(i + 1) * width] = infinity;
+            distances[(i + 1) * width + 1] = i;
+        }
+        for (int j = 0; j <= secondLength; j++) {
+            distances[j + 1] = infinity;
+            distances[width + j + 1] = j;
+        }
+
+        for (int i = 1; i <= firstLength; i++) {
+            int lastMatchingColumn = 0;
+            for (int j = 1; j <= secondLength; j++) {
+                int swapRow = lastRowOf(first, second.charAt(j - 1), i);
+                int swapColumn = lastMatchingColumn;
+                int cost = 1;
+                if (first.charAt(i - 1) == second.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchingColumn = j;
+                }
+                distances[(i + 1) * width + j + 1] = Math.min(
+                        Math.min(distances[i * width + j] + cost, distances[(i + 1) * width + j] + 1),
+                        Math.min(distances[i * width + j + 1] + 1,
+                                distances[swapRow * width + swapColumn] + (i - swapRow - 1) + 1
+                                        + (j - swapColumn - 1)));
+            }
+        }
+        return distances[(firstLength + 1) * width + secondLength + 1];
+    }
+
+    /**
+     * Returns the last row of the table before {@code row} where {@code character} is in {@code first}, or 0 if there
+     * is none. Keys are short, so this is looked up rather than kept in a map.
+     */
+    private static int lastRowOf(String first, char character, int row) {
+        for (int previousRow = row - 1; previousRow >= 1; previousRow--) {
+            if (first.charAt(previousRow - 1) == character) {
+                return previousRow;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A key of the tree, with the items that have it, and the subtrees of the keys at each distance from it.
+     */
+    private static class Node<T> {
+        private final String key;
+        private final Set<T> items = new HashSet<>();
+        /** Child at each distance from the key, or null if the node has no children */
+        private Node<T>[] children;
+
+        private Node(String key) {
+            this.key = key;
+        }
+
+        private Node<T> getChild(int distance) {
+            return children == null || distance >= children.length ? null : children[distance];
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setChild(int distance, Node<T> child) {
+            if (children == null || distance >= children.length) {
+                Node<T>[] grownChildren = new Node[distance + 1];
+                if (children != null) {
+                    System.arraycopy(children, 0, grownChildren, 0, children.length);
+                }
+                children = grownChildren;
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package tfifteenfour.clipboard.model;
+
+import java.util.List;
+
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Records modifications of the stored data of a roster one at a time, in the order they were made, so that they can
+ * be kept, such as in a log, without keeping the parts of the roster that they modified.
+ * Every modification is recorded after it was made, and refers to the objects that it modified in the roster.
+ */
+public interface DeltaRecorder {
+
+    /**
+     * Records that {@code removed}, starting at {@code index} of {@code list}, were replaced by {@code added}, where
+     * {@code list} is the list of courses of the roster, or the list of groups, sessions or tasks of one of them.
+     */
+    <T> void recordListChange(List<T> list, int index, List<T> removed, List<T> added);
+
+    /**
+     * Records that {@code students} were added to {@code group}, starting at {@code index} of its students.
+     */
+    void recordStudentsAdded(Group group, int index, List<Student> students);
+
+    /**
+     * Records that {@code students} were deleted from {@code group}, together with their attendance and grades.
+     */
+    void recordStudentsDeleted(Group group, List<Student> students);
+
+    /**
+     * Records that {@code oldStudent} was replaced by {@code newStudent} in {@code group}, carrying over the attendance
+     * and grades of {@code oldStudent}.
+     */
+    void recordStudentReplaced(Group group, Student oldStudent, Student newStudent);
+
+    /**
+     * Records that the attendance of {@code student} in {@code session} was set to {@code attendance}.
+     */
+    void recordAttendance(Session session, Student student, int attendance);
+
+    /**
+     * Records that the grade of {@code student} in {@code task} was set to {@code grade}.
+     */
+    void recordGrade(Task task, Student student, int grade);
+}
@@ -53,6 +53,12 @@ public interface Model {
     /** Returns the Roster */
     Roster getRoster();
 
+    /**
+     * Unloads the students, sessions and tasks of the least recently used groups in the roster that were loaded
+     * lazily, so that only a bounded number of such groups stay loaded. The selected group is never unloaded.
+     */
+    void unloadUnusedGroups();
+
     /**
      * Makes a copy of the model
      */
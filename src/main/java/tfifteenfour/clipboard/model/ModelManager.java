@@ -4,17 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.logging.Logger;
 
 import tfifteenfour.clipboard.commons.core.GuiSettings;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** Maximum number of lazily loaded groups that are kept loaded after they are no longer used */
+    public static final int MAX_LOADED_GROUPS = 32;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final Roster roster;
@@ -121,9 +129,39 @@ public class ModelManager implements Model {
         return roster;
     }
 
+    @Override
+    public void unloadUnusedGroups() {
+        Group selectedGroup = currentSelection.getSelectedGroup();
+        List<Group> unloadableGroups = new ArrayList<>();
+        for (Course course : roster.getUnmodifiableCourseList()) {
+            for (Group group : course.getUnmodifiableGroupList()) {
+                if (group.isUnloadable() && group != selectedGroup) {
+                    unloadableGroups.add(group);
+                }
+            }
+        }
+        if (unloadableGroups.size() <= MAX_LOADED_GROUPS) {
+            return;
+        }
+
+        unloadableGroups.sort(Comparator.comparingLong(Group::getLastUsedTime));
+        int groupsToUnload = unloadableGroups.size() - MAX_LOADED_GROUPS;
+        int unloadedGroups = 0;
+        for (Group group : unloadableGroups) {
+            if (unloadedGroups == groupsToUnload) {
+                break;
+            }
+            if (group.unload()) {
+                unloadedGroups++;
+            }
+        }
+        logger.fine("Unloaded " + unloadedGroups + " unused groups");
+    }
+
     @Override
     public Model copy() {
-        return new ModelManager(this.roster.copy(), this.userPrefs, this.currentSelection.copy());
+        Roster rosterCopy = this.roster.copy();
+        return new ModelManager(rosterCopy, this.userPrefs, this.currentSelection.copy(rosterCopy));
     }
 
     @Override
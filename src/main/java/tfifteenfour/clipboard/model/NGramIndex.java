@@ -0,0 +1,166 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index of the n-grams of the texts of a set of items, for finding the items with a text that contains a keyword,
+ * ignoring case, without going through every item.
+ * Every substring of up to {@link #MAX_GRAM_LENGTH} characters of the lowercase texts is indexed, so a keyword that
+ * short is looked up directly. A longer keyword is looked up by the least common of its n-grams of that length, and
+ * only the items that have it are checked against the whole keyword.
+ * Items are told apart by {@code equals}, and their texts must not change while they are in the index.
+ *
+ * @param <T> the type of the items.
+ */
+public class NGramIndex<T> {
+    public static final int MAX_GRAM_LENGTH = 3;
+
+    private final Function<T, List<String>> textsOf;
+    private final Map<String, Set<T>> itemsByGram = new HashMap<>();
+    private final Set<T> items = new HashSet<>();
+
+    /**
+     * Constructs an empty index of items with the texts given by {@code textsOf}.
+     */
+    public NGramIndex(Function<T, List<String>> textsOf) {
+        requireNonNull(textsOf);
+        this.textsOf = textsOf;
+    }
+
+    /**
+     * Returns {@code text} normalized as the texts are in the index.
+     */
+    public static String normalize(String text) {
+        return text.toLowerCase();
+    }
+
+    /**
+     * Adds {@code item} to the index.
+     *
+     * @return true if the item was not in the index already.
+     */
+    public boolean add(T item) {
+        requireNonNull(item);
+        if (!items.add(item)) {
+            return false;
+        }
+        for (String gram : gramsOf(item)) {
+            itemsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(item);
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code item} from the index.
+     *
+     * @return true if the item was in the index.
+     */
+    public boolean remove(T item) {
+        requireNonNull(item);
+        if (!items.remove(item)) {
+            return false;
+        }
+        for (String gram : gramsOf(item)) {
+            Set<T> gramItems = itemsByGram.get(gram);
+            gramItems.remove(item);
+            if (gramItems.isEmpty()) {
+                itemsByGram.remove(gram);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code item} is in the index.
+     */
+    public boolean contains(T item) {
+        return items.contains(item);
+    }
+
+    /**
+     * Returns the number of items in the index.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the items with a text that contains {@code normalizedKeyword}, a keyword
+     * normalized by {@link #normalize(String)}.
+     */
+    public Set<T> find(String normalizedKeyword) {
+        requireNonNull(normalizedKeyword);
+        if (normalizedKeyword.isEmpty()) {
+            return Collections.unmodifiableSet(items);
+        }
+        if (normalizedKeyword.length() <= MAX_GRAM_LENGTH) {
+            return Collections.unmodifiableSet(itemsByGram.getOrDefault(normalizedKeyword, Collections.emptySet()));
+        }
+
+        Set<T> candidates = null;
+        for (int start = 0; start + MAX_GRAM_LENGTH <= normalizedKeyword.length(); start++) {
+            Set<T> gramItems = itemsByGram.get(normalizedKeyword.substring(start, start + MAX_GRAM_LENGTH));
+            if (gramItems == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || gramItems.size() < candidates.size()) {
+                candidates = gramItems;
+            }
+        }
+        Set<T> found = new HashSet<>();
+        for (T candidate : candidates) {
+            if (hasTextContaining(candidate, normalizedKeyword)) {
+                found.add(candidate);
+            }
+        }
+        return Collections.unmodifiableSet(found);
+    }
+
+    /**
+     * Returns true if a text of {@code item}, which need not be in the index, contains {@code normalizedKeyword}.
+     */
+    public boolean hasTextContaining(T item, String normalizedKeyword) {
+        for (String text : textsOf.apply(item)) {
+            if (containsNormalized(text, normalizedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code normalizedKeyword}, ignoring case, without making a normalized copy
+     * of the text, as every candidate of a search is checked this way.
+     */
+    public static boolean containsNormalized(String text, String normalizedKeyword) {
+        int length = normalizedKeyword.length();
+        for (int start = 0; start + length <= text.length(); start++) {
+            if (text.regionMatches(true, start, normalizedKeyword, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> gramsOf(T item) {
+        Set<String> grams = new HashSet<>();
+        for (String text : textsOf.apply(item)) {
+            String normalizedText = normalize(text);
+            for (int start = 0; start < normalizedText.length(); start++) {
+                int end = Math.min(start + MAX_GRAM_LENGTH, normalizedText.length());
+                for (int gramEnd = start + 1; gramEnd <= end; gramEnd++) {
+                    grams.add(normalizedText.substring(start, gramEnd));
+                }
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,53 @@
+package tfifteenfour.clipboard.model;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate together with the items of a list already found to match it, for example by a search on another thread.
+ * A {@link UniqueList} filtered by it shows those items without testing every item on the calling thread. It matches
+ * the same items as the predicate, which is still used to test the items added to the list later.
+ *
+ * @param <T> the type of the items tested.
+ */
+public class PrecomputedPredicate<T> implements RefinablePredicate<T> {
+    private final Predicate<T> predicate;
+    private final Set<T> matches;
+
+    /**
+     * Creates a predicate matching the same items as {@code predicate}, where {@code matches} are the items of the
+     * list to be filtered that match it.
+     */
+    public PrecomputedPredicate(Predicate<T> predicate, Collection<T> matches) {
+        requireAllNonNull(predicate, matches);
+        this.predicate = predicate;
+        this.matches = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        this.matches.addAll(matches);
+    }
+
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns true if {@code item} is one of the items found to match the predicate.
+     */
+    public boolean isPrecomputedMatch(T item) {
+        return matches.contains(item);
+    }
+
+    @Override
+    public boolean test(T item) {
+        return predicate.test(item);
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return predicate instanceof RefinablePredicate && ((RefinablePredicate<?>) predicate).refines(other);
+    }
+}
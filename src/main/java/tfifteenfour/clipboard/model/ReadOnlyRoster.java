@@ -12,4 +12,15 @@ public interface ReadOnlyRoster {
 
     ObservableList<Course> getUnmodifiableFilteredCourseList();
 
+    /**
+     * Returns a copy of this roster that is not affected by later changes to this roster.
+     */
+    ReadOnlyRoster copy();
+
+    /**
+     * Returns a copy of this roster that is not affected by later changes to this roster, for reading it only, such as
+     * for saving it. The copy may skip building the indexes that are only needed to change or search the roster.
+     */
+    ReadOnlyRoster snapshot();
+
 }
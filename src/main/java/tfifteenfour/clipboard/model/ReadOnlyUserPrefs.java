@@ -14,4 +14,6 @@ public interface ReadOnlyUserPrefs {
     Path getRosterFilePath();
 
     Path getSampleFilePath();
+
+    RosterFileFormat getRosterFileFormat();
 }
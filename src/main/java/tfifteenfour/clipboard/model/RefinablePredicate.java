@@ -0,0 +1,43 @@
+package tfifteenfour.clipboard.model;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can tell when it refines another predicate, that is, when every item it matches is also matched by
+ * the other predicate. A list filtered by the other predicate can then be filtered by this predicate by testing only
+ * the items it already shows.
+ *
+ * @param <T> the type of the items tested.
+ */
+public interface RefinablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every item matched by this predicate is also matched by {@code other}.
+     * It is safe to return false when this is not known.
+     */
+    boolean refines(Predicate<?> other);
+
+    /**
+     * Returns true if matching any of {@code keywords} refines matching any of {@code previousKeywords}, where an item
+     * matches a keyword if its text contains the keyword, and all keywords are normalized the same way.
+     * This holds when every keyword contains a previous keyword, as any text containing the keyword then also contains
+     * that previous keyword. For example, "tan wei" refines "tan w", but "tan w" does not refine "tan", as a text
+     * containing "w" need not contain "tan".
+     */
+    static boolean keywordsRefine(List<String> keywords, List<String> previousKeywords) {
+        for (String keyword : keywords) {
+            boolean containsPreviousKeyword = false;
+            for (String previousKeyword : previousKeywords) {
+                if (keyword.contains(previousKeyword)) {
+                    containsPreviousKeyword = true;
+                    break;
+                }
+            }
+            if (!containsPreviousKeyword) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,13 +1,23 @@
 package tfifteenfour.clipboard.model;
 
 import static java.util.Objects.requireNonNull;
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.UniqueCoursesList;
+import tfifteenfour.clipboard.model.student.Student;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +26,7 @@ import tfifteenfour.clipboard.model.course.UniqueCoursesList;
 public class Roster implements ReadOnlyRoster {
 
     private final UniqueCoursesList courses;
+    private final StudentRegistry studentRegistry = new StudentRegistry();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,7 +40,18 @@ public class Roster implements ReadOnlyRoster {
         courses = new UniqueCoursesList();
     }
 
-    public Roster() {}
+    public Roster() {
+        this(true);
+    }
+
+    /**
+     * Creates an empty roster, whose students are registered in its student registry if {@code isRegistered}.
+     */
+    private Roster(boolean isRegistered) {
+        if (isRegistered) {
+            courses.asModifiableObservableList().addListener(this::updateRegistryOfCourses);
+        }
+    }
 
     /**
      * Creates an Roster using the Students in the {@code toBeCopied}
@@ -49,6 +71,18 @@ public class Roster implements ReadOnlyRoster {
         this.courses.updateFilterPredicate(predicate);
     }
 
+    public Predicate<Course> getFilteredCoursesPredicate() {
+        return courses.getFilterPredicate();
+    }
+
+    public void updateSortedCourses(Comparator<? super Course> comparator) {
+        courses.updateSortComparator(comparator);
+    }
+
+    public Comparator<? super Course> getSortedCoursesComparator() {
+        return courses.getSortComparator();
+    }
+
     /**
      * Returns true if a course with the same identity as {@code course} exists in the address book.
      */
@@ -69,6 +103,99 @@ public class Roster implements ReadOnlyRoster {
         courses.set(courseToReplace, newCourse);
     }
 
+    /**
+     * Returns the registry of the students of this roster.
+     */
+    public StudentRegistry getStudentRegistry() {
+        return studentRegistry;
+    }
+
+    /**
+     * Returns true if a student with the same identity as {@code student} is in any group of this roster.
+     * Groups that are not loaded are looked up by the student IDs that the registry has of them, without loading them.
+     */
+    public boolean hasStudent(Student student) {
+        requireNonNull(student);
+        registerUnknownGroups();
+        return studentRegistry.hasStudent(student.getStudentId());
+    }
+
+    /**
+     * Replaces the student {@code target} in every group of this roster that has them, as well as in {@code group},
+     * with their record in that group edited by {@code edit}, carrying over their attendance and grade records in each
+     * group. As each group keeps its own record of a student, {@code edit} should only change the fields that were
+     * edited, so that the details that differ between groups, such as the remark, are kept.
+     * The groups are found through the student registry, so the groups that do not have the student are neither
+     * searched nor loaded.
+     *
+     * @return the replacement in each group that had the student.
+     */
+    public List<StudentReplacement> replaceStudent(Group group, Student target, UnaryOperator<Student> edit) {
+        requireAllNonNull(group, target, edit);
+        registerUnknownGroups();
+
+        Set<Group> groups = Collections.newSetFromMap(new IdentityHashMap<>());
+        groups.add(group);
+        groups.addAll(studentRegistry.getGroupsOf(target));
+
+        List<StudentReplacement> replacements = new ArrayList<>();
+        for (Group groupWithStudent : groups) {
+            groupWithStudent.findStudent(target.getStudentId()).ifPresent(replacedStudent -> {
+                Student editedStudent = edit.apply(replacedStudent);
+                groupWithStudent.replaceStudent(replacedStudent, editedStudent);
+                replacements.add(new StudentReplacement(groupWithStudent, replacedStudent, editedStudent));
+            });
+        }
+        return replacements;
+    }
+
+    /**
+     * Returns the best {@code limit} courses, groups, sessions, tasks and students of this roster whose name, or
+     * student ID for a student, contains {@code query}, ignoring case, best first. See {@link RosterSearchIndex}.
+     * Groups that are not loaded are searched by the outlines that the registry has of them, without loading them.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        requireNonNull(query);
+        registerUnknownGroups();
+        return studentRegistry.getSearchIndex().search(query, limit);
+    }
+
+    /**
+     * Returns the best {@code limit} students of this roster whose name or student ID is similar to {@code query},
+     * closest first, for when nothing contains a mistyped query. See {@link RosterSearchIndex#searchSimilar}.
+     * Groups that are not loaded are searched by their outlines, like in {@link #search(String, int)}.
+     */
+    public List<SearchHit> searchSimilar(String query, int limit) {
+        requireNonNull(query);
+        registerUnknownGroups();
+        return studentRegistry.getSearchIndex().searchSimilar(query, limit);
+    }
+
+    /**
+     * Loads the groups whose outline the student registry does not know, which are only the unloaded groups whose
+     * loader does not know it either, so that the registry knows which groups each student is in, and the search index
+     * has the names in every group.
+     */
+    private void registerUnknownGroups() {
+        for (Course course : courses) {
+            for (Group group : course.getUnmodifiableGroupList()) {
+                if (!studentRegistry.isKnown(group)) {
+                    group.getUnmodifiableStudentList();
+                }
+            }
+        }
+    }
+
+    private void updateRegistryOfCourses(ListChangeListener.Change<? extends Course> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(course -> course.detachRegistry(studentRegistry));
+            change.getAddedSubList().forEach(course -> course.setRegistry(studentRegistry));
+        }
+    }
+
     /**
      * Resets the existing data of this {@code Roster} with {@code newData}.
      */
@@ -111,7 +238,20 @@ public class Roster implements ReadOnlyRoster {
      */
     public Roster copy() {
         Roster copy = new Roster();
-        copy.setCourses(courses.copy().asUnmodifiableObservableList());
+        copy.courses.setInternalList(courses.copy());
         return copy;
     }
+
+    /**
+     * Copies this roster and its current state without registering its students, so that neither the student registry
+     * nor the search index is built for a copy that is only read. The students of the copy cannot be looked up or
+     * searched. The groups that did not change since they were last read or saved are not copied either, as they are
+     * read back from where they were saved if they are needed.
+     */
+    @Override
+    public Roster snapshot() {
+        Roster snapshot = new Roster(false);
+        snapshot.courses.setInternalList(courses.snapshot());
+        return snapshot;
+    }
 }
@@ -0,0 +1,11 @@
+package tfifteenfour.clipboard.model;
+
+/**
+ * Represents the file format that the roster is saved in.
+ */
+public enum RosterFileFormat {
+    /** Json files that can be read and edited by hand */
+    JSON,
+    /** A single compact binary file that is faster to save and load */
+    BINARY
+}
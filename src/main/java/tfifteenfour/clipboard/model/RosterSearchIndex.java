@@ -0,0 +1,411 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.GroupOutline;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.student.StudentSearchIndex;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * An inverted index of the courses, groups, sessions and tasks of a roster by name, and of its students by name and
+ * student ID, for searching the whole roster without going through every group. See {@link NGramIndex}.
+ * The index is kept up to date as the roster changes: courses and groups are indexed while they are part of the
+ * roster, the sessions and tasks of a group while it is loaded, and the students of loaded groups through the
+ * {@link StudentRegistry} that owns the index, which also gives the groups that each student is in.
+ * Each distinct record of a student is indexed once however many groups have it, and a record that differs from the
+ * canonical student of its student ID is found in the groups that have that record.
+ * A group that is not loaded is indexed by its {@link GroupOutline} instead, with the names of its sessions and tasks
+ * and the names and student IDs of its students, so that searching the roster does not load any group.
+ */
+public class RosterSearchIndex {
+    private static final Comparator<SearchHit> BEST_FIRST = Comparator.comparingInt(SearchHit::getRank)
+            .thenComparing(SearchHit::getType)
+            .thenComparing(SearchHit::getName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(hit -> hit.getCourse().getCourseCode())
+            .thenComparing(hit -> hit.getGroup().map(Group::getGroupName).orElse(""));
+
+    private final StudentRegistry registry;
+    private final StudentSearchIndex students = new StudentSearchIndex();
+
+    /** Number of memberships in known loaded groups of each indexed student */
+    private final Map<Student, Integer> membershipCounts = new HashMap<>();
+    private final NGramIndex<Entry> names = new NGramIndex<>(Entry::textsOf);
+
+    /** Tree of the words of the names and the student IDs of the students of unloaded groups, or null if not built */
+    private BkTree<Entry> unloadedStudentTree;
+
+    /** Course of each indexed group */
+    private final Map<Group, Course> courseOfGroup = new IdentityHashMap<>();
+
+    /** Entry of each indexed group, followed by the entries of its sessions and tasks */
+    private final Map<Group, Set<Entry>> entriesOfGroup = new IdentityHashMap<>();
+
+    RosterSearchIndex(StudentRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Adds {@code course} to the index.
+     */
+    public void addCourse(Course course) {
+        requireNonNull(course);
+        names.add(new Entry(SearchHit.Type.COURSE, course, course.getCourseCode()));
+    }
+
+    /**
+     * Removes {@code course} from the index.
+     */
+    public void removeCourse(Course course) {
+        requireNonNull(course);
+        names.remove(new Entry(SearchHit.Type.COURSE, course, course.getCourseCode()));
+    }
+
+    /**
+     * Adds {@code group} of {@code course} to the index.
+     */
+    public void addGroup(Course course, Group group) {
+        requireAllNonNull(course, group);
+        courseOfGroup.put(group, course);
+        addEntry(group, new Entry(SearchHit.Type.GROUP, group, group.getGroupName()));
+    }
+
+    /**
+     * Removes {@code group}, along with its sessions and tasks, from the index.
+     */
+    public void removeGroup(Group group) {
+        requireNonNull(group);
+        courseOfGroup.remove(group);
+        Set<Entry> entries = entriesOfGroup.remove(group);
+        if (entries != null) {
+            entries.forEach(this::removeFromNames);
+        }
+    }
+
+    /**
+     * Removes the sessions and tasks of {@code group}, and the students of its outline, from the index, but not the
+     * group itself, such as when it is unloaded or loaded.
+     */
+    public void removeSessionsAndTasks(Group group) {
+        requireNonNull(group);
+        Set<Entry> entries = entriesOfGroup.get(group);
+        if (entries == null) {
+            return;
+        }
+        for (Iterator<Entry> iterator = entries.iterator(); iterator.hasNext();) {
+            Entry entry = iterator.next();
+            if (entry.type != SearchHit.Type.GROUP) {
+                removeFromNames(entry);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Adds the sessions, tasks and students of {@code group}, which is not loaded, to the index as given by
+     * {@code outline}.
+     */
+    public void addOutline(Group group, GroupOutline outline) {
+        requireAllNonNull(group, outline);
+        outline.getSessionNames().forEach(sessionName ->
+                addEntry(group, new Entry(SearchHit.Type.SESSION, group, sessionName)));
+        outline.getTaskNames().forEach(taskName -> addEntry(group, new Entry(SearchHit.Type.TASK, group, taskName)));
+        List<StudentId> studentIds = outline.getStudentIds();
+        List<String> studentNames = outline.getStudentNames();
+        for (int i = 0; i < studentIds.size(); i++) {
+            addEntry(group, new Entry(group, studentNames.get(i), studentIds.get(i)));
+        }
+    }
+
+    /**
+     * Adds {@code session} of {@code group} to the index.
+     */
+    public void addSession(Group group, Session session) {
+        requireAllNonNull(group, session);
+        addEntry(group, new Entry(SearchHit.Type.SESSION, group, session.getSessionName()));
+    }
+
+    /**
+     * Removes {@code session} of {@code group} from the index.
+     */
+    public void removeSession(Group group, Session session) {
+        requireAllNonNull(group, session);
+        removeEntry(group, new Entry(SearchHit.Type.SESSION, group, session.getSessionName()));
+    }
+
+    /**
+     * Adds {@code task} of {@code group} to the index.
+     */
+    public void addTask(Group group, Task task) {
+        requireAllNonNull(group, task);
+        addEntry(group, new Entry(SearchHit.Type.TASK, group, task.getTaskName()));
+    }
+
+    /**
+     * Removes {@code task} of {@code group} from the index.
+     */
+    public void removeTask(Group group, Task task) {
+        requireAllNonNull(group, task);
+        removeEntry(group, new Entry(SearchHit.Type.TASK, group, task.getTaskName()));
+    }
+
+    /**
+     * Records that a known loaded group has {@code student}, who is indexed while any known loaded group has them.
+     */
+    void addStudent(Student student) {
+        if (membershipCounts.merge(student, 1, Integer::sum) == 1) {
+            students.add(student);
+        }
+    }
+
+    /**
+     * Records that a known loaded group no longer has {@code student}.
+     */
+    void removeStudent(Student student) {
+        if (membershipCounts.computeIfPresent(student, (unused, count) -> count == 1 ? null : count - 1) == null) {
+            students.remove(student);
+        }
+    }
+
+    private void addEntry(Group group, Entry entry) {
+        if (names.add(entry)) {
+            entriesOfGroup.computeIfAbsent(group, unused -> new HashSet<>()).add(entry);
+            if (unloadedStudentTree != null && entry.studentId != null) {
+                unloadedStudentTree.add(entry);
+            }
+        }
+    }
+
+    private void removeEntry(Group group, Entry entry) {
+        if (removeFromNames(entry)) {
+            entriesOfGroup.get(group).remove(entry);
+        }
+    }
+
+    private boolean removeFromNames(Entry entry) {
+        boolean isRemoved = names.remove(entry);
+        if (isRemoved && unloadedStudentTree != null && entry.studentId != null) {
+            unloadedStudentTree.remove(entry);
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Returns the hits whose name, or student ID for a student, contains {@code query}, ignoring case, best first.
+     * A student is a hit in each group that they are in. Only the best {@code limit} hits are returned, and a
+     * candidate that cannot be one of them is skipped before its hit is made, so that a short query that matches
+     * most of the roster does not have to make or sort every hit.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        requireNonNull(query);
+        String normalizedQuery = NGramIndex.normalize(query.strip());
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // the worst of the best hits so far is at the head, to be replaced by a better hit
+        PriorityQueue<SearchHit> bestHits = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        for (Entry entry : names.find(normalizedQuery)) {
+            int rank = entry.studentId == null
+                    ? rankOf(entry.name, normalizedQuery)
+                    : Math.min(rankOf(entry.name, normalizedQuery),
+                            rankOf(entry.studentId.toString(), normalizedQuery));
+            if (!canBeBest(bestHits, limit, rank, entry.type, entry.name)) {
+                continue;
+            }
+            if (entry.type == SearchHit.Type.COURSE) {
+                offer(bestHits, limit, new SearchHit(entry.type, (Course) entry.owner, null, entry.name, null, rank));
+                continue;
+            }
+            Group group = (Group) entry.owner;
+            Course course = courseOfGroup.get(group);
+            if (course != null) {
+                offer(bestHits, limit, new SearchHit(entry.type, course, group, entry.name, entry.studentId, rank));
+            }
+        }
+        for (Student student : students.find(normalizedQuery)) {
+            String name = student.getName().toString();
+            int rank = Math.min(rankOf(name, normalizedQuery),
+                    rankOf(student.getStudentId().toString(), normalizedQuery));
+            if (!canBeBest(bestHits, limit, rank, SearchHit.Type.STUDENT, name)) {
+                continue;
+            }
+            for (Group group : registry.getGroupsOf(student)) {
+                Course course = courseOfGroup.get(group);
+                if (course != null && student.equals(registry.getStudent(group, student.getStudentId()))) {
+                    offer(bestHits, limit, new SearchHit(SearchHit.Type.STUDENT, course, group, name,
+                            student.getStudentId(), rank));
+                }
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(bestHits);
+        hits.sort(BEST_FIRST);
+        return hits;
+    }
+
+    /**
+     * Returns the best {@code limit} hits of the students with a word of their name or a student ID that is a few
+     * edits away from a word of {@code query}, closest first, for when nothing contains a mistyped query. See
+     * {@link StudentSearchIndex#findSimilar(List, int)}. The students of unloaded groups are found through a tree of
+     * the words of their outlines, which is only built the first time that it is needed.
+     */
+    public List<SearchHit> searchSimilar(String query, int limit) {
+        requireNonNull(query);
+        List<String> normalizedKeywords = Arrays.stream(NGramIndex.normalize(query.strip()).split("\\s+"))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+
+        List<SearchHit> hits = new ArrayList<>();
+        students.findSimilar(normalizedKeywords, limit).forEach((student, distance) -> {
+            for (Group group : registry.getGroupsOf(student)) {
+                Course course = courseOfGroup.get(group);
+                if (course != null && student.equals(registry.getStudent(group, student.getStudentId()))) {
+                    hits.add(new SearchHit(SearchHit.Type.STUDENT, course, group, student.getName().toString(),
+                            student.getStudentId(), SearchHit.SIMILAR_RANK + distance));
+                }
+            }
+        });
+
+        if (unloadedStudentTree == null) {
+            unloadedStudentTree = new BkTree<>(Entry::wordsOf);
+            names.find("").stream().filter(entry -> entry.studentId != null).forEach(unloadedStudentTree::add);
+        }
+        Map<Entry, Integer> distances = new HashMap<>();
+        for (String keyword : normalizedKeywords) {
+            unloadedStudentTree.find(keyword, StudentSearchIndex.maxEditsFor(keyword))
+                    .forEach((entry, distance) -> distances.merge(entry, distance, Math::min));
+        }
+        distances.forEach((entry, distance) -> {
+            Group group = (Group) entry.owner;
+            Course course = courseOfGroup.get(group);
+            if (course != null) {
+                hits.add(new SearchHit(SearchHit.Type.STUDENT, course, group, entry.name, entry.studentId,
+                        SearchHit.SIMILAR_RANK + distance));
+            }
+        });
+        hits.sort(BEST_FIRST);
+        return new ArrayList<>(hits.subList(0, Math.min(Math.max(limit, 0), hits.size())));
+    }
+
+    /**
+     * Returns false if a hit of {@code rank}, {@code type} and {@code name} is sure to be worse than all of
+     * {@code bestHits}, which are full when there are {@code limit} of them.
+     */
+    private static boolean canBeBest(PriorityQueue<SearchHit> bestHits, int limit, int rank, SearchHit.Type type,
+            String name) {
+        if (bestHits.size() < limit) {
+            return true;
+        }
+        SearchHit worstHit = bestHits.peek();
+        if (rank != worstHit.getRank()) {
+            return rank < worstHit.getRank();
+        } else if (type != worstHit.getType()) {
+            return type.compareTo(worstHit.getType()) < 0;
+        } else {
+            return String.CASE_INSENSITIVE_ORDER.compare(name, worstHit.getName()) <= 0;
+        }
+    }
+
+    private static void offer(PriorityQueue<SearchHit> bestHits, int limit, SearchHit hit) {
+        if (bestHits.size() < limit) {
+            bestHits.add(hit);
+        } else if (BEST_FIRST.compare(hit, bestHits.peek()) < 0) {
+            bestHits.poll();
+            bestHits.add(hit);
+        }
+    }
+
+    /**
+     * Returns the rank of {@code text} as a hit of {@code normalizedQuery}, as described in
+     * {@link SearchHit#getRank()}, without making a normalized copy of the text.
+     */
+    private static int rankOf(String text, String normalizedQuery) {
+        int length = normalizedQuery.length();
+        if (text.length() == length && text.regionMatches(true, 0, normalizedQuery, 0, length)) {
+            return 0;
+        } else if (text.regionMatches(true, 0, normalizedQuery, 0, length)) {
+            return 1;
+        }
+        for (int start = text.indexOf(' ') + 1; start > 0; start = text.indexOf(' ', start) + 1) {
+            if (text.regionMatches(true, start, normalizedQuery, 0, length)) {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    /**
+     * The name of a course, or of a group, session or task of a group, or of a student of a group that is not loaded
+     * with their student ID, which is told apart from the others by its kind, the identity of its course or group,
+     * its name and the student ID.
+     */
+    private static class Entry {
+        private final SearchHit.Type type;
+        private final Object owner;
+        private final String name;
+        /** Student ID of a student of an unloaded group, or null for any other entry */
+        private final StudentId studentId;
+
+        private Entry(SearchHit.Type type, Object owner, String name) {
+            this.type = type;
+            this.owner = owner;
+            this.name = name;
+            this.studentId = null;
+        }
+
+        private Entry(Group group, String studentName, StudentId studentId) {
+            this.type = SearchHit.Type.STUDENT;
+            this.owner = group;
+            this.name = studentName;
+            this.studentId = studentId;
+        }
+
+        private List<String> textsOf() {
+            return studentId == null ? List.of(name) : List.of(name, studentId.toString());
+        }
+
+        private List<String> wordsOf() {
+            List<String> words = new ArrayList<>(List.of(name.split("\\s+")));
+            words.add(studentId.toString());
+            return words;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Entry
+                    && type == ((Entry) other).type
+                    && owner == ((Entry) other).owner
+                    && name.equals(((Entry) other).name)
+                    && Objects.equals(studentId, ((Entry) other).studentId));
+        }
+
+        @Override
+        public int hashCode() {
+            return ((type.hashCode() * 31 + System.identityHashCode(owner)) * 31 + name.hashCode()) * 31
+                    + Objects.hashCode(studentId);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * A course, group, session, task or student of a roster that was found by a search, with the course and group that it
+ * is in, which make up the path to navigate to it.
+ * Sessions and tasks are referred to by name, as the objects of a group that is not loaded are replaced when it is
+ * loaded again.
+ */
+public class SearchHit {
+    /**
+     * The kinds of hits, in the order that hits that match equally well are listed in.
+     */
+    public enum Type {
+        COURSE, GROUP, SESSION, TASK, STUDENT
+    }
+
+    /** Rank of a similar student with no edits, to which the number of edits is added */
+    public static final int SIMILAR_RANK = 4;
+
+    private final Type type;
+    private final Course course;
+    private final Group group;
+    private final String name;
+    private final StudentId studentId;
+    private final int rank;
+
+    /**
+     * Constructs a hit of {@code type} named {@code name} in {@code course} and {@code group}, which is null for a
+     * course, with the student ID {@code studentId} if it is a student. Hits of a lower {@code rank} match the search
+     * better.
+     */
+    public SearchHit(Type type, Course course, Group group, String name, StudentId studentId, int rank) {
+        requireNonNull(type);
+        requireNonNull(course);
+        requireNonNull(name);
+        this.type = type;
+        this.course = course;
+        this.group = group;
+        this.name = name;
+        this.studentId = studentId;
+        this.rank = rank;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    /**
+     * Returns the group of the hit, or the hit itself if it is a group, or nothing if it is a course.
+     */
+    public Optional<Group> getGroup() {
+        return Optional.ofNullable(group);
+    }
+
+    /**
+     * Returns the name of the course, group, session or task, or the name of the student.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the student ID of the hit, if it is a student, who is found by it in the group of the hit.
+     */
+    public Optional<StudentId> getStudentId() {
+        return Optional.ofNullable(studentId);
+    }
+
+    /**
+     * Returns how well the hit matches the search: 0 if its name is the search term, 1 if its name starts with it,
+     * 2 if a word of its name starts with it, and 3 otherwise. A student whose name or student ID is only similar to
+     * the search term is ranked {@link #SIMILAR_RANK} plus the number of edits between them.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the path to the hit, from its course.
+     */
+    public String getPath() {
+        StringBuilder path = new StringBuilder(course.getCourseCode());
+        if (group != null && type != Type.GROUP) {
+            path.append(" > ").append(group.getGroupName());
+        }
+        if (type != Type.COURSE) {
+            path.append(" > ").append(name);
+        }
+        return path.toString();
+    }
+
+    @Override
+    public String toString() {
+        String typeName = type.name().charAt(0) + type.name().substring(1).toLowerCase();
+        return studentId == null
+                ? typeName + " " + getPath()
+                : typeName + " " + getPath() + " (" + studentId + ")";
+    }
+}
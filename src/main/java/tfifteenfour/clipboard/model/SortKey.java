@@ -0,0 +1,97 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * A key that sorts texts ignoring case, and with the numbers in them in numerical order, so that "T2" comes before
+ * "t10". Texts that only differ in case or in leading zeros are sorted by their characters.
+ * The key is computed once, so that comparing two keys is a single comparison of strings, rather than a comparison
+ * of the texts character by character.
+ */
+public final class SortKey implements Comparable<SortKey> {
+    /**
+     * Character before each run of digits in a collated text, encoding the number of digits, so that shorter numbers
+     * come first. It is below the letters, as digits are.
+     */
+    private static final char DIGIT_COUNT_BASE = '0' - 1;
+    private static final int MAX_DIGIT_COUNT = 'a' - 1 - DIGIT_COUNT_BASE;
+
+    private final String collatedText;
+    private final String text;
+
+    private SortKey(String collatedText, String text) {
+        this.collatedText = collatedText;
+        this.text = text;
+    }
+
+    /**
+     * Returns the key of {@code text}.
+     */
+    public static SortKey of(String text) {
+        requireNonNull(text);
+        String lowerCaseText = text.toLowerCase();
+        StringBuilder collatedText = new StringBuilder(lowerCaseText.length() + 4);
+        int i = 0;
+        while (i < lowerCaseText.length()) {
+            char character = lowerCaseText.charAt(i);
+            if (!isDigit(character)) {
+                collatedText.append(character);
+                i++;
+                continue;
+            }
+
+            int digitsStart = i;
+            while (i < lowerCaseText.length() && isDigit(lowerCaseText.charAt(i))) {
+                i++;
+            }
+            // leading zeros do not change the number, but its last digit is kept so that 0 is still a number
+            int significantStart = digitsStart;
+            while (significantStart < i - 1 && lowerCaseText.charAt(significantStart) == '0') {
+                significantStart++;
+            }
+            int digitCount = Math.min(i - significantStart, MAX_DIGIT_COUNT);
+            collatedText.append((char) (DIGIT_COUNT_BASE + digitCount))
+                    .append(lowerCaseText, significantStart, i);
+        }
+        return new SortKey(collatedText.toString(), text);
+    }
+
+    /**
+     * Returns a comparator ordering items by the keys of the texts given by {@code textGetter}.
+     * The keys are computed on every comparison, so items with many others to be sorted against should cache theirs.
+     */
+    public static <T> Comparator<T> comparing(Function<? super T, String> textGetter) {
+        requireNonNull(textGetter);
+        return Comparator.comparing(item -> of(textGetter.apply(item)));
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        int comparison = collatedText.compareTo(other.collatedText);
+        return comparison != 0 ? comparison : text.compareTo(other.text);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortKey // instanceof handles nulls
+                && text.equals(((SortKey) other).text)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,229 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.GroupOutline;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * The students of a roster, keyed by student ID, each with the groups of the roster that they are in.
+ * The registry owns one canonical {@code Student} per student ID, which loaded groups share instead of holding their
+ * own copies of the same record, so that the students of a roster take memory in proportion to the number of distinct
+ * people. It also tells which groups a student is in without going through every group.
+ * A loaded group is registered with its students, and an unloaded group only with its {@link GroupOutline}, as given by
+ * its {@link tfifteenfour.clipboard.model.course.GroupLoader}, so that the registry holds no student that only unloaded
+ * groups have. A group whose loader does not know its outline is unknown until it is loaded.
+ */
+public class StudentRegistry {
+    private final Map<StudentId, Registration> registrations = new HashMap<>();
+
+    /** Students of each known loaded group, by student ID, which may differ from the canonical students */
+    private final Map<Group, Map<StudentId, Student>> studentsByGroup = new IdentityHashMap<>();
+
+    /** Student IDs of the students of each known unloaded group */
+    private final Map<Group, Collection<StudentId>> studentIdsByUnloadedGroup = new IdentityHashMap<>();
+
+    private final RosterSearchIndex searchIndex = new RosterSearchIndex(this);
+
+    /**
+     * Returns the canonical student that is equal to {@code student}, or {@code student} itself if there is none.
+     */
+    public Student intern(Student student) {
+        requireNonNull(student);
+        Registration registration = registrations.get(student.getStudentId());
+        return registration != null && student.equals(registration.student) ? registration.student : student;
+    }
+
+    /**
+     * Returns the canonical student with the student ID {@code studentId}, if any loaded group has them.
+     */
+    public Optional<Student> getStudent(StudentId studentId) {
+        requireNonNull(studentId);
+        Registration registration = registrations.get(studentId);
+        return registration == null ? Optional.empty() : Optional.ofNullable(registration.student);
+    }
+
+    /**
+     * Returns true if any known group, loaded or not, has a student with the student ID {@code studentId}.
+     */
+    public boolean hasStudent(StudentId studentId) {
+        requireNonNull(studentId);
+        return registrations.containsKey(studentId);
+    }
+
+    /**
+     * Returns the known groups, loaded or not, that have the student with the student ID of {@code student}.
+     */
+    public Set<Group> getGroupsOf(Student student) {
+        requireNonNull(student);
+        Registration registration = registrations.get(student.getStudentId());
+        return registration == null ? Collections.emptySet() : Collections.unmodifiableSet(registration.groups);
+    }
+
+    /**
+     * Returns the index for searching the roster, which has the students of every known loaded group.
+     */
+    public RosterSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the number of distinct students in the known groups.
+     */
+    public int size() {
+        return registrations.size();
+    }
+
+    /**
+     * Returns true if the students of {@code group}, or their student IDs if it is unloaded, are known to this
+     * registry.
+     */
+    public boolean isKnown(Group group) {
+        return studentsByGroup.containsKey(group) || studentIdsByUnloadedGroup.containsKey(group);
+    }
+
+    /**
+     * Records that {@code group} is loaded and known to this registry, including when it has no students.
+     * Its students are registered as they are added to it.
+     */
+    public void addGroup(Group group) {
+        requireNonNull(group);
+        if (studentsByGroup.containsKey(group)) {
+            return;
+        }
+        Collection<StudentId> studentIds = studentIdsByUnloadedGroup.remove(group);
+        if (studentIds != null) {
+            studentIds.forEach(studentId -> removeGroupOf(studentId, group));
+            // the outline is indexed in place of the group's contents, which are indexed as they are loaded
+            searchIndex.removeSessionsAndTasks(group);
+        }
+        studentsByGroup.put(group, new HashMap<>());
+    }
+
+    /**
+     * Records that {@code group} is unloaded and has the students with the student IDs of {@code outline}, without
+     * holding the students themselves, so that they are no longer indexed for searching unless another loaded group
+     * has them. The names in the outline are indexed for searching instead, as the names in the group.
+     */
+    public void addUnloadedGroup(Group group, GroupOutline outline) {
+        requireAllNonNull(group, outline);
+        removeGroup(group);
+        List<StudentId> studentIds = outline.getStudentIds();
+        studentIdsByUnloadedGroup.put(group, studentIds);
+        for (StudentId studentId : studentIds) {
+            registrations.computeIfAbsent(studentId, unused -> new Registration()).groups.add(group);
+        }
+        searchIndex.removeSessionsAndTasks(group);
+        searchIndex.addOutline(group, outline);
+    }
+
+    /**
+     * Records that {@code group} has {@code student}, who becomes the canonical student of their student ID.
+     */
+    public void register(Group group, Student student) {
+        requireAllNonNull(group, student);
+        Registration registration = registrations.computeIfAbsent(student.getStudentId(),
+                unused -> new Registration());
+        registration.student = student;
+        registration.groups.add(group);
+        Student oldStudent = studentsByGroup.computeIfAbsent(group, unused -> new HashMap<>())
+                .put(student.getStudentId(), student);
+        if (oldStudent != null) {
+            searchIndex.removeStudent(oldStudent);
+        }
+        searchIndex.addStudent(student);
+    }
+
+    /**
+     * Records that {@code group} no longer has the student with the student ID of {@code student}.
+     */
+    public void unregister(Group group, Student student) {
+        requireAllNonNull(group, student);
+        Map<StudentId, Student> students = studentsByGroup.get(group);
+        Student removedStudent = students == null ? null : students.remove(student.getStudentId());
+        if (removedStudent != null) {
+            searchIndex.removeStudent(removedStudent);
+        }
+        removeGroupOf(student.getStudentId(), group);
+    }
+
+    /**
+     * Forgets {@code group} and all of its students, such as when it is removed from the roster.
+     */
+    public void removeGroup(Group group) {
+        requireNonNull(group);
+        Map<StudentId, Student> students = studentsByGroup.remove(group);
+        if (students != null) {
+            students.values().forEach(searchIndex::removeStudent);
+            students.keySet().forEach(studentId -> removeGroupOf(studentId, group));
+        }
+        Collection<StudentId> studentIds = studentIdsByUnloadedGroup.remove(group);
+        if (studentIds != null) {
+            studentIds.forEach(studentId -> removeGroupOf(studentId, group));
+        }
+    }
+
+    /**
+     * Returns the student of {@code group} with the student ID {@code studentId}, who may not be the canonical
+     * student if their details differ between groups, or null if the group is not known or does not have them.
+     */
+    Student getStudent(Group group, StudentId studentId) {
+        Map<StudentId, Student> students = studentsByGroup.get(group);
+        return students == null ? null : students.get(studentId);
+    }
+
+    private void removeGroupOf(StudentId studentId, Group group) {
+        Registration registration = registrations.get(studentId);
+        if (registration == null) {
+            return;
+        }
+        registration.groups.remove(group);
+        if (registration.groups.isEmpty()) {
+            registrations.remove(studentId);
+        } else if (registration.student != null) {
+            registration.student = findLoadedStudent(studentId, registration);
+        }
+    }
+
+    /**
+     * Returns the canonical student of {@code studentId} if a loaded group still has them, or else the student of
+     * any loaded group of {@code registration}, or null if only unloaded groups have the student ID.
+     */
+    private Student findLoadedStudent(StudentId studentId, Registration registration) {
+        Student anyStudent = null;
+        for (Group group : registration.groups) {
+            Student student = getStudent(group, studentId);
+            if (student == registration.student) {
+                return student;
+            } else if (student != null) {
+                anyStudent = student;
+            }
+        }
+        return anyStudent;
+    }
+
+    /**
+     * The canonical student of a student ID, and the groups that have them.
+     * Groups are told apart by identity, as groups of different courses can have the same name.
+     */
+    private static class Registration {
+        /** Expected number of groups of a student, as the default size of an identity map is for 32 entries */
+        private static final int EXPECTED_GROUP_COUNT = 4;
+
+        /** Canonical student, or null if only unloaded groups have the student ID */
+        private Student student;
+        private final Set<Group> groups = Collections.newSetFromMap(new IdentityHashMap<>(EXPECTED_GROUP_COUNT));
+    }
+}
@@ -0,0 +1,38 @@
+package tfifteenfour.clipboard.model;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * The replacement of a student by another in a group, where each group of a roster keeps its own record of a student.
+ */
+public class StudentReplacement {
+    private final Group group;
+    private final Student oldStudent;
+    private final Student newStudent;
+
+    /**
+     * Constructs a {@code StudentReplacement} where {@code oldStudent} was replaced by {@code newStudent} in
+     * {@code group}.
+     */
+    public StudentReplacement(Group group, Student oldStudent, Student newStudent) {
+        requireAllNonNull(group, oldStudent, newStudent);
+        this.group = group;
+        this.oldStudent = oldStudent;
+        this.newStudent = newStudent;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public Student getOldStudent() {
+        return oldStudent;
+    }
+
+    public Student getNewStudent() {
+        return newStudent;
+    }
+}
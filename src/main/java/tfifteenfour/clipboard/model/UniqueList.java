@@ -3,18 +3,34 @@ package tfifteenfour.clipboard.model;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import tfifteenfour.clipboard.model.course.exceptions.DuplicateGroupException;
 
 
 /**
- * A list that enforces its items to be uniques
+ * A list that enforces its items to be uniques.
+ * Items are unique by their identity, as returned by {@link #getIdentity(Object)}. The items are indexed by their
+ * identities, so checking whether the list contains an item, and looking up an item by its identity, take constant
+ * time. The index follows every change to the list, including changes made through
+ * {@link #asModifiableObservableList()}.
+ * A filter that refines the current filter, as told by {@link RefinablePredicate}, only tests the items already shown.
+ * The items shown can be sorted without reordering the list, and stay sorted as items are added or replaced.
  */
 public abstract class UniqueList<T> implements Iterable<T> {
 
@@ -24,10 +40,58 @@ public abstract class UniqueList<T> implements Iterable<T> {
 
     protected final FilteredList<T> filteredList = new FilteredList<>(internalList);
 
+    /** Items shown, in the order they are sorted in, or in the order of the list if they are not sorted */
+    protected final SortedList<T> sortedList = new SortedList<>(filteredList);
+
+    /** Identity of each item, mapped to the item */
+    private final Map<Object, T> index = new HashMap<>();
+
+    /** Predicate the list is filtered by, or null if it is not filtered */
+    private Predicate<T> filterPredicate;
+
+    /**
+     * Constructs an empty list.
+     */
+    protected UniqueList() {
+        internalList.addListener(this::updateIndex);
+    }
+
+    private void updateIndex(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (T removed : change.getRemoved()) {
+                // only unindex the identity if it still refers to the removed item, and not an item added in its place
+                index.remove(getIdentity(removed), removed);
+            }
+            for (T added : change.getAddedSubList()) {
+                index.put(getIdentity(added), added);
+            }
+        }
+    }
+
+    /**
+     * Returns the identity of {@code item}. Items with equal identities are the same item, and only one of them can
+     * be in the list. The identity of an item must not change while it is in the list.
+     */
+    protected abstract Object getIdentity(T item);
+
+    /**
+     * Returns the item in the list with the identity {@code identity}, if any.
+     */
+    protected Optional<T> findByIdentity(Object identity) {
+        requireNonNull(identity);
+        return Optional.ofNullable(index.get(identity));
+    }
+
     /**
      * Returns true if the list contains an equivalent item as the given argument.
      */
-    public abstract boolean contains(T toCheck);
+    public boolean contains(T toCheck) {
+        requireNonNull(toCheck);
+        return index.containsKey(getIdentity(toCheck));
+    }
 
     public abstract UniqueList<T> copy();
 
@@ -44,7 +108,18 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     public abstract void set(T target, T newItem);
 
-    protected abstract boolean elementsAreUnique(List<T> items);
+    /**
+     * Returns true if {@code items} contains only unique items.
+     */
+    protected boolean elementsAreUnique(List<T> items) {
+        Set<Object> identities = new HashSet<>();
+        for (T item : items) {
+            if (!identities.add(getIdentity(item))) {
+                return false;
+            }
+        }
+        return true;
+    }
 
     /**
      * Removes the specified item from the list
@@ -85,16 +160,72 @@ public abstract class UniqueList<T> implements Iterable<T> {
         return internalList;
     }
 
+    /**
+     * Returns the items shown, as filtered and sorted, as an unmodifiable {@code ObservableList}.
+     */
     public ObservableList<T> asUnmodifiableFilteredList() {
-        return FXCollections.unmodifiableObservableList(filteredList);
+        return FXCollections.unmodifiableObservableList(sortedList);
     }
 
     public ObservableList<T> asModifiableFilteredList() {
         return filteredList;
     }
 
+    /**
+     * Returns the comparator the items shown are sorted by, or null if they are in the order of the list.
+     */
+    public Comparator<? super T> getSortComparator() {
+        return sortedList.getComparator();
+    }
+
+    /**
+     * Sorts the items shown by {@code comparator}, or shows them in the order of the list if it is null.
+     * Items added or replaced later are put in place without sorting the items again.
+     */
+    public void updateSortComparator(Comparator<? super T> comparator) {
+        sortedList.setComparator(comparator);
+    }
+
+    /**
+     * Returns the predicate the list is filtered by, or a predicate matching every item if it is not filtered.
+     */
+    public Predicate<T> getFilterPredicate() {
+        return filterPredicate == null ? unused -> true : filterPredicate;
+    }
+
+    /**
+     * Filters the list by {@code predicate}.
+     * If {@code predicate} refines the predicate the list is filtered by, only the items already shown are tested. If
+     * it is a {@link PrecomputedPredicate}, the items found to match it are shown without testing them again.
+     */
     public void updateFilterPredicate(Predicate<T> predicate) {
-        this.filteredList.setPredicate(predicate);
+        if (predicate instanceof PrecomputedPredicate) {
+            PrecomputedPredicate<T> precomputedPredicate = (PrecomputedPredicate<T>) predicate;
+            refilter(precomputedPredicate.getPredicate(), precomputedPredicate::isPrecomputedMatch);
+            filterPredicate = precomputedPredicate.getPredicate();
+            return;
+        }
+
+        if (filterPredicate != null && predicate instanceof RefinablePredicate
+                && ((RefinablePredicate<?>) predicate).refines(filterPredicate)) {
+            // the items not shown are rejected without testing them
+            Set<T> shownItems = Collections.newSetFromMap(new IdentityHashMap<>(filteredList.size()));
+            shownItems.addAll(filteredList);
+            refilter(predicate, item -> shownItems.contains(item) && predicate.test(item));
+        } else {
+            filteredList.setPredicate(predicate);
+        }
+        filterPredicate = predicate;
+    }
+
+    /**
+     * Filters the list by {@code predicate}, where {@code refilterPredicate} matches the same items of the list as it
+     * does now, but tests them faster.
+     */
+    private void refilter(Predicate<T> predicate, Predicate<T> refilterPredicate) {
+        RefilterPredicate<T> filter = new RefilterPredicate<>(predicate, refilterPredicate);
+        filteredList.setPredicate(filter);
+        filter.finishRefilter();
     }
 
     @Override
@@ -109,4 +240,27 @@ public abstract class UniqueList<T> implements Iterable<T> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * A predicate that tests the items with a faster predicate while the list is refiltered, and afterwards with the
+     * predicate it stands for, so that items added to the list later are still shown if they match.
+     */
+    private static class RefilterPredicate<T> implements Predicate<T> {
+        private final Predicate<T> predicate;
+        private Predicate<T> refilterPredicate;
+
+        private RefilterPredicate(Predicate<T> predicate, Predicate<T> refilterPredicate) {
+            this.predicate = predicate;
+            this.refilterPredicate = refilterPredicate;
+        }
+
+        private void finishRefilter() {
+            refilterPredicate = null;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return refilterPredicate == null ? predicate.test(item) : refilterPredicate.test(item);
+        }
+    }
 }
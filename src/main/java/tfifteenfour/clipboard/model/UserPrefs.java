@@ -16,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path rosterFilePath = Paths.get("data" , "roster.json");
     private Path sampleFilePath = Paths.get("data", "sampleRoster.json");
+    private RosterFileFormat rosterFileFormat = RosterFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRosterFilePath(newUserPrefs.getRosterFilePath());
+        setRosterFileFormat(newUserPrefs.getRosterFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +63,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.rosterFilePath = rosterFilePath;
     }
 
+    public RosterFileFormat getRosterFileFormat() {
+        return rosterFileFormat;
+    }
+
+    public void setRosterFileFormat(RosterFileFormat rosterFileFormat) {
+        requireNonNull(rosterFileFormat);
+        this.rosterFileFormat = rosterFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -73,12 +84,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && rosterFilePath.equals(o.rosterFilePath);
+                && rosterFilePath.equals(o.rosterFilePath)
+                && rosterFileFormat.equals(o.rosterFileFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, rosterFilePath);
+        return Objects.hash(guiSettings, rosterFilePath, rosterFileFormat);
     }
 
     @Override
@@ -86,6 +98,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + rosterFilePath);
+        sb.append("\nLocal data file format : " + rosterFileFormat);
         return sb.toString();
     }
 
@@ -2,9 +2,16 @@ package tfifteenfour.clipboard.model.course;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.model.SortKey;
+import tfifteenfour.clipboard.model.StudentRegistry;
+import tfifteenfour.clipboard.model.task.CourseGradeStatistics;
+import tfifteenfour.clipboard.model.task.GradeStatistics;
+import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Represents a Course in the CLIpboard.
@@ -17,10 +24,21 @@ public class Course {
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}\\p{Punct}]+$";
 
     public final String courseCode;
+
+    /** Key for sorting by the course code, computed when first needed */
+    private SortKey sortKey;
     private final UniqueGroupsList groups;
 
+    /** Registry of the students of the roster of this course, or null if the course is not part of a roster */
+    private StudentRegistry registry;
+
+    /** Statistics of the grades of the tasks of the groups, kept up to date by the groups */
+    private final CourseGradeStatistics gradeStatistics = new CourseGradeStatistics();
+
     {
         groups = new UniqueGroupsList();
+        groups.asModifiableObservableList().addListener(this::updateRegistryOfGroups);
+        groups.asModifiableObservableList().addListener(this::updateGradeStatisticsOfGroups);
     }
 
     /**
@@ -38,12 +56,81 @@ public class Course {
      */
     public Course copy() {
         Course copy = new Course(this.courseCode);
-        UniqueGroupsList groupsCopy = new UniqueGroupsList();
-        groups.asUnmodifiableObservableList().forEach(group -> groupsCopy.add(group.copy()));
-        copy.setGroups(groupsCopy);
+        copy.groups.setInternalList(groups.copy());
 
         return copy;
+    }
+
+    /**
+     * Creates a copy of this instance for saving, where the groups that did not change since they were last read or
+     * saved are not copied. See {@link Group#snapshot()}.
+     */
+    public Course snapshot() {
+        Course snapshot = new Course(this.courseCode);
+        snapshot.groups.setInternalList(groups.snapshot());
+        return snapshot;
+    }
+
+    /**
+     * Makes this course and its groups part of the roster with the student registry {@code registry}, or of no roster
+     * if it is null. The course and its groups are indexed for searching while they are part of the roster.
+     */
+    public void setRegistry(StudentRegistry registry) {
+        StudentRegistry oldRegistry = this.registry;
+        this.registry = registry;
+        if (oldRegistry != null && oldRegistry != registry) {
+            oldRegistry.getSearchIndex().removeCourse(this);
+            groups.forEach(oldRegistry.getSearchIndex()::removeGroup);
+        }
+        if (registry != null) {
+            registry.getSearchIndex().addCourse(this);
+        }
+        for (Group group : groups) {
+            if (registry == null) {
+                group.detachRegistry(oldRegistry);
+            } else {
+                registry.getSearchIndex().addGroup(this, group);
+                group.setRegistry(registry);
+            }
+        }
+    }
+
+    /**
+     * Makes this course part of no roster, if it is part of the roster with the student registry {@code registry}.
+     */
+    public void detachRegistry(StudentRegistry registry) {
+        if (this.registry == registry) {
+            setRegistry(null);
+        }
+    }
 
+    private void updateRegistryOfGroups(ListChangeListener.Change<? extends Group> change) {
+        if (registry == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Group group : change.getRemoved()) {
+                group.detachRegistry(registry);
+                registry.getSearchIndex().removeGroup(group);
+            }
+            for (Group group : change.getAddedSubList()) {
+                registry.getSearchIndex().addGroup(this, group);
+                group.setRegistry(registry);
+            }
+        }
+    }
+
+    private void updateGradeStatisticsOfGroups(ListChangeListener.Change<? extends Group> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(group -> group.setCourseStatistics(null));
+            change.getAddedSubList().forEach(group -> group.setCourseStatistics(gradeStatistics));
+        }
     }
 
     public void setGroups(UniqueGroupsList groups) {
@@ -74,6 +161,18 @@ public class Course {
         this.groups.updateFilterPredicate(predicate);
     }
 
+    public Predicate<Group> getFilteredGroupsPredicate() {
+        return groups.getFilterPredicate();
+    }
+
+    public void updateSortedGroups(Comparator<? super Group> comparator) {
+        groups.updateSortComparator(comparator);
+    }
+
+    public Comparator<? super Group> getSortedGroupsComparator() {
+        return groups.getSortComparator();
+    }
+
 
     /**
      * Returns course code
@@ -83,6 +182,16 @@ public class Course {
         return this.courseCode;
     }
 
+    /**
+     * Returns the key for sorting by the course code.
+     */
+    public SortKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = SortKey.of(courseCode);
+        }
+        return sortKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -131,6 +240,15 @@ public class Course {
         groups.set(groupToReplace, newGroup);
     }
 
+    /**
+     * Returns the statistics of the grades of the task with the same name as {@code task} across all groups of this
+     * course, which the course keeps as the groups change, so that no group is loaded for them.
+     */
+    public GradeStatistics getGradeStatistics(Task task) {
+        requireNonNull(task);
+        return gradeStatistics.get(task.getTaskName());
+    }
+
 
     /**
      * Returns true if both courses are the same.
@@ -2,27 +2,75 @@ package tfifteenfour.clipboard.model.course;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.model.SortKey;
+import tfifteenfour.clipboard.model.StudentRegistry;
+import tfifteenfour.clipboard.model.student.SessionWithAttendance;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.student.StudentSearchIndex;
 import tfifteenfour.clipboard.model.student.UniqueStudentsList;
+import tfifteenfour.clipboard.model.task.CourseGradeStatistics;
+import tfifteenfour.clipboard.model.task.GradeStatistics;
 import tfifteenfour.clipboard.model.task.Task;
 import tfifteenfour.clipboard.model.task.UniqueTasksList;
 
 /**
  * Represents a Group in the CLIpboard.
  * Guarantees: immutable; name is valid as declared in {@link #isValidGroupName(String)}
+ * A group created with a {@link GroupLoader} starts without its students, sessions and tasks, which are loaded the
+ * first time that they are used, and can be unloaded again when they have not been used for a while.
+ * A group that is part of a roster shares the canonical students of the {@link StudentRegistry} of the roster.
  */
 public class Group {
     public static final String MESSAGE_CONSTRAINTS = "Group names can only contain alphanumeric and special characters";
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}\\p{Punct}]+$";
 
     private String groupName;
+
+    /** Key for sorting by the group name, computed when first needed */
+    private SortKey sortKey;
     private final UniqueStudentsList students;
     private final UniqueSessionsList sessions;
     private final UniqueTasksList tasks;
 
+    /** Rows of the students, which index the attendance of the sessions and the grades of the tasks */
+    private StudentRows rows;
+
+    /** Index for finding the students by name and student ID, or null if it is not built yet */
+    private StudentSearchIndex searchIndex;
+
+    /** Registry of the students of the roster of this group, or null if the group is not part of a roster */
+    private StudentRegistry registry;
+
+    /** Statistics of the grades of the tasks of the course of this group, or null if it is not part of a course */
+    private CourseGradeStatistics courseStatistics;
+
+    /**
+     * Statistics of the grades of each task of this group by task name, as counted by its course while the group is
+     * not loaded, or null if they are not known yet
+     */
+    private Map<String, GradeStatistics> unloadedTaskStatistics;
+
+    /** Loads the students, sessions and tasks of this group, or null if they are never unloaded */
+    private GroupLoader loader;
+    private boolean isLoaded = true;
+    private int pinCount;
+    private long lastUsedTime;
+
     {
         students = new UniqueStudentsList();
     }
@@ -35,6 +83,20 @@ public class Group {
         tasks = new UniqueTasksList();
     }
 
+    {
+        rows = new StudentRows(students);
+        // the lists can also be changed directly, such as by undo, so the rows follow the lists rather than the methods
+        students.asModifiableObservableList().addListener(this::addRowsOfAddedStudents);
+        students.asModifiableObservableList().addListener(this::updateRegistry);
+        students.asModifiableObservableList().addListener(this::updateSearchIndex);
+        students.asModifiableObservableList().addListener(this::updateMemberTotals);
+        sessions.asModifiableObservableList().addListener(this::updateSessionStudents);
+        tasks.asModifiableObservableList().addListener(this::updateTaskStudents);
+        students.asModifiableObservableList().addListener((ListChangeListener<Student>) change -> rows.markChanged());
+        sessions.asModifiableObservableList().addListener((ListChangeListener<Session>) change -> rows.markChanged());
+        tasks.asModifiableObservableList().addListener((ListChangeListener<Task>) change -> rows.markChanged());
+    }
+
     /**
      * Constructs a group with the given group name.
      * @param groupName A valid group name.
@@ -44,36 +106,329 @@ public class Group {
         this.groupName = groupName;
     }
 
+    /**
+     * Constructs a group with the given group name, whose students, sessions and tasks are loaded by {@code loader}
+     * when they are first used.
+     * @param groupName A valid group name.
+     */
+    public Group(String groupName, GroupLoader loader) {
+        this(groupName);
+        requireNonNull(loader);
+        this.loader = loader;
+        this.isLoaded = false;
+    }
+
     /**
      * Creates a copy of this instance. Used for saving states by undo command.
+     * Students are immutable and are shared with the copy, while sessions and tasks are copied
+     * lazily through their own {@code copy()}, indexed by a copy of the rows of the students.
+     * The copy of a group that is not loaded is not loaded either.
      * @return a copy of this instance.
      */
     public Group copy() {
-        Group copy = new Group(this.groupName);
-        UniqueStudentsList studentsCopy = new UniqueStudentsList();
-        UniqueSessionsList sessionsCopy = new UniqueSessionsList();
-        UniqueTasksList tasksCopy = new UniqueTasksList();
-
-        students.asUnmodifiableObservableList().forEach(student -> studentsCopy.add(student.copy()));
-        sessions.asUnmodifiableObservableList().forEach(session -> sessionsCopy.add(session.copy()));
-        tasks.asUnmodifiableObservableList().forEach(task -> tasksCopy.add(task.copy()));
-
-        copy.setStudents(studentsCopy);
-        copy.setSessions(sessionsCopy);
-        copy.setTasks(tasksCopy);
+        return copyWithName(this.groupName);
+    }
+
+    /**
+     * Creates a copy of this instance for saving. A loaded group that was not changed since its current version was
+     * read or saved is not copied, but stands for a group that is not loaded, loaded from where that version is.
+     */
+    public Group snapshot() {
+        GroupLoader savedLoader = loader == null || !isLoaded ? null : loader.getLoaderOf(getVersion());
+        if (savedLoader == null) {
+            return copy();
+        }
+        return new Group(groupName, savedLoader);
+    }
+
+    /**
+     * Creates a copy of this instance with the name {@code newGroupName}, for renaming the group.
+     * The students, sessions and tasks are carried over as by {@link #copy()}, keeping the rows of the students, so
+     * that no attendance or grade record has to be rebuilt. The copy has the same version as this group.
+     * A group that is not loaded is renamed without loading it.
+     * @return a copy of this instance with the new name.
+     */
+    public Group copyWithName(String newGroupName) {
+        requireNonNull(newGroupName);
+        if (!isLoaded) {
+            Group copy = new Group(newGroupName, loader);
+            copy.unloadedTaskStatistics = unloadedTaskStatistics;
+            return copy;
+        }
+
+        Group copy = new Group(newGroupName);
+        copy.loader = loader;
+        copy.rows = rows.copy(copy.students);
+        List<Session> sessionsCopy = new ArrayList<>(sessions.asUnmodifiableObservableList().size());
+        List<Task> tasksCopy = new ArrayList<>(tasks.asUnmodifiableObservableList().size());
+
+        sessions.asUnmodifiableObservableList().forEach(session -> sessionsCopy.add(session.copy(copy.rows)));
+        tasks.asUnmodifiableObservableList().forEach(task -> tasksCopy.add(task.copy(copy.rows)));
+
+        // the source lists are already unique, so they can be bulk copied without re-validating each element
+        copy.students.setInternalList(students);
+        copy.sessions.asModifiableObservableList().setAll(sessionsCopy);
+        copy.tasks.asModifiableObservableList().setAll(tasksCopy);
+        copy.rows.setVersion(rows.getVersion());
         return copy;
+    }
+
+    /**
+     * Loads the students, sessions and tasks of this group if they are not loaded, and records that they were used.
+     * Must be called before they are used.
+     */
+    private void ensureLoaded() {
+        if (loader == null) {
+            return;
+        }
+        lastUsedTime = System.nanoTime();
+        if (isLoaded) {
+            return;
+        }
+
+        Group loadedGroup = loader.load();
+        isLoaded = true;
+        if (registry != null) {
+            registry.addGroup(this);
+        }
+        // the loaded tasks are counted by the course in place of their statistics as counted while unloaded
+        if (courseStatistics != null && unloadedTaskStatistics != null) {
+            courseStatistics.addStatistics(unloadedTaskStatistics, -1);
+        }
+        students.setInternalList(intern(loadedGroup.getUnmodifiableStudentList()));
+        sessions.setInternalList(loadedGroup.sessions);
+        tasks.setInternalList(loadedGroup.tasks);
+        rows.setVersion(loader.getVersion());
+    }
+
+    /**
+     * Returns the loader of the students, sessions and tasks of this group, or null if they are never unloaded.
+     */
+    public GroupLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Returns true if the students, sessions and tasks of this group are loaded.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Returns a version that no group had before, for a {@link GroupLoader} to give the group that it loads.
+     */
+    public static long newVersion() {
+        return StudentRows.newVersion();
+    }
+
+    /**
+     * Returns the version of the students, sessions and tasks of this group, and of their attendance and grades,
+     * which changes whenever any of them changes, and is shared by the copies of this group with the same contents.
+     */
+    public long getVersion() {
+        return rows.getVersion();
+    }
+
+    /**
+     * Returns true if {@code otherGroup} is known to have the same students, sessions and tasks as this group without
+     * comparing them, such as when one of the groups is a copy of the other made by {@link #copyWithName(String)}.
+     * Neither group is loaded to tell.
+     */
+    public boolean hasSameContentsAs(Group otherGroup) {
+        requireNonNull(otherGroup);
+        if (isLoaded != otherGroup.isLoaded) {
+            return false;
+        }
+        return isLoaded ? getVersion() == otherGroup.getVersion() : loader == otherGroup.loader;
+    }
+
+    /**
+     * Returns the time, as given by {@link System#nanoTime()}, when the students, sessions or tasks of this group were
+     * last used.
+     */
+    public long getLastUsedTime() {
+        return lastUsedTime;
+    }
+
+    /**
+     * Keeps the students, sessions and tasks of this group loaded until {@link #unpin()} is called as many times,
+     * because they are referred to from outside of this group, such as by an entry of the command history, and
+     * unloading them would replace them with new objects.
+     */
+    public void pin() {
+        pinCount++;
+    }
+
+    /**
+     * Releases a pin made by {@link #pin()}, so that the group can be unloaded once no pin is left.
+     */
+    public void unpin() {
+        assert pinCount > 0 : "A group must be pinned to be unpinned";
+        pinCount--;
+    }
+
+    /**
+     * Returns true if the students, sessions and tasks of this group are loaded, and can be unloaded.
+     */
+    public boolean isUnloadable() {
+        return loader != null && isLoaded && pinCount == 0;
+    }
+
+    /**
+     * Unloads the students, sessions and tasks of this group, so that they are loaded again the next time that they
+     * are used. A group that was changed since it was loaded is only unloaded once its current version is saved, and
+     * is then loaded from where it was saved, so that the change is not lost.
+     *
+     * @return true if the group was unloaded.
+     */
+    public boolean unload() {
+        if (!isUnloadable()) {
+            return false;
+        }
+        GroupLoader savedLoader = loader.getLoaderOf(getVersion());
+        if (savedLoader == null) {
+            return false;
+        }
+        loader = savedLoader;
+
+        // the course keeps counting the statistics of the tasks while the group is unloaded
+        Map<String, GradeStatistics> taskStatistics = new HashMap<>();
+        tasks.forEach(task -> taskStatistics.put(task.getTaskName(), task.getStatistics().copy()));
+
+        // the registry only keeps the outline of the group while it is unloaded, to find the group by its students and
+        // by the names in it
+        GroupOutline outline = GroupOutline.of(this);
+        isLoaded = false;
+        if (registry != null) {
+            registry.addUnloadedGroup(this, outline);
+        }
+        students.setInternalList(Collections.emptyList());
+        sessions.setInternalList(Collections.emptyList());
+        tasks.setInternalList(Collections.emptyList());
+        rows = new StudentRows(students);
+        searchIndex = null;
+        unloadedTaskStatistics = taskStatistics;
+        if (courseStatistics != null) {
+            courseStatistics.addStatistics(taskStatistics, 1);
+        }
+        return true;
+    }
+
+    /**
+     * Makes the grades of the tasks of this group counted by {@code courseStatistics}, the statistics of its course,
+     * or by no course if it is null. A group that is not loaded is counted without loading it, if its loader knows the
+     * statistics of its tasks.
+     */
+    public void setCourseStatistics(CourseGradeStatistics courseStatistics) {
+        if (this.courseStatistics == courseStatistics) {
+            return;
+        }
+        if (!isLoaded && unloadedTaskStatistics == null) {
+            unloadedTaskStatistics = loader.getTaskStatistics().orElse(null);
+        }
+        if (!isLoaded && unloadedTaskStatistics == null) {
+            ensureLoaded();
+        }
+
+        if (this.courseStatistics != null) {
+            countTasks(this.courseStatistics, -1);
+        }
+        this.courseStatistics = courseStatistics;
+        if (courseStatistics != null) {
+            countTasks(courseStatistics, 1);
+        }
+    }
+
+    private void countTasks(CourseGradeStatistics courseStatistics, int sign) {
+        if (!isLoaded) {
+            courseStatistics.addStatistics(unloadedTaskStatistics, sign);
+        } else if (sign > 0) {
+            tasks.forEach(courseStatistics::addTask);
+        } else {
+            tasks.forEach(courseStatistics::removeTask);
+        }
+    }
+
+    /**
+     * Makes this group part of the roster with the student registry {@code registry}, or of no roster if it is null.
+     * The students of the group are replaced by the canonical students of the registry that are equal to them, and
+     * its sessions and tasks are indexed for searching once it is loaded. Until then, only the outline of the group is
+     * registered, if its loader knows it.
+     */
+    public void setRegistry(StudentRegistry registry) {
+        if (this.registry == registry) {
+            return;
+        }
+        if (this.registry != null) {
+            this.registry.removeGroup(this);
+        }
+        this.registry = registry;
+        if (registry == null) {
+            return;
+        } else if (!isLoaded) {
+            loader.getOutline().ifPresent(outline -> registry.addUnloadedGroup(this, outline));
+            return;
+        }
+
+        registry.addGroup(this);
+        sessions.forEach(session -> registry.getSearchIndex().addSession(this, session));
+        tasks.forEach(task -> registry.getSearchIndex().addTask(this, task));
+        List<Student> internedStudents = intern(students.asUnmodifiableObservableList());
+        if (internedStudents != students.asUnmodifiableObservableList()) {
+            // the registry is updated by the change of the list, which replaces students with equal ones, so the
+            // version is kept
+            long version = getVersion();
+            students.setInternalList(internedStudents);
+            rows.setVersion(version);
+        } else {
+            students.forEach(student -> registry.register(this, student));
+        }
+    }
 
+    /**
+     * Makes this group part of no roster, if it is part of the roster with the student registry {@code registry}.
+     */
+    public void detachRegistry(StudentRegistry registry) {
+        if (this.registry == registry) {
+            setRegistry(null);
+        }
+    }
+
+    /**
+     * Returns {@code students} with each student replaced by the equal canonical student of the registry, if any.
+     * Returns {@code students} itself if no student is replaced.
+     */
+    private List<Student> intern(List<Student> students) {
+        if (registry == null) {
+            return students;
+        }
+        List<Student> internedStudents = null;
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            Student internedStudent = registry.intern(student);
+            if (internedStudent != student && internedStudents == null) {
+                internedStudents = new ArrayList<>(students);
+            }
+            if (internedStudents != null) {
+                internedStudents.set(i, internedStudent);
+            }
+        }
+        return internedStudents == null ? students : internedStudents;
     }
 
     public void setStudents(UniqueStudentsList students) {
+        ensureLoaded();
         this.students.setInternalList(students.asUnmodifiableObservableList());;
     }
 
     public void setSessions(UniqueSessionsList sessions) {
+        ensureLoaded();
         this.sessions.setInternalList(sessions.asUnmodifiableObservableList());;
     }
 
     public void setTasks(UniqueTasksList tasks) {
+        ensureLoaded();
         this.tasks.setInternalList(tasks.asUnmodifiableObservableList());;
     }
 
@@ -81,6 +436,7 @@ public class Group {
      * Returns the modifiable internal list of students in this group.
      */
     public ObservableList<Student> getModifiableStudentList() {
+        ensureLoaded();
         return students.asModifiableObservableList();
     }
 
@@ -88,10 +444,12 @@ public class Group {
      * Returns an unmodifiable view of the list of students in this group.
      */
     public ObservableList<Student> getUnmodifiableStudentList() {
+        ensureLoaded();
         return students.asUnmodifiableObservableList();
     }
 
     public ObservableList<Student> getUnmodifiableFilteredStudentList() {
+        ensureLoaded();
         return students.asUnmodifiableFilteredList();
     }
 
@@ -100,14 +458,17 @@ public class Group {
      * Returns an unmodifiable view of the list of sessions in this group.
      */
     public ObservableList<Session> getUnmodifiableSessionList() {
+        ensureLoaded();
         return sessions.asUnmodifiableObservableList();
     }
 
     public ObservableList<Session> getModifiableSessionList() {
+        ensureLoaded();
         return sessions.asModifiableObservableList();
     }
 
     public ObservableList<Session> getUnmodifiableFilteredSessionList() {
+        ensureLoaded();
         return sessions.asUnmodifiableFilteredList();
     }
 
@@ -115,10 +476,12 @@ public class Group {
      * Returns an unmodifiable view of the list of tasks in this group.
      */
     public ObservableList<Task> getUnmodifiableTaskList() {
+        ensureLoaded();
         return tasks.asUnmodifiableObservableList();
     }
 
     public ObservableList<Task> getUnmodifiableFilteredTaskList() {
+        ensureLoaded();
         return tasks.asUnmodifiableFilteredList();
     }
 
@@ -126,35 +489,99 @@ public class Group {
      * Returns a modifiable view of the list of tasks in this group.
      */
     public ObservableList<Task> getModifiableTaskList() {
+        ensureLoaded();
         return tasks.asModifiableObservableList();
     }
 
     public void updateFilteredSessions(Predicate<Session> predicate) {
+        ensureLoaded();
         sessions.updateFilterPredicate(predicate);
     }
 
     public void updateFilteredTasks(Predicate<Task> predicate) {
+        ensureLoaded();
         tasks.updateFilterPredicate(predicate);
     }
 
     public void updateFilteredStudents(Predicate<Student> predicate) {
+        ensureLoaded();
         students.updateFilterPredicate(predicate);
     }
 
+    public Predicate<Session> getFilteredSessionsPredicate() {
+        ensureLoaded();
+        return sessions.getFilterPredicate();
+    }
+
+    public Predicate<Task> getFilteredTasksPredicate() {
+        ensureLoaded();
+        return tasks.getFilterPredicate();
+    }
+
+    public Predicate<Student> getFilteredStudentsPredicate() {
+        ensureLoaded();
+        return students.getFilterPredicate();
+    }
+
+    public void updateSortedSessions(Comparator<? super Session> comparator) {
+        ensureLoaded();
+        sessions.updateSortComparator(comparator);
+    }
+
+    public void updateSortedTasks(Comparator<? super Task> comparator) {
+        ensureLoaded();
+        tasks.updateSortComparator(comparator);
+    }
+
+    public void updateSortedStudents(Comparator<? super Student> comparator) {
+        ensureLoaded();
+        students.updateSortComparator(comparator);
+    }
+
+    public Comparator<? super Session> getSortedSessionsComparator() {
+        ensureLoaded();
+        return sessions.getSortComparator();
+    }
+
+    public Comparator<? super Task> getSortedTasksComparator() {
+        ensureLoaded();
+        return tasks.getSortComparator();
+    }
+
+    public Comparator<? super Student> getSortedStudentsComparator() {
+        ensureLoaded();
+        return students.getSortComparator();
+    }
+
 
     /**
      * Adds the given student to this group.
      * @param student Student to be added.
      */
     public void addStudent(Student student) {
-        this.students.add(student);
-        for (Session session : sessions) {
-            session.setStudents(students);
-        }
+        ensureLoaded();
+        this.students.add(registry == null ? student : registry.intern(student));
+    }
 
-        for (Task task : tasks) {
-            task.setStudents(students);
-        }
+    /**
+     * Adds the given students to the end of this group at once.
+     * @param students Students to be added, none of whom may already be in this group.
+     * @see #addStudents(int, List)
+     */
+    public void addStudents(List<Student> students) {
+        addStudents(getUnmodifiableStudentList().size(), students);
+    }
+
+    /**
+     * Inserts the given students into this group at once, as a single change of its students. Each student costs a
+     * single row in the attendance and grade records of the sessions and tasks, so adding many students takes time
+     * linear in their number.
+     * @param index Index of the students of this group to insert the first student at.
+     * @param students Students to be added, none of whom may already be in this group.
+     */
+    public void addStudents(int index, List<Student> students) {
+        ensureLoaded();
+        this.students.addAll(index, intern(students));
     }
 
     /**
@@ -162,8 +589,8 @@ public class Group {
      * @param session Session to be added.
      */
     public void addSession(Session session) {
+        ensureLoaded();
         this.sessions.add(session);
-        session.setStudents(students);
     }
 
     /**
@@ -171,8 +598,8 @@ public class Group {
      * @param task task to be added.
      */
     public void addTask(Task task) {
+        ensureLoaded();
         this.tasks.add(task);
-        task.setStudents(students);
     }
 
     /**
@@ -180,10 +607,12 @@ public class Group {
      * @param session Session to be deleted.
      */
     public void deleteSession(Session session) {
+        ensureLoaded();
         this.sessions.remove(session);
     }
 
     public void setSession(Session sessionToReplace, Session newSession) {
+        ensureLoaded();
         this.sessions.set(sessionToReplace, newSession);
     }
 
@@ -192,25 +621,196 @@ public class Group {
      * @param task Task to be deleted.
      */
     public void deleteTask(Task task) {
+        ensureLoaded();
         this.tasks.remove(task);
     }
 
     public void setTask(Task taskToReplace, Task newTask) {
+        ensureLoaded();
         this.tasks.set(taskToReplace, newTask);
     }
 
     /**
-     * Deletes the given student from this group.
+     * Deletes the given student from this group, together with their attendance and grade records.
+     * The student is removed from all sessions and tasks at once, as they all refer to the student by the same row.
+     * A student with the same student ID who is added later starts without records.
      * @param student Student to be deleted.
      */
     public void deleteStudent(Student student) {
+        ensureLoaded();
         this.students.remove(student);
+        rows.removeRow(student);
+    }
+
+    /**
+     * Deletes the given students from this group at once, together with their attendance and grade records.
+     * @param studentsToDelete Students to be deleted, all of whom are in this group.
+     */
+    public void deleteStudents(List<Student> studentsToDelete) {
+        ensureLoaded();
+        this.students.asModifiableObservableList().removeAll(new HashSet<>(studentsToDelete));
+        studentsToDelete.forEach(rows::removeRow);
     }
 
     public void setStudent(Student studentToReplace, Student newStudent) {
+        ensureLoaded();
         this.students.set(studentToReplace, newStudent);
     }
 
+    /**
+     * Replaces the given student in this group, carrying over their attendance and grade records.
+     * @param studentToReplace Student to be replaced.
+     * @param newStudent Student to replace with.
+     */
+    public void replaceStudent(Student studentToReplace, Student newStudent) {
+        ensureLoaded();
+        // the row is moved first, so that the new student joins the list with the records that they carry over
+        rows.moveRow(studentToReplace, newStudent);
+        this.students.set(studentToReplace, newStudent);
+    }
+
+    /**
+     * Returns the index for finding the students of this group by name and student ID, which is built the first time
+     * that it is asked for, and kept up to date as students change from then on.
+     */
+    public StudentSearchIndex getStudentSearchIndex() {
+        ensureLoaded();
+        if (searchIndex == null) {
+            searchIndex = new StudentSearchIndex();
+            students.forEach(searchIndex::add);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the number of sessions of this group that {@code student} is present in, in constant time.
+     */
+    public int countSessionsAttended(Student student) {
+        requireNonNull(student);
+        ensureLoaded();
+        return rows.getSessionsAttended(student);
+    }
+
+    /**
+     * Returns the sessions of this group, each with the attendance of {@code student}, for showing the attendance of
+     * the student. The list is built when it is asked for, as the sessions of the student differ between groups.
+     */
+    public ObservableList<SessionWithAttendance> getSessionsWithAttendance(Student student) {
+        requireNonNull(student);
+        ensureLoaded();
+        ObservableList<SessionWithAttendance> sessionsWithAttendance = FXCollections.observableArrayList();
+        for (Session session : sessions) {
+            sessionsWithAttendance.add(new SessionWithAttendance(session, session.getAttendanceOf(student)));
+        }
+        return sessionsWithAttendance;
+    }
+
+    /**
+     * Returns the student in this group with the student ID {@code studentId}, if any.
+     */
+    public Optional<Student> findStudent(StudentId studentId) {
+        ensureLoaded();
+        return students.findStudent(studentId);
+    }
+
+    private void updateRegistry(ListChangeListener.Change<? extends Student> change) {
+        if (registry == null || !isLoaded) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(student -> registry.unregister(this, student));
+            change.getAddedSubList().forEach(student -> registry.register(this, student));
+        }
+    }
+
+    private void updateSearchIndex(ListChangeListener.Change<? extends Student> change) {
+        if (searchIndex == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(searchIndex::remove);
+            change.getAddedSubList().forEach(searchIndex::add);
+        }
+    }
+
+    private void addRowsOfAddedStudents(ListChangeListener.Change<? extends Student> change) {
+        forEachAdded(change, rows::addRow);
+    }
+
+    /**
+     * Updates the number of students present in each session and the grade statistics of each task for the students
+     * who joined or left this group, in time linear in the number of sessions and tasks per student. A student who
+     * replaces another student through {@link #replaceStudent(Student, Student)} takes over their row, which is
+     * counted already.
+     */
+    private void updateMemberTotals(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Student student : change.getRemoved()) {
+                int row = rows.uncountAsMember(student);
+                if (row != -1) {
+                    sessions.forEach(session -> session.adjustPresentCount(row, -1));
+                    tasks.forEach(task -> task.adjustStatistics(student, -1));
+                }
+            }
+            for (Student student : change.getAddedSubList()) {
+                int row = rows.countAsMember(student);
+                if (row != -1) {
+                    sessions.forEach(session -> session.adjustPresentCount(row, 1));
+                    tasks.forEach(task -> task.adjustStatistics(student, 1));
+                }
+            }
+        }
+    }
+
+    private void updateSessionStudents(ListChangeListener.Change<? extends Session> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(Session::removeFromGroup);
+            change.getAddedSubList().forEach(session -> session.setStudents(rows));
+            if (registry != null && isLoaded) {
+                change.getRemoved().forEach(session -> registry.getSearchIndex().removeSession(this, session));
+                change.getAddedSubList().forEach(session -> registry.getSearchIndex().addSession(this, session));
+            }
+        }
+    }
+
+    private void updateTaskStudents(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(Task::removeFromGroup);
+            change.getAddedSubList().forEach(task -> task.setStudents(rows));
+            if (courseStatistics != null) {
+                change.getRemoved().forEach(courseStatistics::removeTask);
+                change.getAddedSubList().forEach(courseStatistics::addTask);
+            }
+            if (registry != null && isLoaded) {
+                change.getRemoved().forEach(task -> registry.getSearchIndex().removeTask(this, task));
+                change.getAddedSubList().forEach(task -> registry.getSearchIndex().addTask(this, task));
+            }
+        }
+    }
+
+    private static <T> void forEachAdded(ListChangeListener.Change<? extends T> change, Consumer<T> action) {
+        while (change.next()) {
+            if (!change.wasPermutated() && !change.wasUpdated()) {
+                change.getAddedSubList().forEach(action);
+            }
+        }
+    }
+
     /**
      * Returns the name of this group.
      */
@@ -218,6 +818,16 @@ public class Group {
         return this.groupName;
     }
 
+    /**
+     * Returns the key for sorting by the group name.
+     */
+    public SortKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = SortKey.of(groupName);
+        }
+        return sortKey;
+    }
+
     /**
      * Returns true if both groups are the same.
      */
@@ -235,6 +845,7 @@ public class Group {
      */
     public boolean hasStudent(Student student) {
         requireNonNull(student);
+        ensureLoaded();
         return students.contains(student);
     }
 
@@ -243,6 +854,7 @@ public class Group {
      */
     public boolean hasSession(Session session) {
         requireNonNull(session);
+        ensureLoaded();
         return sessions.contains(session);
     }
 
@@ -251,6 +863,7 @@ public class Group {
      */
     public boolean hasTask(Task task) {
         requireNonNull(task);
+        ensureLoaded();
         return tasks.contains(task);
     }
 
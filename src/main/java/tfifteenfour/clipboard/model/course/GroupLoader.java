@@ -0,0 +1,45 @@
+package tfifteenfour.clipboard.model.course;
+
+import java.util.Map;
+import java.util.Optional;
+
+import tfifteenfour.clipboard.model.task.GradeStatistics;
+
+/**
+ * Loads the students, sessions and tasks of a {@link Group} that was created without them, the first time that they
+ * are used. Implemented by storages that can read each group separately from the rest of the roster.
+ */
+public interface GroupLoader {
+
+    /**
+     * Returns a group with the students, sessions and tasks to load.
+     * @throws tfifteenfour.clipboard.model.course.exceptions.GroupLoadException if they could not be loaded.
+     */
+    Group load();
+
+    /**
+     * Returns the version of the group that this loader loads, as given by {@link Group#getVersion()}, which the
+     * loaded group keeps until it is changed.
+     */
+    long getVersion();
+
+    /**
+     * Returns a loader of {@code version} of the group, which is this loader if it loads that version, or the loader
+     * of a copy of it that was saved since. Returns null if that version was not saved, so that unloading a group of
+     * that version would lose its changes.
+     */
+    GroupLoader getLoaderOf(long version);
+
+    /**
+     * Returns the student IDs and names of the students of the group to load, and the names of its sessions and tasks,
+     * if they are known without loading it, so that the groups that a student is in can be found, and the roster
+     * searched, without loading every group.
+     */
+    Optional<GroupOutline> getOutline();
+
+    /**
+     * Returns the statistics of the grades of each task of the group to load, by task name, if they are known without
+     * loading it, so that the statistics of its course can be kept without loading every group.
+     */
+    Optional<Map<String, GradeStatistics>> getTaskStatistics();
+}
@@ -0,0 +1,73 @@
+package tfifteenfour.clipboard.model.course;
+
+import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * The student IDs and names of the students of a group, and the names of its sessions and tasks, as known without
+ * loading the group, so that the groups of a student can be found and the roster searched without loading every group.
+ */
+public class GroupOutline {
+    private final List<StudentId> studentIds;
+    private final List<String> studentNames;
+    private final List<String> sessionNames;
+    private final List<String> taskNames;
+
+    /**
+     * Constructs a {@code GroupOutline} of a group with students of {@code studentIds}, named by the names at the same
+     * positions of {@code studentNames}, and with sessions and tasks of {@code sessionNames} and {@code taskNames}.
+     */
+    public GroupOutline(List<StudentId> studentIds, List<String> studentNames, Collection<String> sessionNames,
+            Collection<String> taskNames) {
+        requireAllNonNull(studentIds, studentNames, sessionNames, taskNames);
+        if (studentIds.size() != studentNames.size()) {
+            throw new IllegalArgumentException("Each student ID of a group outline must have a name");
+        }
+        this.studentIds = Collections.unmodifiableList(new ArrayList<>(studentIds));
+        this.studentNames = Collections.unmodifiableList(new ArrayList<>(studentNames));
+        this.sessionNames = Collections.unmodifiableList(new ArrayList<>(sessionNames));
+        this.taskNames = Collections.unmodifiableList(new ArrayList<>(taskNames));
+    }
+
+    /**
+     * Returns the outline of {@code group} as it is, which must be loaded.
+     */
+    public static GroupOutline of(Group group) {
+        List<StudentId> studentIds = new ArrayList<>();
+        List<String> studentNames = new ArrayList<>();
+        group.getUnmodifiableStudentList().forEach(student -> {
+            studentIds.add(student.getStudentId());
+            studentNames.add(student.getName().toString());
+        });
+        List<String> sessionNames = new ArrayList<>();
+        group.getUnmodifiableSessionList().forEach(session -> sessionNames.add(session.getSessionName()));
+        List<String> taskNames = new ArrayList<>();
+        group.getUnmodifiableTaskList().forEach(task -> taskNames.add(task.getTaskName()));
+        return new GroupOutline(studentIds, studentNames, sessionNames, taskNames);
+    }
+
+    public List<StudentId> getStudentIds() {
+        return studentIds;
+    }
+
+    /**
+     * Returns the names of the students, in the order of {@link #getStudentIds()}.
+     */
+    public List<String> getStudentNames() {
+        return studentNames;
+    }
+
+    public List<String> getSessionNames() {
+        return sessionNames;
+    }
+
+    public List<String> getTaskNames() {
+        return taskNames;
+    }
+}
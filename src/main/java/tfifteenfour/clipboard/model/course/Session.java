@@ -2,15 +2,15 @@ package tfifteenfour.clipboard.model.course;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.model.SortKey;
 import tfifteenfour.clipboard.model.course.exceptions.StudentNotInSessionException;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithAttendance;
-import tfifteenfour.clipboard.model.student.UniqueStudentsList;
 
 
 
@@ -23,15 +23,34 @@ public class Session {
             "Session names can only contain alphanumeric and special characters";
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}\\p{Punct}]+$";
 
+    /** Attendance of a student who was absent from a session */
+    public static final int ABSENT = 0;
+    /** Attendance of a student who was present in a session */
+    public static final int PRESENT = 1;
+
     private final String sessionName;
+
+    /** Key for sorting by the session name, computed when first needed */
+    private SortKey sortKey;
     private Boolean isSelected;
 
     /**
-     * A map that stores the attendance record for each student in the session.
-     * The key is the Student object, and the value is an integer indicating the attendance status:
+     * The attendance record of each student in the session, indexed by the rows of the students of its group:
      * 0 for absent, 1 for present.
      */
-    private Map<Student, Integer> attendance;
+    private StudentColumn attendance;
+
+    /** Number of students of the session who are present, kept up to date as attendance and students change */
+    private int presentCount;
+
+    /**
+     * Rows of the group of the session, whose numbers of sessions attended count the attendance of this session, or
+     * null if the session is not part of a group.
+     */
+    private StudentRows countedRows;
+
+    /** Order the students of the session are listed in, or null to list them in the order of their group */
+    private Comparator<? super StudentWithAttendance> studentsComparator;
 
     /**
      * Constructs a {@code Session} with the given session name.
@@ -40,7 +59,7 @@ public class Session {
     public Session(String sessionName) {
         requireNonNull(sessionName);
         this.sessionName = sessionName;
-        attendance = new HashMap<>();
+        attendance = StudentColumn.ofBytes(new StudentRows());
         isSelected = false;
     }
 
@@ -49,12 +68,27 @@ public class Session {
      */
     public ObservableList<StudentWithAttendance> getUnmodifiableStudentList() {
         ObservableList<StudentWithAttendance> students = FXCollections.observableArrayList();
-        for (Student student : attendance.keySet()) {
+        for (Student student : attendance.getRows().getMembers()) {
             students.add(new StudentWithAttendance(student, attendance.get(student)));
         }
+        if (studentsComparator != null) {
+            students.sort(studentsComparator);
+        }
         return students;
     }
 
+    /**
+     * Lists the students of the session in the order of {@code comparator}, or in the order of their group if it is
+     * null.
+     */
+    public void updateSortedStudents(Comparator<? super StudentWithAttendance> comparator) {
+        studentsComparator = comparator;
+    }
+
+    public Comparator<? super StudentWithAttendance> getSortedStudentsComparator() {
+        return studentsComparator;
+    }
+
     /**
      * Returns the name of the session.
      * @return The name of the session.
@@ -63,12 +97,37 @@ public class Session {
         return this.sessionName;
     }
 
+    /**
+     * Returns the key for sorting by the session name.
+     */
+    public SortKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = SortKey.of(sessionName);
+        }
+        return sortKey;
+    }
+
     /**
      * Returns the attendance record for each student in the session.
-     * @return A map that stores the attendance record for each student in the session.
+     * @return An unmodifiable map view of the attendance record for each student in the session.
      */
     public Map<Student, Integer> getAttendance() {
-        return this.attendance;
+        return attendance.asMap();
+    }
+
+    /**
+     * Returns the attendance of {@code student} in this session: 0 for absent, 1 for present.
+     */
+    public int getAttendanceOf(Student student) {
+        requireNonNull(student);
+        return attendance.get(student);
+    }
+
+    /**
+     * Returns the number of students who are present in this session, in constant time.
+     */
+    public int countPresent() {
+        return presentCount;
     }
 
     /**
@@ -95,36 +154,74 @@ public class Session {
     }
 
     /**
-     * Sets the list of students who are in the session.This will create a new hashMap and assign it
-     * to {@code attendance} instead of modifying {@code attendance}.
+     * Sets the students who are in the session to those of {@code rows}, the rows of the students of its group,
+     * keeping the attendance of students who were already in the session. The attendance of the session is counted
+     * in the numbers of sessions attended of {@code rows} from then on.
      *
-     * @param students The list of students who are in the session.
+     * @param rows The rows of the students who are in the session.
      */
-    public void setStudents(UniqueStudentsList students) {
-        assert attendance != null : "Attendance should not be null!";
-        Map<Student, Integer> newAttendance = new HashMap<>();
-        for (Student student : students) {
-            newAttendance.put(student, attendance.getOrDefault(student, 0));
+    public void setStudents(StudentRows rows) {
+        requireNonNull(rows);
+        if (rows == countedRows) {
+            return;
+        }
+        uncountAttendance();
+        attendance.setRows(rows);
+        presentCount = attendance.count(PRESENT);
+        if (rows.isPartOfGroup()) {
+            countedRows = rows;
+            countAttendance(1);
         }
-        attendance = newAttendance;
     }
 
+    /**
+     * Stops counting the attendance of the session in the numbers of sessions attended of its group, when the
+     * session is removed from the group.
+     */
+    public void removeFromGroup() {
+        uncountAttendance();
+    }
+
+    /**
+     * Replaces the attendance of the session with {@code attendance}. Students that are not in the session are
+     * added to it if the session is not part of a group yet, and ignored otherwise.
+     */
     public void setAttendance(Map<Student, Integer> attendance) {
-        this.attendance = new HashMap<>(attendance);
+        StudentRows rows = countedRows;
+        uncountAttendance();
+        this.attendance = this.attendance.withValues(attendance);
+        presentCount = this.attendance.count(PRESENT);
+        if (rows != null) {
+            countedRows = rows;
+            countAttendance(1);
+        }
     }
 
     /**
-     * Replaces a student in current session with a new student.
-     * @param oldStudent Student to be replaced.
-     * @param newStudent New student to replace with.
+     * Adds {@code sign} to the number of students present if the student of {@code row} is present, when they join
+     * or leave the group of the session.
      */
-    public void replaceStudent(Student oldStudent, Student newStudent) {
-        if (!attendance.containsKey(oldStudent)) {
-            throw new StudentNotInSessionException();
-        } else {
-            int value = attendance.get(oldStudent);
-            attendance.remove(oldStudent);
-            attendance.put(newStudent, value);
+    void adjustPresentCount(int row, int sign) {
+        if (attendance.getOfRow(row) == PRESENT) {
+            presentCount += sign;
+        }
+    }
+
+    private void uncountAttendance() {
+        if (countedRows != null) {
+            countAttendance(-1);
+            countedRows = null;
+        }
+    }
+
+    /**
+     * Adds {@code sign} to the number of sessions attended of each row of {@code countedRows} that is present.
+     */
+    private void countAttendance(int sign) {
+        for (int row = 0; row < countedRows.size(); row++) {
+            if (attendance.getOfRow(row) == PRESENT) {
+                countedRows.adjustSessionsAttended(row, sign);
+            }
         }
     }
 
@@ -138,10 +235,10 @@ public class Session {
         requireNonNull(student);
         assert attendance != null : "Attendance should not be null!";
 
-        if (!attendance.containsKey(student)) {
+        if (!attendance.contains(student)) {
             throw new StudentNotInSessionException();
         }
-        attendance.put(student, 1);
+        mark(student, PRESENT);
         System.out.println("Marked student " + student.getName() + " present in session " + sessionName);
     }
 
@@ -155,20 +252,64 @@ public class Session {
         requireNonNull(student);
         assert attendance != null : "Attendance should not be null!";
 
-        if (!attendance.containsKey(student)) {
+        if (!attendance.contains(student)) {
             throw new StudentNotInSessionException();
         }
-        attendance.put(student, 0);
+        mark(student, ABSENT);
         System.out.println("Marked student " + student.getName() + " absent in session " + sessionName);
     }
 
+    /**
+     * Sets the attendance of {@code student}, a student of the session, updating the attendance totals in constant
+     * time.
+     */
+    private void mark(Student student, int value) {
+        int change = (value == PRESENT ? 1 : 0) - (attendance.get(student) == PRESENT ? 1 : 0);
+        attendance.set(student, value);
+        if (change == 0) {
+            return;
+        }
+        presentCount += change;
+        if (countedRows != null) {
+            countedRows.adjustSessionsAttended(countedRows.getRow(student), change);
+        }
+    }
+
     /**
      * Creates a copy of this instance. Used for saving states by undo command.
+     * The attendance is shared with the copy until either of them is modified.
      * @return a copy of this instance.
      */
     public Session copy() {
-        Session copy = new Session(this.sessionName);
-        copy.setAttendance(new HashMap<>(attendance));
+        return copy(attendance.getRows());
+    }
+
+    /**
+     * Creates a copy of this instance for the copy of its group, whose students have the rows {@code rows}, a copy
+     * of the rows of the students of this session, which already count the attendance of the copy.
+     * The attendance is shared with the copy until either of them is modified.
+     * @return a copy of this instance.
+     */
+    public Session copy(StudentRows rows) {
+        return copy(this.sessionName, rows);
+    }
+
+    /**
+     * Creates a copy of this instance with the name {@code newSessionName}, for renaming the session.
+     * The attendance is shared with the copy until either of them is modified, so renaming takes constant time.
+     * @return a copy of this instance with the new name.
+     */
+    public Session copyWithName(String newSessionName) {
+        return copy(newSessionName, attendance.getRows());
+    }
+
+    private Session copy(String newSessionName, StudentRows rows) {
+        Session copy = new Session(newSessionName);
+        copy.attendance = attendance.copy(rows);
+        copy.presentCount = presentCount;
+        if (countedRows != null && rows != countedRows) {
+            copy.countedRows = rows;
+        }
 
         return copy;
     }
@@ -0,0 +1,331 @@
+package tfifteenfour.clipboard.model.course;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * The values of the students of a group for one session or task, stored as a primitive column indexed by the
+ * {@link StudentRows} of the group. Rows past the end of the column have the value 0.
+ * The values can be shared with copies of the column, and are only copied on the first write, so that copies made
+ * for undo stay cheap.
+ */
+public abstract class StudentColumn {
+    private StudentRows rows;
+
+    /** Whether the values are shared with a copy of this column */
+    private boolean isShared;
+
+    private final Map<Student, Integer> mapView = new MapView();
+
+    private StudentColumn(StudentRows rows) {
+        requireNonNull(rows);
+        this.rows = rows;
+    }
+
+    /**
+     * Returns an empty column of values from -128 to 127, such as attendance, indexed by {@code rows}.
+     */
+    public static StudentColumn ofBytes(StudentRows rows) {
+        return new ByteColumn(rows, new byte[0]);
+    }
+
+    /**
+     * Returns an empty column of int values, such as grades, indexed by {@code rows}.
+     */
+    public static StudentColumn ofInts(StudentRows rows) {
+        return new IntColumn(rows, new int[0]);
+    }
+
+    public StudentRows getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns true if {@code student} is one of the students of this column.
+     */
+    public boolean contains(Student student) {
+        return rows.isMember(student);
+    }
+
+    /**
+     * Returns the value of {@code student}, or 0 if they have none.
+     */
+    public int get(Student student) {
+        int row = rows.getRow(student);
+        return row == -1 || row >= length() ? 0 : getAt(row);
+    }
+
+    /**
+     * Returns the value of {@code row}, or 0 if it has none.
+     */
+    int getOfRow(int row) {
+        return row >= length() ? 0 : getAt(row);
+    }
+
+    /**
+     * Sets the value of {@code student} to {@code value}.
+     *
+     * @throws IllegalArgumentException if {@code value} cannot be stored in this column.
+     */
+    public void set(Student student, int value) {
+        int row = rows.addRow(student);
+        if (row >= length() && value == 0) {
+            return;
+        }
+        detach();
+        setAt(row, value);
+        rows.markChanged();
+    }
+
+    /**
+     * Returns a column of the same type as this column, with the values {@code values}. If the rows of this column
+     * are part of a group, the column has the same rows, and values of students who are not in the group are ignored.
+     * Otherwise, the column has new rows for exactly the students in {@code values}.
+     */
+    public StudentColumn withValues(Map<Student, Integer> values) {
+        StudentColumn column = empty(rows.isPartOfGroup() ? rows : new StudentRows());
+        for (Map.Entry<Student, Integer> entry : values.entrySet()) {
+            if (!rows.isPartOfGroup() || rows.isMember(entry.getKey())) {
+                column.set(entry.getKey(), entry.getValue());
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Returns the number of students of this column whose value is {@code value}.
+     */
+    public int count(int value) {
+        int count = 0;
+        for (Student student : rows.getMembers()) {
+            if (get(student) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates a copy of this column indexed by {@code rows}, which must have the same row numbers as the rows of this
+     * column, such as a copy of them. The values are shared with the copy until either of them is modified.
+     */
+    public StudentColumn copy(StudentRows rows) {
+        StudentColumn copy = share(rows);
+        copy.isShared = true;
+        isShared = true;
+        return copy;
+    }
+
+    /**
+     * Indexes this column by {@code newRows} instead, keeping the values of students who have rows in both.
+     */
+    public void setRows(StudentRows newRows) {
+        requireNonNull(newRows);
+        if (newRows == rows) {
+            return;
+        }
+
+        StudentColumn remapped = empty(newRows);
+        int rowCount = Math.min(rows.size(), length());
+        for (int row = 0; row < rowCount; row++) {
+            int value = getAt(row);
+            if (value == 0 || !rows.isLive(row)) {
+                continue;
+            }
+            int newRow = newRows.getRow(rows.getStudent(row));
+            if (newRow != -1) {
+                remapped.setAt(newRow, value);
+            }
+        }
+        adopt(remapped);
+        rows = newRows;
+        isShared = false;
+    }
+
+    /**
+     * Returns an unmodifiable map view of the values of the students of this column.
+     */
+    public Map<Student, Integer> asMap() {
+        return mapView;
+    }
+
+    private void detach() {
+        if (isShared) {
+            adopt(this);
+            isShared = false;
+        }
+    }
+
+    /** Returns the number of rows that are stored */
+    protected abstract int length();
+
+    /** Returns the value of {@code row}, which is less than {@link #length()} */
+    protected abstract int getAt(int row);
+
+    /** Sets the value of {@code row}, growing the column if needed */
+    protected abstract void setAt(int row, int value);
+
+    /** Returns an empty column of the same type, indexed by {@code rows} */
+    protected abstract StudentColumn empty(StudentRows rows);
+
+    /** Returns a column indexed by {@code rows} that shares the values of this column */
+    protected abstract StudentColumn share(StudentRows rows);
+
+    /** Takes a private copy of the values of {@code other}, a column of the same type, which may be this column */
+    protected abstract void adopt(StudentColumn other);
+
+    private static int grownLength(int length, int row) {
+        return Math.max(row + 1, length + (length >> 1) + 1);
+    }
+
+    private static class ByteColumn extends StudentColumn {
+        private byte[] values;
+
+        private ByteColumn(StudentRows rows, byte[] values) {
+            super(rows);
+            this.values = values;
+        }
+
+        @Override
+        protected int length() {
+            return values.length;
+        }
+
+        @Override
+        protected int getAt(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected void setAt(int row, int value) {
+            if (value != (byte) value) {
+                throw new IllegalArgumentException("Value " + value + " is out of range");
+            }
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grownLength(values.length, row));
+            }
+            values[row] = (byte) value;
+        }
+
+        @Override
+        protected StudentColumn empty(StudentRows rows) {
+            return new ByteColumn(rows, new byte[0]);
+        }
+
+        @Override
+        protected StudentColumn share(StudentRows rows) {
+            return new ByteColumn(rows, values);
+        }
+
+        @Override
+        protected void adopt(StudentColumn other) {
+            values = ((ByteColumn) other).values.clone();
+        }
+    }
+
+    private static class IntColumn extends StudentColumn {
+        private int[] values;
+
+        private IntColumn(StudentRows rows, int[] values) {
+            super(rows);
+            this.values = values;
+        }
+
+        @Override
+        protected int length() {
+            return values.length;
+        }
+
+        @Override
+        protected int getAt(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected void setAt(int row, int value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grownLength(values.length, row));
+            }
+            values[row] = value;
+        }
+
+        @Override
+        protected StudentColumn empty(StudentRows rows) {
+            return new IntColumn(rows, new int[0]);
+        }
+
+        @Override
+        protected StudentColumn share(StudentRows rows) {
+            return new IntColumn(rows, values);
+        }
+
+        @Override
+        protected void adopt(StudentColumn other) {
+            values = ((IntColumn) other).values.clone();
+        }
+    }
+
+    /**
+     * An unmodifiable map from the students of the column to their values, in the order of the students of the group.
+     */
+    private class MapView extends AbstractMap<Student, Integer> {
+        private final Set<Entry<Student, Integer>> entrySet = new AbstractSet<Entry<Student, Integer>>() {
+            @Override
+            public Iterator<Entry<Student, Integer>> iterator() {
+                List<Student> members = rows.getMembers();
+                return new Iterator<Entry<Student, Integer>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < members.size();
+                    }
+
+                    @Override
+                    public Entry<Student, Integer> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Student student = members.get(index++);
+                        return new SimpleImmutableEntry<>(student, StudentColumn.this.get(student));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return rows.getMembers().size();
+            }
+        };
+
+        @Override
+        public Set<Entry<Student, Integer>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return rows.getMembers().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Student && contains((Student) key);
+        }
+
+        @Override
+        public Integer get(Object key) {
+            return containsKey(key) ? StudentColumn.this.get((Student) key) : null;
+        }
+    }
+}
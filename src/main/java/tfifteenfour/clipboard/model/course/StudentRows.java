@@ -0,0 +1,243 @@
+package tfifteenfour.clipboard.model.course;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.student.UniqueStudentsList;
+
+/**
+ * Dense row numbers of the students of a group, shared by the attendance columns of its sessions and the grade
+ * columns of its tasks, so that each session and task only stores one primitive value per student.
+ * Rows are keyed by student ID, and numbered in the order that students are first added. The row of a student who
+ * is deleted from the group is removed, and row numbers are never reused, so a student who is added later starts
+ * without values.
+ * Rows that are not part of a group have no members list, and all of their students are members.
+ * The rows also keep running totals: the number of sessions of the group each row is present in, and which rows are
+ * counted as members in the number of students present in each session and the grade statistics of each task.
+ * The version of the rows tells whether the values indexed by them, or the students, sessions and tasks of their
+ * group, changed, without comparing them.
+ */
+public class StudentRows {
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    /** Students of the group, or null if these rows are not part of a group */
+    private final UniqueStudentsList members;
+
+    private final Map<StudentId, Integer> rowsById = new HashMap<>();
+    private final List<Student> studentsByRow = new ArrayList<>();
+
+    /** Number of sessions of the group in which each row is present, counting rows of former members as well */
+    private int[] sessionsAttendedByRow = new int[0];
+
+    /** Rows counted as members in the totals of each session and task of the group */
+    private final BitSet countedMemberRows = new BitSet();
+
+    /** Changes whenever a value indexed by these rows, or a student, session or task of their group, changes */
+    private long version = newVersion();
+
+    /**
+     * Constructs rows that are not part of a group.
+     */
+    public StudentRows() {
+        this.members = null;
+    }
+
+    /**
+     * Constructs the rows of the group with the students {@code members}.
+     */
+    public StudentRows(UniqueStudentsList members) {
+        requireNonNull(members);
+        this.members = members;
+    }
+
+    /**
+     * Returns the number of rows, including the rows of students who are no longer members.
+     */
+    public int size() {
+        return studentsByRow.size();
+    }
+
+    /**
+     * Returns the row of the student with the student ID of {@code student}, or -1 if there is none.
+     */
+    public int getRow(Student student) {
+        Integer row = rowsById.get(student.getStudentId());
+        return row == null ? -1 : row;
+    }
+
+    /**
+     * Returns the row of the student with the student ID of {@code student}, adding a row for them if there is none.
+     */
+    public int addRow(Student student) {
+        requireNonNull(student);
+        int row = getRow(student);
+        if (row == -1) {
+            row = studentsByRow.size();
+            rowsById.put(student.getStudentId(), row);
+            studentsByRow.add(student);
+        } else {
+            studentsByRow.set(row, student);
+        }
+        return row;
+    }
+
+    /**
+     * Moves the row of {@code oldStudent} to {@code newStudent}, whose student ID may differ, so that the values of
+     * {@code oldStudent} become those of {@code newStudent}.
+     */
+    public void moveRow(Student oldStudent, Student newStudent) {
+        requireNonNull(newStudent);
+        Integer row = rowsById.remove(oldStudent.getStudentId());
+        if (row != null) {
+            rowsById.put(newStudent.getStudentId(), row);
+            studentsByRow.set(row, newStudent);
+        }
+    }
+
+    /**
+     * Removes the row of the student with the student ID of {@code student}, so that they have no values.
+     * The row number is not reused.
+     */
+    public void removeRow(Student student) {
+        rowsById.remove(student.getStudentId());
+    }
+
+    /**
+     * Returns true if {@code row} is the row of its student, and was not removed or replaced since.
+     */
+    public boolean isLive(int row) {
+        return getRow(studentsByRow.get(row)) == row;
+    }
+
+    /**
+     * Returns the number of sessions of the group that {@code student} is present in, or 0 if they have no row.
+     */
+    public int getSessionsAttended(Student student) {
+        requireNonNull(student);
+        int row = getRow(student);
+        return row == -1 || row >= sessionsAttendedByRow.length ? 0 : sessionsAttendedByRow[row];
+    }
+
+    /**
+     * Adds {@code delta} to the number of sessions of the group that {@code row} is present in.
+     */
+    void adjustSessionsAttended(int row, int delta) {
+        if (row >= sessionsAttendedByRow.length) {
+            sessionsAttendedByRow = Arrays.copyOf(sessionsAttendedByRow,
+                    Math.max(row + 1, studentsByRow.size()));
+        }
+        sessionsAttendedByRow[row] += delta;
+    }
+
+    /**
+     * Counts the row of {@code student} as a member in the totals of each session and task.
+     *
+     * @return the row, or -1 if the student has no row or their row is already counted.
+     */
+    int countAsMember(Student student) {
+        int row = getRow(student);
+        if (row == -1 || countedMemberRows.get(row)) {
+            return -1;
+        }
+        countedMemberRows.set(row);
+        return row;
+    }
+
+    /**
+     * Stops counting the row of {@code student} as a member in the totals of each session and task.
+     * A student whose row was moved to another student, or was never counted, is not counted any more.
+     *
+     * @return the row, or -1 if the student has no row or their row is not counted.
+     */
+    int uncountAsMember(Student student) {
+        int row = getRow(student);
+        if (row == -1 || !countedMemberRows.get(row)) {
+            return -1;
+        }
+        countedMemberRows.clear(row);
+        return row;
+    }
+
+    /**
+     * Returns the student of {@code row} as they were last added.
+     */
+    public Student getStudent(int row) {
+        return studentsByRow.get(row);
+    }
+
+    /**
+     * Returns true if {@code student} is a member of the group of these rows.
+     */
+    public boolean isMember(Student student) {
+        requireNonNull(student);
+        return members == null ? rowsById.containsKey(student.getStudentId()) : members.contains(student);
+    }
+
+    /**
+     * Returns true if these rows are the rows of the students of a group.
+     */
+    public boolean isPartOfGroup() {
+        return members != null;
+    }
+
+    /**
+     * Returns the members of the group of these rows, in the order of the group.
+     */
+    public List<Student> getMembers() {
+        return members == null
+                ? Collections.unmodifiableList(studentsByRow)
+                : members.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns a version that no rows had before.
+     */
+    public static long newVersion() {
+        return lastVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns the version of these rows, which is only shared by copies with the same values.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of these rows to {@code version}, the version of the values that they were loaded with.
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Records that a value indexed by these rows, or a student, session or task of their group, changed.
+     */
+    public void markChanged() {
+        version = newVersion();
+    }
+
+    /**
+     * Creates a copy of these rows with the same row numbers and version, for the copy of their group with the
+     * students {@code members}.
+     */
+    public StudentRows copy(UniqueStudentsList members) {
+        StudentRows copy = new StudentRows(members);
+        copy.rowsById.putAll(rowsById);
+        copy.studentsByRow.addAll(studentsByRow);
+        copy.sessionsAttendedByRow = sessionsAttendedByRow.clone();
+        copy.countedMemberRows.or(countedMemberRows);
+        copy.version = version;
+        return copy;
+    }
+}
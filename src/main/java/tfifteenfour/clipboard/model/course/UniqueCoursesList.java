@@ -3,8 +3,11 @@ package tfifteenfour.clipboard.model.course;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import tfifteenfour.clipboard.model.UniqueList;
 import tfifteenfour.clipboard.model.course.exceptions.CourseNotFoundException;
@@ -25,20 +28,36 @@ public class UniqueCoursesList extends UniqueList<Course> {
 
     @Override
     public UniqueCoursesList copy() {
-        UniqueCoursesList copy = new UniqueCoursesList();
-        this.internalList.forEach(course -> copy.add(course.copy()));
+        return copyWith(Course::copy);
+    }
+
+    /**
+     * Creates a copy of this list for saving, with each course copied by {@link Course#snapshot()}.
+     */
+    public UniqueCoursesList snapshot() {
+        return copyWith(Course::snapshot);
+    }
 
+    private UniqueCoursesList copyWith(Function<Course, Course> courseCopier) {
+        UniqueCoursesList copy = new UniqueCoursesList();
+        List<Course> coursesCopy = new ArrayList<>(internalList.size());
+        this.internalList.forEach(course -> coursesCopy.add(courseCopier.apply(course)));
+        // the copies keep the identities of a list that is already unique, so they need not be re-validated
+        copy.internalList.setAll(coursesCopy);
 
         return copy;
     }
 
+    @Override
+    protected Object getIdentity(Course course) {
+        return course.getCourseCode();
+    }
+
     /**
-     * Returns true if the list contains an equivalent course as the given argument.
+     * Returns the course in the list with the course code {@code courseCode}, if any.
      */
-    @Override
-    public boolean contains(Course toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCourse);
+    public Optional<Course> findCourse(String courseCode) {
+        return findByIdentity(courseCode);
     }
 
     /**
@@ -91,18 +110,4 @@ public class UniqueCoursesList extends UniqueList<Course> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code courses} contains only unique courses.
-     */
-    protected boolean elementsAreUnique(List<Course> courses) {
-        for (int i = 0; i < courses.size() - 1; i++) {
-            for (int j = i + 1; j < courses.size(); j++) {
-                if (courses.get(i).isSameCourse(courses.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
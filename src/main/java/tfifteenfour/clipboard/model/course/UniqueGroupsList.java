@@ -3,8 +3,11 @@ package tfifteenfour.clipboard.model.course;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import tfifteenfour.clipboard.model.UniqueList;
 import tfifteenfour.clipboard.model.course.exceptions.DuplicateGroupException;
@@ -25,18 +28,36 @@ public class UniqueGroupsList extends UniqueList<Group> {
 
     @Override
     public UniqueGroupsList copy() {
+        return copyWith(Group::copy);
+    }
+
+    /**
+     * Creates a copy of this list for saving, with each group copied by {@link Group#snapshot()}.
+     */
+    public UniqueGroupsList snapshot() {
+        return copyWith(Group::snapshot);
+    }
+
+    private UniqueGroupsList copyWith(Function<Group, Group> groupCopier) {
         UniqueGroupsList copy = new UniqueGroupsList();
-        this.internalList.forEach(group -> copy.add(group.copy()));
+        List<Group> groupsCopy = new ArrayList<>(internalList.size());
+        this.internalList.forEach(group -> groupsCopy.add(groupCopier.apply(group)));
+        // the copies keep the identities of a list that is already unique, so they need not be re-validated
+        copy.internalList.setAll(groupsCopy);
 
         return copy;
     }
 
+    @Override
+    protected Object getIdentity(Group group) {
+        return group.getGroupName();
+    }
+
     /**
-     * Returns true if the list contains an equivalent student as the given argument.
+     * Returns the group in the list with the group name {@code groupName}, if any.
      */
-    public boolean contains(Group toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+    public Optional<Group> findGroup(String groupName) {
+        return findByIdentity(groupName);
     }
 
     /**
@@ -89,18 +110,4 @@ public class UniqueGroupsList extends UniqueList<Group> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code groups} contains only unique groups.
-     */
-    protected boolean elementsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
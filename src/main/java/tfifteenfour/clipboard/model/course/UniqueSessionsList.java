@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
-import java.util.List;
+import java.util.Optional;
 
 import tfifteenfour.clipboard.model.UniqueList;
 import tfifteenfour.clipboard.model.course.exceptions.DuplicateSessionException;
@@ -31,13 +31,16 @@ public class UniqueSessionsList extends UniqueList<Session> {
         return copy;
     }
 
+    @Override
+    protected Object getIdentity(Session session) {
+        return session.getSessionName();
+    }
+
     /**
-     * Returns true if the list contains an equivalent Session as the given argument.
+     * Returns the session in the list with the session name {@code sessionName}, if any.
      */
-    @Override
-    public boolean contains(Session toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSession);
+    public Optional<Session> findSession(String sessionName) {
+        return findByIdentity(sessionName);
     }
 
     /**
@@ -90,19 +93,4 @@ public class UniqueSessionsList extends UniqueList<Session> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code Sessions} contains only unique Sessions.
-     */
-    @Override
-    protected boolean elementsAreUnique(List<Session> sessions) {
-        for (int i = 0; i < sessions.size() - 1; i++) {
-            for (int j = i + 1; j < sessions.size(); j++) {
-                if (sessions.get(i).isSameSession(sessions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,10 @@
+package tfifteenfour.clipboard.model.course.exceptions;
+
+/**
+ * Signals that the students, sessions and tasks of a group could not be loaded from storage.
+ */
+public class GroupLoadException extends RuntimeException {
+    public GroupLoadException(String groupName, Throwable cause) {
+        super("Could not load group " + groupName + ": " + cause.getMessage(), cause);
+    }
+}
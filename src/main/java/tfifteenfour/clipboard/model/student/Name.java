@@ -3,6 +3,8 @@ package tfifteenfour.clipboard.model.student;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.AppUtil.checkArgument;
 
+import tfifteenfour.clipboard.model.SortKey;
+
 /**
  * Represents a Student's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,9 @@ public class Name {
 
     public final String fullName;
 
+    /** Key for sorting by this name, computed when first needed rather than for every student loaded */
+    private SortKey sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -39,6 +44,16 @@ public class Name {
     }
 
 
+    /**
+     * Returns the key for sorting by this name.
+     */
+    public SortKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = SortKey.of(fullName);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -2,13 +2,8 @@ package tfifteenfour.clipboard.model.student;
 
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-
 /**
  * Represents a Student in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -23,7 +18,9 @@ public class Student {
     // Data fields
     private final Remark remark;
     private final StudentId studentId;
-    private List<SessionWithAttendance> sessionsWithAttendance = new ArrayList<>();
+
+    /** Hash code of the identity and data fields, which are immutable, so that hashing a student is cheap */
+    private final int hash;
 
 
     /**
@@ -36,6 +33,7 @@ public class Student {
         this.email = email;
         this.studentId = studentId;
         this.remark = remark;
+        this.hash = Objects.hash(name, phone, email, studentId);
     }
 
     public Student copy() {
@@ -100,8 +98,7 @@ public class Student {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, studentId);
+        return hash;
     }
 
     @Override
@@ -120,14 +117,4 @@ public class Student {
         return builder.toString();
     }
 
-    public void setSessionAttendanceList(List<SessionWithAttendance> sessions) {
-        this.sessionsWithAttendance = sessions;
-    }
-
-    public ObservableList<SessionWithAttendance> getObservableSessionList() {
-        ObservableList<SessionWithAttendance> observableSessionList = FXCollections.observableArrayList();
-        observableSessionList.addAll(sessionsWithAttendance);
-        return observableSessionList;
-    }
-
 }
@@ -3,6 +3,8 @@ package tfifteenfour.clipboard.model.student;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.AppUtil.checkArgument;
 
+import tfifteenfour.clipboard.model.SortKey;
+
 /**
  * Represents a Student's studentId in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
@@ -14,6 +16,9 @@ public class StudentId {
 
     public final String value;
 
+    /** Key for sorting by this student ID, computed when first needed */
+    private SortKey sortKey;
+
     /**
      * Constructs an {@code StudentId}.
      *
@@ -32,6 +37,16 @@ public class StudentId {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the key for sorting by this student ID.
+     */
+    public SortKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = SortKey.of(value);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return value;
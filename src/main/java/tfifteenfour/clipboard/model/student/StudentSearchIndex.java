@@ -0,0 +1,170 @@
+package tfifteenfour.clipboard.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tfifteenfour.clipboard.model.BkTree;
+import tfifteenfour.clipboard.model.NGramIndex;
+
+/**
+ * An index of the names and student IDs of a set of students, for finding the students whose name or student ID
+ * contains a keyword, ignoring case, without going through every student. See {@link NGramIndex}.
+ * The students found for the latest keywords are kept until the indexed students change.
+ * Students with a word of their name or a student ID that is a few edits away from a mistyped keyword are found
+ * through a {@link BkTree}, which is only built the first time that it is needed.
+ */
+public class StudentSearchIndex {
+    private final NGramIndex<Student> index = new NGramIndex<>(StudentSearchIndex::textsOf);
+
+    /** Tree of the words of the names and the student IDs, or null if it is not built yet */
+    private BkTree<Student> similarityTree;
+
+    /** Keywords of the latest search, and the students found for them, or null if the students changed since */
+    private List<String> lastKeywords;
+    private Set<Student> lastFound;
+
+    /**
+     * Returns {@code keyword} normalized as the names and student IDs are in the index.
+     */
+    public static String normalize(String keyword) {
+        return NGramIndex.normalize(keyword);
+    }
+
+    /**
+     * Returns true if the name or student ID of {@code student} contains {@code normalizedKeyword}, a keyword
+     * normalized by {@link #normalize(String)}, without making normalized copies of them.
+     */
+    public static boolean contains(Student student, String normalizedKeyword) {
+        return NGramIndex.containsNormalized(student.getStudentId().toString(), normalizedKeyword)
+                || NGramIndex.containsNormalized(student.getName().toString(), normalizedKeyword);
+    }
+
+    private static List<String> textsOf(Student student) {
+        return List.of(student.getName().toString(), student.getStudentId().toString());
+    }
+
+    private static List<String> wordsOf(Student student) {
+        List<String> words = new ArrayList<>(List.of(student.getName().toString().split("\\s+")));
+        words.add(student.getStudentId().toString());
+        return words;
+    }
+
+    /**
+     * Returns the largest number of edits that a word or student ID can be away from {@code keyword} to be similar to
+     * it, which grows with the length of the keyword, so that a short keyword is not similar to most words.
+     */
+    public static int maxEditsFor(String keyword) {
+        int length = keyword.length();
+        if (length <= 2) {
+            return 0;
+        } else if (length <= 5) {
+            return 1;
+        } else if (length <= 9) {
+            return 2;
+        } else {
+            return 3;
+        }
+    }
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    public void add(Student student) {
+        if (index.add(student)) {
+            lastKeywords = null;
+            if (similarityTree != null) {
+                similarityTree.add(student);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     */
+    public void remove(Student student) {
+        if (index.remove(student)) {
+            lastKeywords = null;
+            if (similarityTree != null) {
+                similarityTree.remove(student);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of students in the index.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns true if the name or student ID of {@code student} contains any of {@code normalizedKeywords}.
+     * A student in the index is looked up in the students found for the keywords, which are only searched for once
+     * until the index changes. Any other student, such as one who was just added to a group and is not indexed yet,
+     * is checked against the keywords directly.
+     */
+    public boolean matches(Student student, List<String> normalizedKeywords) {
+        requireNonNull(student);
+        if (!index.contains(student)) {
+            return normalizedKeywords.stream().anyMatch(keyword -> contains(student, keyword));
+        }
+        return find(normalizedKeywords).contains(student);
+    }
+
+    /**
+     * Returns the students whose name or student ID contains any of {@code normalizedKeywords}.
+     */
+    public Set<Student> find(List<String> normalizedKeywords) {
+        requireNonNull(normalizedKeywords);
+        if (!normalizedKeywords.equals(lastKeywords)) {
+            Set<Student> found = new HashSet<>();
+            normalizedKeywords.forEach(keyword -> found.addAll(index.find(keyword)));
+            lastKeywords = new ArrayList<>(normalizedKeywords);
+            lastFound = Collections.unmodifiableSet(found);
+        }
+        return lastFound;
+    }
+
+    /**
+     * Returns the students whose name or student ID contains {@code normalizedKeyword}, without keeping them as the
+     * students found for the latest keywords.
+     */
+    public Set<Student> find(String normalizedKeyword) {
+        return index.find(normalizedKeyword);
+    }
+
+    /**
+     * Returns up to {@code limit} students with a word of their name or a student ID within
+     * {@link #maxEditsFor(String)} edits of any of {@code normalizedKeywords}, closest first, each with the number of
+     * edits to their closest word. Students who are equally close are in the order of their names.
+     */
+    public Map<Student, Integer> findSimilar(List<String> normalizedKeywords, int limit) {
+        requireNonNull(normalizedKeywords);
+        if (similarityTree == null) {
+            similarityTree = new BkTree<>(StudentSearchIndex::wordsOf);
+            index.find("").forEach(similarityTree::add);
+        }
+
+        Map<Student, Integer> distances = new HashMap<>();
+        for (String keyword : normalizedKeywords) {
+            similarityTree.find(keyword, maxEditsFor(keyword))
+                    .forEach((student, distance) -> distances.merge(student, distance, Math::min));
+        }
+
+        Map<Student, Integer> similarStudents = new LinkedHashMap<>();
+        distances.entrySet().stream()
+                .sorted(Map.Entry.<Student, Integer>comparingByValue()
+                        .thenComparing(entry -> entry.getKey().getName().toString()))
+                .limit(Math.max(limit, 0))
+                .forEach(entry -> similarStudents.put(entry.getKey(), entry.getValue()));
+        return similarStudents;
+    }
+}
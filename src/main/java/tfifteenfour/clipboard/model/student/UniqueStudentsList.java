@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import tfifteenfour.clipboard.model.UniqueList;
 import tfifteenfour.clipboard.model.student.exceptions.DuplicateStudentException;
@@ -25,18 +26,22 @@ public class UniqueStudentsList extends UniqueList<Student> {
     @Override
     public UniqueStudentsList copy() {
         UniqueStudentsList copy = new UniqueStudentsList();
-        this.internalList.forEach(student -> copy.add(student.copy()));
+        // students are immutable, so the copy can share them
+        copy.setInternalList(this);
 
         return copy;
     }
 
+    @Override
+    protected Object getIdentity(Student student) {
+        return student.getStudentId();
+    }
+
     /**
-     * Returns true if the list contains an equivalent student as the given argument.
+     * Returns the student in the list with the student ID {@code studentId}, if any.
      */
-    @Override
-    public boolean contains(Student toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+    public Optional<Student> findStudent(StudentId studentId) {
+        return findByIdentity(studentId);
     }
 
     /**
@@ -52,6 +57,19 @@ public class UniqueStudentsList extends UniqueList<Student> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts all of {@code toAdd} into the list starting at {@code index}, as a single change, so that listeners of
+     * the list are notified once.
+     * The students must not already exist in the list, or appear more than once in {@code toAdd}.
+     */
+    public void addAll(int index, List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!elementsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateStudentException();
+        }
+        internalList.addAll(index, toAdd);
+    }
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -80,19 +98,4 @@ public class UniqueStudentsList extends UniqueList<Student> {
                 || (other instanceof UniqueStudentsList // instanceof handles nulls
                         && internalList.equals(((UniqueStudentsList) other).internalList));
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    @Override
-    protected boolean elementsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
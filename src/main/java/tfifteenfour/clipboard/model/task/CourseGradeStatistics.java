@@ -0,0 +1,61 @@
+package tfifteenfour.clipboard.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running statistics of the grades of the tasks of a course, by task name, across all groups of the course.
+ * The tasks of loaded groups keep the statistics up to date as grades are assigned and students join or leave, and
+ * the groups count and uncount their tasks as tasks and groups are added and removed, like the number of students
+ * present in a session. A group that is not loaded is counted with the statistics of its tasks as they were when it
+ * was unloaded or saved, so that the statistics of a course are read without loading any group.
+ */
+public class CourseGradeStatistics {
+    private final Map<String, GradeStatistics> statisticsByTaskName = new HashMap<>();
+
+    /**
+     * Returns the statistics of the grades of the tasks named {@code taskName} in the groups of the course.
+     */
+    public GradeStatistics get(String taskName) {
+        requireNonNull(taskName);
+        GradeStatistics statistics = statisticsByTaskName.get(taskName);
+        return statistics == null ? new GradeStatistics() : statistics.copy();
+    }
+
+    /**
+     * Counts the grades of {@code task}, a task of a loaded group of the course, and keeps counting them as they
+     * change until the task is removed.
+     */
+    public void addTask(Task task) {
+        requireNonNull(task);
+        GradeStatistics statistics = statisticsByTaskName.computeIfAbsent(task.getTaskName(),
+                unused -> new GradeStatistics());
+        statistics.addAll(task.getStatistics(), 1);
+        task.setCourseStatistics(statistics);
+    }
+
+    /**
+     * Stops counting the grades of {@code task}, if they are counted.
+     */
+    public void removeTask(Task task) {
+        requireNonNull(task);
+        GradeStatistics statistics = task.getCourseStatistics();
+        if (statistics != null) {
+            statistics.addAll(task.getStatistics(), -1);
+            task.setCourseStatistics(null);
+        }
+    }
+
+    /**
+     * Counts the grades of the tasks of a group that is not loaded, given as the statistics of each task by name, if
+     * {@code sign} is 1, or stops counting them if it is -1.
+     */
+    public void addStatistics(Map<String, GradeStatistics> statisticsOfTasks, int sign) {
+        requireNonNull(statisticsOfTasks);
+        statisticsOfTasks.forEach((taskName, taskStatistics) -> statisticsByTaskName
+                .computeIfAbsent(taskName, unused -> new GradeStatistics())
+                .addAll(taskStatistics, sign));
+    }
+}
@@ -0,0 +1,210 @@
+package tfifteenfour.clipboard.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running statistics of the grades of the students of a task: the number of grades, their sum and sum of squares, and
+ * a histogram with one bucket per grade from {@link #MIN_GRADE} to {@link #MAX_GRADE}.
+ * A grade is added or removed in constant time, and every summary is read in time bounded by the number of buckets,
+ * however many students are graded. Grades outside of the range, which can only come from an edited data file, are
+ * counted in the nearest bucket of the histogram.
+ */
+public class GradeStatistics {
+    public static final int MIN_GRADE = 0;
+    public static final int MAX_GRADE = 100;
+
+    /** Width of the grade bands, of which the last one also includes {@link #MAX_GRADE} */
+    public static final int BAND_WIDTH = 10;
+
+    private final int[] histogram = new int[MAX_GRADE - MIN_GRADE + 1];
+    private int count;
+    private long sum;
+    private long sumOfSquares;
+
+    /**
+     * Returns the statistics of the grades of all of {@code statistics}, such as those of the same task in every group
+     * of a course.
+     */
+    public static GradeStatistics combine(Collection<GradeStatistics> statistics) {
+        requireNonNull(statistics);
+        GradeStatistics combined = new GradeStatistics();
+        for (GradeStatistics other : statistics) {
+            combined.addAll(other, 1);
+        }
+        return combined;
+    }
+
+    /**
+     * Returns the statistics of grades that each appear as many times as {@code gradeCounts} maps them to.
+     */
+    public static GradeStatistics ofGradeCounts(Map<Integer, Integer> gradeCounts) {
+        requireNonNull(gradeCounts);
+        GradeStatistics statistics = new GradeStatistics();
+        gradeCounts.forEach(statistics::adjust);
+        return statistics;
+    }
+
+    /**
+     * Counts the grades of {@code other} in these statistics if {@code sign} is 1, or stops counting them if it is -1.
+     */
+    void addAll(GradeStatistics other, int sign) {
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            histogram[bucket] += sign * other.histogram[bucket];
+        }
+        count += sign * other.count;
+        sum += sign * other.sum;
+        sumOfSquares += sign * other.sumOfSquares;
+    }
+
+    /**
+     * Counts {@code grade} in these statistics.
+     */
+    void add(int grade) {
+        adjust(grade, 1);
+    }
+
+    /**
+     * Stops counting {@code grade}, which was counted before, in these statistics.
+     */
+    void remove(int grade) {
+        adjust(grade, -1);
+    }
+
+    /**
+     * Counts {@code grade} {@code times} more times in these statistics, or stops counting it if {@code times} is
+     * negative.
+     */
+    void adjust(int grade, int times) {
+        histogram[bucketOf(grade)] += times;
+        count += times;
+        sum += times * (long) grade;
+        sumOfSquares += times * (long) grade * grade;
+    }
+
+    private static int bucketOf(int grade) {
+        return Math.min(Math.max(grade, MIN_GRADE), MAX_GRADE) - MIN_GRADE;
+    }
+
+    /**
+     * Creates a copy of these statistics, which is not changed with them.
+     */
+    public GradeStatistics copy() {
+        GradeStatistics copy = new GradeStatistics();
+        System.arraycopy(histogram, 0, copy.histogram, 0, histogram.length);
+        copy.count = count;
+        copy.sum = sum;
+        copy.sumOfSquares = sumOfSquares;
+        return copy;
+    }
+
+    /**
+     * Returns the number of times that each grade is counted, by grade, for the grades that are counted.
+     */
+    public Map<Integer, Integer> getGradeCounts() {
+        Map<Integer, Integer> gradeCounts = new TreeMap<>();
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] != 0) {
+                gradeCounts.put(bucket + MIN_GRADE, histogram[bucket]);
+            }
+        }
+        return gradeCounts;
+    }
+
+    /**
+     * Returns the number of grades.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the grades, or 0 if there are none.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the population standard deviation of the grades, or 0 if there are none.
+     */
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        // rounding can make the variance of equal grades slightly negative
+        return Math.sqrt(Math.max(0, (double) sumOfSquares / count - mean * mean));
+    }
+
+    /**
+     * Returns the lowest grade, or 0 if there are none.
+     */
+    public int getMin() {
+        return getPercentile(0);
+    }
+
+    /**
+     * Returns the highest grade, or 0 if there are none.
+     */
+    public int getMax() {
+        return getPercentile(100);
+    }
+
+    /**
+     * Returns the median of the grades, the lower of the two middle grades if there is an even number of them, or 0
+     * if there are none.
+     */
+    public int getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Returns the smallest grade that at least {@code percentile} percent of the grades are at most, or 0 if there are
+     * none. The 0th percentile is the lowest grade.
+     *
+     * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100.
+     */
+    public int getPercentile(int percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile " + percentile + " is out of range");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, ((long) percentile * count + 99) / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                return bucket + MIN_GRADE;
+            }
+        }
+        throw new AssertionError("The histogram should hold every grade");
+    }
+
+    /**
+     * Returns the number of grades from {@code from} to {@code to}, both inclusive.
+     */
+    public int countInRange(int from, int to) {
+        int rangeCount = 0;
+        for (int grade = Math.max(from, MIN_GRADE); grade <= Math.min(to, MAX_GRADE); grade++) {
+            rangeCount += histogram[grade - MIN_GRADE];
+        }
+        return rangeCount;
+    }
+
+    /**
+     * Returns the number of grades in each band of {@link #BAND_WIDTH} grades, starting from {@link #MIN_GRADE}.
+     */
+    public int[] getBandCounts() {
+        int[] bandCounts = new int[(MAX_GRADE - MIN_GRADE) / BAND_WIDTH];
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            bandCounts[Math.min(bucket / BAND_WIDTH, bandCounts.length - 1)] += histogram[bucket];
+        }
+        return bandCounts;
+    }
+}
@@ -2,15 +2,17 @@ package tfifteenfour.clipboard.model.task;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.model.SortKey;
+import tfifteenfour.clipboard.model.course.StudentColumn;
+import tfifteenfour.clipboard.model.course.StudentRows;
 import tfifteenfour.clipboard.model.course.exceptions.StudentNotInSessionException;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithGrades;
-import tfifteenfour.clipboard.model.student.UniqueStudentsList;
 import tfifteenfour.clipboard.model.task.exceptions.StudentNotInPageException;
 
 
@@ -24,14 +26,33 @@ public class Task {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\p{Punct}]*";
 
     private final String taskName;
+
+    /** Key for sorting by the task name, computed when first needed */
+    private SortKey sortKey;
     private Boolean isSelected;
 
     /**
-     * A map that stores the attendance record for each student in the session.
-     * The key is the Student object, and the value is an integer indicating the attendance status:
-     * 0 for absent, 1 for present.
+     * The grade of each student in the group for the task, indexed by the rows of the students of its group.
+     */
+    private StudentColumn gradeList;
+
+    /** Statistics of the grades of the students of the task, kept up to date as grades and students change */
+    private GradeStatistics statistics = new GradeStatistics();
+
+    /**
+     * Statistics of the grades of the tasks with the name of this task across the course of its group, which count
+     * the grades of this task and are kept up to date with them, or null if the task is not counted by a course.
      */
-    private Map<Student, Integer> gradeList;
+    private GradeStatistics courseStatistics;
+
+    /**
+     * Rows of the group of the task, whose students the statistics are kept up to date for by the group, or null if
+     * the task is not part of a group.
+     */
+    private StudentRows groupRows;
+
+    /** Order the students of the task are listed in, or null to list them in the order of their group */
+    private Comparator<? super StudentWithGrades> studentsComparator;
 
     /**
      * Constructs a {@code Task} with the given session name.
@@ -41,7 +62,7 @@ public class Task {
     public Task(String taskName) {
         requireNonNull(taskName);
         this.taskName = taskName;
-        gradeList = new HashMap<>();
+        gradeList = StudentColumn.ofInts(new StudentRows());
         isSelected = false;
     }
 
@@ -57,12 +78,42 @@ public class Task {
 
     /**
      * Creates a copy of this instance. Used for saving states for undo command.
+     * The grade list is shared with the copy until either of them is modified.
      *
      * @return a copy of this instance.
      */
     public Task copy() {
-        Task copy = new Task(this.taskName);
-        copy.setGrades(new HashMap<>(gradeList));
+        return copy(gradeList.getRows());
+    }
+
+    /**
+     * Creates a copy of this instance for the copy of its group, whose students have the rows {@code rows}, a copy
+     * of the rows of the students of this task, with the same statistics.
+     * The grade list is shared with the copy until either of them is modified.
+     *
+     * @return a copy of this instance.
+     */
+    public Task copy(StudentRows rows) {
+        return copy(this.taskName, rows);
+    }
+
+    /**
+     * Creates a copy of this instance with the name {@code newTaskName}, for renaming the task.
+     * The grade list is shared with the copy until either of them is modified, so renaming takes constant time.
+     *
+     * @return a copy of this instance with the new name.
+     */
+    public Task copyWithName(String newTaskName) {
+        return copy(newTaskName, gradeList.getRows());
+    }
+
+    private Task copy(String newTaskName, StudentRows rows) {
+        Task copy = new Task(newTaskName);
+        copy.gradeList = gradeList.copy(rows);
+        copy.statistics = statistics.copy();
+        if (groupRows != null && rows != groupRows) {
+            copy.groupRows = rows;
+        }
 
         return copy;
     }
@@ -72,12 +123,26 @@ public class Task {
      */
     public ObservableList<StudentWithGrades> getUnmodifiableStudentList() {
         ObservableList<StudentWithGrades> students = FXCollections.observableArrayList();
-        for (Student student : gradeList.keySet()) {
+        for (Student student : gradeList.getRows().getMembers()) {
             students.add(new StudentWithGrades(student, gradeList.get(student)));
         }
+        if (studentsComparator != null) {
+            students.sort(studentsComparator);
+        }
         return students;
     }
 
+    /**
+     * Lists the students of the task in the order of {@code comparator}, or in the order of their group if it is null.
+     */
+    public void updateSortedStudents(Comparator<? super StudentWithGrades> comparator) {
+        studentsComparator = comparator;
+    }
+
+    public Comparator<? super StudentWithGrades> getSortedStudentsComparator() {
+        return studentsComparator;
+    }
+
     /**
      * Returns the name of the task.
      *
@@ -87,17 +152,84 @@ public class Task {
         return this.taskName;
     }
 
+    /**
+     * Returns the key for sorting by the task name.
+     */
+    public SortKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = SortKey.of(taskName);
+        }
+        return sortKey;
+    }
+
     /**
      * Returns the grade list for each student in the current group for the current task.
      *
-     * @return A map that stores the grade list in the current group for the current task.
+     * @return An unmodifiable map view of the grade list in the current group for the current task.
      */
     public Map<Student, Integer> getGrades() {
-        return this.gradeList;
+        return gradeList.asMap();
     }
 
+    /**
+     * Returns the grade of {@code student} for this task.
+     */
+    public int getGradeOf(Student student) {
+        requireNonNull(student);
+        return gradeList.get(student);
+    }
+
+    /**
+     * Returns the statistics of the grades of the students of this task, which are kept up to date as grades are
+     * assigned and students join or leave the group of the task.
+     */
+    public GradeStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Replaces the grade list of the task with {@code gradeList}. Students that are not in the task are added to it
+     * if the task is not part of a group yet, and ignored otherwise.
+     */
     public void setGrades(Map<Student, Integer> gradeList) {
-        this.gradeList = new HashMap<>(gradeList);
+        this.gradeList = this.gradeList.withValues(gradeList);
+        recomputeStatistics();
+    }
+
+    private void recomputeStatistics() {
+        if (courseStatistics != null) {
+            courseStatistics.addAll(statistics, -1);
+        }
+        statistics = new GradeStatistics();
+        for (Student student : gradeList.getRows().getMembers()) {
+            statistics.add(gradeList.get(student));
+        }
+        if (courseStatistics != null) {
+            courseStatistics.addAll(statistics, 1);
+        }
+    }
+
+    /**
+     * Keeps {@code courseStatistics}, which count the grades of this task, up to date with them from now on, or stops
+     * if it is null.
+     */
+    void setCourseStatistics(GradeStatistics courseStatistics) {
+        this.courseStatistics = courseStatistics;
+    }
+
+    GradeStatistics getCourseStatistics() {
+        return courseStatistics;
+    }
+
+    /**
+     * Counts {@code grade} in the statistics of this task and of its course if {@code sign} is 1, or stops counting
+     * it if it is -1.
+     */
+    private void countGrade(int grade, int sign) {
+        statistics.adjust(grade, sign);
+        if (courseStatistics != null) {
+            courseStatistics.adjust(grade, sign);
+        }
     }
 
     /**
@@ -116,34 +248,36 @@ public class Task {
     }
 
     /**
-     * Sets the list of students who are in the tasks student page.This will create a new hashMap and assign it
-     * to {@code gradeList} instead of modifying {@code gradeList}.
+     * Sets the students who are in the task to those of {@code rows}, the rows of the students of its group,
+     * keeping the grades of students who were already in the task.
      *
-     * @param students The list of students who are in the task students page.
+     * @param rows The rows of the students who are in the task.
      */
-    public void setStudents(UniqueStudentsList students) {
-        assert gradeList != null : "Grade List should not be null!";
-        Map<Student, Integer> newGradeList = new HashMap<>();
-        for (Student student : students) {
-            newGradeList.put(student, gradeList.getOrDefault(student, 0));
+    public void setStudents(StudentRows rows) {
+        requireNonNull(rows);
+        if (rows == groupRows) {
+            return;
         }
-        gradeList = newGradeList;
+        gradeList.setRows(rows);
+        recomputeStatistics();
+        groupRows = rows.isPartOfGroup() ? rows : null;
     }
 
     /**
-     * Replaces a student in current tasks page with a new student.
-     *
-     * @param oldStudent Student to be replaced.
-     * @param newStudent New student to replace with.
+     * Stops keeping the statistics up to date for the students of the group of the task, when the task is removed
+     * from the group.
      */
-    public void replaceStudent(Student oldStudent, Student newStudent) {
-        if (!gradeList.containsKey(oldStudent)) {
-            throw new StudentNotInSessionException();
-        } else {
-            int value = gradeList.get(oldStudent);
-            gradeList.remove(oldStudent);
-            gradeList.put(newStudent, value);
-        }
+    public void removeFromGroup() {
+        groupRows = null;
+    }
+
+    /**
+     * Counts the grade of {@code student} in the statistics if {@code sign} is 1, or stops counting it if it is -1,
+     * when they join or leave the group of the task.
+     */
+    public void adjustStatistics(Student student, int sign) {
+        requireNonNull(student);
+        countGrade(gradeList.get(student), sign);
     }
 
     /**
@@ -156,10 +290,13 @@ public class Task {
         requireNonNull(student);
         assert gradeList != null : "Grades should not be null!";
 
-        if (!gradeList.containsKey(student)) {
+        if (!gradeList.contains(student)) {
             throw new StudentNotInSessionException();
         }
-        gradeList.put(student, grade);
+        int oldGrade = gradeList.get(student);
+        gradeList.set(student, grade);
+        countGrade(oldGrade, -1);
+        countGrade(grade, 1);
         System.out.println("Student " + student.getName() + " has obtained grade " + grade + " for task " + taskName);
     }
 
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
-import java.util.List;
+import java.util.Optional;
 
 import tfifteenfour.clipboard.model.UniqueList;
 import tfifteenfour.clipboard.model.task.exceptions.DuplicateTaskException;
@@ -31,14 +31,16 @@ public class UniqueTasksList extends UniqueList<Task> {
         return copy;
     }
 
+    @Override
+    protected Object getIdentity(Task task) {
+        return task.getTaskName();
+    }
 
     /**
-     * Returns true if the list contains an equivalent Task as the given argument.
+     * Returns the task in the list with the task name {@code taskName}, if any.
      */
-    @Override
-    public boolean contains(Task toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+    public Optional<Task> findTask(String taskName) {
+        return findByIdentity(taskName);
     }
 
     /**
@@ -91,18 +93,4 @@ public class UniqueTasksList extends UniqueList<Task> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code Sessions} contains only unique Sessions.
-     */
-    protected boolean elementsAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,427 @@
+package tfifteenfour.clipboard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.commons.util.FileUtil;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * A class to access Roster data stored as a single binary file on the hard disk.
+ * The file starts with a magic number and a format version, followed by two sections, each prefixed with its length
+ * and checksum. The first section is a table of every distinct string in the roster, so that course codes, group
+ * names and session names repeated across the roster are stored once. The second section has the courses, groups and
+ * students, which refer to strings by their index in the table. The attendance of each session and the grades of
+ * each task are packed into a column over the students of their group. Integers are stored as variable length
+ * quantities.
+ * Files are read and written whole through a {@link FileChannel} with direct buffers.
+ */
+public class BinaryRosterStorage implements RosterStorage {
+
+    /** Version of the binary format written by this class */
+    public static final int CURRENT_VERSION = 1;
+
+    /** "CLPB" in ASCII, which starts every binary roster file */
+    private static final int MAGIC_NUMBER = 0x434C5042;
+    private static final int FILE_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int SECTION_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRosterStorage.class);
+
+    private final Path filePath;
+
+    public BinaryRosterStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getRosterFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRoster> readRoster() throws DataConversionException, IOException {
+        return readRoster(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRoster()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not a binary roster, is corrupted, or has a newer version.
+     */
+    @Override
+    public Optional<ReadOnlyRoster> readRoster(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Roster file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Reading Roster from " + filePath.toString());
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw conversionError("Roster file " + filePath + " is too large");
+            }
+            buffer = ByteBuffer.allocateDirect((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw conversionError("Roster file " + filePath + " is truncated");
+                }
+            }
+            buffer.flip();
+        }
+
+        try {
+            return Optional.of(readRoster(buffer));
+        } catch (RuntimeException e) {
+            // any inconsistency in the file, from a truncated buffer to an invalid or duplicate student
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Roster readRoster(ByteBuffer buffer) throws DataConversionException {
+        if (buffer.remaining() < FILE_HEADER_SIZE || buffer.getInt() != MAGIC_NUMBER) {
+            throw conversionError("Not a binary roster file");
+        }
+        int version = buffer.getInt();
+        if (version > CURRENT_VERSION) {
+            throw conversionError("Roster file has version " + version + ", which is newer than this app supports");
+        }
+
+        SectionReader strings = readSection(buffer);
+        String[] stringTable = new String[strings.readVarInt()];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = strings.readString();
+        }
+
+        SectionReader section = readSection(buffer);
+        section.stringTable = stringTable;
+        ValueInterner interner = new ValueInterner();
+        Roster roster = new Roster();
+        int courseCount = section.readVarInt();
+        for (int i = 0; i < courseCount; i++) {
+            Course course = new Course(section.readStringReference());
+            int groupCount = section.readVarInt();
+            for (int j = 0; j < groupCount; j++) {
+                course.addGroup(readGroup(section, interner));
+            }
+            roster.addCourse(course);
+        }
+        return roster;
+    }
+
+    private static Group readGroup(SectionReader section, ValueInterner interner) {
+        Group group = new Group(section.readStringReference());
+
+        Student[] students = new Student[section.readVarInt()];
+        for (int i = 0; i < students.length; i++) {
+            students[i] = interner.internStudent(section.readStringReference(), section.readStringReference(),
+                    section.readStringReference(), section.readStringReference(), section.readStringReference());
+        }
+        group.addStudents(Arrays.asList(students));
+
+        int sessionCount = section.readVarInt();
+        for (int i = 0; i < sessionCount; i++) {
+            Session session = new Session(section.readStringReference());
+            session.setAttendance(section.readColumn(students));
+            group.addSession(session);
+        }
+
+        int taskCount = section.readVarInt();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task(section.readStringReference());
+            task.setGrades(section.readColumn(students));
+            group.addTask(task);
+        }
+        return group;
+    }
+
+    /**
+     * Reads the section at the position of {@code buffer}, and moves past it.
+     *
+     * @throws DataConversionException if the section is truncated or does not match its checksum.
+     */
+    private static SectionReader readSection(ByteBuffer buffer) throws DataConversionException {
+        if (buffer.remaining() < SECTION_HEADER_SIZE) {
+            throw conversionError("Roster file is truncated");
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw conversionError("Roster file is truncated");
+        }
+
+        ByteBuffer section = buffer.slice();
+        section.limit(length);
+        buffer.position(buffer.position() + length);
+
+        CRC32 crc = new CRC32();
+        crc.update(section.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw conversionError("Roster file is corrupted");
+        }
+        return new SectionReader(section);
+    }
+
+    private static DataConversionException conversionError(String message) {
+        return new DataConversionException(new IOException(message));
+    }
+
+    @Override
+    public void saveRoster(ReadOnlyRoster roster) throws IOException {
+        saveRoster(roster, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRoster(ReadOnlyRoster)}.
+     * The file is written to a temporary file and forced to the disk before it replaces {@code filePath}, so that a
+     * failed save leaves the previous file intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveRoster(ReadOnlyRoster roster, Path filePath) throws IOException {
+        requireNonNull(roster);
+        requireNonNull(filePath);
+
+        logger.info("Saving Roster to file at: " + filePath.toString());
+
+        // the roster is written first, so that the string table is complete when it is written
+        SectionWriter strings = new SectionWriter();
+        SectionWriter section = new SectionWriter();
+        List<Course> courses = roster.getUnmodifiableCourseList();
+        section.writeVarInt(courses.size());
+        for (Course course : courses) {
+            section.writeStringReference(course.getCourseCode());
+            List<Group> groups = course.getUnmodifiableGroupList();
+            section.writeVarInt(groups.size());
+            for (Group group : groups) {
+                writeGroup(section, group);
+            }
+        }
+
+        strings.writeVarInt(section.stringIndices.size());
+        for (String string : section.strings) {
+            strings.writeString(string);
+        }
+
+        ByteBuffer fileHeader = ByteBuffer.allocateDirect(FILE_HEADER_SIZE)
+                .putInt(MAGIC_NUMBER)
+                .putInt(CURRENT_VERSION);
+        fileHeader.flip();
+        ByteBuffer[] buffers = {
+            fileHeader, strings.getHeader(), strings.getContents(), section.getHeader(), section.getContents()
+        };
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(false);
+        }
+        FileUtil.replaceAtomically(tempPath, filePath);
+        FileUtil.forceDirectory(filePath.toAbsolutePath().getParent());
+    }
+
+    private static void writeGroup(SectionWriter section, Group group) {
+        section.writeStringReference(group.getGroupName());
+
+        List<Student> students = group.getUnmodifiableStudentList();
+        Map<StudentId, Integer> studentIndices = new HashMap<>();
+        section.writeVarInt(students.size());
+        for (Student student : students) {
+            studentIndices.put(student.getStudentId(), studentIndices.size());
+            section.writeStringReference(student.getName().toString());
+            section.writeStringReference(student.getPhone().toString());
+            section.writeStringReference(student.getEmail().toString());
+            section.writeStringReference(student.getStudentId().toString());
+            section.writeStringReference(student.getRemark().toString());
+        }
+
+        List<Session> sessions = group.getUnmodifiableSessionList();
+        section.writeVarInt(sessions.size());
+        for (Session session : sessions) {
+            section.writeStringReference(session.getSessionName());
+            section.writeColumn(session.getAttendance(), studentIndices);
+        }
+
+        List<Task> tasks = group.getUnmodifiableTaskList();
+        section.writeVarInt(tasks.size());
+        for (Task task : tasks) {
+            section.writeStringReference(task.getTaskName());
+            section.writeColumn(task.getGrades(), studentIndices);
+        }
+    }
+
+    /**
+     * Reads the values of a section of a binary roster file.
+     */
+    private static class SectionReader {
+        private final ByteBuffer buffer;
+        private String[] stringTable;
+
+        private SectionReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Variable length integer is too long");
+        }
+
+        private String readString() {
+            byte[] bytes = new byte[readVarInt()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private String readStringReference() {
+            return stringTable[readVarInt()];
+        }
+
+        /**
+         * Reads a column written by {@link SectionWriter#writeColumn}, with the students of its group.
+         */
+        private Map<Student, Integer> readColumn(Student[] students) {
+            byte[] presence = new byte[(students.length + 7) / 8];
+            buffer.get(presence);
+            Map<Student, Integer> values = new HashMap<>();
+            for (int i = 0; i < students.length; i++) {
+                if ((presence[i / 8] & (1 << (i % 8))) != 0) {
+                    int zigZagValue = readVarInt();
+                    values.put(students[i], (zigZagValue >>> 1) ^ -(zigZagValue & 1));
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Writes the values of a section of a binary roster file into a direct buffer, which grows as needed.
+     * Strings written as references are collected into the string table of the file.
+     */
+    private static class SectionWriter {
+        private static final int MAX_VAR_INT_SIZE = 5;
+
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        private void ensureRemaining(int size) {
+            if (buffer.remaining() >= size) {
+                return;
+            }
+            ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + size));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        private void writeVarInt(int value) {
+            ensureRemaining(MAX_VAR_INT_SIZE);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        private void writeString(String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private void writeStringReference(String string) {
+            Integer index = stringIndices.get(string);
+            if (index == null) {
+                index = strings.size();
+                stringIndices.put(string, index);
+                strings.add(string);
+            }
+            writeVarInt(index);
+        }
+
+        /**
+         * Writes the values of the students of a group as a bitmap of which students have a value, followed by the
+         * values in the order of the students. Students that are not in the group are left out.
+         */
+        private void writeColumn(Map<Student, Integer> values, Map<StudentId, Integer> studentIndices) {
+            int[] column = new int[studentIndices.size()];
+            byte[] presence = new byte[(column.length + 7) / 8];
+            for (Map.Entry<Student, Integer> entry : values.entrySet()) {
+                Integer index = studentIndices.get(entry.getKey().getStudentId());
+                if (index != null) {
+                    column[index] = entry.getValue();
+                    presence[index / 8] |= 1 << (index % 8);
+                }
+            }
+
+            ensureRemaining(presence.length);
+            buffer.put(presence);
+            for (int i = 0; i < column.length; i++) {
+                if ((presence[i / 8] & (1 << (i % 8))) != 0) {
+                    writeVarInt((column[i] << 1) ^ (column[i] >> 31));
+                }
+            }
+        }
+
+        /**
+         * Returns the length and checksum of the contents of this section. Must be called before
+         * {@link #getContents()}.
+         */
+        private ByteBuffer getHeader() {
+            buffer.flip();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            ByteBuffer header = ByteBuffer.allocateDirect(SECTION_HEADER_SIZE)
+                    .putInt(buffer.remaining())
+                    .putInt((int) crc.getValue());
+            header.flip();
+            return header;
+        }
+
+        private ByteBuffer getContents() {
+            return buffer;
+        }
+    }
+}
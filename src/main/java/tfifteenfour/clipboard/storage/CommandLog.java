@@ -0,0 +1,301 @@
+package tfifteenfour.clipboard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedLogEntry;
+
+/**
+ * An append-only log of the commands that modified the roster since it was last saved, so that no command is lost if
+ * the app stops before the roster is saved.
+ * Entries are written on a background thread and forced to the disk in batches: entries appended while a batch is
+ * being written are written together in the next batch.
+ * The log is split into numbered segment files. When the roster is saved, a new segment is started, and the segments
+ * before it are deleted once the save completes.
+ */
+public class CommandLog {
+    private static final Logger logger = LogsCenter.getLogger(CommandLog.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String LOG_DIRECTORY_SUFFIX = "-log";
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_EXTENSION = ".log";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Path directory;
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private List<String> pendingLines = new ArrayList<>();
+    private boolean isFlushScheduled;
+    private long currentSegment;
+    private int entriesSinceNewSegment;
+    private Consumer<IOException> writeErrorHandler = unused -> { };
+
+    /** Only accessed on the write thread, or after it has stopped */
+    private FileChannel segmentChannel;
+    private long segmentChannelNumber;
+
+    /**
+     * Creates a {@code CommandLog} that stores its segments in {@code directory}.
+     * New entries are written to a segment after all existing ones.
+     */
+    public CommandLog(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.currentSegment = listSegments().stream().mapToLong(CommandLog::parseSegmentNumber).max().orElse(-1) + 1;
+    }
+
+    /**
+     * Returns the directory where the log of the roster at {@code rosterFilePath} is stored.
+     */
+    public static Path getLogDirectory(Path rosterFilePath) {
+        String fileName = rosterFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return rosterFilePath.resolveSibling(baseName + LOG_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Sets the handler to be called on the background thread when writing to the log fails.
+     */
+    public synchronized void setWriteErrorHandler(Consumer<IOException> writeErrorHandler) {
+        requireNonNull(writeErrorHandler);
+        this.writeErrorHandler = writeErrorHandler;
+    }
+
+    /**
+     * Appends {@code entry} to the log. The entry is serialized on the calling thread, and written in the background.
+     */
+    public synchronized void append(SerializedLogEntry entry) throws JsonProcessingException {
+        requireNonNull(entry);
+        // json strings escape line breaks, so each entry takes up exactly one line
+        pendingLines.add(mapper.writeValueAsString(entry) + System.lineSeparator());
+        entriesSinceNewSegment++;
+        if (!isFlushScheduled && !writeExecutor.isShutdown()) {
+            isFlushScheduled = true;
+            writeExecutor.execute(this::flushPendingLines);
+        }
+    }
+
+    /**
+     * Returns the number of entries appended since the current segment was started.
+     */
+    public synchronized int getEntriesSinceNewSegment() {
+        return entriesSinceNewSegment;
+    }
+
+    /**
+     * Starts a new segment for the entries appended after this call.
+     * Must be called at the same time as the roster is copied for saving, so that the earlier segments only hold
+     * entries that are contained in the saved roster.
+     *
+     * @return the number of the new segment, to be passed to {@link #deleteSegmentsBefore(long)} once the roster is
+     *     saved.
+     */
+    public synchronized long startNewSegment() {
+        Batch batchOfPreviousSegment = takePendingBatch();
+        entriesSinceNewSegment = 0;
+        if (!writeExecutor.isShutdown()) {
+            writeExecutor.execute(() -> writeInBackground(batchOfPreviousSegment));
+        }
+        return ++currentSegment;
+    }
+
+    /**
+     * Deletes the segments before {@code segment}, in the background.
+     */
+    public void deleteSegmentsBefore(long segment) {
+        if (writeExecutor.isShutdown()) {
+            return;
+        }
+        writeExecutor.execute(() -> {
+            for (Path segmentFile : listSegments()) {
+                if (parseSegmentNumber(segmentFile) < segment) {
+                    try {
+                        Files.deleteIfExists(segmentFile);
+                    } catch (IOException e) {
+                        logger.warning("Failed to delete log segment " + segmentFile + ": " + StringUtil.getDetails(e));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Reads all entries in the log, oldest first.
+     * Reading a segment stops at the first entry that cannot be read, which is expected to be an entry that was only
+     * partly written when the app stopped. Later segments were written after the app restarted without that entry, so
+     * they are still read.
+     */
+    public List<SerializedLogEntry> readEntries() throws IOException {
+        List<SerializedLogEntry> entries = new ArrayList<>();
+        for (Path segmentFile : listSegments()) {
+            for (String line : Files.readAllLines(segmentFile, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    entries.add(mapper.readValue(line, SerializedLogEntry.class));
+                } catch (JsonProcessingException e) {
+                    logger.warning("Ignoring incomplete entry at the end of log segment " + segmentFile);
+                    break;
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the pending entries, then stops writing in the background.
+     */
+    public void close() throws IOException {
+        Batch remainingBatch = takePendingBatch();
+        writeExecutor.shutdown();
+        try {
+            writeExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            write(remainingBatch);
+        } finally {
+            closeSegmentChannel();
+        }
+    }
+
+    /**
+     * Takes the entries that have not been written yet, so that a new batch is started for later entries.
+     */
+    private synchronized Batch takePendingBatch() {
+        Batch batch = new Batch(currentSegment, pendingLines);
+        pendingLines = new ArrayList<>();
+        isFlushScheduled = false;
+        return batch;
+    }
+
+    private void flushPendingLines() {
+        writeInBackground(takePendingBatch());
+    }
+
+    private void writeInBackground(Batch batch) {
+        try {
+            write(batch);
+        } catch (IOException e) {
+            logger.warning("Failed to write to command log: " + StringUtil.getDetails(e));
+            getWriteErrorHandler().accept(e);
+        }
+    }
+
+    /**
+     * Writes {@code batch} to its segment with a single write, and forces it to the disk.
+     */
+    private void write(Batch batch) throws IOException {
+        if (batch.lines.isEmpty()) {
+            return;
+        }
+
+        if (segmentChannel != null && segmentChannelNumber != batch.segment) {
+            closeSegmentChannel();
+        }
+        if (segmentChannel == null) {
+            Files.createDirectories(directory);
+            segmentChannel = FileChannel.open(getSegmentFile(batch.segment), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            segmentChannelNumber = batch.segment;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(String.join("", batch.lines).getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            segmentChannel.write(bytes);
+        }
+        segmentChannel.force(false);
+    }
+
+    private void closeSegmentChannel() {
+        if (segmentChannel == null) {
+            return;
+        }
+        try {
+            segmentChannel.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close log segment: " + StringUtil.getDetails(e));
+        }
+        segmentChannel = null;
+    }
+
+    private synchronized Consumer<IOException> getWriteErrorHandler() {
+        return writeErrorHandler;
+    }
+
+    private Path getSegmentFile(long segment) {
+        return directory.resolve(SEGMENT_FILE_PREFIX + segment + SEGMENT_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the segment files in the log directory, oldest first.
+     */
+    private List<Path> listSegments() {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> parseSegmentNumber(file) >= 0)
+                    .sorted((first, second) -> Long.compare(parseSegmentNumber(first), parseSegmentNumber(second)))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warning("Failed to list log segments: " + StringUtil.getDetails(e));
+            return new ArrayList<>();
+        }
+    }
+
+    private static long parseSegmentNumber(Path segmentFile) {
+        String fileName = segmentFile.getFileName().toString();
+        if (!fileName.startsWith(SEGMENT_FILE_PREFIX) || !fileName.endsWith(SEGMENT_FILE_EXTENSION)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                    fileName.length() - SEGMENT_FILE_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Entries to be written together, and the segment they belong to.
+     */
+    private static class Batch {
+        private final long segment;
+        private final List<String> lines;
+
+        Batch(long segment, List<String> lines) {
+            this.segment = segment;
+            this.lines = lines;
+        }
+    }
+}
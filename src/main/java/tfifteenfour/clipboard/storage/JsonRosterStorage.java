@@ -2,7 +2,6 @@ package tfifteenfour.clipboard.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -54,11 +53,8 @@ public class JsonRosterStorage implements RosterStorage {
 
         logger.info("Reading Roster from " + filePath.toString());
 
-        File jsonFile = new File(filePath.toString());
-
         try {
-            SerializedRoster jsonRoster = mapper.readValue(jsonFile, SerializedRoster.class);
-            Roster roster = jsonToRoster(jsonRoster);
+            Roster roster = StreamingRosterReader.readRoster(filePath);
 
             return Optional.of(roster);
         } catch (JsonParseException e) {
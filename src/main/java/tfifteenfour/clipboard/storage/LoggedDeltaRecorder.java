@@ -0,0 +1,164 @@
+package tfifteenfour.clipboard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedDelta;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedDelta.ListKind;
+
+/**
+ * Records the modifications of a roster as {@link SerializedDelta}s for the command log, locating the courses, groups,
+ * sessions and tasks that they modified in the roster by identity.
+ * A course or group that is replaced by a renamed copy of itself is recorded as renamed, without serializing it.
+ * Sessions and tasks are only looked up in the groups that are loaded, as only those can have been modified.
+ * Recording a modification of a part that is not in the roster throws an {@code IllegalArgumentException}.
+ */
+class LoggedDeltaRecorder implements DeltaRecorder {
+    private final ReadOnlyRoster roster;
+    private final List<SerializedDelta> deltas = new ArrayList<>();
+
+    /**
+     * Constructs a {@code LoggedDeltaRecorder} of modifications of {@code roster}.
+     */
+    LoggedDeltaRecorder(ReadOnlyRoster roster) {
+        requireNonNull(roster);
+        this.roster = roster;
+    }
+
+    /**
+     * Returns the modifications recorded so far, in the order they were recorded.
+     */
+    List<SerializedDelta> getDeltas() {
+        return deltas;
+    }
+
+    @Override
+    public <T> void recordListChange(List<T> list, int index, List<T> removed, List<T> added) {
+        Object element = removed.isEmpty() ? (added.isEmpty() ? null : added.get(0)) : removed.get(0);
+        if (element instanceof Course) {
+            recordCourseListChange(index, castAll(removed, Course.class), castAll(added, Course.class));
+        } else if (element instanceof Group) {
+            recordGroupListChange(list, index, castAll(removed, Group.class), castAll(added, Group.class));
+        } else if (element instanceof Session) {
+            Group group = findLoadedGroup(candidate -> candidate.getModifiableSessionList() == list);
+            deltas.add(SerializedDelta.ofSessionSplice(getCourseOf(group).getCourseCode(), group.getGroupName(),
+                    index, getNames(castAll(removed, Session.class), Session::getSessionName),
+                    castAll(added, Session.class)));
+        } else if (element instanceof Task) {
+            Group group = findLoadedGroup(candidate -> candidate.getModifiableTaskList() == list);
+            deltas.add(SerializedDelta.ofTaskSplice(getCourseOf(group).getCourseCode(), group.getGroupName(),
+                    index, getNames(castAll(removed, Task.class), Task::getTaskName), castAll(added, Task.class)));
+        } else if (element != null) {
+            throw new IllegalArgumentException("Changes of lists of " + element.getClass().getSimpleName()
+                    + " are not logged");
+        }
+    }
+
+    private void recordCourseListChange(int index, List<Course> removed, List<Course> added) {
+        if (removed.size() == 1 && added.size() == 1 && hasSameGroups(removed.get(0), added.get(0))) {
+            deltas.add(SerializedDelta.ofRename(ListKind.COURSES, null, index, removed.get(0).getCourseCode(),
+                    added.get(0).getCourseCode()));
+        } else {
+            deltas.add(SerializedDelta.ofCourseSplice(index, getNames(removed, Course::getCourseCode), added));
+        }
+    }
+
+    private void recordGroupListChange(List<?> list, int index, List<Group> removed, List<Group> added) {
+        String courseCode = roster.getUnmodifiableCourseList().stream()
+                .filter(course -> course.getModifiableGroupList() == list)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Changed groups are not of a course in the roster"))
+                .getCourseCode();
+        if (removed.size() == 1 && added.size() == 1 && removed.get(0).hasSameContentsAs(added.get(0))) {
+            deltas.add(SerializedDelta.ofRename(ListKind.GROUPS, courseCode, index, removed.get(0).getGroupName(),
+                    added.get(0).getGroupName()));
+        } else {
+            deltas.add(SerializedDelta.ofGroupSplice(courseCode, index, getNames(removed, Group::getGroupName),
+                    added));
+        }
+    }
+
+    @Override
+    public void recordStudentsAdded(Group group, int index, List<Student> students) {
+        deltas.add(SerializedDelta.ofStudentsAdded(getCourseOf(group).getCourseCode(), group.getGroupName(), index,
+                students));
+    }
+
+    @Override
+    public void recordStudentsDeleted(Group group, List<Student> students) {
+        deltas.add(SerializedDelta.ofStudentsDeleted(getCourseOf(group).getCourseCode(), group.getGroupName(),
+                getNames(students, student -> student.getStudentId().toString())));
+    }
+
+    @Override
+    public void recordStudentReplaced(Group group, Student oldStudent, Student newStudent) {
+        deltas.add(SerializedDelta.ofStudentReplaced(getCourseOf(group).getCourseCode(), group.getGroupName(),
+                oldStudent.getStudentId().toString(), newStudent));
+    }
+
+    @Override
+    public void recordAttendance(Session session, Student student, int attendance) {
+        Group group = findLoadedGroup(candidate -> candidate.getUnmodifiableSessionList().stream()
+                .anyMatch(groupSession -> groupSession == session));
+        deltas.add(SerializedDelta.ofAttendance(getCourseOf(group).getCourseCode(), group.getGroupName(),
+                session.getSessionName(), student.getStudentId().toString(), attendance));
+    }
+
+    @Override
+    public void recordGrade(Task task, Student student, int grade) {
+        Group group = findLoadedGroup(candidate -> candidate.getUnmodifiableTaskList().stream()
+                .anyMatch(groupTask -> groupTask == task));
+        deltas.add(SerializedDelta.ofGrade(getCourseOf(group).getCourseCode(), group.getGroupName(),
+                task.getTaskName(), student.getStudentId().toString(), grade));
+    }
+
+    private static boolean hasSameGroups(Course course, Course otherCourse) {
+        List<Group> groups = course.getUnmodifiableGroupList();
+        List<Group> otherGroups = otherCourse.getUnmodifiableGroupList();
+        if (groups.size() != otherGroups.size()) {
+            return false;
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.get(i) != otherGroups.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Group findLoadedGroup(Predicate<Group> isMatch) {
+        return roster.getUnmodifiableCourseList().stream()
+                .flatMap(course -> course.getUnmodifiableGroupList().stream())
+                .filter(group -> group.isLoaded() && isMatch.test(group))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Changed sessions or tasks are not in the roster"));
+    }
+
+    private Course getCourseOf(Group group) {
+        return roster.getUnmodifiableCourseList().stream()
+                .filter(course -> course.getUnmodifiableGroupList().stream()
+                        .anyMatch(courseGroup -> courseGroup == group))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Changed group is not in the roster"));
+    }
+
+    private static <T> List<String> getNames(List<T> elements, Function<T, String> nameOf) {
+        return elements.stream().map(nameOf).collect(Collectors.toList());
+    }
+
+    private static <T> List<T> castAll(List<?> elements, Class<T> type) {
+        return elements.stream().map(type::cast).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,137 @@
+package tfifteenfour.clipboard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.commons.util.FileUtil;
+import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.RosterFileFormat;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedLogEntry;
+
+/**
+ * Creates the {@link RosterStorage} of each {@link RosterFileFormat}, and imports and exports rosters between them.
+ * Json rosters are stored at the roster file path, and binary rosters next to it, with the extension replaced by
+ * {@code .bin}. A roster file that was imported into another format is set aside with the extension {@code .imported}
+ * added, so that only the format in use has a roster file.
+ */
+public class RosterFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(RosterFileConverter.class);
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String IMPORTED_FILE_EXTENSION = ".imported";
+
+    private RosterFileConverter() {}
+
+    /**
+     * Returns the path where a roster in {@code format} is stored, for the roster file path {@code rosterFilePath}.
+     */
+    public static Path getFilePath(RosterFileFormat format, Path rosterFilePath) {
+        requireNonNull(format);
+        requireNonNull(rosterFilePath);
+
+        if (format == RosterFileFormat.JSON) {
+            return rosterFilePath;
+        }
+        String fileName = rosterFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return rosterFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the storage for rosters in {@code format}, for the roster file path {@code rosterFilePath}.
+     */
+    public static RosterStorage createStorage(RosterFileFormat format, Path rosterFilePath) {
+        Path filePath = getFilePath(format, rosterFilePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryRosterStorage(filePath);
+        case JSON:
+        default:
+            return new ShardedRosterStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the storage for rosters in {@code format}, like {@link #createStorage}. If there is no roster in
+     * {@code format} yet, but there is one in another format, that roster is imported first, together with the changes
+     * logged for it since it was last saved, so that changing the format keeps the roster. The imported roster file is
+     * then set aside and its log cleared, so that changing back to its format imports the roster again, with the
+     * changes made in the meantime. A failed import is logged, and leaves the storage empty.
+     */
+    public static RosterStorage openStorage(RosterFileFormat format, Path rosterFilePath) {
+        RosterStorage storage = createStorage(format, rosterFilePath);
+        if (FileUtil.isFileExists(storage.getRosterFilePath())) {
+            return storage;
+        }
+
+        for (RosterFileFormat otherFormat : RosterFileFormat.values()) {
+            RosterStorage otherStorage = createStorage(otherFormat, rosterFilePath);
+            if (otherFormat == format || !FileUtil.isFileExists(otherStorage.getRosterFilePath())) {
+                continue;
+            }
+
+            logger.info("Importing " + otherFormat + " Roster at " + otherStorage.getRosterFilePath() + " as "
+                    + format);
+            try {
+                importRoster(otherStorage, storage);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to import Roster: " + StringUtil.getDetails(e));
+            }
+            break;
+        }
+        return storage;
+    }
+
+    /**
+     * Saves the roster read from {@code source}, with the changes logged for it applied, to {@code target}, then sets
+     * the roster file of {@code source} aside and clears its log.
+     */
+    private static void importRoster(RosterStorage source, RosterStorage target)
+            throws DataConversionException, IOException {
+        Path sourceFilePath = source.getRosterFilePath();
+        CommandLog sourceLog = new CommandLog(CommandLog.getLogDirectory(sourceFilePath));
+        try {
+            Roster roster = new Roster(source.readRoster().orElseGet(Roster::new));
+            for (SerializedLogEntry loggedChange : sourceLog.readEntries()) {
+                loggedChange.applyTo(roster);
+            }
+            target.saveRoster(roster);
+
+            FileUtil.replaceAtomically(sourceFilePath,
+                    sourceFilePath.resolveSibling(sourceFilePath.getFileName() + IMPORTED_FILE_EXTENSION));
+            sourceLog.deleteSegmentsBefore(Long.MAX_VALUE);
+        } finally {
+            sourceLog.close();
+        }
+    }
+
+    /**
+     * Saves the roster read from {@code source} to {@code target}.
+     *
+     * @return true if {@code source} had a roster to convert.
+     * @throws DataConversionException if the roster in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading {@code source} or writing {@code target}.
+     */
+    public static boolean convert(RosterStorage source, RosterStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyRoster> roster = source.readRoster();
+        if (!roster.isPresent()) {
+            return false;
+        }
+        target.saveRoster(roster.get());
+        return true;
+    }
+}
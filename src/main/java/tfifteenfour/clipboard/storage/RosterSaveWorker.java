@@ -0,0 +1,236 @@
+package tfifteenfour.clipboard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+
+/**
+ * Saves the roster on a background thread, so that executing a command does not wait for the data file to be written.
+ * Save requests that arrive while a save is pending are coalesced, so a burst of commands results in a single write.
+ * If a {@code CommandLog} is given, the log entries contained in each saved roster are deleted after it is saved.
+ */
+public class RosterSaveWorker {
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(RosterSaveWorker.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final RosterStorage rosterStorage;
+    /** May be null, if the roster is saved without a log */
+    private final CommandLog commandLog;
+    private final Executor modelThreadExecutor;
+    private final long saveDelayMillis;
+    private final ScheduledThreadPoolExecutor saveExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "roster-save-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlyRoster rosterToSave;
+    private boolean isDirty;
+    private boolean isSaveScheduled;
+
+    /** Copy of the roster waiting to be taken on the thread that modifies it, or null if there is none */
+    private FutureTask<Snapshot> pendingSnapshot;
+    private boolean isClosed;
+    private Consumer<IOException> saveErrorHandler = unused -> { };
+
+    /**
+     * Creates a {@code RosterSaveWorker} that saves to {@code rosterStorage}.
+     *
+     * @param modelThreadExecutor runs tasks on the thread that modifies the roster, so that a consistent copy of the
+     *     roster can be taken before it is written on the background thread.
+     * @param saveDelayMillis how long to wait for more save requests before writing.
+     */
+    public RosterSaveWorker(RosterStorage rosterStorage, Executor modelThreadExecutor, long saveDelayMillis) {
+        requireNonNull(rosterStorage);
+        requireNonNull(modelThreadExecutor);
+        this.rosterStorage = rosterStorage;
+        this.commandLog = null;
+        this.modelThreadExecutor = modelThreadExecutor;
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Creates a {@code RosterSaveWorker} that saves to {@code rosterStorage}, and deletes the entries of
+     * {@code commandLog} that each saved roster contains.
+     *
+     * @see #RosterSaveWorker(RosterStorage, Executor, long)
+     */
+    public RosterSaveWorker(RosterStorage rosterStorage, CommandLog commandLog, Executor modelThreadExecutor,
+            long saveDelayMillis) {
+        requireNonNull(rosterStorage);
+        requireNonNull(commandLog);
+        requireNonNull(modelThreadExecutor);
+        this.rosterStorage = rosterStorage;
+        this.commandLog = commandLog;
+        this.modelThreadExecutor = modelThreadExecutor;
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Sets the handler to be called on the background thread when saving the roster fails.
+     */
+    public synchronized void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Marks {@code roster} as changed, so that it will be saved shortly.
+     * Must be called on the thread that modifies the roster.
+     */
+    public synchronized void requestSave(ReadOnlyRoster roster) {
+        requireNonNull(roster);
+        rosterToSave = roster;
+        isDirty = true;
+        if (!isSaveScheduled && !saveExecutor.isShutdown()) {
+            isSaveScheduled = true;
+            saveExecutor.schedule(this::saveIfDirty, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true if there are changes to the roster that have not been saved yet.
+     */
+    public synchronized boolean isDirty() {
+        return isDirty;
+    }
+
+    private void saveIfDirty() {
+        ReadOnlyRoster roster;
+        synchronized (this) {
+            isSaveScheduled = false;
+            if (!isDirty) {
+                return;
+            }
+            isDirty = false;
+            roster = rosterToSave;
+        }
+
+        try {
+            Snapshot snapshot = takeSnapshot(roster);
+            rosterStorage.saveRoster(snapshot.roster);
+            deleteSavedLogSegments(snapshot.logSegment);
+        } catch (IOException e) {
+            logger.warning("Failed to save roster in the background: " + StringUtil.getDetails(e));
+            markDirtyAfterFailure();
+            getSaveErrorHandler().accept(e);
+        } catch (CancellationException e) {
+            // the worker is being closed, which saves the roster on the closing thread instead
+            markDirtyAfterFailure();
+        } catch (InterruptedException e) {
+            markDirtyAfterFailure();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Copies {@code roster} on the thread that modifies it, so that the copy can be safely written on this thread.
+     * The copy skips the student registry and search index, so that taking it does not hold up the thread for long.
+     * A new log segment is started at the same time, so that the earlier segments only hold entries in the copy.
+     *
+     * @throws CancellationException if the worker is closed before the copy is taken, as the closing thread is the
+     *     thread that modifies the roster, and saves it itself.
+     */
+    private Snapshot takeSnapshot(ReadOnlyRoster roster) throws InterruptedException, IOException {
+        FutureTask<Snapshot> snapshotTask = new FutureTask<>(() ->
+                new Snapshot(roster.snapshot(), startNewLogSegment()));
+        synchronized (this) {
+            if (isClosed) {
+                throw new CancellationException();
+            }
+            pendingSnapshot = snapshotTask;
+        }
+        modelThreadExecutor.execute(snapshotTask);
+        try {
+            return snapshotTask.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Could not copy roster for saving", e.getCause());
+        } finally {
+            synchronized (this) {
+                pendingSnapshot = null;
+            }
+        }
+    }
+
+    private long startNewLogSegment() {
+        return commandLog == null ? 0 : commandLog.startNewSegment();
+    }
+
+    private void deleteSavedLogSegments(long firstUnsavedSegment) {
+        if (commandLog != null) {
+            commandLog.deleteSegmentsBefore(firstUnsavedSegment);
+        }
+    }
+
+    private synchronized void markDirtyAfterFailure() {
+        isDirty = true;
+    }
+
+    private synchronized Consumer<IOException> getSaveErrorHandler() {
+        return saveErrorHandler;
+    }
+
+    /**
+     * Stops the background thread, then saves any unsaved changes on the calling thread.
+     * A save that is being written is left to finish, rather than interrupted, while a save still waiting for its
+     * copy of the roster is cancelled, as the copy can only be taken on the calling thread.
+     * Must be called on the thread that modifies the roster.
+     *
+     * @throws IOException if the unsaved changes could not be saved.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            isClosed = true;
+            if (pendingSnapshot != null) {
+                pendingSnapshot.cancel(false);
+            }
+        }
+        // saves that are scheduled but not started are not run, as the roster is saved below instead
+        saveExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        saveExecutor.shutdown();
+        try {
+            saveExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        ReadOnlyRoster roster;
+        synchronized (this) {
+            if (!isDirty) {
+                return;
+            }
+            isDirty = false;
+            roster = rosterToSave;
+        }
+        long logSegment = startNewLogSegment();
+        rosterStorage.saveRoster(roster);
+        deleteSavedLogSegments(logSegment);
+    }
+
+    /**
+     * A copy of the roster, and the first log segment with entries that are not contained in it.
+     */
+    private static class Snapshot {
+        private final ReadOnlyRoster roster;
+        private final long logSegment;
+
+        Snapshot(ReadOnlyRoster roster, long logSegment) {
+            this.roster = roster;
+            this.logSegment = logSegment;
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package tfifteenfour.clipboard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.commons.util.FileUtil;
+import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.GroupLoader;
+import tfifteenfour.clipboard.model.course.GroupOutline;
+import tfifteenfour.clipboard.model.course.exceptions.GroupLoadException;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.task.GradeStatistics;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedCourseManifest;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedGroup;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedGroupShard;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRosterManifest;
+
+/**
+ * A class to access Roster data stored on the hard disk as one json file per group, listed by a json manifest.
+ * The manifest is stored at the roster file path, and the group files in a directory next to it.
+ * Reading the roster only reads the manifest. The students, sessions and tasks of each group are read from its group
+ * file the first time that they are used, so the time and memory needed depend on the groups that are used rather
+ * than on the size of the roster. The manifest also lists the outline of each group, with the student IDs and names
+ * of its students and the names of its sessions and tasks, so that the groups that a student is in are known, and the
+ * roster can be searched, without reading their group files.
+ * Saving only writes the groups that changed, each to a new group file, so a change to one group costs one small
+ * write. Group files are never overwritten, so that groups that are not loaded yet can always load the contents that
+ * they were read with. Rosters saved in earlier versions, including a single file saved by
+ * {@link JsonRosterStorage}, are migrated to the current version when they are read.
+ */
+public class ShardedRosterStorage implements RosterStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedRosterStorage.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String MANIFEST_VERSION_FIELD = "version";
+    private static final String SHARD_DIRECTORY_SUFFIX = "-groups";
+    private static final String SHARD_FILE_PREFIX = "group-";
+    private static final String SHARD_FILE_EXTENSION = ".json";
+    private static final String BACKUP_FILE_EXTENSION = ".bak";
+
+    /** Version of rosters saved as a single file, before group files and manifests were introduced */
+    private static final int SINGLE_FILE_VERSION = 0;
+
+    private final Path filePath;
+
+    /** Course code and group name of each group, mapped to the loader of the file it is stored in */
+    private final Map<List<String>, ShardLoader> shards = new HashMap<>();
+
+    /**
+     * Group files whose loaders were given to groups. They are kept until the roster is next read, even when they are
+     * no longer listed by the manifest, as groups that are not loaded yet may still need them.
+     */
+    private final Set<String> sharedShardFiles = new HashSet<>();
+
+    /** Digest of the manifest as it was last read or saved, used to skip writing an unchanged manifest */
+    private byte[] savedManifestDigest;
+
+    private int nextShardId;
+
+    /** Shares the values of the roster read from the own file with the groups that are loaded from it later */
+    private ValueInterner valueInterner = new ValueInterner();
+
+    public ShardedRosterStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getRosterFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory where the group files of the roster at {@code filePath} are stored.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyRoster> readRoster() throws DataConversionException, IOException {
+        return readRoster(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRoster()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or a group file is not in the correct format, or is missing.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyRoster> readRoster(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Roster file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Reading Roster from " + filePath.toString());
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        try {
+            byte[] manifestBytes = Files.readAllBytes(filePath);
+            if (!isManifest(manifestBytes)) {
+                // saved as a single file by JsonRosterStorage
+                Roster roster = StreamingRosterReader.readRoster(manifestBytes);
+                if (isOwnFile) {
+                    Files.copy(filePath, getBackupPath(filePath), StandardCopyOption.REPLACE_EXISTING);
+                    migrate(roster, SINGLE_FILE_VERSION);
+                }
+                return Optional.of(roster);
+            }
+
+            ValueInterner interner = new ValueInterner();
+            if (isOwnFile) {
+                shards.clear();
+                sharedShardFiles.clear();
+                savedManifestDigest = digest(manifestBytes);
+                valueInterner = interner;
+            }
+
+            SerializedRosterManifest manifest = mapper.readValue(manifestBytes, SerializedRosterManifest.class);
+            if (manifest.getVersion() > SerializedRosterManifest.CURRENT_VERSION) {
+                throw new DataConversionException(new IOException("Roster file " + filePath + " has version "
+                        + manifest.getVersion() + ", which is newer than this app supports"));
+            }
+
+            // groups are only loaded lazily from files in the current version that this storage manages
+            boolean isLazy = isOwnFile && manifest.getVersion() == SerializedRosterManifest.CURRENT_VERSION;
+            Path shardDirectory = getShardDirectory(filePath);
+            Set<String> listedShardFiles = new HashSet<>();
+            Roster roster = new Roster();
+            for (SerializedCourseManifest serializedCourse : manifest.getCourses()) {
+                Course course = new Course(serializedCourse.getCourseCode());
+                for (SerializedGroupShard shard : serializedCourse.getGroups()) {
+                    Path shardPath = shardDirectory.resolve(shard.getFile());
+                    ShardLoader loader;
+                    if (isLazy) {
+                        if (!FileUtil.isFileExists(shardPath)) {
+                            throw new NoSuchFileException(shardPath.toString());
+                        }
+                        loader = new ShardLoader(this, shard.getGroupName(), shard.getFile(), shardPath,
+                                readOutline(shard), shard.getTaskGrades(), Group.newVersion(), interner);
+                        course.addGroup(new Group(shard.getGroupName(), loader));
+                        sharedShardFiles.add(shard.getFile());
+                    } else {
+                        // manifests of earlier versions may not list the whole outline, so it is taken from the group
+                        Group group = StreamingRosterReader.readGroup(Files.readAllBytes(shardPath), interner);
+                        loader = new ShardLoader(this, shard.getGroupName(), shard.getFile(), shardPath,
+                                GroupOutline.of(group), shard.getTaskGrades(), Group.newVersion(), interner);
+                        course.addGroup(group);
+                    }
+
+                    listedShardFiles.add(shard.getFile());
+                    if (isOwnFile) {
+                        shards.put(Arrays.asList(course.getCourseCode(), shard.getGroupName()), loader);
+                        nextShardId = Math.max(nextShardId, parseShardId(shard.getFile()) + 1);
+                    }
+                }
+                roster.addCourse(course);
+            }
+
+            if (isLazy) {
+                deleteUnlistedShardFiles(shardDirectory, listedShardFiles);
+            } else if (isOwnFile) {
+                migrate(roster, manifest.getVersion());
+            }
+            return Optional.of(roster);
+        } catch (JsonProcessingException | NoSuchFileException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveRoster(ReadOnlyRoster roster) throws IOException {
+        saveRoster(roster, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRoster(ReadOnlyRoster)}.
+     * Only groups that changed since they were last read or saved are written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveRoster(ReadOnlyRoster roster, Path filePath) throws IOException {
+        requireNonNull(roster);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new ShardedRosterStorage(filePath).saveRoster(roster);
+            return;
+        }
+
+        logger.info("Saving Roster to file at: " + filePath.toString());
+
+        Path shardDirectory = getShardDirectory(filePath);
+        Files.createDirectories(shardDirectory);
+
+        Map<List<String>, ShardLoader> newShards = new HashMap<>();
+        List<SerializedCourseManifest> serializedCourses = new ArrayList<>();
+        int writtenShards = 0;
+
+        for (Course course : roster.getUnmodifiableCourseList()) {
+            List<SerializedGroupShard> serializedGroups = new ArrayList<>();
+            for (Group group : course.getUnmodifiableGroupList()) {
+                List<String> shardKey = Arrays.asList(course.getCourseCode(), group.getGroupName());
+                ShardLoader shard = findSavedShard(shardKey, group);
+                if (shard == null) {
+                    shard = writeShard(shardDirectory, group);
+                    writtenShards++;
+                }
+                if (group.isLoaded()) {
+                    shard = recordSavedVersion(group, shard);
+                }
+                newShards.put(shardKey, shard);
+                serializedGroups.add(new SerializedGroupShard(group.getGroupName(), shard.file, shard.outline,
+                        shard.taskGrades));
+            }
+            serializedCourses.add(new SerializedCourseManifest(course.getCourseCode(), serializedGroups));
+        }
+
+        // the manifest is written after the group files it lists are on the disk, and before unlisted group files
+        // are deleted, so that it never refers to a missing file, even after a power loss
+        if (writtenShards > 0) {
+            FileUtil.forceDirectory(shardDirectory);
+        }
+        byte[] manifestBytes = mapper.writeValueAsBytes(new SerializedRosterManifest(serializedCourses));
+        byte[] manifestDigest = digest(manifestBytes);
+        if (!Arrays.equals(manifestDigest, savedManifestDigest)) {
+            FileUtil.writeAtomically(filePath, manifestBytes);
+            // the saved roster is only durable, and the log entries it holds only safe to delete, once the manifest
+            // is moved into place on the disk
+            FileUtil.forceDirectory(filePath.toAbsolutePath().getParent());
+            savedManifestDigest = manifestDigest;
+        }
+
+        Set<String> unusedShardFiles = new HashSet<>();
+        shards.values().forEach(shard -> unusedShardFiles.add(shard.file));
+        newShards.values().forEach(shard -> unusedShardFiles.remove(shard.file));
+        unusedShardFiles.removeAll(sharedShardFiles);
+        for (String unusedShardFile : unusedShardFiles) {
+            Files.deleteIfExists(shardDirectory.resolve(unusedShardFile));
+        }
+
+        shards.clear();
+        shards.putAll(newShards);
+        logger.fine("Wrote " + writtenShards + " of " + newShards.size() + " group files");
+    }
+
+    /**
+     * Returns the group file that already holds the contents of {@code group}, which is stored under
+     * {@code shardKey}, or null if the group has to be written to a new file.
+     * A group whose version was read or saved by this storage is found without serializing it.
+     */
+    private ShardLoader findSavedShard(List<String> shardKey, Group group) throws IOException {
+        ShardLoader ownLoader = getOwnLoader(group);
+        if (ownLoader != null && !group.isLoaded()) {
+            return ownLoader;
+        }
+        GroupLoader savedLoader = ownLoader == null ? null : ownLoader.getLoaderOf(group.getVersion());
+        if (savedLoader != null) {
+            return (ShardLoader) savedLoader;
+        }
+
+        byte[] groupDigest = digest(mapper.writeValueAsBytes(new SerializedGroup(group)));
+        ShardLoader savedShard = shards.get(shardKey);
+        if (savedShard != null && savedShard.hasDigest(groupDigest)) {
+            return savedShard;
+        }
+        if (ownLoader != null && ownLoader.hasDigest(groupDigest)) {
+            return ownLoader;
+        }
+        return null;
+    }
+
+    /**
+     * Records that the version of {@code group}, which is loaded, is stored in the group file of {@code shard}, so
+     * that the group that it was copied from can be unloaded once it is saved. Returns the loader of that version.
+     * Only the loader of the group is updated, as the group itself may have been copied for saving on another thread.
+     */
+    private ShardLoader recordSavedVersion(Group group, ShardLoader shard) {
+        ShardLoader savedShard = shard.version == group.getVersion()
+                ? shard
+                : new ShardLoader(this, group.getGroupName(), shard.file, shard.path, shard.outline,
+                        shard.taskGrades, group.getVersion(), valueInterner);
+        savedShard.digest = shard.digest;
+        ShardLoader ownLoader = getOwnLoader(group);
+        if (ownLoader != null && ownLoader != savedShard) {
+            ownLoader.savedShard = savedShard;
+        }
+        return savedShard;
+    }
+
+    /**
+     * Returns the loader of {@code group} if it was created by this storage, or null otherwise.
+     */
+    private ShardLoader getOwnLoader(Group group) {
+        GroupLoader groupLoader = group.getLoader();
+        return groupLoader instanceof ShardLoader && ((ShardLoader) groupLoader).storage == this
+                ? (ShardLoader) groupLoader
+                : null;
+    }
+
+    /**
+     * Returns the outline of the group listed by {@code shard}, as read from a manifest of the current version.
+     *
+     * @throws DataConversionException if the outline lists an invalid student ID, or a student ID without a name.
+     */
+    private GroupOutline readOutline(SerializedGroupShard shard) throws DataConversionException {
+        if (!shard.getStudentIds().stream().allMatch(StudentId::isValidStudentId)) {
+            throw new DataConversionException(new IOException("Roster file " + filePath
+                    + " lists an invalid student ID in group " + shard.getGroupName()));
+        }
+        if (shard.getStudentIds().size() != shard.getStudentNames().size()) {
+            throw new DataConversionException(new IOException("Roster file " + filePath
+                    + " does not list the name of each student in group " + shard.getGroupName()));
+        }
+        List<StudentId> studentIds = shard.getStudentIds().stream().map(StudentId::new).collect(Collectors.toList());
+        return new GroupOutline(studentIds, shard.getStudentNames(), shard.getSessionNames(),
+                shard.getTaskGrades().keySet());
+    }
+
+    /**
+     * Writes {@code group} to a new group file, and returns its loader.
+     */
+    private ShardLoader writeShard(Path shardDirectory, Group group) throws IOException {
+        String shardFile = SHARD_FILE_PREFIX + nextShardId++ + SHARD_FILE_EXTENSION;
+        Path shardPath = shardDirectory.resolve(shardFile);
+        byte[] bytes = mapper.writeValueAsBytes(new SerializedGroup(group));
+        FileUtil.writeAtomically(shardPath, bytes);
+
+        Map<String, Map<Integer, Integer>> taskGrades = new HashMap<>();
+        group.getUnmodifiableTaskList().forEach(task ->
+                taskGrades.put(task.getTaskName(), task.getStatistics().getGradeCounts()));
+        ShardLoader shard = new ShardLoader(this, group.getGroupName(), shardFile, shardPath, GroupOutline.of(group),
+                taskGrades, group.getVersion(), valueInterner);
+        shard.digest = digest(bytes);
+        return shard;
+    }
+
+    /**
+     * Deletes the group files in {@code shardDirectory} that are not in {@code listedShardFiles}, such as files of
+     * groups that were changed or deleted while they were still needed by groups that were not loaded.
+     */
+    private static void deleteUnlistedShardFiles(Path shardDirectory, Set<String> listedShardFiles)
+            throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, SHARD_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!listedShardFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewrites the files of {@code roster}, which was read from files of an earlier {@code version}, in the current
+     * version. If this fails, the files are left readable, and are migrated on the next save instead.
+     */
+    private void migrate(ReadOnlyRoster roster, int version) {
+        logger.info("Migrating Roster at " + filePath + " from version " + version + " to version "
+                + SerializedRosterManifest.CURRENT_VERSION);
+        try {
+            saveRoster(roster);
+        } catch (IOException e) {
+            logger.warning("Failed to migrate Roster, will retry on next save: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the path where a roster file in the single file format is copied to before it is migrated.
+     */
+    public static Path getBackupPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if {@code json} is a manifest, rather than a whole roster. Only the top level of {@code json} is
+     * scanned, without building any objects.
+     */
+    private static boolean isManifest(byte[] json) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (parser.getCurrentName().equals(MANIFEST_VERSION_FIELD)) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    private static byte[] digest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is supported by every Java platform", e);
+        }
+    }
+
+    private static int parseShardId(String shardFile) {
+        try {
+            return Integer.parseInt(shardFile.substring(SHARD_FILE_PREFIX.length(),
+                    shardFile.length() - SHARD_FILE_EXTENSION.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Loads a group from a group file, as the version of the group that was read from or saved to the file. Also keeps
+     * the digest of the file if it was saved, to tell whether a group has the same contents, and the outline and
+     * grade counts of each task of the group as listed by the manifest.
+     */
+    private static class ShardLoader implements GroupLoader {
+        private final ShardedRosterStorage storage;
+        private final String groupName;
+        private final String file;
+        private final Path path;
+        private final GroupOutline outline;
+        private final Map<String, Map<Integer, Integer>> taskGrades;
+        private final long version;
+        private final ValueInterner interner;
+
+        /** Digest of the group as it was saved to the file, or null if it was not saved since the roster was read */
+        private volatile byte[] digest;
+
+        /** Loader of the file that a later version of the group was last saved to, or null if there is none */
+        private volatile ShardLoader savedShard;
+
+        private ShardLoader(ShardedRosterStorage storage, String groupName, String file, Path path,
+                GroupOutline outline, Map<String, Map<Integer, Integer>> taskGrades, long version,
+                ValueInterner interner) {
+            this.storage = storage;
+            this.groupName = groupName;
+            this.file = file;
+            this.path = path;
+            this.outline = outline;
+            this.taskGrades = taskGrades;
+            this.version = version;
+            this.interner = interner;
+        }
+
+        @Override
+        public Group load() {
+            try {
+                return StreamingRosterReader.readGroup(Files.readAllBytes(path), interner);
+            } catch (IOException e) {
+                throw new GroupLoadException(groupName, e);
+            }
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public GroupLoader getLoaderOf(long version) {
+            for (ShardLoader shard = this; shard != null; shard = shard.savedShard) {
+                if (shard.version == version) {
+                    return shard;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Optional<GroupOutline> getOutline() {
+            return Optional.of(outline);
+        }
+
+        @Override
+        public Optional<Map<String, GradeStatistics>> getTaskStatistics() {
+            Map<String, GradeStatistics> taskStatistics = new HashMap<>();
+            taskGrades.forEach((taskName, gradeCounts) ->
+                    taskStatistics.put(taskName, GradeStatistics.ofGradeCounts(gradeCounts)));
+            return Optional.of(taskStatistics);
+        }
+
+        private boolean hasDigest(byte[] groupDigest) {
+            return Arrays.equals(digest, groupDigest);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package tfifteenfour.clipboard.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.model.DeltaRecorder;
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
 import tfifteenfour.clipboard.model.ReadOnlyUserPrefs;
 import tfifteenfour.clipboard.model.UserPrefs;
@@ -23,10 +25,38 @@ public interface Storage extends RosterStorage, UserPrefsStorage {
     @Override
     Path getRosterFilePath();
 
+    /**
+     * Returns the last saved roster, with the changes recorded in the command log since then applied to it.
+     * Returns {@code Optional.empty()} if there is no saved roster and no logged change.
+     */
     @Override
     Optional<ReadOnlyRoster> readRoster() throws DataConversionException, IOException;
 
     @Override
     void saveRoster(ReadOnlyRoster roster) throws IOException;
 
+    /**
+     * Marks {@code roster} as changed, so that it is saved in the background shortly after.
+     * Repeated requests before the roster is saved result in a single write.
+     */
+    void requestSaveRoster(ReadOnlyRoster roster);
+
+    /**
+     * Records in the command log that {@code commandText} modified {@code roster} as recorded by {@code changes}, which
+     * records the modifications of stored data that it made, in the order it made them, to the recorder it is given.
+     * Logged changes are kept until {@code roster} is next saved.
+     */
+    void logChange(String commandText, ReadOnlyRoster roster, Consumer<DeltaRecorder> changes) throws IOException;
+
+    /**
+     * Sets the handler to be called when saving the roster or writing the command log in the background fails.
+     * The handler is called on the background thread.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Saves any roster changes that have not been saved yet, and stops saving and logging in the background.
+     */
+    void close() throws IOException;
+
 }
@@ -2,30 +2,57 @@ package tfifteenfour.clipboard.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import tfifteenfour.clipboard.commons.core.LogsCenter;
 import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.model.DeltaRecorder;
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
 import tfifteenfour.clipboard.model.ReadOnlyUserPrefs;
+import tfifteenfour.clipboard.model.Roster;
 import tfifteenfour.clipboard.model.UserPrefs;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedLogEntry;
 
 /**
  * Manages storage of Roster data in local storage.
  */
 public class StorageManager implements Storage {
 
+    /** Number of logged changes after which the roster is saved, so that the log does not grow without bound */
+    public static final int CHANGES_PER_SAVE = 200;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private RosterStorage rosterStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandLog commandLog;
+    private RosterSaveWorker rosterSaveWorker;
+    private ReadOnlyRoster lastLoggedRoster;
 
     /**
      * Creates a {@code StorageManager} with the given {@code Roster} and {@code UserPrefStorage}.
+     * Rosters saved in the background are copied on the background thread, so they must not be modified concurrently.
      */
     public StorageManager(RosterStorage rosterStorage, UserPrefsStorage userPrefsStorage) {
+        this(rosterStorage, userPrefsStorage, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code Roster} and {@code UserPrefStorage}.
+     * Rosters saved in the background are copied using {@code modelThreadExecutor}, which should run tasks on the
+     * thread that modifies the roster.
+     * Changes are logged in a directory next to the roster file.
+     */
+    public StorageManager(RosterStorage rosterStorage, UserPrefsStorage userPrefsStorage,
+            Executor modelThreadExecutor) {
         this.rosterStorage = rosterStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandLog = new CommandLog(CommandLog.getLogDirectory(rosterStorage.getRosterFilePath()));
+        this.rosterSaveWorker = new RosterSaveWorker(rosterStorage, commandLog, modelThreadExecutor,
+                RosterSaveWorker.DEFAULT_SAVE_DELAY_MILLIS);
     }
 
     // ================ UserPrefs methods ==============================
@@ -55,7 +82,20 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyRoster> readRoster() throws DataConversionException, IOException {
-        return readRoster(rosterStorage.getRosterFilePath());
+        Optional<ReadOnlyRoster> savedRoster = readRoster(rosterStorage.getRosterFilePath());
+
+        List<SerializedLogEntry> loggedChanges = commandLog.readEntries();
+        if (loggedChanges.isEmpty()) {
+            return savedRoster;
+        }
+
+        logger.info("Applying " + loggedChanges.size() + " logged changes made after the roster was last saved");
+        Roster roster = new Roster(savedRoster.orElseGet(Roster::new));
+        for (SerializedLogEntry loggedChange : loggedChanges) {
+            logger.fine("Applying logged change of command: " + loggedChange.getCommand());
+            loggedChange.applyTo(roster);
+        }
+        return Optional.of(roster);
     }
 
     @Override
@@ -75,4 +115,52 @@ public class StorageManager implements Storage {
         rosterStorage.saveRoster(roster, filePath);
     }
 
+    @Override
+    public void requestSaveRoster(ReadOnlyRoster roster) {
+        rosterSaveWorker.requestSave(roster);
+    }
+
+    @Override
+    public void logChange(String commandText, ReadOnlyRoster roster, Consumer<DeltaRecorder> changes)
+            throws IOException {
+        LoggedDeltaRecorder recorder = new LoggedDeltaRecorder(roster);
+        try {
+            changes.accept(recorder);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Logging the whole roster for command " + commandText + ": " + e.getMessage());
+            logChange(SerializedLogEntry.ofRosterChange(commandText, roster), roster);
+            // the entry already holds the whole roster, so saving it costs little more and keeps the log short
+            rosterSaveWorker.requestSave(roster);
+            return;
+        }
+        logChange(SerializedLogEntry.ofDeltas(commandText, recorder.getDeltas()), roster);
+    }
+
+    private void logChange(SerializedLogEntry entry, ReadOnlyRoster roster) throws IOException {
+        commandLog.append(entry);
+        lastLoggedRoster = roster;
+        if (commandLog.getEntriesSinceNewSegment() >= CHANGES_PER_SAVE) {
+            rosterSaveWorker.requestSave(roster);
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        rosterSaveWorker.setSaveErrorHandler(saveErrorHandler);
+        commandLog.setWriteErrorHandler(saveErrorHandler);
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.fine("Saving unsaved changes to data file: " + rosterStorage.getRosterFilePath());
+        try {
+            if (commandLog.getEntriesSinceNewSegment() > 0) {
+                rosterSaveWorker.requestSave(lastLoggedRoster);
+            }
+            rosterSaveWorker.close();
+        } finally {
+            commandLog.close();
+        }
+    }
+
 }
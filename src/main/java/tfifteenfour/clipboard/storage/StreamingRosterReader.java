@@ -0,0 +1,337 @@
+package tfifteenfour.clipboard.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Reads rosters and groups in the json format of the serialized classes, building the model objects directly as the
+ * json tokens are read. Unlike reading into the serialized classes first, no intermediate copy of the data is kept,
+ * so reading a large roster needs about half the memory.
+ * Students in the attendance of sessions and the grades of tasks are resolved by student ID against the students of
+ * their group, including full copies of students as stored by earlier versions. Entries of students who are not in
+ * their group, such as those left behind by earlier versions when a student was deleted, are pruned, and the number
+ * pruned is logged.
+ * Equal values within a roster, such as the details of a student who is in several groups, or session names that
+ * every group has, are shared through a {@link ValueInterner}.
+ */
+public class StreamingRosterReader {
+    private static final Logger logger = LogsCenter.getLogger(StreamingRosterReader.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private StreamingRosterReader() {}
+
+    /**
+     * Reads a roster in the format of {@code SerializedRoster} from {@code json}.
+     *
+     * @throws JsonParseException if {@code json} is not a roster in the expected format.
+     */
+    public static Roster readRoster(byte[] json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return readRoster(parser);
+        }
+    }
+
+    /**
+     * Reads a roster in the format of {@code SerializedRoster} from the file at {@code filePath}.
+     * The file is read as it is parsed, so its contents are never held in memory as a whole.
+     *
+     * @throws JsonParseException if the file is not a roster in the expected format.
+     */
+    public static Roster readRoster(Path filePath) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(filePath.toFile())) {
+            return readRoster(parser);
+        }
+    }
+
+    private static Roster readRoster(JsonParser parser) throws IOException {
+        parser.nextToken();
+        Roster roster = new Roster();
+        ReadContext context = new ReadContext(new ValueInterner());
+        readObject(parser, field -> {
+            if (field.equals("courses")) {
+                readArray(parser, () -> roster.addCourse(readCourse(parser, context)));
+            } else {
+                parser.skipChildren();
+            }
+        });
+        logPrunedEntries(context.prunedEntries);
+        return roster;
+    }
+
+    /**
+     * Reads a group in the format of {@code SerializedGroup} from {@code json}.
+     *
+     * @throws JsonParseException if {@code json} is not a group in the expected format.
+     */
+    public static Group readGroup(byte[] json) throws IOException {
+        return readGroup(json, new ValueInterner());
+    }
+
+    /**
+     * Reads a group in the format of {@code SerializedGroup} from {@code json}, sharing its values with the other
+     * groups of its roster through {@code interner}.
+     *
+     * @throws JsonParseException if {@code json} is not a group in the expected format.
+     */
+    public static Group readGroup(byte[] json, ValueInterner interner) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            parser.nextToken();
+            ReadContext context = new ReadContext(interner);
+            Group group = readGroup(parser, context);
+            logPrunedEntries(context.prunedEntries);
+            return group;
+        }
+    }
+
+    private static void logPrunedEntries(int prunedEntries) {
+        if (prunedEntries > 0) {
+            logger.info("Pruned " + prunedEntries + " attendance and grade entries of students not in their group");
+        }
+    }
+
+    private static Course readCourse(JsonParser parser, ReadContext context) throws IOException {
+        String[] courseCode = new String[1];
+        List<Group> groups = new ArrayList<>();
+        readObject(parser, field -> {
+            switch (field) {
+            case "courseCode":
+                courseCode[0] = parser.getValueAsString();
+                break;
+            case "groups":
+                readArray(parser, () -> groups.add(readGroup(parser, context)));
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        });
+
+        Course course = new Course(context.interner.internText(requireField(parser, courseCode[0], "courseCode")));
+        groups.forEach(course::addGroup);
+        return course;
+    }
+
+    /**
+     * Reads a group, adding the number of pruned entries of students who are not in the group to {@code context}.
+     */
+    private static Group readGroup(JsonParser parser, ReadContext context) throws IOException {
+        String[] groupName = new String[1];
+        List<Student> students = new ArrayList<>();
+        List<StudentValues> sessions = new ArrayList<>();
+        List<StudentValues> tasks = new ArrayList<>();
+        readObject(parser, field -> {
+            switch (field) {
+            case "groupName":
+                groupName[0] = parser.getValueAsString();
+                break;
+            case "students":
+                readArray(parser, () -> students.add(readStudent(parser, context.interner)));
+                break;
+            case "sessions":
+                readArray(parser, () -> sessions.add(
+                        readStudentValues(parser, context.interner, "sessionName", "keys", "values")));
+                break;
+            case "tasks":
+                readArray(parser, () -> tasks.add(
+                        readStudentValues(parser, context.interner, "taskName", "students", "grades")));
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        });
+
+        Group group = new Group(context.interner.internText(requireField(parser, groupName[0], "groupName")));
+        group.addStudents(students);
+        Map<String, Student> studentsById = new HashMap<>();
+        for (Student student : students) {
+            studentsById.put(student.getStudentId().toString(), student);
+        }
+        for (StudentValues sessionValues : sessions) {
+            Session session = new Session(context.interner.internText(
+                    requireField(parser, sessionValues.name, "sessionName")));
+            try {
+                session.setAttendance(sessionValues.toMap(parser, studentsById, context));
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException(parser, "Invalid attendance: " + e.getMessage(), e);
+            }
+            group.addSession(session);
+        }
+        for (StudentValues taskValues : tasks) {
+            Task task = new Task(context.interner.internText(requireField(parser, taskValues.name, "taskName")));
+            task.setGrades(taskValues.toMap(parser, studentsById, context));
+            group.addTask(task);
+        }
+        return group;
+    }
+
+    /**
+     * Reads a session or task, with the given field names for its name, its full copies of students as stored by
+     * earlier versions, and its values. Its students are resolved once all students of the group are read.
+     */
+    private static StudentValues readStudentValues(JsonParser parser, ValueInterner interner, String nameField,
+            String legacyStudentsField, String valuesField) throws IOException {
+        StudentValues studentValues = new StudentValues();
+        readObject(parser, field -> {
+            if (field.equals(nameField)) {
+                studentValues.name = parser.getValueAsString();
+            } else if (field.equals("studentIds")) {
+                readArray(parser, () -> studentValues.studentIds.add(parser.getValueAsString()));
+            } else if (field.equals(legacyStudentsField)) {
+                readArray(parser, () -> studentValues.legacyStudents.add(readStudent(parser, interner)));
+            } else if (field.equals(valuesField)) {
+                readArray(parser, () -> studentValues.values.add(parser.getIntValue()));
+            } else {
+                parser.skipChildren();
+            }
+        });
+        return studentValues;
+    }
+
+    private static Student readStudent(JsonParser parser, ValueInterner interner) throws IOException {
+        String[] fields = new String[5];
+        readObject(parser, field -> {
+            switch (field) {
+            case "name":
+                fields[0] = parser.getValueAsString();
+                break;
+            case "phone":
+                fields[1] = parser.getValueAsString();
+                break;
+            case "email":
+                fields[2] = parser.getValueAsString();
+                break;
+            case "studentId":
+                fields[3] = parser.getValueAsString();
+                break;
+            case "remark":
+                fields[4] = parser.getValueAsString();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        });
+
+        try {
+            return interner.internStudent(fields[0], fields[1], fields[2], fields[3], fields[4]);
+        } catch (NullPointerException | IllegalArgumentException e) {
+            throw new JsonParseException(parser, "Invalid student: " + e.getMessage(), e);
+        }
+    }
+
+    private static String requireField(JsonParser parser, String value, String fieldName) throws JsonParseException {
+        if (value == null) {
+            throw new JsonParseException(parser, "Missing field: " + fieldName);
+        }
+        return value;
+    }
+
+    /**
+     * Reads the object at the current token, calling {@code fieldReader} with the parser at the value of each field.
+     */
+    private static void readObject(JsonParser parser, FieldReader fieldReader) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            fieldReader.read(field);
+        }
+        expect(parser, JsonToken.END_OBJECT);
+    }
+
+    /**
+     * Reads the array at the current token, calling {@code elementReader} with the parser at each element.
+     */
+    private static void readArray(JsonParser parser, ElementReader elementReader) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == null) {
+                throw new JsonParseException(parser, "Unexpected end of input in array");
+            }
+            elementReader.read();
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken expectedToken) throws JsonParseException {
+        if (parser.getCurrentToken() != expectedToken) {
+            throw new JsonParseException(parser,
+                    "Expected " + expectedToken + " but found " + parser.getCurrentToken());
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        void read(String field) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader {
+        void read() throws IOException;
+    }
+
+    /**
+     * The state of reading a roster or group: the interner of its values, and the number of pruned entries.
+     */
+    private static class ReadContext {
+        private final ValueInterner interner;
+        private int prunedEntries;
+
+        private ReadContext(ValueInterner interner) {
+            this.interner = interner;
+        }
+    }
+
+    /**
+     * The name, students and values of a session or task.
+     */
+    private static class StudentValues {
+        private String name;
+        private final List<String> studentIds = new ArrayList<>();
+        private final List<Student> legacyStudents = new ArrayList<>();
+        private final List<Integer> values = new ArrayList<>();
+
+        /**
+         * Returns the value of each student, where students are those of the group in {@code groupStudents}.
+         * Entries of students who are not in the group are dropped, and counted in {@code context}.
+         */
+        private Map<Student, Integer> toMap(JsonParser parser, Map<String, Student> groupStudents,
+                ReadContext context) throws JsonParseException {
+            boolean isLegacy = studentIds.isEmpty() && !legacyStudents.isEmpty();
+            int studentCount = isLegacy ? legacyStudents.size() : studentIds.size();
+            if (studentCount != values.size()) {
+                throw new JsonParseException(parser, "Number of students and values of " + name + " differ");
+            }
+
+            Map<Student, Integer> map = new HashMap<>();
+            for (int i = 0; i < studentCount; i++) {
+                String studentId = isLegacy ? legacyStudents.get(i).getStudentId().toString() : studentIds.get(i);
+                Student student = groupStudents.get(studentId);
+                if (student != null) {
+                    map.put(student, values.get(i));
+                } else {
+                    context.prunedEntries++;
+                }
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package tfifteenfour.clipboard.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import tfifteenfour.clipboard.model.student.Email;
+import tfifteenfour.clipboard.model.student.Name;
+import tfifteenfour.clipboard.model.student.Phone;
+import tfifteenfour.clipboard.model.student.Remark;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * Shares equal values read for one roster, so that a value that appears many times, such as the empty remark, or a
+ * session name like "Week1" that every group has, is held once. The value objects of students are looked up by their
+ * text, so a value that was already read is not validated again either.
+ * An interner is scoped to the roster that it is used to read, including the groups of the roster that are loaded
+ * later, and is dropped together with the roster.
+ */
+public class ValueInterner {
+    private final Map<String, Name> names = new HashMap<>();
+    private final Map<String, Phone> phones = new HashMap<>();
+    private final Map<String, Email> emails = new HashMap<>();
+    private final Map<String, StudentId> studentIds = new HashMap<>();
+    private final Map<String, Remark> remarks = new HashMap<>();
+
+    /** Names of courses, groups, sessions and tasks */
+    private final Map<String, String> texts = new HashMap<>();
+
+    /**
+     * Returns a student with the given details, made of values shared with the other students read with this
+     * interner.
+     *
+     * @throws NullPointerException if a detail is null.
+     * @throws IllegalArgumentException if a detail is not valid.
+     */
+    public synchronized Student internStudent(String name, String phone, String email, String studentId,
+            String remark) {
+        return new Student(intern(names, name, Name::new), intern(phones, phone, Phone::new),
+                intern(emails, email, Email::new), intern(studentIds, studentId, StudentId::new),
+                intern(remarks, remark, Remark::new));
+    }
+
+    /**
+     * Returns the string equal to {@code text} that was first given to this interner, such as the name of a session.
+     */
+    public synchronized String internText(String text) {
+        return text == null ? null : intern(texts, text, Function.identity());
+    }
+
+    /**
+     * Returns the number of distinct values held by this interner.
+     */
+    public synchronized int size() {
+        return names.size() + phones.size() + emails.size() + studentIds.size() + remarks.size() + texts.size();
+    }
+
+    private static <T> T intern(Map<String, T> values, String text, Function<String, T> constructor) {
+        if (text == null) {
+            throw new NullPointerException();
+        }
+        T value = values.get(text);
+        if (value == null) {
+            // the value is only stored once it is constructed, as constructing it validates the text
+            value = constructor.apply(text);
+            values.put(text, value);
+        }
+        return value;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.storage.ValueInterner;
 
 /**
  * Serializes a course into json format
@@ -44,8 +45,16 @@ public class SerializedCourse {
      * Converts this serialized course to a {@code Course} object
      */
     public Course toModelType() {
-        Course newCourse = new Course(courseCode);
-        this.groups.stream().forEach(group -> newCourse.addGroup(group.toModelType()));
+        return toModelType(new ValueInterner());
+    }
+
+    /**
+     * Converts this serialized course to a {@code Course} object, sharing its values with the other courses of its
+     * roster through {@code interner}.
+     */
+    public Course toModelType(ValueInterner interner) {
+        Course newCourse = new Course(interner.internText(courseCode));
+        this.groups.stream().forEach(group -> newCourse.addGroup(group.toModelType(interner)));
         return newCourse;
     }
 }
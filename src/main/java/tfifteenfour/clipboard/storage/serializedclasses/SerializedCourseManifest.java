@@ -0,0 +1,34 @@
+package tfifteenfour.clipboard.storage.serializedclasses;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Serializes a course, with the locations of the files that store its groups, into json format.
+ */
+public class SerializedCourseManifest {
+    private String courseCode;
+    private List<SerializedGroupShard> groups = new ArrayList<>();
+
+    /**
+     * Constructs a {@code SerializedCourseManifest} with the given course code and group files.
+     */
+    public SerializedCourseManifest(String courseCode, List<SerializedGroupShard> groups) {
+        this.courseCode = courseCode;
+        this.groups = groups;
+    }
+
+    public SerializedCourseManifest() {}
+
+    @JsonProperty("courseCode")
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    @JsonProperty("groups")
+    public List<SerializedGroupShard> getGroups() {
+        return groups;
+    }
+}
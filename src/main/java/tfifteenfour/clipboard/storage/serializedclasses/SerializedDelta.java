@@ -0,0 +1,444 @@
+package tfifteenfour.clipboard.storage.serializedclasses;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Serializes a single modification of a roster into json format, referring to the parts of the roster that it
+ * modified by their names and student IDs, and holding only the elements that it added.
+ * Applying a delta checks that the roster is in the state that the delta was recorded from, and skips the delta
+ * otherwise, so that applying deltas that are already applied, in the order they were made, leaves the roster as it is.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SerializedDelta {
+    /** Kinds of modifications */
+    public enum Type { SPLICE, RENAME, ADD_STUDENTS, DELETE_STUDENTS, REPLACE_STUDENT, ATTENDANCE, GRADE }
+
+    /** Lists of a roster that are modified by {@link Type#SPLICE} and {@link Type#RENAME} */
+    public enum ListKind { COURSES, GROUPS, SESSIONS, TASKS }
+
+    private Type type;
+    private ListKind list;
+    private String courseCode;
+    private String groupName;
+    private String name;
+    private String newName;
+    private Integer index;
+    private List<String> removedNames;
+    private List<SerializedCourse> addedCourses;
+    private List<SerializedGroup> addedGroups;
+    private List<SerializedSession> addedSessions;
+    private List<SerializedTask> addedTasks;
+    private List<SerializedStudent> students;
+    private List<String> studentIds;
+    private Integer value;
+
+    public SerializedDelta() {}
+
+    private SerializedDelta(Type type, String courseCode, String groupName) {
+        this.type = type;
+        this.courseCode = courseCode;
+        this.groupName = groupName;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the courses named {@code removedNames}, starting at {@code index} of
+     * the courses of the roster, were replaced by {@code added}.
+     */
+    public static SerializedDelta ofCourseSplice(int index, List<String> removedNames, List<Course> added) {
+        SerializedDelta delta = ofSplice(ListKind.COURSES, null, null, index, removedNames);
+        delta.addedCourses = added.stream().map(SerializedCourse::new).collect(Collectors.toList());
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the groups named {@code removedNames}, starting at {@code index} of
+     * the groups of the course of {@code courseCode}, were replaced by {@code added}.
+     */
+    public static SerializedDelta ofGroupSplice(String courseCode, int index, List<String> removedNames,
+            List<Group> added) {
+        SerializedDelta delta = ofSplice(ListKind.GROUPS, courseCode, null, index, removedNames);
+        delta.addedGroups = added.stream().map(SerializedGroup::new).collect(Collectors.toList());
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the sessions named {@code removedNames}, starting at {@code index} of
+     * the sessions of the group of {@code groupName} in the course of {@code courseCode}, were replaced by
+     * {@code added}.
+     */
+    public static SerializedDelta ofSessionSplice(String courseCode, String groupName, int index,
+            List<String> removedNames, List<Session> added) {
+        SerializedDelta delta = ofSplice(ListKind.SESSIONS, courseCode, groupName, index, removedNames);
+        delta.addedSessions = added.stream().map(SerializedSession::new).collect(Collectors.toList());
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the tasks named {@code removedNames}, starting at {@code index} of
+     * the tasks of the group of {@code groupName} in the course of {@code courseCode}, were replaced by {@code added}.
+     */
+    public static SerializedDelta ofTaskSplice(String courseCode, String groupName, int index,
+            List<String> removedNames, List<Task> added) {
+        SerializedDelta delta = ofSplice(ListKind.TASKS, courseCode, groupName, index, removedNames);
+        delta.addedTasks = added.stream().map(SerializedTask::new).collect(Collectors.toList());
+        return delta;
+    }
+
+    private static SerializedDelta ofSplice(ListKind list, String courseCode, String groupName, int index,
+            List<String> removedNames) {
+        SerializedDelta delta = new SerializedDelta(Type.SPLICE, courseCode, groupName);
+        delta.list = list;
+        delta.index = index;
+        delta.removedNames = new ArrayList<>(removedNames);
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the course or group named {@code name}, at {@code index} of the
+     * courses of the roster or of the groups of the course of {@code courseCode}, was renamed to {@code newName},
+     * keeping everything in it.
+     */
+    public static SerializedDelta ofRename(ListKind list, String courseCode, int index, String name,
+            String newName) {
+        assert list == ListKind.COURSES || list == ListKind.GROUPS;
+        SerializedDelta delta = new SerializedDelta(Type.RENAME, courseCode, null);
+        delta.list = list;
+        delta.index = index;
+        delta.name = name;
+        delta.newName = newName;
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where {@code added} were added to the group of {@code groupName} in the
+     * course of {@code courseCode}, starting at {@code index} of its students.
+     */
+    public static SerializedDelta ofStudentsAdded(String courseCode, String groupName, int index,
+            List<Student> added) {
+        SerializedDelta delta = new SerializedDelta(Type.ADD_STUDENTS, courseCode, groupName);
+        delta.index = index;
+        delta.students = added.stream().map(SerializedStudent::new).collect(Collectors.toList());
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the students of {@code deletedIds} were deleted from the group of
+     * {@code groupName} in the course of {@code courseCode}.
+     */
+    public static SerializedDelta ofStudentsDeleted(String courseCode, String groupName, List<String> deletedIds) {
+        SerializedDelta delta = new SerializedDelta(Type.DELETE_STUDENTS, courseCode, groupName);
+        delta.studentIds = new ArrayList<>(deletedIds);
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the student of {@code oldStudentId} was replaced by
+     * {@code newStudent} in the group of {@code groupName} in the course of {@code courseCode}.
+     */
+    public static SerializedDelta ofStudentReplaced(String courseCode, String groupName, String oldStudentId,
+            Student newStudent) {
+        SerializedDelta delta = new SerializedDelta(Type.REPLACE_STUDENT, courseCode, groupName);
+        delta.studentIds = List.of(oldStudentId);
+        delta.students = List.of(new SerializedStudent(newStudent));
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the attendance of the student of {@code studentId} in the session of
+     * {@code sessionName}, of the group of {@code groupName} in the course of {@code courseCode}, was set to
+     * {@code attendance}.
+     */
+    public static SerializedDelta ofAttendance(String courseCode, String groupName, String sessionName,
+            String studentId, int attendance) {
+        SerializedDelta delta = new SerializedDelta(Type.ATTENDANCE, courseCode, groupName);
+        delta.name = sessionName;
+        delta.studentIds = List.of(studentId);
+        delta.value = attendance;
+        return delta;
+    }
+
+    /**
+     * Constructs a {@code SerializedDelta} where the grade of the student of {@code studentId} in the task of
+     * {@code taskName}, of the group of {@code groupName} in the course of {@code courseCode}, was set to
+     * {@code grade}.
+     */
+    public static SerializedDelta ofGrade(String courseCode, String groupName, String taskName, String studentId,
+            int grade) {
+        SerializedDelta delta = new SerializedDelta(Type.GRADE, courseCode, groupName);
+        delta.name = taskName;
+        delta.studentIds = List.of(studentId);
+        delta.value = grade;
+        return delta;
+    }
+
+    @JsonProperty("type")
+    public Type getType() {
+        return type;
+    }
+
+    @JsonProperty("list")
+    public ListKind getList() {
+        return list;
+    }
+
+    @JsonProperty("courseCode")
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    @JsonProperty("groupName")
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    @JsonProperty("newName")
+    public String getNewName() {
+        return newName;
+    }
+
+    @JsonProperty("index")
+    public Integer getIndex() {
+        return index;
+    }
+
+    @JsonProperty("removedNames")
+    public List<String> getRemovedNames() {
+        return removedNames;
+    }
+
+    @JsonProperty("addedCourses")
+    public List<SerializedCourse> getAddedCourses() {
+        return addedCourses;
+    }
+
+    @JsonProperty("addedGroups")
+    public List<SerializedGroup> getAddedGroups() {
+        return addedGroups;
+    }
+
+    @JsonProperty("addedSessions")
+    public List<SerializedSession> getAddedSessions() {
+        return addedSessions;
+    }
+
+    @JsonProperty("addedTasks")
+    public List<SerializedTask> getAddedTasks() {
+        return addedTasks;
+    }
+
+    @JsonProperty("students")
+    public List<SerializedStudent> getStudents() {
+        return students;
+    }
+
+    @JsonProperty("studentIds")
+    public List<String> getStudentIds() {
+        return studentIds;
+    }
+
+    @JsonProperty("value")
+    public Integer getValue() {
+        return value;
+    }
+
+    /**
+     * Applies this modification to {@code target}, if {@code target} is in the state that it was recorded from.
+     * Modifications of courses and groups that no longer exist in {@code target} are skipped, as they were removed by
+     * a later modification.
+     */
+    public void applyTo(Roster target) {
+        if (type == Type.SPLICE || type == Type.RENAME) {
+            applyToList(target);
+            return;
+        }
+        Optional<Group> group = findCourse(target, courseCode).flatMap(course -> findGroup(course, groupName));
+        if (group.isEmpty()) {
+            return;
+        }
+        switch (type) {
+        case ADD_STUDENTS:
+            addStudents(group.get());
+            break;
+        case DELETE_STUDENTS:
+            deleteStudents(group.get());
+            break;
+        case REPLACE_STUDENT:
+            replaceStudent(group.get());
+            break;
+        case ATTENDANCE:
+            markAttendance(group.get());
+            break;
+        case GRADE:
+            assignGrade(group.get());
+            break;
+        default:
+            throw new IllegalStateException("Unknown type of logged change: " + type);
+        }
+    }
+
+    private void applyToList(Roster target) {
+        if (list == ListKind.COURSES) {
+            List<Course> courses = target.getModifiableCourseList();
+            if (type == Type.RENAME) {
+                rename(courses, Course::getCourseCode, course -> {
+                    Course renamedCourse = new Course(newName);
+                    course.getUnmodifiableGroupList().forEach(renamedCourse::addGroup);
+                    return renamedCourse;
+                });
+            } else {
+                splice(courses, Course::getCourseCode, convert(addedCourses, SerializedCourse::toModelType));
+            }
+            return;
+        }
+
+        Optional<Course> course = findCourse(target, courseCode);
+        if (course.isEmpty()) {
+            return;
+        }
+        if (list == ListKind.GROUPS) {
+            List<Group> groups = course.get().getModifiableGroupList();
+            if (type == Type.RENAME) {
+                rename(groups, Group::getGroupName, group -> group.copyWithName(newName));
+            } else {
+                splice(groups, Group::getGroupName, convert(addedGroups, SerializedGroup::toModelType));
+            }
+            return;
+        }
+
+        Optional<Group> group = findGroup(course.get(), groupName);
+        if (group.isEmpty()) {
+            return;
+        }
+        Map<String, Student> groupStudents = getStudentsById(group.get());
+        if (list == ListKind.SESSIONS) {
+            splice(group.get().getModifiableSessionList(), Session::getSessionName,
+                    convert(addedSessions, session -> session.toModelType(groupStudents)));
+        } else {
+            splice(group.get().getModifiableTaskList(), Task::getTaskName,
+                    convert(addedTasks, task -> task.toModelType(groupStudents)));
+        }
+    }
+
+    /**
+     * Replaces the elements named by {@code removedNames} at {@code index} of {@code elements} by {@code added}.
+     * An addition is skipped if any of the added elements is already in {@code elements}, and any other splice is
+     * skipped if the removed elements are not at {@code index}, as the splice is then already applied.
+     */
+    private <T> void splice(List<T> elements, Function<T, String> nameOf, List<T> added) {
+        List<String> names = elements.stream().map(nameOf).collect(Collectors.toList());
+        boolean isPending = index + removedNames.size() <= names.size()
+                && names.subList(index, index + removedNames.size()).equals(removedNames);
+        boolean isAdded = added.stream().map(nameOf).anyMatch(names::contains);
+        if (!isPending || (removedNames.isEmpty() && isAdded)) {
+            return;
+        }
+        elements.subList(index, index + removedNames.size()).clear();
+        elements.addAll(index, added);
+    }
+
+    private <T> void rename(List<T> elements, Function<T, String> nameOf, Function<T, T> renamer) {
+        if (index < elements.size() && nameOf.apply(elements.get(index)).equals(name)) {
+            elements.set(index, renamer.apply(elements.get(index)));
+        }
+    }
+
+    private void addStudents(Group group) {
+        Map<String, Student> groupStudents = getStudentsById(group);
+        List<Student> addedStudents = students.stream()
+                .map(SerializedStudent::toModelType)
+                .filter(student -> !groupStudents.containsKey(student.getStudentId().toString()))
+                .collect(Collectors.toList());
+        group.addStudents(Math.min(index, group.getUnmodifiableStudentList().size()), addedStudents);
+    }
+
+    private void deleteStudents(Group group) {
+        Map<String, Student> groupStudents = getStudentsById(group);
+        List<Student> deletedStudents = studentIds.stream()
+                .filter(groupStudents::containsKey)
+                .map(groupStudents::get)
+                .collect(Collectors.toList());
+        group.deleteStudents(deletedStudents);
+    }
+
+    private void replaceStudent(Group group) {
+        Map<String, Student> groupStudents = getStudentsById(group);
+        String oldStudentId = studentIds.get(0);
+        Student oldStudent = groupStudents.get(oldStudentId);
+        Student newStudent = students.get(0).toModelType();
+        String newStudentId = newStudent.getStudentId().toString();
+        if (oldStudent == null || (!newStudentId.equals(oldStudentId) && groupStudents.containsKey(newStudentId))) {
+            return;
+        }
+        group.replaceStudent(oldStudent, newStudent);
+    }
+
+    private void markAttendance(Group group) {
+        Student student = getStudentsById(group).get(studentIds.get(0));
+        Optional<Session> session = group.getUnmodifiableSessionList().stream()
+                .filter(groupSession -> groupSession.getSessionName().equals(name))
+                .findFirst();
+        if (student == null || session.isEmpty()) {
+            return;
+        }
+        if (value == Session.PRESENT) {
+            session.get().markPresent(student);
+        } else {
+            session.get().markAbsent(student);
+        }
+    }
+
+    private void assignGrade(Group group) {
+        Student student = getStudentsById(group).get(studentIds.get(0));
+        Optional<Task> task = group.getUnmodifiableTaskList().stream()
+                .filter(groupTask -> groupTask.getTaskName().equals(name))
+                .findFirst();
+        if (student == null || task.isEmpty()) {
+            return;
+        }
+        task.get().assignGrade(student, value);
+    }
+
+    private static <S, T> List<T> convert(List<S> serialized, Function<S, T> converter) {
+        return serialized.stream().map(converter).collect(Collectors.toList());
+    }
+
+    private static Map<String, Student> getStudentsById(Group group) {
+        Map<String, Student> groupStudents = new HashMap<>();
+        group.getUnmodifiableStudentList().forEach(student ->
+                groupStudents.put(student.getStudentId().toString(), student));
+        return groupStudents;
+    }
+
+    private static Optional<Course> findCourse(Roster target, String courseCode) {
+        return target.getUnmodifiableCourseList().stream()
+                .filter(course -> course.getCourseCode().equals(courseCode))
+                .findFirst();
+    }
+
+    private static Optional<Group> findGroup(Course course, String groupName) {
+        return course.getUnmodifiableGroupList().stream()
+                .filter(group -> group.getGroupName().equals(groupName))
+                .findFirst();
+    }
+}
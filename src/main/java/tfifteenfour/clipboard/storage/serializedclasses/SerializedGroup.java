@@ -1,12 +1,16 @@
 package tfifteenfour.clipboard.storage.serializedclasses;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.storage.ValueInterner;
 
 /**
  * Serializes a group to JSON format.
@@ -60,10 +64,24 @@ public class SerializedGroup {
      * @return A {@code Group} object that corresponds to this {@code SerializedGroup} object.
      */
     public Group toModelType() {
-        Group newGroup = new Group(this.groupName);
-        this.students.stream().forEach(student -> newGroup.addStudent(student.toModelType()));
-        this.sessions.stream().forEach(session -> newGroup.addSession(session.toModelType()));
-        this.tasks.stream().forEach(task -> newGroup.addTask(task.toModelType()));
+        return toModelType(new ValueInterner());
+    }
+
+    /**
+     * Converts current {@code SerializedGroup} object into a {@code Group} object and returns it, sharing its values
+     * with the other groups of its roster through {@code interner}.
+     * @return A {@code Group} object that corresponds to this {@code SerializedGroup} object.
+     */
+    public Group toModelType(ValueInterner interner) {
+        Group newGroup = new Group(interner.internText(this.groupName));
+        List<Student> newStudents = this.students.stream()
+                .map(student -> student.toModelType(interner))
+                .collect(Collectors.toList());
+        newGroup.addStudents(newStudents);
+        Map<String, Student> studentsById = new HashMap<>();
+        newStudents.forEach(student -> studentsById.put(student.getStudentId().toString(), student));
+        this.sessions.stream().forEach(session -> newGroup.addSession(session.toModelType(studentsById)));
+        this.tasks.stream().forEach(task -> newGroup.addTask(task.toModelType(studentsById)));
         return newGroup;
     }
 }
@@ -0,0 +1,74 @@
+package tfifteenfour.clipboard.storage.serializedclasses;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tfifteenfour.clipboard.model.course.GroupOutline;
+
+/**
+ * Serializes the location of the file that stores a single group, the student IDs and names of its students, the names
+ * of its sessions and the counts of the grades of its tasks, into json format.
+ */
+public class SerializedGroupShard {
+    private String groupName;
+    private String file;
+    private List<String> studentIds = new ArrayList<>();
+    private List<String> studentNames = new ArrayList<>();
+    private List<String> sessionNames = new ArrayList<>();
+    private Map<String, Map<Integer, Integer>> taskGrades = new HashMap<>();
+
+    /**
+     * Constructs a {@code SerializedGroupShard} for the group with the given name, outline and grade counts of each
+     * task, stored in the given file.
+     */
+    public SerializedGroupShard(String groupName, String file, GroupOutline outline,
+            Map<String, Map<Integer, Integer>> taskGrades) {
+        this.groupName = groupName;
+        this.file = file;
+        outline.getStudentIds().forEach(studentId -> studentIds.add(studentId.value));
+        this.studentNames = outline.getStudentNames();
+        this.sessionNames = outline.getSessionNames();
+        this.taskGrades = taskGrades;
+    }
+
+    public SerializedGroupShard() {}
+
+    @JsonProperty("groupName")
+    public String getGroupName() {
+        return groupName;
+    }
+
+    // file name relative to the shard directory
+    @JsonProperty("file")
+    public String getFile() {
+        return file;
+    }
+
+    // listed so that the groups of a student can be found without reading every group file
+    @JsonProperty("studentIds")
+    public List<String> getStudentIds() {
+        return studentIds;
+    }
+
+    // listed in the order of the student IDs, so that students can be searched for without reading every group file
+    @JsonProperty("studentNames")
+    public List<String> getStudentNames() {
+        return studentNames;
+    }
+
+    // listed so that sessions can be searched for without reading every group file, as tasks are by their grade counts
+    @JsonProperty("sessionNames")
+    public List<String> getSessionNames() {
+        return sessionNames;
+    }
+
+    // listed so that the grade statistics of a course can be found without reading every group file
+    @JsonProperty("taskGrades")
+    public Map<String, Map<Integer, Integer>> getTaskGrades() {
+        return taskGrades;
+    }
+}
@@ -0,0 +1,112 @@
+package tfifteenfour.clipboard.storage.serializedclasses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+
+/**
+ * Serializes a command that modified the roster, together with its effect, into json format.
+ * The effect is the modifications that the command made, in the order it made them, or the whole roster if they could
+ * not be told apart. Entries written by earlier versions hold the state of the single group or course that the command
+ * could have modified instead, and are still applied by overwriting that part.
+ * Applying entries to a roster that already contains their effect, in the order they were logged, leaves the roster
+ * unchanged.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SerializedLogEntry {
+    private String command;
+    private List<SerializedDelta> deltas;
+    private String courseCode;
+    private SerializedGroup group;
+    private SerializedCourse course;
+    private SerializedRoster roster;
+
+    public SerializedLogEntry() {}
+
+    /**
+     * Constructs a {@code SerializedLogEntry} for a command that made the modifications of {@code deltas}, in order.
+     */
+    public static SerializedLogEntry ofDeltas(String command, List<SerializedDelta> deltas) {
+        SerializedLogEntry entry = new SerializedLogEntry();
+        entry.command = command;
+        entry.deltas = new ArrayList<>(deltas);
+        return entry;
+    }
+
+    /**
+     * Constructs a {@code SerializedLogEntry} for a command that could have modified any part of {@code roster}.
+     */
+    public static SerializedLogEntry ofRosterChange(String command, ReadOnlyRoster roster) {
+        SerializedLogEntry entry = new SerializedLogEntry();
+        entry.command = command;
+        entry.roster = new SerializedRoster(roster);
+        return entry;
+    }
+
+    @JsonProperty("command")
+    public String getCommand() {
+        return command;
+    }
+
+    @JsonProperty("deltas")
+    public List<SerializedDelta> getDeltas() {
+        return deltas;
+    }
+
+    @JsonProperty("courseCode")
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    @JsonProperty("group")
+    public SerializedGroup getGroup() {
+        return group;
+    }
+
+    @JsonProperty("course")
+    public SerializedCourse getCourse() {
+        return course;
+    }
+
+    @JsonProperty("roster")
+    public SerializedRoster getRoster() {
+        return roster;
+    }
+
+    /**
+     * Applies the modifications of this entry to {@code target}, or overwrites the part of {@code target} that this
+     * entry holds with the state in this entry.
+     * Groups and courses that no longer exist in {@code target} are left alone, as they were removed by a later change.
+     */
+    public void applyTo(Roster target) {
+        if (deltas != null) {
+            deltas.forEach(delta -> delta.applyTo(target));
+        } else if (roster != null) {
+            target.resetData(roster.toModelType());
+        } else if (course != null) {
+            Course newCourse = course.toModelType();
+            findCourse(target, newCourse.getCourseCode())
+                    .ifPresent(oldCourse -> target.setCourse(oldCourse, newCourse));
+        } else if (group != null) {
+            Group newGroup = group.toModelType();
+            findCourse(target, courseCode).ifPresent(targetCourse -> targetCourse.getUnmodifiableGroupList().stream()
+                    .filter(oldGroup -> oldGroup.isSameGroup(newGroup))
+                    .findFirst()
+                    .ifPresent(oldGroup -> targetCourse.setGroup(oldGroup, newGroup)));
+        }
+    }
+
+    private static Optional<Course> findCourse(Roster target, String courseCode) {
+        return target.getUnmodifiableCourseList().stream()
+                .filter(course -> course.getCourseCode().equals(courseCode))
+                .findFirst();
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
 import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.storage.ValueInterner;
 
 /**
  * Serializes a Roster to JSON format.
@@ -38,7 +39,8 @@ public class SerializedRoster {
      */
     public Roster toModelType() {
         Roster newRoster = new Roster();
-        courses.stream().forEach(course -> newRoster.addCourse(course.toModelType()));
+        ValueInterner interner = new ValueInterner();
+        courses.stream().forEach(course -> newRoster.addCourse(course.toModelType(interner)));
         return newRoster;
     }
 }
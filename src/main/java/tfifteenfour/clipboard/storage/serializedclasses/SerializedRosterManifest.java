@@ -0,0 +1,42 @@
+package tfifteenfour.clipboard.storage.serializedclasses;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Serializes the courses of a roster, with the locations of the files that store their groups, into json format.
+ */
+public class SerializedRosterManifest {
+    /**
+     * Version 1 stored copies of students in the attendance of sessions and the grades of tasks.
+     * Version 2 stores their student IDs instead.
+     * Version 3 also lists the student IDs of the students of each group.
+     * Version 4 also lists the counts of the grades of each task of each group.
+     * Version 5 also lists the names of the students and of the sessions of each group.
+     */
+    public static final int CURRENT_VERSION = 5;
+
+    private int version = CURRENT_VERSION;
+    private List<SerializedCourseManifest> courses = new ArrayList<>();
+
+    /**
+     * Constructs a {@code SerializedRosterManifest} with the given courses, in the order of the roster.
+     */
+    public SerializedRosterManifest(List<SerializedCourseManifest> courses) {
+        this.courses = courses;
+    }
+
+    public SerializedRosterManifest() {}
+
+    @JsonProperty("version")
+    public int getVersion() {
+        return version;
+    }
+
+    @JsonProperty("courses")
+    public List<SerializedCourseManifest> getCourses() {
+        return courses;
+    }
+}
@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.storage.serializedclasses;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -11,12 +12,16 @@ import tfifteenfour.clipboard.model.student.Student;
 
 /**
  * Serializes a Session to JSON format.
+ * Students are referred to by their student IDs, which are resolved against the students of the group on load.
  */
 public class SerializedSession {
     private String sessionName;
-    private final List<SerializedStudent> keys = new ArrayList<>();
+    private final List<String> studentIds = new ArrayList<>();
     private final List<Integer> values = new ArrayList<>();
 
+    /** Full copies of the students, as stored by earlier versions. Only read, to migrate them to student IDs */
+    @JsonProperty(value = "keys", access = JsonProperty.Access.WRITE_ONLY)
+    private final List<SerializedStudent> keys = new ArrayList<>();
 
     /**
      * Constructs a {@code SerializedSession} with the given session.
@@ -25,7 +30,7 @@ public class SerializedSession {
         this.sessionName = session.getSessionName();
         Map<Student, Integer> sessionAttendance = session.getAttendance();
         for (Student student : sessionAttendance.keySet()) {
-            keys.add(new SerializedStudent(student));
+            studentIds.add(student.getStudentId().toString());
             values.add(sessionAttendance.get(student));
         }
 
@@ -41,9 +46,9 @@ public class SerializedSession {
         return sessionName;
     }
 
-    @JsonProperty("keys")
-    public List<SerializedStudent> getKeys() {
-        return this.keys;
+    @JsonProperty("studentIds")
+    public List<String> getStudentIds() {
+        return this.studentIds;
     }
 
     @JsonProperty("values")
@@ -54,18 +59,29 @@ public class SerializedSession {
     /**
      * Converts current SerializedSession object into a Session object and returns
      * it.
+     * @param groupStudents the students of the group of this session, by student ID.
      * @return A Session object that corresponds to this SerializedSession object.
      */
-    public Session toModelType() {
+    public Session toModelType(Map<String, Student> groupStudents) {
         Session newSession = new Session(this.sessionName);
 
-        Map<Student, Integer> newAttendance = newSession.getAttendance();
-        for (int i = 0; i < keys.size(); i++) {
-            newAttendance.put(
-                    keys.get(i).toModelType(),
-                    values.get(i)
-            );
+        Map<Student, Integer> newAttendance = new HashMap<>();
+        if (keys.isEmpty()) {
+            for (int i = 0; i < studentIds.size(); i++) {
+                Student student = groupStudents.get(studentIds.get(i));
+                if (student != null) {
+                    newAttendance.put(student, values.get(i));
+                }
+            }
+        } else {
+            for (int i = 0; i < keys.size(); i++) {
+                newAttendance.put(
+                        keys.get(i).toModelType(),
+                        values.get(i)
+                );
+            }
         }
+        newSession.setAttendance(newAttendance);
         return newSession;
     }
 }
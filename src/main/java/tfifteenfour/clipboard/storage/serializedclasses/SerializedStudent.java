@@ -2,12 +2,8 @@ package tfifteenfour.clipboard.storage.serializedclasses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import tfifteenfour.clipboard.model.student.Email;
-import tfifteenfour.clipboard.model.student.Name;
-import tfifteenfour.clipboard.model.student.Phone;
-import tfifteenfour.clipboard.model.student.Remark;
 import tfifteenfour.clipboard.model.student.Student;
-import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.storage.ValueInterner;
 
 /**
  * Serializes a student to JSON format.
@@ -66,8 +62,14 @@ public class SerializedStudent {
      * Converts this serialized student to a {@code Student} object
      */
     public Student toModelType() {
-        return new Student(new Name(name), new Phone(phone),
-                new Email(email), new StudentId(studentId),
-                new Remark(remark));
+        return toModelType(new ValueInterner());
+    }
+
+    /**
+     * Converts this serialized student to a {@code Student} object, sharing its values with the other students
+     * converted with {@code interner}.
+     */
+    public Student toModelType(ValueInterner interner) {
+        return interner.internStudent(name, phone, email, studentId, remark);
     }
 }
@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.storage.serializedclasses;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -11,12 +12,17 @@ import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Serializes a Task to JSON format.
+ * Students are referred to by their student IDs, which are resolved against the students of the group on load.
  */
 public class SerializedTask {
     private String taskName;
-    private final List<SerializedStudent> students = new ArrayList<>();
+    private final List<String> studentIds = new ArrayList<>();
     private final List<Integer> grades = new ArrayList<>();
 
+    /** Full copies of the students, as stored by earlier versions. Only read, to migrate them to student IDs */
+    @JsonProperty(value = "students", access = JsonProperty.Access.WRITE_ONLY)
+    private final List<SerializedStudent> students = new ArrayList<>();
+
     /**
      * Constructs a {@code SerializedTask} with the given task.
      */
@@ -24,7 +30,7 @@ public class SerializedTask {
         this.taskName = task.getTaskName();
         Map<Student, Integer> taskGrades = task.getGrades();
         for (Student student : taskGrades.keySet()) {
-            students.add(new SerializedStudent(student));
+            studentIds.add(student.getStudentId().toString());
             grades.add(taskGrades.get(student));
         }
     }
@@ -39,9 +45,9 @@ public class SerializedTask {
         return taskName;
     }
 
-    @JsonProperty("students")
-    public List<SerializedStudent> getKeys() {
-        return this.students;
+    @JsonProperty("studentIds")
+    public List<String> getStudentIds() {
+        return this.studentIds;
     }
 
     @JsonProperty("grades")
@@ -52,18 +58,29 @@ public class SerializedTask {
     /**
      * Converts current SerializedTask object into a Task object and returns
      * it.
+     * @param groupStudents the students of the group of this task, by student ID.
      * @return A Task object that corresponds to this SerializedTask object.
      */
-    public Task toModelType() {
+    public Task toModelType(Map<String, Student> groupStudents) {
         Task newTask = new Task(this.taskName);
 
-        Map<Student, Integer> newGrades = newTask.getGrades();
-        for (int i = 0; i < students.size(); i++) {
-            newGrades.put(
-                    students.get(i).toModelType(),
-                    grades.get(i)
-            );
+        Map<Student, Integer> newGrades = new HashMap<>();
+        if (students.isEmpty()) {
+            for (int i = 0; i < studentIds.size(); i++) {
+                Student student = groupStudents.get(studentIds.get(i));
+                if (student != null) {
+                    newGrades.put(student, grades.get(i));
+                }
+            }
+        } else {
+            for (int i = 0; i < students.size(); i++) {
+                newGrades.put(
+                        students.get(i).toModelType(),
+                        grades.get(i)
+                );
+            }
         }
+        newTask.setGrades(newGrades);
         return newTask;
     }
 }
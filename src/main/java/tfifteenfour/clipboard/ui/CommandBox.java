@@ -23,6 +23,7 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
     private final List<String> commandHistory = new ArrayList<>();
     private int commandHistoryIndex = -1;
 
@@ -30,13 +31,19 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, and the {@code CommandPreviewer} that is
+     * given the command text whenever it changes.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        // calls #setStyleToDefault() and previews the command whenever there is a change to the text of the command
+        // box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(newText);
+        });
     }
 
     /**
@@ -124,4 +131,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview the results of a command while it is typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the results of the command typed so far.
+         *
+         * @see tfifteenfour.clipboard.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
 }
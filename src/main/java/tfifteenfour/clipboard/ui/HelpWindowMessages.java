@@ -8,10 +8,11 @@ public class HelpWindowMessages {
             + "1. home: goes back to the home page, which is the Course Page\n"
             + "2. back: goes back to the previous page you were at\n"
             + "3. undo: deletes the change that your last command did\n"
-            + "4. help: opens this help window with commands specific to the page you are on\n"
-            + "5. clear: clears entries of the page you are at\n"
-            + "6. exit: exits the program\n"
-            + "7. UP/DOWN arrow keys: scrolls through your command history\n";
+            + "4. redo: brings back the change that your last undo deleted\n"
+            + "5. help: opens this help window with commands specific to the page you are on\n"
+            + "6. clear: clears entries of the page you are at\n"
+            + "7. exit: exits the program\n"
+            + "8. UP/DOWN arrow keys: scrolls through your command history\n";
 
     static final String COURSE_HELP_MESSAGE = "Here is what you can do under the [Course] page.\n"
             + "1. add course <COURSE NAME>: adds a new course to the page\n"
@@ -3,6 +3,8 @@ package tfifteenfour.clipboard.ui;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -28,7 +30,9 @@ import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.ExitCommand;
 import tfifteenfour.clipboard.logic.commands.HelpCommand;
 import tfifteenfour.clipboard.logic.commands.HomeCommand;
+import tfifteenfour.clipboard.logic.commands.RedoCommand;
 import tfifteenfour.clipboard.logic.commands.RemarkCommand;
+import tfifteenfour.clipboard.logic.commands.SearchCommand;
 import tfifteenfour.clipboard.logic.commands.SelectCommand;
 import tfifteenfour.clipboard.logic.commands.UndoCommand;
 import tfifteenfour.clipboard.logic.commands.UploadCommand;
@@ -38,6 +42,7 @@ import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentComman
 import tfifteenfour.clipboard.logic.commands.attendancecommand.SessionCommand;
 import tfifteenfour.clipboard.logic.commands.editcommand.EditStudentCommand;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.commands.sortcommand.SortCommand;
 import tfifteenfour.clipboard.logic.commands.taskcommand.AssignCommand;
 import tfifteenfour.clipboard.logic.commands.taskcommand.TaskCommand;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
@@ -202,11 +207,15 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(errorMessage -> Platform.runLater(() -> {
+            resultDisplay.setFeedbackToUser(errorMessage);
+            showClippyFailure();
+        }));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getRosterFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         initializePageTabs();
@@ -330,12 +339,10 @@ public class MainWindow extends UiPart<Stage> {
                 logic.getModel().getCurrentSelection().getSelectedGroup().getUnmodifiableFilteredStudentList()
                         .filtered(student -> student.isSameStudent(logic.getModel()
                                 .getCurrentSelection().getSelectedStudent()));
-        ObservableList<SessionWithAttendance> sessionList =
-                logic.getModel().getCurrentSelection().getSelectedStudent().getObservableSessionList();
         if (viewedStudent.size() != 0) {
             rightPanelPlaceholder.getChildren()
                     .add(new StudentViewCardWithAttendance(viewedStudent.get(0),
-                            sessionList, 0).getRoot());
+                            FXCollections.emptyObservableList(), 0).getRoot());
         }
     }
 
@@ -558,14 +565,60 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Handles UI for search command, which can navigate from any page to any page, by showing the current page and
+     * its tabs from scratch.
+     */
+    private void handleSearchCommand() {
+        PageType currentPage = logic.getModel().getCurrentSelection().getCurrentPage();
+        if (currentPage == PageType.COURSE_PAGE) {
+            handleHome();
+            return;
+        }
+
+        rightPanelPlaceholder.getChildren().clear();
+        closeModuleTab();
+        showGroupTab();
+        closeStudentTab();
+        closeSessionTab();
+        closeTaskTab();
+        switch (currentPage) {
+        case STUDENT_PAGE:
+            showStudentTab();
+            break;
+        case SESSION_PAGE:
+        case SESSION_STUDENT_PAGE:
+            showSessionTab();
+            break;
+        case TASK_PAGE:
+        case TASK_STUDENT_PAGE:
+            showTaskTab();
+            break;
+        default:
+            break;
+        }
+
+        if (currentPage == PageType.SESSION_PAGE) {
+            showSessionPane(logic.getModel().getCurrentSelection().getSelectedGroup());
+        } else if (currentPage == PageType.TASK_PAGE) {
+            showTaskPane(logic.getModel().getCurrentSelection().getSelectedGroup());
+        } else {
+            handleSelectCommand();
+        }
+        refreshNavigationBar();
+    }
+
     /**
      * Handles UI for undo command.
      */
-    private void handleUndoCommand(CommandResult commandResult) throws CommandException {
+    private void handleUndoCommand(CommandResult commandResult) {
         UndoCommand command = (UndoCommand) commandResult.getCommand();
-        Command prevCommand = command.getPrevModel().getCommandExecuted();
+        Command prevCommand = command.getUndoneCommand();
+
+        if (prevCommand instanceof SearchCommand) {
+            handleSearchCommand();
 
-        if (prevCommand instanceof SelectCommand
+        } else if (prevCommand instanceof SelectCommand
                 && !rightPanelPlaceholder.getChildren().isEmpty()
                 && logic.getModel().getCurrentSelection().getCurrentPage().equals(PageType.STUDENT_PAGE)) {
             rightPanelPlaceholder.getChildren().clear();
@@ -587,14 +640,6 @@ public class MainWindow extends UiPart<Stage> {
                 && logic.getModel().getCurrentSelection().getCurrentPage().equals(PageType.TASK_PAGE)) {
             showSessionPane(logic.getModel().getCurrentSelection().getSelectedGroup());
 
-        } else if (prevCommand instanceof MarkPresentCommand
-                || prevCommand instanceof MarkAbsentCommand) {
-            throw new CommandException("Use the mark or unmark command instead to undo previous action.");
-
-        } else if (prevCommand instanceof AssignCommand) {
-            throw new CommandException("Use the assign command instead to assign a new grade to a student."
-                    + "\nTip: You can assign a grade of '0' to a student.");
-
         } else if (prevCommand instanceof AttendanceCommand
                 && logic.getModel().getCurrentSelection().getCurrentPage().equals(PageType.SESSION_STUDENT_PAGE)) {
             //Do nothing
@@ -606,6 +651,15 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Handles UI for redo command, by refreshing the page as if the redone command was just executed.
+     */
+    private void handleRedoCommand(CommandResult commandResult) throws CommandException {
+        RedoCommand command = (RedoCommand) commandResult.getCommand();
+        handleSpecialCommandConsiderations(new CommandResult(command.getRedoneCommand(),
+                commandResult.getFeedbackToUser(), true));
+    }
+
     /**
      * Handles UI for session command.
      */
@@ -642,8 +696,8 @@ public class MainWindow extends UiPart<Stage> {
                 logic.getModel().getCurrentSelection().getSelectedGroup().getUnmodifiableFilteredStudentList()
                         .filtered(student ->
                                 student.isSameStudent(logic.getModel().getCurrentSelection().getSelectedStudent()));
-        ObservableList<SessionWithAttendance> sessionList =
-                logic.getModel().getCurrentSelection().getSelectedStudent().getObservableSessionList();
+        ObservableList<SessionWithAttendance> sessionList = logic.getModel().getCurrentSelection().getSelectedGroup()
+                .getSessionsWithAttendance(viewedStudent.get(0));
         rightPanelPlaceholder.getChildren()
                 .add(new StudentViewCardWithAttendance(viewedStudent.get(0), sessionList, 1).getRoot());
     }
@@ -668,6 +722,9 @@ public class MainWindow extends UiPart<Stage> {
         } else if (commandResult.getCommand() instanceof HomeCommand) {
             handleHome();
 
+        } else if (commandResult.getCommand() instanceof SearchCommand) {
+            handleSearchCommand();
+
         } else if (commandResult.getCommand() instanceof SessionCommand) {
             handleSessionCommand();
 
@@ -681,6 +738,9 @@ public class MainWindow extends UiPart<Stage> {
         } else if (commandResult.getCommand() instanceof AssignCommand) {
             showGradePane(logic.getModel().getCurrentSelection().getSelectedTask());
 
+        } else if (commandResult.getCommand() instanceof SortCommand) {
+            handleSortCommand();
+
         } else if (commandResult.getCommand() instanceof UploadCommand
                 || commandResult.getCommand() instanceof EditStudentCommand
                 || commandResult.getCommand() instanceof RemarkCommand) {
@@ -692,12 +752,28 @@ public class MainWindow extends UiPart<Stage> {
         } else if (commandResult.getCommand() instanceof UndoCommand) {
             handleUndoCommand(commandResult);
 
+        } else if (commandResult.getCommand() instanceof RedoCommand) {
+            handleRedoCommand(commandResult);
+
         } else if (commandResult.getCommand() instanceof ClearCommand) {
             leftPanelPlaceholder.getChildren().clear();
             rightPanelPlaceholder.getChildren().clear();
         }
     }
 
+    /**
+     * Handles UI for sort command, by showing the attendance or grades again in their new order, as the other lists
+     * are kept sorted as they are shown.
+     */
+    private void handleSortCommand() {
+        CurrentSelection currentSelection = logic.getModel().getCurrentSelection();
+        if (currentSelection.getCurrentPage().equals(PageType.SESSION_STUDENT_PAGE)) {
+            showAttendancePane(currentSelection.getSelectedSession());
+        } else if (currentSelection.getCurrentPage().equals(PageType.TASK_STUDENT_PAGE)) {
+            showGradePane(currentSelection.getSelectedTask());
+        }
+    }
+
     private void showClippySuccess() {
         logoPlaceholder.setImage(clippySuccess);
     }
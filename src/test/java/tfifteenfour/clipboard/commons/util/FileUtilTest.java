@@ -1,13 +1,21 @@
 package tfifteenfour.clipboard.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,14 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.bin");
+        FileUtil.writeAtomically(file, new byte[] {1, 2, 3});
+        FileUtil.writeAtomically(file, new byte[] {4});
+        FileUtil.forceDirectory(file.getParent());
+
+        assertArrayEquals(new byte[] {4}, Files.readAllBytes(file));
+        assertFalse(Files.exists(file.resolveSibling("data.bin.tmp")));
+    }
 }
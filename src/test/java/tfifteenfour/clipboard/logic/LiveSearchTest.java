@@ -0,0 +1,172 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.logic.history.Change;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
+import tfifteenfour.clipboard.logic.parser.RosterParser;
+import tfifteenfour.clipboard.logic.predicates.CourseNameContainsPredicate;
+import tfifteenfour.clipboard.logic.predicates.StudentParticularsContainsPredicate;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class LiveSearchTest {
+
+    private static final long WAIT_TIMEOUT_SECONDS = 5;
+
+    /** Tasks to run on the thread that modifies the model, which is the test thread */
+    private final BlockingQueue<Runnable> modelThreadTasks = new LinkedBlockingQueue<>();
+
+    private Model model;
+    private Group group;
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.STUDENT_PAGE);
+        group = model.getCurrentSelection().getSelectedGroup();
+        liveSearch = new LiveSearch(model, modelThreadTasks::add, 0);
+    }
+
+    @Test
+    public void update_findCommand_matchesShown() throws Exception {
+        liveSearch.update("find student chin");
+        runModelThreadTasksUntilShown(1);
+
+        assertEquals(studentsMatching("chin"), group.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void update_findNarrowed_sameStudentsAsNewFind() throws Exception {
+        liveSearch.update("find student chin l");
+        runModelThreadTasksUntilShown(1);
+        liveSearch.update("find student chin li");
+        runModelThreadTasksUntilShown(2);
+
+        assertEquals(studentsMatching("chin", "li"), group.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void update_textChangedBeforeResultsShown_onlyLatestResultsShown() throws Exception {
+        liveSearch.update("find student chin");
+        liveSearch.update("find student koh");
+        runModelThreadTasksUntilShown(1);
+
+        assertEquals(studentsMatching("koh"), group.getUnmodifiableFilteredStudentList());
+        assertEquals(1, liveSearch.getPreviewCount());
+    }
+
+    @Test
+    public void update_textNoLongerFindCommand_previewUndone() throws Exception {
+        liveSearch.update("find student chin");
+        runModelThreadTasksUntilShown(1);
+        liveSearch.update("find student");
+        runNextModelThreadTask();
+
+        assertEquals(group.getUnmodifiableStudentList(), group.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void update_textNotFindCommand_previewUndoneWithoutWaiting() throws Exception {
+        liveSearch.update("find student chin");
+        runModelThreadTasksUntilShown(1);
+        liveSearch.update("delete student 1");
+
+        assertEquals(group.getUnmodifiableStudentList(), group.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void update_findCourseNarrowed_sameCoursesAsNewFind() throws Exception {
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+        String courseCode = model.getRoster().getUnmodifiableCourseList().get(0).getCourseCode();
+        liveSearch.update("find course " + courseCode.substring(0, 2));
+        runModelThreadTasksUntilShown(1);
+        liveSearch.update("find course " + courseCode);
+        runModelThreadTasksUntilShown(2);
+
+        List<Course> expectedCourses = model.getRoster().getUnmodifiableCourseList().stream()
+                .filter(new CourseNameContainsPredicate(new String[] {courseCode}))
+                .collect(Collectors.toList());
+        assertEquals(expectedCourses, model.getRoster().getUnmodifiableFilteredCourseList());
+    }
+
+    @Test
+    public void update_noMatches_listLeftAsItWas() throws Exception {
+        liveSearch.update("find student zzz");
+        runModelThreadTasksUntilShown(1);
+
+        assertEquals(group.getUnmodifiableStudentList(), group.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void keepPreview_textCleared_previewKept() throws Exception {
+        liveSearch.update("find student chin");
+        runModelThreadTasksUntilShown(1);
+        liveSearch.keepPreview();
+        liveSearch.update("");
+
+        assertEquals(studentsMatching("chin"), group.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void keepPreview_previewedFindExecutedAndUndone_filterBeforePreviewRestored() throws Exception {
+        String commandText = "find student chin";
+        liveSearch.update(commandText);
+        runModelThreadTasksUntilShown(1);
+
+        // as the find is executed and recorded after its preview is kept
+        List<Change> changes = new ArrayList<>();
+        liveSearch.keepPreview().ifPresent(changes::add);
+        Command command = RosterParser.parseCommand(commandText, model);
+        command.execute(model);
+        changes.addAll(command.getRecordedChanges());
+        HistoryEntry historyEntry = new HistoryEntry(commandText, command, changes);
+
+        historyEntry.undo();
+        assertEquals(group.getUnmodifiableStudentList(), group.getUnmodifiableFilteredStudentList());
+        historyEntry.redo();
+        assertEquals(studentsMatching("chin"), group.getUnmodifiableFilteredStudentList());
+    }
+
+    /**
+     * Runs the tasks given to the model thread until {@code previewCount} previews have been shown.
+     */
+    private void runModelThreadTasksUntilShown(int previewCount) throws InterruptedException {
+        while (liveSearch.getPreviewCount() < previewCount) {
+            Runnable task = modelThreadTasks.poll(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(task);
+            task.run();
+        }
+    }
+
+    /**
+     * Runs the next task given to the model thread.
+     */
+    private void runNextModelThreadTask() throws InterruptedException {
+        Runnable task = modelThreadTasks.poll(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(task);
+        task.run();
+    }
+
+    private List<Student> studentsMatching(String... keywords) {
+        return group.getUnmodifiableStudentList().stream()
+                .filter(new StudentParticularsContainsPredicate(keywords))
+                .collect(Collectors.toList());
+    }
+}
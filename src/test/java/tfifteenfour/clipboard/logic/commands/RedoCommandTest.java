@@ -0,0 +1,74 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteStudentCommand;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.CommandHistory;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class RedoCommandTest {
+    private Model model;
+    private CommandHistory commandHistory;
+    private UndoCommand undoCommand;
+    private RedoCommand redoCommand;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.STUDENT_PAGE);
+        commandHistory = new CommandHistory(5);
+        undoCommand = new UndoCommand();
+        undoCommand.setCommandHistory(commandHistory);
+        redoCommand = new RedoCommand();
+        redoCommand.setCommandHistory(commandHistory);
+    }
+
+    private void executeAndRecord(Command command, String commandText) throws CommandException {
+        command.execute(model);
+        commandHistory.push(new HistoryEntry(commandText, command, command.getRecordedChanges()));
+    }
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() throws CommandException {
+        executeAndRecord(new DeleteStudentCommand(Index.fromOneBased(1)), "delete student 1");
+
+        assertCommandFailure(redoCommand, model, RedoCommand.MESSAGE_CANNOT_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesCommand() throws CommandException {
+        Group selectedGroup = model.getCurrentSelection().getSelectedGroup();
+        executeAndRecord(new DeleteStudentCommand(Index.fromOneBased(1)), "delete student 1");
+        List<Student> expectedStudents = new ArrayList<>(selectedGroup.getUnmodifiableStudentList());
+        Model expectedModel = model.copy();
+        undoCommand.execute(model);
+
+        assertCommandSuccess(redoCommand, model,
+                String.format(RedoCommand.MESSAGE_SUCCESS, "delete student 1"), expectedModel);
+        assertEquals(expectedStudents, selectedGroup.getUnmodifiableStudentList());
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_throwsCommandException() throws CommandException {
+        executeAndRecord(new DeleteStudentCommand(Index.fromOneBased(1)), "delete student 1");
+        undoCommand.execute(model);
+        executeAndRecord(new DeleteStudentCommand(Index.fromOneBased(2)), "delete student 2");
+
+        assertCommandFailure(redoCommand, model, RedoCommand.MESSAGE_CANNOT_REDO);
+    }
+}
@@ -0,0 +1,67 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class SearchCommandTest {
+    private Model model;
+    private CurrentSelection currentSelection;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+        currentSelection = model.getCurrentSelection();
+        currentSelection.setCurrentPage(PageType.TASK_STUDENT_PAGE);
+    }
+
+    @Test
+    public void execute_studentInOtherCourse_navigatesToStudent() throws CommandException {
+        new SearchCommand("kavita").execute(model);
+
+        assertEquals(PageType.STUDENT_PAGE, currentSelection.getCurrentPage());
+        assertEquals("CS2101", currentSelection.getSelectedCourse().getCourseCode());
+        assertEquals("S06", currentSelection.getSelectedGroup().getGroupName());
+        assertEquals("Kavita Devi", currentSelection.getSelectedStudent().getName().toString());
+    }
+
+    @Test
+    public void execute_session_navigatesToSession() throws CommandException {
+        new SearchCommand("Recitation2").execute(model);
+
+        assertEquals(PageType.SESSION_STUDENT_PAGE, currentSelection.getCurrentPage());
+        assertEquals("S05", currentSelection.getSelectedGroup().getGroupName());
+        assertEquals("Recitation2", currentSelection.getSelectedSession().getSessionName());
+    }
+
+    @Test
+    public void execute_course_navigatesToGroupPage() throws CommandException {
+        new SearchCommand("cs2103t").execute(model);
+
+        assertEquals(PageType.GROUP_PAGE, currentSelection.getCurrentPage());
+        assertEquals("CS2103T", currentSelection.getSelectedCourse().getCourseCode());
+    }
+
+    @Test
+    public void execute_nameMistyped_navigatesToSimilarStudent() throws CommandException {
+        CommandResult result = new SearchCommand("kavtia").execute(model);
+
+        assertEquals(PageType.STUDENT_PAGE, currentSelection.getCurrentPage());
+        assertEquals("Kavita Devi", currentSelection.getSelectedStudent().getName().toString());
+        assertTrue(result.getFeedbackToUser().contains("No exact matches"));
+    }
+
+    @Test
+    public void execute_noMatch_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new SearchCommand("zzz").execute(model));
+    }
+}
@@ -0,0 +1,112 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
+import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteStudentCommand;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.commands.findcommand.FindStudentCommand;
+import tfifteenfour.clipboard.logic.history.CommandHistory;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
+import tfifteenfour.clipboard.logic.predicates.StudentParticularsContainsPredicate;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class UndoCommandTest {
+    private Model model;
+    private CommandHistory commandHistory;
+    private UndoCommand undoCommand;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+        commandHistory = new CommandHistory(5);
+        undoCommand = new UndoCommand();
+        undoCommand.setCommandHistory(commandHistory);
+    }
+
+    private void executeAndRecord(Command command, String commandText) throws CommandException {
+        command.execute(model);
+        commandHistory.push(new HistoryEntry(commandText, command, command.getRecordedChanges()));
+    }
+
+    @Test
+    public void execute_emptyHistory_throwsCommandException() {
+        assertCommandFailure(undoCommand, model, UndoCommand.MESSAGE_CANNOT_UNDO);
+    }
+
+    @Test
+    public void execute_afterDeleteStudent_restoresStudent() throws CommandException {
+        model.getCurrentSelection().setCurrentPage(PageType.STUDENT_PAGE);
+        Group selectedGroup = model.getCurrentSelection().getSelectedGroup();
+        List<Student> expectedStudents = new ArrayList<>(selectedGroup.getUnmodifiableStudentList());
+        Model expectedModel = model.copy();
+
+        executeAndRecord(new DeleteStudentCommand(Index.fromOneBased(1)), "delete student 1");
+
+        assertCommandSuccess(undoCommand, model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, "delete student 1"), expectedModel);
+        assertEquals(expectedStudents, selectedGroup.getUnmodifiableStudentList());
+        assertEquals(DeleteStudentCommand.class, undoCommand.getUndoneCommand().getClass());
+    }
+
+    @Test
+    public void execute_afterMarkPresent_restoresAttendance() throws CommandException {
+        model.getCurrentSelection().setCurrentPage(PageType.SESSION_STUDENT_PAGE);
+        Session selectedSession = model.getCurrentSelection().getSelectedSession();
+        Map<Student, Integer> expectedAttendance = Map.copyOf(selectedSession.getAttendance());
+
+        executeAndRecord(new MarkPresentCommand(Index.fromOneBased(1), Index.fromOneBased(2)), "mark 1,2");
+        undoCommand.execute(model);
+
+        assertEquals(expectedAttendance, selectedSession.getAttendance());
+    }
+
+    @Test
+    public void execute_afterRefiningFind_restoresPreviousFilter() throws CommandException {
+        model.getCurrentSelection().setCurrentPage(PageType.STUDENT_PAGE);
+        Group selectedGroup = model.getCurrentSelection().getSelectedGroup();
+        Student firstStudent = selectedGroup.getUnmodifiableStudentList().get(0);
+        executeAndRecord(findStudent("a"), "find student a");
+        List<Student> expectedStudents = new ArrayList<>(selectedGroup.getUnmodifiableFilteredStudentList());
+
+        executeAndRecord(findStudent(firstStudent.getName().toString()), "find student " + firstStudent.getName());
+        assertEquals(List.of(firstStudent), selectedGroup.getUnmodifiableFilteredStudentList());
+        undoCommand.execute(model);
+
+        assertEquals(expectedStudents, selectedGroup.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void execute_afterBack_restoresFilterCleared() throws CommandException {
+        model.getCurrentSelection().setCurrentPage(PageType.STUDENT_PAGE);
+        Group selectedGroup = model.getCurrentSelection().getSelectedGroup();
+        Student firstStudent = selectedGroup.getUnmodifiableStudentList().get(0);
+        executeAndRecord(findStudent(firstStudent.getName().toString()), "find student " + firstStudent.getName());
+
+        executeAndRecord(new BackCommand(model.getCurrentSelection()), "back");
+        assertEquals(selectedGroup.getUnmodifiableStudentList(), selectedGroup.getUnmodifiableFilteredStudentList());
+        undoCommand.execute(model);
+
+        assertEquals(List.of(firstStudent), selectedGroup.getUnmodifiableFilteredStudentList());
+    }
+
+    private FindStudentCommand findStudent(String keyword) {
+        return new FindStudentCommand(new StudentParticularsContainsPredicate(new String[]{keyword}),
+                model.getCurrentSelection());
+    }
+}
@@ -1,20 +1,26 @@
 package tfifteenfour.clipboard.logic.commands.deletecommand;
 
-
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_OUT_OF_BOUND;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.history.Change;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
 import tfifteenfour.clipboard.testutil.TypicalModel;
 
 class DeleteStudentCommandTest {
@@ -47,6 +53,28 @@ class DeleteStudentCommandTest {
         assertCommandSuccess(deleteStudentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void undo_studentWithRecords_recordsRestored() throws CommandException {
+        Student student = selectedGroup.getUnmodifiableFilteredStudentList().get(INDEX_FIRST.getZeroBased());
+        Session session = selectedGroup.getUnmodifiableSessionList().get(0);
+        Task task = selectedGroup.getUnmodifiableTaskList().get(0);
+        session.markPresent(student);
+        task.assignGrade(student, 75);
+        int presentCount = session.countPresent();
+        List<Student> students = new ArrayList<>(selectedGroup.getUnmodifiableStudentList());
+
+        DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(INDEX_FIRST);
+        deleteStudentCommand.execute(model);
+        for (Change change : deleteStudentCommand.getRecordedChanges()) {
+            change.undo();
+        }
+
+        assertEquals(students, selectedGroup.getUnmodifiableStudentList());
+        assertEquals(1, session.getAttendanceOf(student));
+        assertEquals(75, task.getGradeOf(student));
+        assertEquals(presentCount, session.countPresent());
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(INDEX_OUT_OF_BOUND);
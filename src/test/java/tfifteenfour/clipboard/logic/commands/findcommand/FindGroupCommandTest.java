@@ -2,8 +2,12 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +15,8 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.predicates.GroupNameContainsPredicate;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.testutil.TypicalModel;
 
 class FindGroupCommandTest {
@@ -51,6 +57,20 @@ class FindGroupCommandTest {
         assertCommandSuccess(findGroupCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_refinedGroupName_sameGroupsAsNewFind() throws Exception {
+        findGroupCommand.execute(model);
+        GroupNameContainsPredicate refinedPredicate = new GroupNameContainsPredicate(new String[] {"t15"});
+        assertTrue(refinedPredicate.refines(predicate));
+
+        new FindGroupCommand(refinedPredicate, actualSelection).execute(model);
+        Course selectedCourse = actualSelection.getSelectedCourse();
+        List<Group> expectedGroups = selectedCourse.getUnmodifiableGroupList().stream()
+                .filter(refinedPredicate)
+                .collect(Collectors.toList());
+        assertEquals(expectedGroups, selectedCourse.getUnmodifiableFilteredGroupList());
+    }
+
     @Test
     public void equals() {
         // same object -> returns true
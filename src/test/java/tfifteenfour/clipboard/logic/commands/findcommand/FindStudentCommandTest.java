@@ -6,15 +6,20 @@ import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertComman
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.predicates.StudentParticularsContainsPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
 import tfifteenfour.clipboard.testutil.TypicalModel;
 
 class FindStudentCommandTest {
@@ -108,6 +113,33 @@ class FindStudentCommandTest {
                 String.format(FindStudentCommand.MESSAGE_SUCCESS, expectedSize), expectedModel);
     }
 
+    @Test
+    public void execute_nameMistyped_similarStudentsShown() throws CommandException {
+        StudentParticularsContainsPredicate predicate =
+                new StudentParticularsContainsPredicate(new String[]{"Mohamad"});
+        FindStudentCommand findStudentCommand = new FindStudentCommand(predicate, actualSelection);
+
+        CommandResult result = findStudentCommand.execute(model);
+
+        assertEquals(String.format(FindStudentCommand.MESSAGE_SIMILAR, 1), result.getFeedbackToUser());
+        assertEquals("Mohamed Yusof", selectedGroup.getUnmodifiableFilteredStudentList().get(0).getName().toString());
+        assertEquals(1, selectedGroup.getUnmodifiableFilteredStudentList().size());
+    }
+
+    @Test
+    public void execute_studentAddedAfterFind_shownIfMatching() throws CommandException {
+        String searchTerm = firstStudent.getName().toString().toUpperCase();
+        StudentParticularsContainsPredicate predicate =
+                new StudentParticularsContainsPredicate(new String[]{searchTerm});
+        new FindStudentCommand(predicate, actualSelection).execute(model);
+        assertEquals(List.of(firstStudent), selectedGroup.getUnmodifiableFilteredStudentList());
+
+        Student namesake = new StudentBuilder().withName(firstStudent.getName() + " Junior")
+                .withStudentId("A0000000Z").build();
+        selectedGroup.addStudent(namesake);
+        assertEquals(List.of(firstStudent, namesake), selectedGroup.getUnmodifiableFilteredStudentList());
+    }
+
     @Test
     public void equals() {
         String searchTerm1 = String.valueOf(firstStudent.getName());
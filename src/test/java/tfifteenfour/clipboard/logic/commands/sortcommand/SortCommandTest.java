@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.logic.commands.sortcommand;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.util.ArrayList;
@@ -17,11 +18,14 @@ import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphaNumericSidComparator;
 import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphabeticalNameComparator;
+import tfifteenfour.clipboard.logic.history.Change;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.SortKey;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
 import tfifteenfour.clipboard.testutil.TypicalModel;
 
 class SortCommandTest {
@@ -84,6 +88,51 @@ class SortCommandTest {
         assertEquals(selectedSession, actualSelection.getSelectedSession());
     }
 
+    @Test
+    public void execute_sortByName_studentsStoredInSameOrder() throws CommandException {
+        List<Student> storedStudents = new ArrayList<>(selectedGroup.getUnmodifiableStudentList());
+
+        new SortCommand(new AlphabeticalNameComparator(), "name").execute(model);
+
+        assertEquals(storedStudents, selectedGroup.getUnmodifiableStudentList());
+    }
+
+    @Test
+    public void execute_studentAddedAfterSort_studentShownInOrder() throws CommandException {
+        Comparator<Student> nameComparator = new AlphabeticalNameComparator();
+        new SortCommand(nameComparator, "name").execute(model);
+
+        selectedGroup.addStudent(new StudentBuilder().withName("Aaron Aardvark").withStudentId("A0000001Z").build());
+
+        List<Student> expectedList = new ArrayList<>(selectedGroup.getUnmodifiableStudentList());
+        expectedList.sort(nameComparator);
+        assertEquals(expectedList, selectedGroup.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void undo_sortByName_previousOrderShown() throws CommandException {
+        List<Student> unsortedStudents = new ArrayList<>(selectedGroup.getUnmodifiableFilteredStudentList());
+        Command sortByNameCommand = new SortCommand(new AlphabeticalNameComparator(), "name");
+        sortByNameCommand.execute(model);
+
+        List<Change> changes = sortByNameCommand.getRecordedChanges();
+        for (Change change : changes) {
+            change.undo();
+        }
+        assertEquals(unsortedStudents, selectedGroup.getUnmodifiableFilteredStudentList());
+        assertFalse(changes.stream().anyMatch(Change::changesStoredData));
+    }
+
+    @Test
+    public void execute_sortSessionsByName_sessionsShownInOrder() throws CommandException {
+        Comparator<Session> sessionComparator = SortKey.comparing(Session::getSessionName);
+        SortCommand.ofSessions(sessionComparator, "name").execute(model);
+
+        List<Session> expectedList = new ArrayList<>(selectedGroup.getUnmodifiableSessionList());
+        expectedList.sort(sessionComparator);
+        assertEquals(expectedList, selectedGroup.getUnmodifiableFilteredSessionList());
+    }
+
     @Test
     public void equals() {
         Comparator<Student> nameComparator = new AlphabeticalNameComparator();
@@ -102,6 +151,10 @@ class SortCommandTest {
 
         // test different objects
         assertNotEquals(sortByNameCommand, sortByIdCommand);
+
+        // test same category of different lists
+        assertNotEquals(sortByNameCommand, SortCommand.ofSessions(SortKey.comparing(Session::getSessionName),
+                categoryName));
     }
 }
 
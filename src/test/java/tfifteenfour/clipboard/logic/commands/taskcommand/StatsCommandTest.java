@@ -0,0 +1,64 @@
+package tfifteenfour.clipboard.logic.commands.taskcommand;
+
+import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.task.Task;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class StatsCommandTest {
+    private Model model;
+    private Course selectedCourse;
+    private Group selectedGroup;
+    private Task selectedTask;
+    private CurrentSelection actualSelection;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = new TypicalModel().getTypicalModel();
+        selectedCourse = model.getCurrentSelection().getSelectedCourse();
+        selectedGroup = model.getCurrentSelection().getSelectedGroup();
+        selectedTask = model.getCurrentSelection().getSelectedTask();
+
+        actualSelection = this.model.getCurrentSelection();
+        actualSelection.setCurrentPage(PageType.TASK_STUDENT_PAGE);
+    }
+
+    @Test
+    public void execute_taskStudentPage_returnsCommandResult() {
+        selectedTask.assignGrade(selectedGroup.getUnmodifiableStudentList().get(0), 75);
+        StatsCommand statsCommand = new StatsCommand();
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS,
+                selectedCourse, selectedGroup, selectedTask,
+                StatsCommand.formatStatistics(selectedTask.getStatistics()),
+                selectedCourse, selectedTask,
+                StatsCommand.formatStatistics(selectedCourse.getGradeStatistics(selectedTask)));
+        Model expectedModel = model.copy();
+
+        assertCommandSuccess(statsCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_onTaskPage_throwCommandException() {
+        actualSelection.setCurrentPage(PageType.TASK_PAGE);
+        StatsCommand command = new StatsCommand();
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_onSessionStudentPage_throwCommandException() {
+        actualSelection.setCurrentPage(PageType.SESSION_STUDENT_PAGE);
+        StatsCommand command = new StatsCommand();
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+}
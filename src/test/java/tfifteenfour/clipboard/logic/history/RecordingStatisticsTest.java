@@ -0,0 +1,52 @@
+package tfifteenfour.clipboard.logic.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.logic.commands.ClearCommand;
+import tfifteenfour.clipboard.logic.commands.ExitCommand;
+import tfifteenfour.clipboard.logic.commands.HelpCommand;
+
+public class RecordingStatisticsTest {
+    private RecordingStatistics recordingStatistics;
+
+    @BeforeEach
+    public void setUp() {
+        recordingStatistics = new RecordingStatistics();
+    }
+
+    @Test
+    public void getAvoidedNanos_noRecordedCommands_returnsZero() {
+        recordingStatistics.addSkipped(new HelpCommand());
+
+        assertEquals(1, recordingStatistics.getSkippedCount(HelpCommand.class));
+        assertEquals(0, recordingStatistics.getAvoidedNanos(HelpCommand.class));
+    }
+
+    @Test
+    public void getAvoidedNanos_skippedCommands_estimatedFromAverage() {
+        recordingStatistics.addRecorded(new ClearCommand(), 100);
+        recordingStatistics.addRecorded(new ClearCommand(), 300);
+        recordingStatistics.addSkipped(new HelpCommand());
+        recordingStatistics.addSkipped(new HelpCommand());
+        recordingStatistics.addSkipped(new ExitCommand());
+
+        assertEquals(200, recordingStatistics.getAverageRecordingNanos());
+        assertEquals(400, recordingStatistics.getAvoidedNanos(HelpCommand.class));
+        assertEquals(200, recordingStatistics.getAvoidedNanos(ExitCommand.class));
+        assertEquals(0, recordingStatistics.getAvoidedNanos(ClearCommand.class));
+    }
+
+    @Test
+    public void toString_containsBreakdownByCommandType() {
+        recordingStatistics.addRecorded(new ClearCommand(), 100);
+        recordingStatistics.addSkipped(new HelpCommand());
+
+        String breakdown = recordingStatistics.toString();
+        assertTrue(breakdown.contains("ClearCommand: recorded 1 (100 ns avg), skipped 0 (~0 ns avoided)"));
+        assertTrue(breakdown.contains("HelpCommand: recorded 0 (0 ns avg), skipped 1 (~100 ns avoided)"));
+    }
+}
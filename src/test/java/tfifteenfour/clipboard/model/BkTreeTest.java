@@ -0,0 +1,61 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance_editsAndSwaps_countedAsOneEach() {
+        assertEquals(0, BkTree.distance("alice", "alice"));
+        assertEquals(3, BkTree.distance("", "abc"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(1, BkTree.distance("jonh", "john"));
+        assertEquals(2, BkTree.distance("mohamad", "muhammad"));
+        // swapping and then inserting between the swapped characters, which a restricted distance counts as 3
+        assertEquals(2, BkTree.distance("ca", "abc"));
+    }
+
+    @Test
+    public void find_manyWords_sameAsComparingEveryWord() {
+        Random random = new Random(2103);
+        Set<String> distinctWords = new LinkedHashSet<>();
+        while (distinctWords.size() < 500) {
+            distinctWords.add(randomWord(random));
+        }
+        List<String> words = new ArrayList<>(distinctWords);
+        BkTree<String> tree = new BkTree<>(List::of);
+        words.forEach(tree::add);
+        words.subList(0, 100).forEach(tree::remove);
+
+        for (int i = 0; i < 50; i++) {
+            String keyword = randomWord(random);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : words.subList(100, words.size())) {
+                int distance = BkTree.distance(keyword, word);
+                if (distance <= 2) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, tree.find(keyword, 2));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.logic.history.StudentReplacementChange;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class RosterTest {
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice").withStudentId("A1").build();
+
+    private Roster roster;
+    private Group tutorial;
+    private Group lab;
+
+    @BeforeEach
+    public void setUp() {
+        tutorial = new Group("T1");
+        tutorial.addStudent(ALICE);
+        lab = new Group("L1");
+        lab.addStudent(new StudentBuilder(ALICE).build());
+
+        Course course = new Course("CS2103T");
+        course.addGroup(tutorial);
+        Course otherCourse = new Course("CS2101");
+        otherCourse.addGroup(lab);
+
+        roster = new Roster();
+        roster.addCourse(course);
+        roster.addCourse(otherCourse);
+    }
+
+    @Test
+    public void addCourse_sameStudentInTwoGroups_studentShared() {
+        assertSame(tutorial.getUnmodifiableStudentList().get(0), lab.getUnmodifiableStudentList().get(0));
+        assertEquals(1, roster.getStudentRegistry().size());
+        assertEquals(2, roster.getStudentRegistry().getGroupsOf(ALICE).size());
+    }
+
+    @Test
+    public void replaceStudent_studentInTwoGroups_replacedInBothAndUndone() {
+        Session session = new Session("S1");
+        lab.addSession(session);
+        session.markPresent(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("99999999").build();
+
+        List<StudentReplacement> replacements = roster.replaceStudent(tutorial, ALICE, student -> editedAlice);
+
+        assertEquals(2, replacements.size());
+        assertSame(editedAlice, lab.getUnmodifiableStudentList().get(0));
+        assertEquals(1, session.getAttendanceOf(editedAlice));
+
+        new StudentReplacementChange(replacements).undo();
+        assertEquals(ALICE, tutorial.getUnmodifiableStudentList().get(0));
+        assertEquals(ALICE, lab.getUnmodifiableStudentList().get(0));
+    }
+
+    @Test
+    public void replaceStudent_remarksDifferBetweenGroups_remarkOfEachGroupKept() {
+        Student remarkedAlice = new StudentBuilder(ALICE).withRemark("Leads the team").build();
+        lab.replaceStudent(lab.getUnmodifiableStudentList().get(0), remarkedAlice);
+
+        roster.replaceStudent(tutorial, ALICE, student -> new StudentBuilder(student).withPhone("99999999").build());
+
+        Student tutorialAlice = tutorial.getUnmodifiableStudentList().get(0);
+        Student labAlice = lab.getUnmodifiableStudentList().get(0);
+        assertEquals("99999999", tutorialAlice.getPhone().value);
+        assertEquals("99999999", labAlice.getPhone().value);
+        assertEquals(ALICE.getRemark(), tutorialAlice.getRemark());
+        assertEquals(remarkedAlice.getRemark(), labAlice.getRemark());
+    }
+
+    @Test
+    public void snapshot_rosterWithStudents_sameCoursesWithoutRegistry() {
+        Roster snapshot = roster.snapshot();
+
+        assertEquals(roster, snapshot);
+        assertEquals(0, snapshot.getStudentRegistry().size());
+        assertEquals(1, roster.getStudentRegistry().size());
+    }
+
+    @Test
+    public void deleteCourse_studentInOtherCourse_onlyOtherGroupKept() {
+        roster.deleteCourse(roster.getUnmodifiableCourseList().get(1));
+
+        assertEquals(1, roster.getStudentRegistry().getGroupsOf(ALICE).size());
+        lab.deleteStudent(lab.getUnmodifiableStudentList().get(0));
+        assertTrue(roster.hasStudent(ALICE));
+
+        tutorial.deleteStudent(ALICE);
+        assertFalse(roster.hasStudent(ALICE));
+    }
+
+    @Test
+    public void search_studentInTwoGroups_hitInEachGroup() {
+        List<SearchHit> hits = roster.search("ALICE", 10);
+
+        assertEquals(List.of("CS2101 > L1 > Alice", "CS2103T > T1 > Alice"), pathsOf(hits));
+        assertEquals(SearchHit.Type.STUDENT, hits.get(0).getType());
+        assertSame(lab, hits.get(0).getGroup().get());
+        assertEquals(0, hits.get(0).getRank());
+    }
+
+    @Test
+    public void search_hitsRanked_bestHitsFirstUpToLimit() {
+        lab.addSession(new Session("Sprint1"));
+        lab.addSession(new Session("T1Review"));
+
+        assertEquals(List.of("CS2103T > T1", "CS2101 > L1 > T1Review"), pathsOf(roster.search("t1", 2)));
+        assertEquals(3, roster.search("t1", 10).size());
+    }
+
+    @Test
+    public void search_rosterChanged_indexUpdated() {
+        Session session = new Session("Midterm");
+        lab.addSession(session);
+        assertEquals(List.of("CS2101 > L1 > Midterm"), pathsOf(roster.search("midterm", 10)));
+
+        lab.deleteSession(session);
+        assertTrue(roster.search("midterm", 10).isEmpty());
+
+        Course course = roster.getUnmodifiableCourseList().get(0);
+        course.setGroup(tutorial, tutorial.copyWithName("T9"));
+        assertTrue(roster.search("t1", 10).isEmpty());
+        assertEquals(List.of("CS2103T > T9"), pathsOf(roster.search("t9", 10)));
+
+        roster.deleteCourse(course);
+        assertEquals(List.of("CS2101 > L1 > Alice"), pathsOf(roster.search("alice", 10)));
+        assertTrue(roster.search("cs2103t", 10).isEmpty());
+    }
+
+    private static List<String> pathsOf(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getPath).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,43 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class SortKeyTest {
+
+    @Test
+    public void compareTo_numbersInText_numericalOrder() {
+        assertTrue(SortKey.of("T2").compareTo(SortKey.of("T10")) < 0);
+        assertTrue(SortKey.of("A0123456X").compareTo(SortKey.of("A123457X")) < 0);
+        assertTrue(SortKey.of("tut 9").compareTo(SortKey.of("tut 10a")) < 0);
+    }
+
+    @Test
+    public void compareTo_differentCase_caseIgnored() {
+        assertTrue(SortKey.of("alice").compareTo(SortKey.of("Bob")) < 0);
+        assertTrue(SortKey.of("Bob").compareTo(SortKey.of("carl")) < 0);
+    }
+
+    @Test
+    public void compareTo_onlyCaseOrLeadingZerosDiffer_notEqual() {
+        assertNotEquals(0, SortKey.of("alice").compareTo(SortKey.of("Alice")));
+        assertNotEquals(0, SortKey.of("T02").compareTo(SortKey.of("T2")));
+        assertEquals(0, SortKey.of("T02").compareTo(SortKey.of("T02")));
+    }
+
+    @Test
+    public void comparing_mixedTexts_sortedNaturally() {
+        List<String> texts = Arrays.asList("T10", "t1", "T2", "lab", "T02", "Lab 3");
+        List<String> sorted = texts.stream()
+                .sorted(SortKey.comparing(text -> text))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("lab", "Lab 3", "t1", "T02", "T2", "T10"), sorted);
+    }
+}
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setRosterFilePath(null));
     }
 
+    @Test
+    public void setRosterFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setRosterFileFormat(null));
+    }
+
 }
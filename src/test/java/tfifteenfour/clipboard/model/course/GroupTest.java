@@ -0,0 +1,368 @@
+package tfifteenfour.clipboard.model.course;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.model.course.exceptions.StudentNotInSessionException;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentSearchIndex;
+import tfifteenfour.clipboard.model.student.exceptions.DuplicateStudentException;
+import tfifteenfour.clipboard.model.task.GradeStatistics;
+import tfifteenfour.clipboard.model.task.Task;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class GroupTest {
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice").withStudentId("A1").build();
+    private static final Student BOB = new StudentBuilder().withName("Bob").withStudentId("A2").build();
+
+    private Group group;
+    private Session session;
+    private Task task;
+
+    @BeforeEach
+    public void setUp() {
+        group = new Group("T1");
+        group.addStudent(ALICE);
+        session = new Session("S1");
+        task = new Task("OP1");
+        group.addSession(session);
+        group.addTask(task);
+    }
+
+    @Test
+    public void addStudent_existingSessionsAndTasks_studentAddedWithDefaultValues() {
+        group.addStudent(BOB);
+
+        assertEquals(2, session.getAttendance().size());
+        assertEquals(Integer.valueOf(0), session.getAttendance().get(BOB));
+        assertEquals(Integer.valueOf(0), task.getGrades().get(BOB));
+    }
+
+    @Test
+    public void addStudents_manyStudents_allAddedWithDefaultValues() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            students.add(new StudentBuilder().withStudentId("B" + i).build());
+        }
+
+        group.addStudents(students);
+
+        assertEquals(1001, group.getUnmodifiableStudentList().size());
+        assertEquals(1001, session.getAttendance().size());
+        assertEquals(0, task.getGradeOf(students.get(999)));
+        session.markPresent(students.get(999));
+        assertEquals(1, session.countPresent());
+    }
+
+    @Test
+    public void addStudents_atIndex_insertedInOrderWithDefaultValues() {
+        Student carol = new StudentBuilder().withName("Carol").withStudentId("A3").build();
+        session.markPresent(ALICE);
+
+        group.addStudents(0, Arrays.asList(BOB, carol));
+
+        assertEquals(Arrays.asList(BOB, carol, ALICE), group.getUnmodifiableStudentList());
+        assertEquals(0, session.getAttendanceOf(BOB));
+        assertEquals(1, session.getAttendanceOf(ALICE));
+    }
+
+    @Test
+    public void addStudents_studentAlreadyInGroup_throwsDuplicateStudentException() {
+        List<Student> students = Arrays.asList(BOB, ALICE);
+        assertThrows(DuplicateStudentException.class, () -> group.addStudents(students));
+        assertFalse(group.hasStudent(BOB));
+    }
+
+    @Test
+    public void addSession_attendanceSetBeforeAdding_attendanceKept() {
+        group.addStudent(BOB);
+        Session newSession = new Session("S2");
+        Map<Student, Integer> attendance = new HashMap<>();
+        attendance.put(BOB, 1);
+        newSession.setAttendance(attendance);
+
+        group.addSession(newSession);
+
+        assertEquals(1, newSession.getAttendanceOf(BOB));
+        assertEquals(0, newSession.getAttendanceOf(ALICE));
+        assertEquals(1, newSession.countPresent());
+    }
+
+    @Test
+    public void getVersion_attendanceGradeOrSessionChanged_newVersion() {
+        long version = group.getVersion();
+        session.markPresent(ALICE);
+        assertNotEquals(version, group.getVersion());
+
+        version = group.getVersion();
+        task.assignGrade(ALICE, 80);
+        assertNotEquals(version, group.getVersion());
+
+        version = group.getVersion();
+        group.addSession(new Session("S2"));
+        assertNotEquals(version, group.getVersion());
+    }
+
+    @Test
+    public void copy_changedGroup_sameVersion() {
+        session.markPresent(ALICE);
+        assertEquals(group.getVersion(), group.copy().getVersion());
+    }
+
+    @Test
+    public void replaceStudent_studentIdChanged_valuesCarriedOver() {
+        session.markPresent(ALICE);
+        task.assignGrade(ALICE, 80);
+        Student editedAlice = new StudentBuilder(ALICE).withStudentId("A9").build();
+
+        group.replaceStudent(ALICE, editedAlice);
+
+        assertEquals(1, session.getAttendanceOf(editedAlice));
+        assertEquals(80, task.getGradeOf(editedAlice));
+        assertFalse(session.getAttendance().containsKey(ALICE));
+    }
+
+    @Test
+    public void markPresent_studentsJoinAndLeave_attendanceCountsUpdated() {
+        Session otherSession = new Session("S2");
+        group.addSession(otherSession);
+        group.addStudent(BOB);
+        session.markPresent(ALICE);
+        session.markPresent(BOB);
+        otherSession.markPresent(ALICE);
+        session.markPresent(ALICE);
+
+        assertEquals(2, session.countPresent());
+        assertEquals(2, group.countSessionsAttended(ALICE));
+        assertEquals(1, group.countSessionsAttended(BOB));
+
+        group.deleteStudent(BOB);
+        assertEquals(1, session.countPresent());
+        group.addStudent(BOB);
+        assertEquals(1, session.countPresent());
+        assertEquals(0, group.countSessionsAttended(BOB));
+
+        session.markAbsent(ALICE);
+        assertEquals(0, session.countPresent());
+        assertEquals(1, group.countSessionsAttended(ALICE));
+    }
+
+    @Test
+    public void replaceStudent_studentIdChanged_attendanceCountsCarriedOver() {
+        session.markPresent(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withStudentId("A9").build();
+
+        group.replaceStudent(ALICE, editedAlice);
+
+        assertEquals(1, session.countPresent());
+        assertEquals(1, group.countSessionsAttended(editedAlice));
+    }
+
+    @Test
+    public void setSession_renamedAndDeleted_sessionsAttendedUpdated() {
+        session.markPresent(ALICE);
+        Session renamed = session.copyWithName("S2");
+
+        group.setSession(session, renamed);
+        assertEquals(1, group.countSessionsAttended(ALICE));
+        assertEquals(1, renamed.countPresent());
+
+        group.deleteSession(renamed);
+        assertEquals(0, group.countSessionsAttended(ALICE));
+        group.addSession(renamed);
+        assertEquals(1, group.countSessionsAttended(ALICE));
+    }
+
+    @Test
+    public void assignGrade_studentsJoinAndLeave_statisticsUpdated() {
+        group.addStudent(BOB);
+        task.assignGrade(ALICE, 80);
+        task.assignGrade(BOB, 60);
+        task.assignGrade(ALICE, 90);
+
+        GradeStatistics statistics = task.getStatistics();
+        assertEquals(2, statistics.getCount());
+        assertEquals(75.0, statistics.getMean());
+        assertEquals(15.0, statistics.getStandardDeviation());
+        assertEquals(60, statistics.getMedian());
+        assertEquals(90, statistics.getMax());
+        assertEquals(1, statistics.getBandCounts()[9]);
+
+        group.deleteStudent(BOB);
+        assertEquals(1, task.getStatistics().getCount());
+        assertEquals(90, task.getStatistics().getMin());
+        group.addStudent(BOB);
+        assertEquals(2, task.getStatistics().getCount());
+        assertEquals(0, task.getStatistics().getMin());
+    }
+
+    @Test
+    public void getGradeStatistics_taskInTwoGroups_statisticsCombined() {
+        Group otherGroup = new Group("T2");
+        otherGroup.addStudent(BOB);
+        Task otherTask = new Task("OP1");
+        otherGroup.addTask(otherTask);
+        task.assignGrade(ALICE, 40);
+        otherTask.assignGrade(BOB, 100);
+
+        Course course = new Course("CS2103T");
+        course.addGroup(group);
+        course.addGroup(otherGroup);
+
+        GradeStatistics statistics = course.getGradeStatistics(task);
+        assertEquals(2, statistics.getCount());
+        assertEquals(70.0, statistics.getMean());
+        assertEquals(100, statistics.getPercentile(75));
+        assertEquals(1, statistics.countInRange(90, 100));
+    }
+
+    @Test
+    public void getGradeStatistics_gradesChangedAfterGroupAdded_statisticsUpdated() {
+        Course course = new Course("CS2103T");
+        course.addGroup(group);
+        task.assignGrade(ALICE, 40);
+        group.addStudent(BOB);
+        task.assignGrade(BOB, 60);
+        task.assignGrade(ALICE, 80);
+
+        GradeStatistics statistics = course.getGradeStatistics(task);
+        assertEquals(2, statistics.getCount());
+        assertEquals(70.0, statistics.getMean());
+
+        group.deleteStudent(BOB);
+        assertEquals(80.0, course.getGradeStatistics(task).getMean());
+        group.deleteTask(task);
+        assertEquals(0, course.getGradeStatistics(task).getCount());
+    }
+
+    @Test
+    public void getGradeStatistics_groupRemoved_statisticsUncounted() {
+        task.assignGrade(ALICE, 40);
+        Course course = new Course("CS2103T");
+        course.addGroup(group);
+        assertEquals(1, course.getGradeStatistics(task).getCount());
+
+        course.deleteGroup(group);
+        assertEquals(0, course.getGradeStatistics(task).getCount());
+        task.assignGrade(ALICE, 60);
+        assertEquals(0, course.getGradeStatistics(task).getCount());
+    }
+
+    @Test
+    public void getStudentSearchIndex_studentsChanged_indexUpdated() {
+        StudentSearchIndex index = group.getStudentSearchIndex();
+        group.addStudent(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Carol").build();
+        group.replaceStudent(ALICE, editedAlice);
+
+        assertEquals(Set.of(BOB), index.find(List.of("bob")));
+        assertEquals(Set.of(editedAlice), index.find(List.of("carol")));
+        assertEquals(Collections.emptySet(), index.find(List.of("alice")));
+    }
+
+    @Test
+    public void deleteStudent_addedAgain_valuesCleared() {
+        session.markPresent(ALICE);
+        group.deleteStudent(ALICE);
+        assertThrows(StudentNotInSessionException.class, () -> session.markPresent(ALICE));
+
+        group.addStudent(ALICE);
+        assertEquals(0, session.getAttendanceOf(ALICE));
+    }
+
+    @Test
+    public void deleteStudent_sessionsAndTasks_studentRemoved() {
+        group.addStudent(BOB);
+        group.deleteStudent(ALICE);
+
+        assertFalse(session.getAttendance().containsKey(ALICE));
+        assertFalse(task.getGrades().containsKey(ALICE));
+        assertEquals(1, task.getUnmodifiableStudentList().size());
+        assertThrows(StudentNotInSessionException.class, () -> task.assignGrade(ALICE, 50));
+    }
+
+    @Test
+    public void deleteStudent_newStudentWithSameId_noRecordsCarriedOver() {
+        session.markPresent(ALICE);
+        task.assignGrade(ALICE, 80);
+        group.deleteStudent(ALICE);
+        assertEquals(0, task.getGrades().size());
+
+        Student newStudent = new StudentBuilder().withName("Carol").withStudentId("A1").build();
+        group.addStudent(newStudent);
+        assertEquals(0, session.getAttendanceOf(newStudent));
+        assertEquals(0, task.getGradeOf(newStudent));
+        assertEquals(0, session.countPresent());
+        assertEquals(0, group.countSessionsAttended(newStudent));
+        assertEquals(0, task.getStatistics().getMax());
+    }
+
+    @Test
+    public void deleteStudents_clearedAndAddedAgain_valuesCleared() {
+        group.addStudent(BOB);
+        session.markPresent(BOB);
+        group.deleteStudents(new ArrayList<>(group.getUnmodifiableStudentList()));
+        assertEquals(0, session.getAttendance().size());
+
+        group.addStudent(BOB);
+        assertEquals(0, session.countPresent());
+    }
+
+    @Test
+    public void copyWithName_renamed_recordsCarriedOver() {
+        session.markPresent(ALICE);
+        task.assignGrade(ALICE, 80);
+
+        Group renamed = group.copyWithName("T2");
+        Session renamedSession = renamed.getUnmodifiableSessionList().get(0);
+        Task renamedTask = renamed.getUnmodifiableTaskList().get(0);
+
+        assertEquals("T2", renamed.getGroupName());
+        assertEquals(1, renamedSession.getAttendanceOf(ALICE));
+        assertEquals(80, renamedTask.getGradeOf(ALICE));
+        renamed.addStudent(BOB);
+        assertEquals(1, session.getAttendance().size());
+    }
+
+    @Test
+    public void copyWithName_session_attendanceSharedUntilModified() {
+        session.markPresent(ALICE);
+        Session renamed = session.copyWithName("S2");
+
+        renamed.markAbsent(ALICE);
+
+        assertEquals("S2", renamed.getSessionName());
+        assertEquals(1, session.getAttendanceOf(ALICE));
+        assertEquals(0, renamed.getAttendanceOf(ALICE));
+    }
+
+    @Test
+    public void copy_originalModified_copyUnchanged() {
+        session.markPresent(ALICE);
+        Group copy = group.copy();
+        Session sessionCopy = copy.getUnmodifiableSessionList().get(0);
+
+        session.markAbsent(ALICE);
+        group.addStudent(BOB);
+
+        assertEquals(1, sessionCopy.getAttendanceOf(ALICE));
+        assertEquals(1, sessionCopy.getAttendance().size());
+        assertEquals(1, sessionCopy.countPresent());
+        assertEquals(1, copy.countSessionsAttended(ALICE));
+        assertEquals(0, group.countSessionsAttended(ALICE));
+    }
+}
@@ -0,0 +1,88 @@
+package tfifteenfour.clipboard.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class StudentSearchIndexTest {
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice Pauline").withStudentId("A0123456B")
+            .build();
+    private static final Student BENSON = new StudentBuilder().withName("Benson Meier").withStudentId("A0654321C")
+            .build();
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new StudentSearchIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+    }
+
+    @Test
+    public void find_shortKeyword_studentsWithGramFound() {
+        assertEquals(Set.of(ALICE, BENSON), index.find(List.of("e")));
+        assertEquals(Set.of(ALICE), index.find(List.of("ali")));
+        assertEquals(Collections.emptySet(), index.find(List.of("xyz")));
+    }
+
+    @Test
+    public void find_longKeyword_onlyStudentsContainingWholeKeywordFound() {
+        assertEquals(Set.of(ALICE), index.find(List.of("pauline")));
+        assertEquals(Set.of(BENSON), index.find(List.of("0654321")));
+        // every trigram of the keyword is in the name of Alice, but the keyword is not
+        assertEquals(Collections.emptySet(), index.find(List.of("paulice")));
+        assertEquals(Set.of(ALICE, BENSON), index.find(List.of("pauline", "meier")));
+    }
+
+    @Test
+    public void remove_studentRemoved_notFound() {
+        index.find(List.of("a0"));
+        index.remove(ALICE);
+
+        assertEquals(Set.of(BENSON), index.find(List.of("a0")));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void matches_studentNotIndexed_keywordsMatchedDirectly() {
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+
+        assertTrue(index.matches(editedAlice, List.of("tan")));
+        assertFalse(index.matches(editedAlice, List.of("pauline")));
+    }
+
+    @Test
+    public void findSimilar_mistypedKeywords_closestStudentsFirst() {
+        assertEquals(Map.of(ALICE, 1), index.findSimilar(List.of("alcie"), 10));
+        assertEquals(Map.of(ALICE, 1), index.findSimilar(List.of("a0123465b"), 10));
+        assertEquals(List.of(BENSON, ALICE),
+                List.copyOf(index.findSimilar(List.of("paulina", "meier"), 10).keySet()));
+        assertEquals(List.of(BENSON), List.copyOf(index.findSimilar(List.of("paulina", "meier"), 1).keySet()));
+        // a short keyword is only similar to the same word
+        assertEquals(Collections.emptyMap(), index.findSimilar(List.of("al"), 10));
+    }
+
+    @Test
+    public void findSimilar_studentsChanged_treeUpdated() {
+        Student muhammad = new StudentBuilder().withName("Muhammad Ali").withStudentId("A1111111D").build();
+        index.findSimilar(List.of("alcie"), 10);
+
+        index.add(muhammad);
+        assertEquals(Map.of(muhammad, 2), index.findSimilar(List.of("mohamad"), 10));
+
+        index.remove(muhammad);
+        assertEquals(Collections.emptyMap(), index.findSimilar(List.of("mohamad"), 10));
+    }
+}
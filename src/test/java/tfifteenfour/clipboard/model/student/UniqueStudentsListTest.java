@@ -0,0 +1,136 @@
+package tfifteenfour.clipboard.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.model.RefinablePredicate;
+import tfifteenfour.clipboard.model.course.exceptions.DuplicateGroupException;
+import tfifteenfour.clipboard.model.student.exceptions.DuplicateStudentException;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class UniqueStudentsListTest {
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice").withStudentId("A1").build();
+    private static final Student BOB = new StudentBuilder().withName("Bob").withStudentId("A2").build();
+
+    private final UniqueStudentsList uniqueStudentsList = new UniqueStudentsList();
+
+    @Test
+    public void contains_studentWithSameIdentity_returnsTrue() {
+        uniqueStudentsList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertTrue(uniqueStudentsList.contains(editedAlice));
+        assertFalse(uniqueStudentsList.contains(BOB));
+    }
+
+    @Test
+    public void add_duplicateStudent_throwsDuplicateStudentException() {
+        uniqueStudentsList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentsList.add(ALICE));
+    }
+
+    @Test
+    public void findStudent_afterSetAndRemove_followsList() {
+        uniqueStudentsList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        uniqueStudentsList.set(ALICE, editedAlice);
+        assertSame(editedAlice, uniqueStudentsList.findStudent(ALICE.getStudentId()).get());
+
+        uniqueStudentsList.remove(editedAlice);
+        assertFalse(uniqueStudentsList.findStudent(ALICE.getStudentId()).isPresent());
+    }
+
+    @Test
+    public void findStudent_changedThroughModifiableList_followsList() {
+        List<Student> students = uniqueStudentsList.asModifiableObservableList();
+        students.add(ALICE);
+        students.add(BOB);
+        assertSame(BOB, uniqueStudentsList.findStudent(BOB.getStudentId()).get());
+
+        students.remove(BOB);
+        assertFalse(uniqueStudentsList.contains(BOB));
+        students.clear();
+        assertFalse(uniqueStudentsList.contains(ALICE));
+    }
+
+    @Test
+    public void setInternalList_duplicateStudents_throwsDuplicateGroupException() {
+        List<Student> students = Arrays.asList(ALICE, new StudentBuilder(ALICE).withName("Alice Tan").build());
+        assertThrows(DuplicateGroupException.class, () -> uniqueStudentsList.setInternalList(students));
+    }
+
+    @Test
+    public void setInternalList_manyStudents_allIndexed() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            students.add(new StudentBuilder().withStudentId("A" + i).build());
+        }
+        uniqueStudentsList.setInternalList(students);
+
+        assertEquals(5000, uniqueStudentsList.asUnmodifiableObservableList().size());
+        assertSame(students.get(4321), uniqueStudentsList.findStudent(new StudentId("A4321")).get());
+    }
+
+    @Test
+    public void updateFilterPredicate_refiningPredicate_onlyShownStudentsTested() {
+        Student aliceTan = new StudentBuilder().withName("Alice Tan").withStudentId("A3").build();
+        uniqueStudentsList.setInternalList(Arrays.asList(ALICE, BOB, aliceTan));
+        uniqueStudentsList.updateFilterPredicate(new NameContainsPredicate("alice"));
+
+        NameContainsPredicate refiningPredicate = new NameContainsPredicate("alice t");
+        uniqueStudentsList.updateFilterPredicate(refiningPredicate);
+        assertEquals(Arrays.asList(aliceTan), uniqueStudentsList.asUnmodifiableFilteredList());
+        assertEquals(Arrays.asList(ALICE, aliceTan), refiningPredicate.testedStudents);
+
+        // a predicate that does not refine the filter tests every student
+        NameContainsPredicate widerPredicate = new NameContainsPredicate("b");
+        uniqueStudentsList.updateFilterPredicate(widerPredicate);
+        assertEquals(Arrays.asList(BOB), uniqueStudentsList.asUnmodifiableFilteredList());
+        assertEquals(Arrays.asList(ALICE, BOB, aliceTan), widerPredicate.testedStudents);
+    }
+
+    @Test
+    public void updateFilterPredicate_studentAddedAfterRefining_shownIfMatching() {
+        uniqueStudentsList.setInternalList(Arrays.asList(ALICE, BOB));
+        uniqueStudentsList.updateFilterPredicate(new NameContainsPredicate("a"));
+        uniqueStudentsList.updateFilterPredicate(new NameContainsPredicate("al"));
+
+        Student alan = new StudentBuilder().withName("Alan").withStudentId("A3").build();
+        uniqueStudentsList.add(alan);
+        assertEquals(Arrays.asList(ALICE, alan), uniqueStudentsList.asUnmodifiableFilteredList());
+    }
+
+    /**
+     * Matches the students whose name contains a keyword, ignoring case, and records the students tested.
+     */
+    private static class NameContainsPredicate implements RefinablePredicate<Student> {
+        private final String keyword;
+        private final List<Student> testedStudents = new ArrayList<>();
+
+        private NameContainsPredicate(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        public boolean test(Student student) {
+            testedStudents.add(student);
+            return student.getName().toString().toLowerCase().contains(keyword);
+        }
+
+        @Override
+        public boolean refines(Predicate<?> other) {
+            return other instanceof NameContainsPredicate
+                    && keyword.contains(((NameContainsPredicate) other).keyword);
+        }
+    }
+}
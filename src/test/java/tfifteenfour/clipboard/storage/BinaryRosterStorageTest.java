@@ -0,0 +1,103 @@
+package tfifteenfour.clipboard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRoster;
+
+public class BinaryRosterStorageTest {
+    private static final Path SAMPLE_ROSTER_FILE = Paths.get("src", "test", "data", "sampleRoster.json");
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    public Path testFolder;
+
+    private ReadOnlyRoster readSampleRoster() throws Exception {
+        return new JsonRosterStorage(SAMPLE_ROSTER_FILE).readRoster().get();
+    }
+
+    private static String toJson(ReadOnlyRoster roster) throws Exception {
+        return mapper.writeValueAsString(new SerializedRoster(roster));
+    }
+
+    @Test
+    public void readRoster_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryRosterStorage(testFolder.resolve("missing.bin")).readRoster().isPresent());
+    }
+
+    @Test
+    public void saveAndReadRoster_sampleRoster_sameRoster() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.bin");
+        BinaryRosterStorage storage = new BinaryRosterStorage(rosterFile);
+        ReadOnlyRoster original = readSampleRoster();
+
+        storage.saveRoster(original);
+        assertEquals(toJson(original), toJson(storage.readRoster().get()));
+
+        // saving over an existing file
+        storage.saveRoster(new Roster());
+        assertTrue(storage.readRoster().get().getUnmodifiableCourseList().isEmpty());
+    }
+
+    @Test
+    public void saveRoster_sampleRoster_smallerThanJson() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.bin");
+        new BinaryRosterStorage(rosterFile).saveRoster(readSampleRoster());
+
+        assertTrue(Files.size(rosterFile) < Files.size(SAMPLE_ROSTER_FILE));
+    }
+
+    @Test
+    public void readRoster_jsonFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> new BinaryRosterStorage(SAMPLE_ROSTER_FILE).readRoster());
+    }
+
+    @Test
+    public void readRoster_truncatedFile_throwsDataConversionException() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.bin");
+        new BinaryRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        byte[] bytes = Files.readAllBytes(rosterFile);
+        Files.write(rosterFile, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryRosterStorage(rosterFile).readRoster());
+    }
+
+    @Test
+    public void readRoster_corruptedFile_throwsDataConversionException() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.bin");
+        new BinaryRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        byte[] bytes = Files.readAllBytes(rosterFile);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(rosterFile, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryRosterStorage(rosterFile).readRoster());
+    }
+
+    @Test
+    public void readRoster_newerVersion_throwsDataConversionException() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.bin");
+        new BinaryRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        byte[] bytes = Files.readAllBytes(rosterFile);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryRosterStorage.CURRENT_VERSION + 1);
+        Files.write(rosterFile, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryRosterStorage(rosterFile).readRoster());
+    }
+}
@@ -0,0 +1,246 @@
+package tfifteenfour.clipboard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.model.DeltaRecorder;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedDelta;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedLogEntry;
+
+public class CommandLogTest {
+    private static final Path SAMPLE_ROSTER_FILE = Paths.get("src", "test", "data", "sampleRoster.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private static Roster readSampleRoster() throws Exception {
+        return new Roster(new JsonRosterStorage(SAMPLE_ROSTER_FILE).readRoster().get());
+    }
+
+    private static Course getFirstCourse(ReadOnlyRoster roster) {
+        return roster.getUnmodifiableCourseList().get(0);
+    }
+
+    private static Group getFirstGroup(ReadOnlyRoster roster) {
+        return getFirstCourse(roster).getUnmodifiableGroupList().get(0);
+    }
+
+    private static List<String> getSessionNames(Group group) {
+        return group.getUnmodifiableSessionList().stream()
+                .map(Session::getSessionName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void readEntries_emptyDirectory_noEntries() throws Exception {
+        assertTrue(new CommandLog(testFolder.resolve("log")).readEntries().isEmpty());
+    }
+
+    @Test
+    public void appendAndReadEntries_allInOrder_success() throws Exception {
+        CommandLog commandLog = new CommandLog(testFolder.resolve("log"));
+        for (int i = 0; i < 5; i++) {
+            commandLog.append(SerializedLogEntry.ofRosterChange("command " + i, new Roster()));
+        }
+        commandLog.close();
+
+        List<SerializedLogEntry> entries = new CommandLog(testFolder.resolve("log")).readEntries();
+        assertEquals(5, entries.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("command " + i, entries.get(i).getCommand());
+        }
+    }
+
+    @Test
+    public void readEntries_incompleteLastEntry_ignored() throws Exception {
+        Path logDirectory = testFolder.resolve("log");
+        CommandLog commandLog = new CommandLog(logDirectory);
+        commandLog.append(SerializedLogEntry.ofRosterChange("complete", new Roster()));
+        commandLog.close();
+        try (Stream<Path> segments = Files.list(logDirectory)) {
+            Path segmentFile = segments.findFirst().get();
+            Files.write(segmentFile, "{\"command\":\"incomp".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+        }
+
+        // entries written after a restart are still read
+        CommandLog restartedLog = new CommandLog(logDirectory);
+        restartedLog.append(SerializedLogEntry.ofRosterChange("after restart", new Roster()));
+        restartedLog.close();
+
+        List<SerializedLogEntry> entries = new CommandLog(logDirectory).readEntries();
+        assertEquals(2, entries.size());
+        assertEquals("complete", entries.get(0).getCommand());
+        assertEquals("after restart", entries.get(1).getCommand());
+    }
+
+    @Test
+    public void deleteSegmentsBefore_newSegmentStarted_onlyLaterEntriesKept() throws Exception {
+        CommandLog commandLog = new CommandLog(testFolder.resolve("log"));
+        commandLog.append(SerializedLogEntry.ofRosterChange("saved", new Roster()));
+        long newSegment = commandLog.startNewSegment();
+        assertEquals(0, commandLog.getEntriesSinceNewSegment());
+        commandLog.append(SerializedLogEntry.ofRosterChange("not saved", new Roster()));
+        commandLog.deleteSegmentsBefore(newSegment);
+        commandLog.close();
+
+        List<SerializedLogEntry> entries = new CommandLog(testFolder.resolve("log")).readEntries();
+        assertEquals(1, entries.size());
+        assertEquals("not saved", entries.get(0).getCommand());
+    }
+
+    @Test
+    public void applyTo_sessionAdded_onlyThatGroupChanged() throws Exception {
+        Roster roster = readSampleRoster();
+        Roster changedRoster = readSampleRoster();
+
+        addSession(changedRoster, "NEW_SESSION").applyTo(roster);
+
+        assertTrue(getSessionNames(getFirstGroup(roster)).contains("NEW_SESSION"));
+        Group otherGroup = getFirstCourse(roster).getUnmodifiableGroupList().get(1);
+        assertFalse(getSessionNames(otherGroup).contains("NEW_SESSION"));
+    }
+
+    @Test
+    public void applyTo_appliedTwice_sameResult() throws Exception {
+        Roster roster = readSampleRoster();
+        Roster changedRoster = readSampleRoster();
+        List<Group> changedGroups = getFirstCourse(changedRoster).getModifiableGroupList();
+        Group deletedGroup = changedGroups.remove(0);
+        SerializedLogEntry groupDeletion = logDeltas("delete group 1", changedRoster, recorder ->
+                recorder.recordListChange(changedGroups, 0, List.of(deletedGroup), List.of()));
+        SerializedLogEntry sessionAddition = addSession(changedRoster, "NEW_SESSION");
+
+        groupDeletion.applyTo(roster);
+        sessionAddition.applyTo(roster);
+        int groupCountAfterFirstApply = getFirstCourse(roster).getUnmodifiableGroupList().size();
+        int sessionCountAfterFirstApply = getFirstGroup(roster).getUnmodifiableSessionList().size();
+        groupDeletion.applyTo(roster);
+        sessionAddition.applyTo(roster);
+
+        assertEquals(changedGroups.size(), groupCountAfterFirstApply);
+        assertEquals(groupCountAfterFirstApply, getFirstCourse(roster).getUnmodifiableGroupList().size());
+        assertEquals(sessionCountAfterFirstApply, getFirstGroup(roster).getUnmodifiableSessionList().size());
+    }
+
+    @Test
+    public void applyTo_groupRenamed_loggedWithoutContentsOfGroup() throws Exception {
+        Roster roster = readSampleRoster();
+        Roster changedRoster = readSampleRoster();
+        List<Group> changedGroups = getFirstCourse(changedRoster).getModifiableGroupList();
+        Group group = changedGroups.get(0);
+        Group renamedGroup = group.copyWithName("RENAMED");
+        changedGroups.set(0, renamedGroup);
+
+        SerializedLogEntry entry = logDeltas("edit group 1 n/RENAMED", changedRoster, recorder ->
+                recorder.recordListChange(changedGroups, 0, List.of(group), List.of(renamedGroup)));
+        entry.applyTo(roster);
+
+        SerializedDelta delta = entry.getDeltas().get(0);
+        assertEquals(SerializedDelta.Type.RENAME, delta.getType());
+        assertNull(delta.getAddedGroups());
+        assertEquals("RENAMED", getFirstGroup(roster).getGroupName());
+        assertEquals(group.getUnmodifiableStudentList(), getFirstGroup(roster).getUnmodifiableStudentList());
+    }
+
+    @Test
+    public void applyTo_studentsDeletedAndRestored_recordsRestored() throws Exception {
+        Roster roster = readSampleRoster();
+        Roster changedRoster = readSampleRoster();
+        Group group = getFirstGroup(changedRoster);
+        Student student = group.getUnmodifiableStudentList().get(0);
+        Session session = group.getUnmodifiableSessionList().get(0);
+        session.markPresent(student);
+        getFirstGroup(roster).getUnmodifiableSessionList().get(0)
+                .markPresent(getFirstGroup(roster).getUnmodifiableStudentList().get(0));
+
+        group.deleteStudents(List.of(student));
+        SerializedLogEntry deletion = logDeltas("delete student 1", changedRoster, recorder ->
+                recorder.recordStudentsDeleted(group, List.of(student)));
+        group.getModifiableStudentList().add(0, student);
+        session.markPresent(student);
+        SerializedLogEntry restoration = logDeltas("undo", changedRoster, recorder -> {
+            recorder.recordStudentsAdded(group, 0, List.of(student));
+            recorder.recordAttendance(session, student, Session.PRESENT);
+        });
+
+        deletion.applyTo(roster);
+        Group targetGroup = getFirstGroup(roster);
+        assertEquals(group.getUnmodifiableStudentList().size() - 1, targetGroup.getUnmodifiableStudentList().size());
+        restoration.applyTo(roster);
+        restoration.applyTo(roster);
+
+        assertEquals(group.getUnmodifiableStudentList(), targetGroup.getUnmodifiableStudentList());
+        Student restoredStudent = targetGroup.getUnmodifiableStudentList().get(0);
+        assertEquals(Session.PRESENT, targetGroup.getUnmodifiableSessionList().get(0).getAttendanceOf(restoredStudent));
+    }
+
+    @Test
+    public void readRoster_changesLoggedAfterSave_changesApplied() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ShardedRosterStorage rosterStorage = new ShardedRosterStorage(rosterFile);
+        Roster roster = readSampleRoster();
+        rosterStorage.saveRoster(roster);
+
+        // logged without saving, as if the app stopped before the roster was saved
+        CommandLog commandLog = new CommandLog(CommandLog.getLogDirectory(rosterFile));
+        commandLog.append(addSession(roster, "NEW_SESSION"));
+        commandLog.close();
+
+        StorageManager storageManager = new StorageManager(rosterStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        ReadOnlyRoster recoveredRoster = storageManager.readRoster().get();
+        assertTrue(getSessionNames(getFirstGroup(recoveredRoster)).contains("NEW_SESSION"));
+
+        // closing saves the recovered changes, so only the saved roster is left
+        Group recoveredGroup = getFirstGroup(recoveredRoster);
+        Session otherSession = new Session("OTHER_SESSION");
+        recoveredGroup.addSession(otherSession);
+        List<Session> sessions = recoveredGroup.getModifiableSessionList();
+        storageManager.logChange("session OTHER_SESSION", recoveredRoster, recorder ->
+                recorder.recordListChange(sessions, sessions.size() - 1, List.of(), List.of(otherSession)));
+        storageManager.close();
+        assertTrue(new CommandLog(CommandLog.getLogDirectory(rosterFile)).readEntries().isEmpty());
+        ReadOnlyRoster savedRoster = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertTrue(getSessionNames(getFirstGroup(savedRoster)).containsAll(List.of("NEW_SESSION", "OTHER_SESSION")));
+    }
+
+    /**
+     * Adds a session named {@code sessionName} to the first group of {@code roster}, and returns the log entry of it.
+     */
+    private static SerializedLogEntry addSession(ReadOnlyRoster roster, String sessionName) {
+        Session session = new Session(sessionName);
+        getFirstGroup(roster).addSession(session);
+        List<Session> sessions = getFirstGroup(roster).getModifiableSessionList();
+        return logDeltas("session " + sessionName, roster, recorder ->
+                recorder.recordListChange(sessions, sessions.size() - 1, List.of(), List.of(session)));
+    }
+
+    private static SerializedLogEntry logDeltas(String command, ReadOnlyRoster roster,
+            Consumer<DeltaRecorder> changes) {
+        LoggedDeltaRecorder recorder = new LoggedDeltaRecorder(roster);
+        changes.accept(recorder);
+        return SerializedLogEntry.ofDeltas(command, recorder.getDeltas());
+    }
+}
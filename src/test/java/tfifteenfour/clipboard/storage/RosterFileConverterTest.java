@@ -0,0 +1,108 @@
+package tfifteenfour.clipboard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.RosterFileFormat;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedLogEntry;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRoster;
+
+public class RosterFileConverterTest {
+    private static final Path SAMPLE_ROSTER_FILE = Paths.get("src", "test", "data", "sampleRoster.json");
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    public Path testFolder;
+
+    private static String toJson(ReadOnlyRoster roster) throws Exception {
+        return mapper.writeValueAsString(new SerializedRoster(roster));
+    }
+
+    @Test
+    public void getFilePath_binaryFormat_extensionReplaced() {
+        Path rosterFile = Paths.get("data", "roster.json");
+        assertEquals(rosterFile, RosterFileConverter.getFilePath(RosterFileFormat.JSON, rosterFile));
+        assertEquals(Paths.get("data", "roster.bin"), RosterFileConverter.getFilePath(RosterFileFormat.BINARY,
+                rosterFile));
+    }
+
+    @Test
+    public void openStorage_onlyJsonRoster_importedAsBinary() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Files.copy(SAMPLE_ROSTER_FILE, rosterFile);
+
+        RosterStorage storage = RosterFileConverter.openStorage(RosterFileFormat.BINARY, rosterFile);
+
+        assertTrue(storage instanceof BinaryRosterStorage);
+        ReadOnlyRoster expected = new JsonRosterStorage(SAMPLE_ROSTER_FILE).readRoster().get();
+        assertEquals(toJson(expected), toJson(storage.readRoster().get()));
+    }
+
+    @Test
+    public void openStorage_onlyBinaryRoster_exportedAsJson() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ReadOnlyRoster expected = new JsonRosterStorage(SAMPLE_ROSTER_FILE).readRoster().get();
+        new BinaryRosterStorage(RosterFileConverter.getFilePath(RosterFileFormat.BINARY, rosterFile))
+                .saveRoster(expected);
+
+        RosterStorage storage = RosterFileConverter.openStorage(RosterFileFormat.JSON, rosterFile);
+
+        assertTrue(storage instanceof ShardedRosterStorage);
+        assertEquals(toJson(expected), toJson(storage.readRoster().get()));
+    }
+
+    @Test
+    public void openStorage_formatChangedBack_changesInOtherFormatKept() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Files.copy(SAMPLE_ROSTER_FILE, rosterFile);
+
+        RosterStorage binaryStorage = RosterFileConverter.openStorage(RosterFileFormat.BINARY, rosterFile);
+        assertFalse(Files.exists(rosterFile));
+        assertTrue(Files.exists(testFolder.resolve("roster.json.imported")));
+        Roster changedRoster = new Roster(binaryStorage.readRoster().get());
+        changedRoster.deleteCourse(changedRoster.getUnmodifiableCourseList().get(0));
+        binaryStorage.saveRoster(changedRoster);
+
+        RosterStorage jsonStorage = RosterFileConverter.openStorage(RosterFileFormat.JSON, rosterFile);
+
+        assertEquals(toJson(changedRoster), toJson(jsonStorage.readRoster().get()));
+        assertFalse(Files.exists(binaryStorage.getRosterFilePath()));
+        assertTrue(Files.exists(testFolder.resolve("roster.bin.imported")));
+    }
+
+    @Test
+    public void openStorage_changesLoggedInOtherFormat_changesImported() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Files.copy(SAMPLE_ROSTER_FILE, rosterFile);
+        Roster changedRoster = new Roster(new JsonRosterStorage(SAMPLE_ROSTER_FILE).readRoster().get());
+        changedRoster.deleteCourse(changedRoster.getUnmodifiableCourseList().get(0));
+        CommandLog commandLog = new CommandLog(CommandLog.getLogDirectory(rosterFile));
+        commandLog.append(SerializedLogEntry.ofRosterChange("delete course 1", changedRoster));
+        commandLog.close();
+
+        RosterStorage storage = RosterFileConverter.openStorage(RosterFileFormat.BINARY, rosterFile);
+
+        assertEquals(toJson(changedRoster), toJson(storage.readRoster().get()));
+        assertTrue(new CommandLog(CommandLog.getLogDirectory(rosterFile)).readEntries().isEmpty());
+    }
+
+    @Test
+    public void openStorage_noRoster_emptyStorage() throws Exception {
+        RosterStorage storage = RosterFileConverter.openStorage(RosterFileFormat.BINARY,
+                testFolder.resolve("roster.json"));
+        assertFalse(storage.readRoster().isPresent());
+    }
+}
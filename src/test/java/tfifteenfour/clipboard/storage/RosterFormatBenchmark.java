@@ -0,0 +1,164 @@
+package tfifteenfour.clipboard.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Email;
+import tfifteenfour.clipboard.model.student.Name;
+import tfifteenfour.clipboard.model.student.Phone;
+import tfifteenfour.clipboard.model.student.Remark;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Compares the file size, save time and load time of large rosters in the single json file of
+ * {@link JsonRosterStorage}, the group files of {@link ShardedRosterStorage}, and the binary file of
+ * {@link BinaryRosterStorage}. Save times are of saving the whole roster into an empty directory. Not run as part of
+ * the tests.
+ * Usage: {@code RosterFormatBenchmark [studentCount...]}
+ */
+public class RosterFormatBenchmark {
+    private static final int[] DEFAULT_STUDENT_COUNTS = {10_000, 100_000};
+    private static final int STUDENTS_PER_GROUP = 50;
+    private static final int GROUPS_PER_COURSE = 20;
+    private static final int SESSIONS_PER_GROUP = 10;
+    private static final int TASKS_PER_GROUP = 5;
+    private static final int WARM_UP_STUDENT_COUNT = 5_000;
+    private static final int RUNS = 5;
+
+    /**
+     * A way of storing a roster in a directory.
+     */
+    @FunctionalInterface
+    private interface StorageFactory {
+        RosterStorage create(Path directory);
+    }
+
+    public static void main(String[] args) throws IOException, DataConversionException {
+        int[] studentCounts = args.length == 0
+                ? DEFAULT_STUDENT_COUNTS
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        Map<String, StorageFactory> storages = new HashMap<>();
+        storages.put("json", directory -> new JsonRosterStorage(directory.resolve("roster.json")));
+        storages.put("sharded json", directory -> new ShardedRosterStorage(directory.resolve("roster.json")));
+        storages.put("binary", directory -> new BinaryRosterStorage(directory.resolve("roster.bin")));
+
+        // saves and loads a small roster first, so that class loading and compilation are not measured
+        Roster warmUpRoster = createRoster(WARM_UP_STUDENT_COUNT);
+        for (StorageFactory storage : storages.values()) {
+            benchmark(warmUpRoster, storage);
+        }
+
+        System.out.println("students, format, file KB, median save ms, median load ms");
+        for (int studentCount : studentCounts) {
+            Roster roster = createRoster(studentCount);
+            for (String format : new String[] {"json", "sharded json", "binary"}) {
+                System.out.printf("%d, %s, %s%n", studentCount, format, benchmark(roster, storages.get(format)));
+            }
+        }
+    }
+
+    /**
+     * Returns the total file size, median save time and median load time of {@code roster} in {@code storage}.
+     */
+    private static String benchmark(Roster roster, StorageFactory storage) throws IOException,
+            DataConversionException {
+        long[] saveNanos = new long[RUNS];
+        long[] loadNanos = new long[RUNS];
+        long size = 0;
+        for (int i = 0; i < RUNS; i++) {
+            Path directory = Files.createTempDirectory("roster-benchmark");
+            try {
+                long startTime = System.nanoTime();
+                storage.create(directory).saveRoster(roster);
+                saveNanos[i] = System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                if (!storage.create(directory).readRoster().isPresent()) {
+                    throw new AssertionError("Roster was not loaded");
+                }
+                loadNanos[i] = System.nanoTime() - startTime;
+                size = sizeOf(directory);
+            } finally {
+                delete(directory);
+            }
+        }
+        return String.format("%d, %d, %d", size >> 10, median(saveNanos) / 1_000_000,
+                median(loadNanos) / 1_000_000);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Returns a roster with {@code studentCount} students, where each group has sessions with the attendance of all
+     * its students, and tasks with the grades of all its students.
+     */
+    private static Roster createRoster(int studentCount) {
+        Roster roster = new Roster();
+        Course course = null;
+        int groupCount = (studentCount + STUDENTS_PER_GROUP - 1) / STUDENTS_PER_GROUP;
+        for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+            if (groupIndex % GROUPS_PER_COURSE == 0) {
+                course = new Course("CS" + groupIndex / GROUPS_PER_COURSE);
+                roster.addCourse(course);
+            }
+
+            Group group = new Group("T" + groupIndex);
+            int lastStudent = Math.min((groupIndex + 1) * STUDENTS_PER_GROUP, studentCount);
+            for (int student = groupIndex * STUDENTS_PER_GROUP; student < lastStudent; student++) {
+                group.addStudent(new Student(new Name("Student " + student),
+                        new Phone(String.valueOf(90000000 + student)), new Email("student" + student + "@example.com"),
+                        new StudentId("A" + student), new Remark("")));
+            }
+
+            for (int i = 0; i < SESSIONS_PER_GROUP; i++) {
+                Session session = new Session("Tutorial" + i);
+                Map<Student, Integer> attendance = new HashMap<>();
+                group.getUnmodifiableStudentList().forEach(student -> attendance.put(student, student.hashCode() & 1));
+                session.setAttendance(attendance);
+                group.addSession(session);
+            }
+            for (int i = 0; i < TASKS_PER_GROUP; i++) {
+                Task task = new Task("Assignment" + i);
+                Map<Student, Integer> grades = new HashMap<>();
+                group.getUnmodifiableStudentList().forEach(student -> grades.put(student,
+                        Math.floorMod(student.hashCode(), 101)));
+                task.setGrades(grades);
+                group.addTask(task);
+            }
+            course.addGroup(group);
+        }
+        return roster;
+    }
+}
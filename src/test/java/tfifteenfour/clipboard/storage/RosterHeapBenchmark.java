@@ -0,0 +1,124 @@
+package tfifteenfour.clipboard.storage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.model.Roster;
+
+/**
+ * Measures the heap retained by a department roster loaded by {@link StreamingRosterReader}, where every student is
+ * in several groups of different courses, and every group has the same weekly sessions. Not run as part of the tests.
+ * Usage: {@code RosterHeapBenchmark [studentCount]}, run with a fixed heap size such as {@code -Xmx3g}.
+ */
+public class RosterHeapBenchmark {
+    private static final int DEFAULT_STUDENT_COUNT = 2_000;
+    private static final int COURSES_PER_STUDENT = 3;
+    private static final int STUDENTS_PER_GROUP = 20;
+    private static final int SESSIONS_PER_GROUP = 13;
+    private static final int TASKS_PER_GROUP = 4;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+
+    public static void main(String[] args) throws IOException {
+        int studentCount = args.length == 0 ? DEFAULT_STUDENT_COUNT : Integer.parseInt(args[0]);
+        Path file = Files.createTempFile("roster-heap-benchmark", ".json");
+        try {
+            writeRoster(file, studentCount);
+            // loads the roster once first, so that class loading and compilation are not measured
+            StreamingRosterReader.readRoster(file);
+
+            System.gc();
+            long baseline = usedHeap();
+            Roster roster = StreamingRosterReader.readRoster(file);
+            System.gc();
+            long retained = usedHeap() - baseline;
+
+            System.out.printf("students: %d, memberships: %d, retained heap KB: %d, distinct students: %d%n",
+                    studentCount, studentCount * COURSES_PER_STUDENT, retained >> 10,
+                    roster.getStudentRegistry().size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static long usedHeap() {
+        return heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    /**
+     * Writes a roster where each of {@code studentCount} students is in one group of each of
+     * {@link #COURSES_PER_STUDENT} courses, grouped differently in each course. The sessions and tasks are written
+     * without values, as only the students and names are shared.
+     */
+    private static void writeRoster(Path file, int studentCount) throws IOException {
+        int groupCount = (studentCount + STUDENTS_PER_GROUP - 1) / STUDENTS_PER_GROUP;
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("courses");
+            for (int course = 0; course < COURSES_PER_STUDENT; course++) {
+                generator.writeStartObject();
+                generator.writeStringField("courseCode", "CS" + (2100 + course));
+                generator.writeArrayFieldStart("groups");
+                for (int group = 0; group < groupCount; group++) {
+                    writeGroup(generator, course, group, studentCount);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeGroup(JsonGenerator generator, int course, int group, int studentCount)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("groupName", "T" + group);
+        generator.writeArrayFieldStart("students");
+        int firstPosition = group * STUDENTS_PER_GROUP;
+        int lastPosition = Math.min(firstPosition + STUDENTS_PER_GROUP, studentCount);
+        for (int position = firstPosition; position < lastPosition; position++) {
+            // students are shifted by a different amount in each course, so that groups differ between courses
+            int student = (position + course * 7) % studentCount;
+            generator.writeStartObject();
+            generator.writeStringField("name", "Student " + student);
+            generator.writeStringField("phone", String.valueOf(90000000 + student));
+            generator.writeStringField("email", "student" + student + "@example.com");
+            generator.writeStringField("studentId", "A" + student);
+            generator.writeStringField("remark", "");
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("sessions");
+        for (int session = 1; session <= SESSIONS_PER_GROUP; session++) {
+            generator.writeStartObject();
+            generator.writeStringField("sessionName", "Week" + session);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("tasks");
+        for (int task = 1; task <= TASKS_PER_GROUP; task++) {
+            generator.writeStartObject();
+            generator.writeStringField("taskName", "Assignment" + task);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
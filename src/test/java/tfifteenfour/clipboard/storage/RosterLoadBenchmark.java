@@ -0,0 +1,183 @@
+package tfifteenfour.clipboard.storage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRoster;
+
+/**
+ * Compares the time and peak heap needed to load large rosters by binding to the serialized classes, and by
+ * {@link StreamingRosterReader}. Not run as part of the tests.
+ * Usage: {@code RosterLoadBenchmark [studentCount...]}, run with a fixed heap size such as {@code -Xmx3g}.
+ */
+public class RosterLoadBenchmark {
+    private static final int[] DEFAULT_STUDENT_COUNTS = {10_000, 100_000, 500_000};
+    private static final int STUDENTS_PER_GROUP = 50;
+    private static final int GROUPS_PER_COURSE = 20;
+    private static final int WARM_UP_STUDENT_COUNT = 5_000;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+
+    /**
+     * A way of loading a roster file.
+     */
+    @FunctionalInterface
+    private interface Loader {
+        Roster load(Path file) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] studentCounts = args.length == 0
+                ? DEFAULT_STUDENT_COUNTS
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        Loader serializedClassesLoader = path -> mapper.readValue(path.toFile(), SerializedRoster.class).toModelType();
+        Loader streamingLoader = StreamingRosterReader::readRoster;
+
+        // loads a small roster first, so that class loading and compilation are not measured
+        benchmark(WARM_UP_STUDENT_COUNT, "serialized classes", serializedClassesLoader, false);
+        benchmark(WARM_UP_STUDENT_COUNT, "streaming", streamingLoader, false);
+
+        System.out.println("students, file MB, loader, load ms, peak heap MB, retained heap MB");
+        for (int studentCount : studentCounts) {
+            benchmark(studentCount, "serialized classes", serializedClassesLoader, true);
+            benchmark(studentCount, "streaming", streamingLoader, true);
+        }
+    }
+
+    private static void benchmark(int studentCount, String loaderName, Loader loader, boolean isReported)
+            throws IOException {
+        Path file = Files.createTempFile("roster-benchmark", ".json");
+        try {
+            writeRoster(file, studentCount);
+            String result = measure(loader, file);
+            if (isReported) {
+                System.out.printf("%d, %d, %s, %s%n", studentCount, Files.size(file) >> 20, loaderName, result);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Returns the load time, peak heap and retained heap of loading {@code file} with {@code loader}.
+     */
+    private static String measure(Loader loader, Path file) throws IOException {
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long baseline = usedHeap();
+
+        long startTime = System.nanoTime();
+        Roster roster = loader.load(file);
+        long loadMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() - baseline;
+        System.gc();
+        long retained = usedHeap() - baseline;
+
+        // keeps the roster reachable until the retained heap is measured
+        if (roster.getUnmodifiableCourseList().isEmpty()) {
+            throw new AssertionError("Roster was not loaded");
+        }
+        return String.format("%d, %d, %d", loadMillis, peak >> 20, retained >> 20);
+    }
+
+    private static long usedHeap() {
+        return heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    /**
+     * Writes a roster with {@code studentCount} students to {@code file}, where each group has one session with the
+     * attendance of all its students, and one task with the grades of all its students.
+     */
+    private static void writeRoster(Path file, int studentCount) throws IOException {
+        int groupCount = (studentCount + STUDENTS_PER_GROUP - 1) / STUDENTS_PER_GROUP;
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("courses");
+            for (int group = 0; group < groupCount; group++) {
+                if (group % GROUPS_PER_COURSE == 0) {
+                    if (group > 0) {
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                    generator.writeStartObject();
+                    generator.writeStringField("courseCode", "CS" + (group / GROUPS_PER_COURSE));
+                    generator.writeArrayFieldStart("groups");
+                }
+
+                int firstStudent = group * STUDENTS_PER_GROUP;
+                int lastStudent = Math.min(firstStudent + STUDENTS_PER_GROUP, studentCount);
+                generator.writeStartObject();
+                generator.writeStringField("groupName", "T" + group);
+                generator.writeArrayFieldStart("students");
+                writeStudents(generator, firstStudent, lastStudent);
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("sessions");
+                generator.writeStartObject();
+                generator.writeStringField("sessionName", "Tutorial1");
+                generator.writeArrayFieldStart("keys");
+                writeStudents(generator, firstStudent, lastStudent);
+                generator.writeEndArray();
+                writeValues(generator, "values", firstStudent, lastStudent, 2);
+                generator.writeEndObject();
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("tasks");
+                generator.writeStartObject();
+                generator.writeStringField("taskName", "Assignment1");
+                generator.writeArrayFieldStart("students");
+                writeStudents(generator, firstStudent, lastStudent);
+                generator.writeEndArray();
+                writeValues(generator, "grades", firstStudent, lastStudent, 101);
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            if (groupCount > 0) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeStudents(JsonGenerator generator, int firstStudent, int lastStudent) throws IOException {
+        for (int student = firstStudent; student < lastStudent; student++) {
+            generator.writeStartObject();
+            generator.writeStringField("name", "Student " + student);
+            generator.writeStringField("phone", String.valueOf(90000000 + student));
+            generator.writeStringField("email", "student" + student + "@example.com");
+            generator.writeStringField("studentId", "A" + student);
+            generator.writeStringField("remark", "");
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeValues(JsonGenerator generator, String fieldName, int firstStudent, int lastStudent,
+            int modulus) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (int student = firstStudent; student < lastStudent; student++) {
+            generator.writeNumber(student % modulus);
+        }
+        generator.writeEndArray();
+    }
+}
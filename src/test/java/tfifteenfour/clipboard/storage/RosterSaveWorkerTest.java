@@ -0,0 +1,164 @@
+package tfifteenfour.clipboard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+
+public class RosterSaveWorkerTest {
+
+    private static final long WAIT_TIMEOUT_SECONDS = 5;
+
+    @Test
+    public void requestSave_burstOfRequests_savedOnce() throws Exception {
+        RosterStorageStub rosterStorage = new RosterStorageStub(false);
+        RosterSaveWorker rosterSaveWorker = new RosterSaveWorker(rosterStorage, Runnable::run, 100);
+
+        Roster roster = new Roster();
+        for (int i = 0; i < 10; i++) {
+            rosterSaveWorker.requestSave(roster);
+        }
+        assertTrue(rosterSaveWorker.isDirty());
+
+        assertTrue(rosterStorage.firstSave.await(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        rosterSaveWorker.close();
+        assertEquals(1, rosterStorage.saveCount.get());
+        assertFalse(rosterSaveWorker.isDirty());
+    }
+
+    @Test
+    public void close_unsavedChanges_savedOnClose() throws Exception {
+        RosterStorageStub rosterStorage = new RosterStorageStub(false);
+        RosterSaveWorker rosterSaveWorker = new RosterSaveWorker(rosterStorage, Runnable::run, 60_000);
+
+        rosterSaveWorker.requestSave(new Roster());
+        rosterSaveWorker.close();
+
+        assertEquals(1, rosterStorage.saveCount.get());
+        assertFalse(rosterSaveWorker.isDirty());
+    }
+
+    @Test
+    public void close_noChanges_nothingSaved() throws Exception {
+        RosterStorageStub rosterStorage = new RosterStorageStub(false);
+        RosterSaveWorker rosterSaveWorker = new RosterSaveWorker(rosterStorage, Runnable::run, 0);
+
+        rosterSaveWorker.close();
+
+        assertEquals(0, rosterStorage.saveCount.get());
+    }
+
+    @Test
+    public void requestSave_saveFails_errorReportedAndStillDirty() throws Exception {
+        RosterStorageStub rosterStorage = new RosterStorageStub(true);
+        RosterSaveWorker rosterSaveWorker = new RosterSaveWorker(rosterStorage, Runnable::run, 0);
+        CountDownLatch errorReported = new CountDownLatch(1);
+        rosterSaveWorker.setSaveErrorHandler(unused -> errorReported.countDown());
+
+        rosterSaveWorker.requestSave(new Roster());
+
+        assertTrue(errorReported.await(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(rosterSaveWorker.isDirty());
+    }
+
+    @Test
+    public void close_saveBeingWritten_saveFinishedWithoutError() throws Exception {
+        RosterStorageStub rosterStorage = new RosterStorageStub(false, 200);
+        RosterSaveWorker rosterSaveWorker = new RosterSaveWorker(rosterStorage, Runnable::run, 0);
+        AtomicInteger errorCount = new AtomicInteger();
+        rosterSaveWorker.setSaveErrorHandler(unused -> errorCount.incrementAndGet());
+
+        rosterSaveWorker.requestSave(new Roster());
+        assertTrue(rosterStorage.saveStarted.await(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        rosterSaveWorker.close();
+
+        assertEquals(0, errorCount.get());
+        assertEquals(1, rosterStorage.saveCount.get());
+        assertFalse(rosterSaveWorker.isDirty());
+    }
+
+    @Test
+    public void close_saveWaitingForCopyOfRoster_savedOnClose() throws Exception {
+        RosterStorageStub rosterStorage = new RosterStorageStub(false);
+        // the thread that modifies the roster is the closing thread, so it never gets to copy the roster
+        CountDownLatch copyRequested = new CountDownLatch(1);
+        RosterSaveWorker rosterSaveWorker = new RosterSaveWorker(rosterStorage, unused -> copyRequested.countDown(),
+                0);
+
+        rosterSaveWorker.requestSave(new Roster());
+        assertTrue(copyRequested.await(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        rosterSaveWorker.close();
+
+        assertEquals(1, rosterStorage.saveCount.get());
+        assertFalse(rosterSaveWorker.isDirty());
+    }
+
+    /**
+     * A RosterStorage stub that counts the number of saves, which each take {@code saveMillis} to write.
+     */
+    private static class RosterStorageStub implements RosterStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private final CountDownLatch firstSave = new CountDownLatch(1);
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final boolean isFailing;
+        private final long saveMillis;
+
+        RosterStorageStub(boolean isFailing) {
+            this(isFailing, 0);
+        }
+
+        RosterStorageStub(boolean isFailing, long saveMillis) {
+            this.isFailing = isFailing;
+            this.saveMillis = saveMillis;
+        }
+
+        @Override
+        public Path getRosterFilePath() {
+            return Paths.get("roster.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyRoster> readRoster() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyRoster> readRoster(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveRoster(ReadOnlyRoster roster) throws IOException {
+            saveRoster(roster, getRosterFilePath());
+        }
+
+        @Override
+        public void saveRoster(ReadOnlyRoster roster, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("Stub failure");
+            }
+            saveStarted.countDown();
+            try {
+                Thread.sleep(saveMillis);
+            } catch (InterruptedException e) {
+                // as a file channel that is interrupted while writing
+                throw new ClosedByInterruptException();
+            }
+            saveCount.incrementAndGet();
+            firstSave.countDown();
+        }
+    }
+}
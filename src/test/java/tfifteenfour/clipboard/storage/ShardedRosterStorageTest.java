@@ -0,0 +1,441 @@
+package tfifteenfour.clipboard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.logic.commands.ClearCommand;
+import tfifteenfour.clipboard.logic.history.CommandHistory;
+import tfifteenfour.clipboard.logic.history.HistoryEntry;
+import tfifteenfour.clipboard.logic.history.StudentAdditionChange;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.SearchHit;
+import tfifteenfour.clipboard.model.StudentRegistry;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.GradeStatistics;
+import tfifteenfour.clipboard.model.task.Task;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRoster;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRosterManifest;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class ShardedRosterStorageTest {
+    private static final Path SAMPLE_ROSTER_FILE = Paths.get("src", "test", "data", "sampleRoster.json");
+    private static final byte[] UNTOUCHED_MARKER = "untouched".getBytes();
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    public Path testFolder;
+
+    private ReadOnlyRoster readSampleRoster() throws Exception {
+        return new JsonRosterStorage(SAMPLE_ROSTER_FILE).readRoster().get();
+    }
+
+    private static String toJson(ReadOnlyRoster roster) throws Exception {
+        return mapper.writeValueAsString(new SerializedRoster(roster));
+    }
+
+    private static List<Path> listShardFiles(Path rosterFile) throws Exception {
+        try (Stream<Path> files = Files.list(ShardedRosterStorage.getShardDirectory(rosterFile))) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void readRoster_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedRosterStorage(testFolder.resolve("missing.json")).readRoster().isPresent());
+    }
+
+    @Test
+    public void readRoster_singleFileRoster_success() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Files.copy(SAMPLE_ROSTER_FILE, rosterFile);
+
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertEquals(toJson(readSampleRoster()), toJson(readBack));
+    }
+
+    @Test
+    public void readRoster_singleFileRoster_migratedToCurrentVersion() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Files.copy(SAMPLE_ROSTER_FILE, rosterFile);
+
+        new ShardedRosterStorage(rosterFile).readRoster();
+
+        assertArrayEquals(Files.readAllBytes(SAMPLE_ROSTER_FILE),
+                Files.readAllBytes(ShardedRosterStorage.getBackupPath(rosterFile)));
+        JsonNode manifest = mapper.readTree(rosterFile.toFile());
+        assertEquals(SerializedRosterManifest.CURRENT_VERSION, manifest.get("version").asInt());
+        String shardJson = new String(Files.readAllBytes(listShardFiles(rosterFile).get(0)), StandardCharsets.UTF_8);
+        assertTrue(shardJson.contains("\"studentIds\""));
+        assertFalse(shardJson.contains("\"keys\""));
+
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertEquals(toJson(readSampleRoster()), toJson(readBack));
+    }
+
+    @Test
+    public void readRoster_newerVersion_throwsDataConversionException() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Files.write(rosterFile, "{\"version\": 99, \"courses\": []}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> new ShardedRosterStorage(rosterFile).readRoster());
+    }
+
+    @Test
+    public void readAndSaveRoster_allInOrder_success() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ReadOnlyRoster original = readSampleRoster();
+
+        new ShardedRosterStorage(rosterFile).saveRoster(original);
+        assertEquals(6, listShardFiles(rosterFile).size());
+
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertEquals(toJson(original), toJson(readBack));
+    }
+
+    @Test
+    public void saveRoster_oneGroupChanged_onlyThatGroupWritten() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = storage.readRoster().get();
+        Group changedGroup = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        changedGroup.addSession(new Session("NEW_SESSION"));
+
+        // files written by a save are replaced, so any file still holding the marker was not written
+        for (Path shardFile : listShardFiles(rosterFile)) {
+            Files.write(shardFile, UNTOUCHED_MARKER);
+        }
+        storage.saveRoster(roster);
+
+        long writtenShards = listShardFiles(rosterFile).stream()
+                .filter(shardFile -> !isUntouched(shardFile))
+                .count();
+        assertEquals(1, writtenShards);
+    }
+
+    @Test
+    public void saveRoster_nothingChanged_nothingWritten() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = readSampleRoster();
+        storage.saveRoster(roster);
+
+        Files.write(rosterFile, UNTOUCHED_MARKER);
+        storage.saveRoster(roster);
+
+        assertTrue(isUntouched(rosterFile));
+    }
+
+    @Test
+    public void saveRoster_groupDeleted_shardFileDeleted() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = readSampleRoster();
+        storage.saveRoster(roster);
+
+        Course course = roster.getUnmodifiableCourseList().get(0);
+        course.deleteGroup(course.getUnmodifiableGroupList().get(0));
+        storage.saveRoster(roster);
+
+        assertEquals(5, listShardFiles(rosterFile).size());
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertEquals(toJson(roster), toJson(readBack));
+    }
+
+    @Test
+    public void readRoster_missingShardFile_throwsDataConversionException() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        Files.delete(listShardFiles(rosterFile).get(0));
+
+        assertThrows(DataConversionException.class, () -> new ShardedRosterStorage(rosterFile).readRoster());
+    }
+
+    @Test
+    public void readRoster_currentVersion_groupsLoadedOnFirstUse() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ReadOnlyRoster original = readSampleRoster();
+        new ShardedRosterStorage(rosterFile).saveRoster(original);
+
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        Group group = readBack.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        assertFalse(group.isLoaded());
+
+        Group originalGroup = original.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        assertEquals(originalGroup.getUnmodifiableStudentList(), group.getUnmodifiableStudentList());
+        assertTrue(group.isLoaded());
+    }
+
+    @Test
+    public void unload_unchangedGroup_unloadedAndLoadedAgain() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        ReadOnlyRoster roster = new ShardedRosterStorage(rosterFile).readRoster().get();
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        int studentCount = group.getUnmodifiableStudentList().size();
+
+        assertTrue(group.unload());
+        assertFalse(group.isLoaded());
+        assertEquals(studentCount, group.getUnmodifiableStudentList().size());
+    }
+
+    @Test
+    public void unload_changedGroup_keptLoadedUntilSaved() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = storage.readRoster().get();
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        group.addSession(new Session("NEW_SESSION"));
+
+        assertFalse(group.unload());
+        assertTrue(group.isLoaded());
+        assertTrue(group.isUnloadable());
+
+        storage.saveRoster(roster.snapshot());
+        assertTrue(group.unload());
+        assertTrue(group.hasSession(new Session("NEW_SESSION")));
+    }
+
+    @Test
+    public void unload_changedAndSavedGroupChangedAgain_keptLoaded() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = storage.readRoster().get();
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        group.addSession(new Session("NEW_SESSION"));
+        ReadOnlyRoster snapshot = roster.snapshot();
+        group.deleteSession(new Session("NEW_SESSION"));
+
+        storage.saveRoster(snapshot);
+        assertFalse(group.unload());
+    }
+
+    @Test
+    public void unload_groupReferredToByHistory_unloadableOnceEntriesForgotten() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        ReadOnlyRoster roster = new ShardedRosterStorage(rosterFile).readRoster().get();
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        Student student = new StudentBuilder().withStudentId("A0000000Z").build();
+        group.addStudent(student);
+        HistoryEntry addition = new HistoryEntry("add student", new ClearCommand(),
+                List.of(new StudentAdditionChange(group, student)));
+        HistoryEntry otherEntry = new HistoryEntry("clear", new ClearCommand(), List.of());
+        CommandHistory commandHistory = new CommandHistory(1);
+
+        // an undone entry can still be redone until another command is executed
+        commandHistory.push(addition);
+        assertFalse(group.isUnloadable());
+        commandHistory.undo();
+        assertFalse(group.isUnloadable());
+        commandHistory.push(otherEntry);
+        assertTrue(group.isUnloadable());
+
+        // the oldest entry is forgotten once the history is full
+        commandHistory.undo();
+        commandHistory.redo();
+        group.addStudent(student);
+        commandHistory.push(new HistoryEntry("add student", new ClearCommand(),
+                List.of(new StudentAdditionChange(group, student))));
+        assertFalse(group.isUnloadable());
+        commandHistory.push(otherEntry);
+        assertTrue(group.isUnloadable());
+    }
+
+    @Test
+    public void snapshot_loadedGroups_onlyChangedGroupsCopied() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = storage.readRoster().get();
+        List<Group> groups = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList();
+        groups.get(0).addSession(new Session("NEW_SESSION"));
+        groups.get(1).getUnmodifiableStudentList();
+
+        ReadOnlyRoster snapshot = roster.snapshot();
+        List<Group> snapshotGroups = snapshot.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList();
+        assertTrue(snapshotGroups.get(0).isLoaded());
+        assertFalse(snapshotGroups.get(1).isLoaded());
+
+        storage.saveRoster(snapshot);
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertEquals(toJson(roster), toJson(readBack));
+    }
+
+    @Test
+    public void readRoster_currentVersion_studentsFoundWithoutLoadingGroups() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ReadOnlyRoster original = readSampleRoster();
+        Student student = original.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0)
+                .getUnmodifiableStudentList().get(0);
+        new ShardedRosterStorage(rosterFile).saveRoster(original);
+
+        Roster roster = (Roster) new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertTrue(roster.hasStudent(student));
+        assertFalse(roster.hasStudent(new StudentBuilder().withStudentId("X0000000X").build()));
+        assertTrue(listGroups(roster).stream().noneMatch(Group::isLoaded));
+    }
+
+    @Test
+    public void readRoster_currentVersion_gradeStatisticsFoundWithoutLoadingGroups() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        Roster original = new Roster(readSampleRoster());
+        Course course = original.getUnmodifiableCourseList().get(0);
+        Group group = course.getUnmodifiableGroupList().get(0);
+        Task task = new Task("OP9");
+        group.addTask(task);
+        task.assignGrade(group.getUnmodifiableStudentList().get(0), 70);
+        GradeStatistics originalStatistics = course.getGradeStatistics(task);
+        new ShardedRosterStorage(rosterFile).saveRoster(original);
+
+        Roster roster = (Roster) new ShardedRosterStorage(rosterFile).readRoster().get();
+        Course readCourse = roster.getUnmodifiableCourseList().get(0);
+        GradeStatistics statistics = readCourse.getGradeStatistics(task);
+        assertEquals(originalStatistics.getCount(), statistics.getCount());
+        assertEquals(originalStatistics.getMean(), statistics.getMean());
+        assertEquals(70, statistics.getMax());
+        assertTrue(listGroups(roster).stream().noneMatch(Group::isLoaded));
+
+        Group readGroup = readCourse.getUnmodifiableGroupList().get(0);
+        Task readTask = readGroup.getUnmodifiableTaskList().stream().filter(task::isSameTask).findFirst().get();
+        readTask.assignGrade(readGroup.getUnmodifiableStudentList().get(0), 90);
+        assertEquals(90, readCourse.getGradeStatistics(task).getMax());
+    }
+
+    @Test
+    public void unload_groupInRoster_onlyStudentIdsKeptByRegistry() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        Roster roster = (Roster) new ShardedRosterStorage(rosterFile).readRoster().get();
+        StudentRegistry registry = roster.getStudentRegistry();
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        Student student = group.getUnmodifiableStudentList().get(0);
+        assertTrue(registry.getStudent(student.getStudentId()).isPresent());
+
+        assertTrue(group.unload());
+        assertFalse(registry.getStudent(student.getStudentId()).isPresent());
+        assertTrue(registry.getGroupsOf(student).contains(group));
+        assertTrue(roster.hasStudent(student));
+    }
+
+    @Test
+    public void replaceStudent_unloadedGroups_onlyGroupsWithStudentLoaded() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ReadOnlyRoster original = readSampleRoster();
+        new ShardedRosterStorage(rosterFile).saveRoster(original);
+        Roster roster = (Roster) new ShardedRosterStorage(rosterFile).readRoster().get();
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        Student student = group.getUnmodifiableStudentList().get(0);
+        Student editedStudent = new StudentBuilder(student).withPhone("12345678").build();
+
+        roster.replaceStudent(group, student, replacedStudent -> editedStudent);
+
+        List<Boolean> groupsWithStudent = new ArrayList<>();
+        listGroups(original).forEach(originalGroup ->
+                groupsWithStudent.add(originalGroup.findStudent(student.getStudentId()).isPresent()));
+        List<Boolean> loadedGroups = new ArrayList<>();
+        listGroups(roster).forEach(lazyGroup -> loadedGroups.add(lazyGroup.isLoaded()));
+        assertEquals(groupsWithStudent, loadedGroups);
+        assertTrue(listGroups(roster).stream().filter(Group::isLoaded)
+                .allMatch(lazyGroup -> lazyGroup.getUnmodifiableStudentList().contains(editedStudent)));
+    }
+
+    @Test
+    public void search_unloadedGroups_namesInGroupsFoundWithoutLoading() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        ReadOnlyRoster original = readSampleRoster();
+        new ShardedRosterStorage(rosterFile).saveRoster(original);
+        Roster roster = (Roster) new ShardedRosterStorage(rosterFile).readRoster().get();
+        Group originalGroup = listGroups(original).stream()
+                .filter(group -> !group.getUnmodifiableSessionList().isEmpty())
+                .findFirst().get();
+        Student student = originalGroup.getUnmodifiableStudentList().get(0);
+        String sessionName = originalGroup.getUnmodifiableSessionList().get(0).getSessionName();
+        String studentPath = originalGroup.getGroupName() + " > " + student.getName();
+
+        assertTrue(pathsOf(roster.search(student.getStudentId().toString(), 100)).stream()
+                .anyMatch(path -> path.endsWith(studentPath)));
+        assertTrue(pathsOf(roster.search(sessionName, 100)).stream()
+                .anyMatch(path -> path.endsWith(originalGroup.getGroupName() + " > " + sessionName)));
+        String mistypedId = student.getStudentId().toString().substring(1);
+        assertTrue(pathsOf(roster.searchSimilar(mistypedId + "Q", 100)).stream()
+                .anyMatch(path -> path.endsWith(studentPath)));
+        assertTrue(listGroups(roster).stream().noneMatch(Group::isLoaded));
+
+        Group group = listGroups(roster).get(listGroups(original).indexOf(originalGroup));
+        group.getUnmodifiableSessionList();
+        assertTrue(group.unload());
+        assertTrue(pathsOf(roster.search(sessionName, 100)).stream()
+                .anyMatch(path -> path.endsWith(originalGroup.getGroupName() + " > " + sessionName)));
+        assertFalse(group.isLoaded());
+    }
+
+    @Test
+    public void saveRoster_groupChangedBeforeLoad_oldFileKeptUntilNextRead() throws Exception {
+        Path rosterFile = testFolder.resolve("roster.json");
+        new ShardedRosterStorage(rosterFile).saveRoster(readSampleRoster());
+        ShardedRosterStorage storage = new ShardedRosterStorage(rosterFile);
+        ReadOnlyRoster roster = storage.readRoster().get();
+        ReadOnlyRoster unloadedCopy = roster.copy();
+
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        group.addSession(new Session("NEW_SESSION"));
+        storage.saveRoster(roster);
+
+        // the copy was read before the change, so it still loads the group as it was then
+        Group copiedGroup = unloadedCopy.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        assertFalse(copiedGroup.hasSession(new Session("NEW_SESSION")));
+        assertEquals(7, listShardFiles(rosterFile).size());
+
+        ReadOnlyRoster readBack = new ShardedRosterStorage(rosterFile).readRoster().get();
+        assertEquals(6, listShardFiles(rosterFile).size());
+        assertEquals(toJson(roster), toJson(readBack));
+    }
+
+    private static List<Group> listGroups(ReadOnlyRoster roster) {
+        return roster.getUnmodifiableCourseList().stream()
+                .flatMap(course -> course.getUnmodifiableGroupList().stream())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> pathsOf(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getPath).collect(Collectors.toList());
+    }
+
+    private static boolean isUntouched(Path file) {
+        try {
+            return Arrays.equals(UNTOUCHED_MARKER, Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
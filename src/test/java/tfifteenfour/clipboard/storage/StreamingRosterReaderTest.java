@@ -0,0 +1,131 @@
+package tfifteenfour.clipboard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedGroup;
+import tfifteenfour.clipboard.storage.serializedclasses.SerializedRoster;
+
+public class StreamingRosterReaderTest {
+    private static final Path SAMPLE_ROSTER_FILE = Paths.get("src", "test", "data", "sampleRoster.json");
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void readRoster_sampleRoster_sameAsSerializedClasses() throws Exception {
+        Roster expected = mapper.readValue(SAMPLE_ROSTER_FILE.toFile(), SerializedRoster.class).toModelType();
+
+        Roster fromFile = StreamingRosterReader.readRoster(SAMPLE_ROSTER_FILE);
+        Roster fromBytes = StreamingRosterReader.readRoster(Files.readAllBytes(SAMPLE_ROSTER_FILE));
+
+        String expectedJson = mapper.writeValueAsString(new SerializedRoster(expected));
+        assertEquals(expectedJson, mapper.writeValueAsString(new SerializedRoster(fromFile)));
+        assertEquals(expectedJson, mapper.writeValueAsString(new SerializedRoster(fromBytes)));
+    }
+
+    @Test
+    public void readGroup_attendanceOfGroupStudent_sameStudentInstance() throws Exception {
+        Roster roster = StreamingRosterReader.readRoster(SAMPLE_ROSTER_FILE);
+        Group group = roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        byte[] groupJson = mapper.writeValueAsBytes(new SerializedGroup(group));
+
+        Group readGroup = StreamingRosterReader.readGroup(groupJson);
+        Session session = readGroup.getUnmodifiableSessionList().get(0);
+        for (Student attendee : session.getAttendance().keySet()) {
+            Student groupStudent = readGroup.getUnmodifiableStudentList().stream()
+                    .filter(attendee::equals)
+                    .findFirst()
+                    .get();
+            assertSame(groupStudent, attendee);
+        }
+    }
+
+    @Test
+    public void readGroup_studentIdNotInGroup_dropped() throws Exception {
+        byte[] json = ("{\"groupName\": \"T1\", \"students\": [{\"name\": \"Alice\", \"phone\": \"999\","
+                + " \"email\": \"alice@example.com\", \"studentId\": \"A1\", \"remark\": \"\"}],"
+                + " \"sessions\": [{\"sessionName\": \"S1\", \"studentIds\": [\"A1\", \"A2\"], \"values\": [1, 0]}]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        Group group = StreamingRosterReader.readGroup(json);
+
+        Student alice = group.getUnmodifiableStudentList().get(0);
+        Map<Student, Integer> attendance = group.getUnmodifiableSessionList().get(0).getAttendance();
+        assertEquals(1, attendance.size());
+        assertEquals(Integer.valueOf(1), attendance.get(alice));
+    }
+
+    @Test
+    public void readGroup_legacyCopyWithDifferentRemark_resolvedToGroupStudent() throws Exception {
+        byte[] json = ("{\"groupName\": \"T1\", \"students\": [{\"name\": \"Alice\", \"phone\": \"999\","
+                + " \"email\": \"alice@example.com\", \"studentId\": \"A1\", \"remark\": \"new\"}],"
+                + " \"tasks\": [{\"taskName\": \"OP1\", \"students\": [{\"name\": \"Alice\", \"phone\": \"999\","
+                + " \"email\": \"alice@example.com\", \"studentId\": \"A1\", \"remark\": \"old\"}],"
+                + " \"grades\": [70]}]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        Group group = StreamingRosterReader.readGroup(json);
+
+        Student alice = group.getUnmodifiableStudentList().get(0);
+        Map<Student, Integer> grades = group.getUnmodifiableTaskList().get(0).getGrades();
+        assertSame(alice, grades.keySet().iterator().next());
+        assertEquals(Integer.valueOf(70), grades.get(alice));
+    }
+
+    @Test
+    public void readGroup_sameInterner_valuesShared() throws Exception {
+        ValueInterner interner = new ValueInterner();
+        Group first = StreamingRosterReader.readGroup(groupJson("T1", "A1"), interner);
+        Group second = StreamingRosterReader.readGroup(groupJson("T2", "A2"), interner);
+
+        Student firstStudent = first.getUnmodifiableStudentList().get(0);
+        Student secondStudent = second.getUnmodifiableStudentList().get(0);
+        assertSame(firstStudent.getName(), secondStudent.getName());
+        assertSame(firstStudent.getRemark(), secondStudent.getRemark());
+        assertSame(first.getUnmodifiableSessionList().get(0).getSessionName(),
+                second.getUnmodifiableSessionList().get(0).getSessionName());
+    }
+
+    @Test
+    public void readRoster_notJsonFormat_throwsJsonParseException() {
+        byte[] json = "not json".getBytes(StandardCharsets.UTF_8);
+        assertThrows(JsonParseException.class, () -> StreamingRosterReader.readRoster(json));
+    }
+
+    @Test
+    public void readGroup_missingGroupName_throwsJsonParseException() {
+        byte[] json = "{\"students\": []}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(JsonParseException.class, () -> StreamingRosterReader.readGroup(json));
+    }
+
+    @Test
+    public void readGroup_invalidStudent_throwsJsonParseException() {
+        byte[] json = ("{\"groupName\": \"T1\", \"students\": [{\"name\": \"Alice\", \"phone\": \"9\","
+                + " \"email\": \"not an email\", \"studentId\": \"A1\", \"remark\": \"\"}]}")
+                .getBytes(StandardCharsets.UTF_8);
+        assertThrows(JsonParseException.class, () -> StreamingRosterReader.readGroup(json));
+    }
+
+    private static byte[] groupJson(String groupName, String studentId) {
+        return ("{\"groupName\": \"" + groupName + "\", \"students\": [{\"name\": \"Alice\", \"phone\": \"999\","
+                + " \"email\": \"alice@example.com\", \"studentId\": \"" + studentId + "\", \"remark\": \"\"}],"
+                + " \"sessions\": [{\"sessionName\": \"Week1\"}]}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}